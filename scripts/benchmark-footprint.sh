@@ -0,0 +1,93 @@
+#!/bin/bash
+
+# Compares the memory footprint of the default settings with --low-memory.
+# For each profile the application is started in a fresh working directory,
+# then heap, RSS and thread count are sampled at idle and peak values are
+# recorded while concurrent clients poll the REST API.
+#
+# Dependencies: curl, jstat (JDK)
+# Usage: ./scripts/benchmark-footprint.sh [load seconds] [concurrency]
+#
+# JVM options for the --low-memory run can be overridden with LOW_MEMORY_JAVA_OPTS.
+
+LOAD_SECONDS=${1:-30}
+CONCURRENCY=${2:-8}
+PROJECT_DIR=$(cd "$(dirname "$0")/.." && pwd)
+JAR="$PROJECT_DIR/target/sessionflow.jar"
+PORT=58123
+IDLE_SECONDS=15
+LOW_MEMORY_JAVA_OPTS=${LOW_MEMORY_JAVA_OPTS:-"-Xmx96m -Xss512k -XX:+UseSerialGC -XX:TieredStopAtLevel=1 -XX:ReservedCodeCacheSize=32m"}
+LOAD_PATHS=("/api/bootstrap" "/api/tasks" "/api/tags" "/api/sessions")
+
+if [ ! -f "$JAR" ]; then
+    echo "Build first: mvn clean package -DskipTests" >&2
+    exit 1
+fi
+
+# Prints "<heap KB> <RSS KB> <threads>" for a JVM process.
+sample() {
+    local pid=$1 heap rss threads
+    heap=$(jstat -gc "$pid" 2> /dev/null | awk 'NR == 2 { printf "%d", $3 + $4 + $6 + $8 }')
+    rss=$(awk '/^VmRSS:/ { print $2 }' "/proc/$pid/status" 2> /dev/null)
+    threads=$(awk '/^Threads:/ { print $2 }' "/proc/$pid/status" 2> /dev/null)
+    echo "${heap:-0} ${rss:-0} ${threads:-0}"
+}
+
+load_worker() {
+    local deadline=$1
+    while [ "$(date +%s)" -lt "$deadline" ]; do
+        for path in "${LOAD_PATHS[@]}"; do
+            curl -s -o /dev/null "http://localhost:$PORT$path"
+        done
+    done
+}
+
+benchmark() {
+    local label=$1 java_opts=$2
+    shift 2
+    local work_dir pid
+    work_dir=$(mktemp -d)
+
+    # shellcheck disable=SC2086
+    (cd "$work_dir" && exec java $java_opts -jar "$JAR" --port "$PORT" "$@" > /dev/null 2>&1) &
+    pid=$!
+
+    for _ in $(seq 120); do
+        curl -s -o /dev/null "http://localhost:$PORT/api/health" && break
+        sleep 1
+    done
+    if ! kill -0 "$pid" 2> /dev/null; then
+        echo "$label: application did not start" >&2
+        rm -rf "$work_dir"
+        return 1
+    fi
+
+    # Let the background warm-up finish and a young collection settle
+    sleep "$IDLE_SECONDS"
+    read -r idle_heap idle_rss idle_threads <<< "$(sample "$pid")"
+
+    local deadline=$(($(date +%s) + LOAD_SECONDS))
+    for _ in $(seq "$CONCURRENCY"); do
+        load_worker "$deadline" &
+    done
+    local peak_heap=0 peak_rss=0 peak_threads=0
+    while [ "$(date +%s)" -lt "$deadline" ]; do
+        read -r heap rss threads <<< "$(sample "$pid")"
+        [ "$heap" -gt "$peak_heap" ] && peak_heap=$heap
+        [ "$rss" -gt "$peak_rss" ] && peak_rss=$rss
+        [ "$threads" -gt "$peak_threads" ] && peak_threads=$threads
+        sleep 0.5
+    done
+    wait $(jobs -p | grep -v "^$pid$") 2> /dev/null
+
+    kill "$pid" 2> /dev/null
+    wait "$pid" 2> /dev/null
+    rm -rf "$work_dir"
+
+    printf "%-12s idle: heap %6d KB  rss %7d KB  threads %3d | load peak: heap %6d KB  rss %7d KB  threads %3d\n" \
+        "$label" "$idle_heap" "$idle_rss" "$idle_threads" "$peak_heap" "$peak_rss" "$peak_threads"
+}
+
+echo "Idle after ${IDLE_SECONDS}s, then ${CONCURRENCY} clients for ${LOAD_SECONDS}s..."
+benchmark "default" ""
+benchmark "low-memory" "$LOW_MEMORY_JAVA_OPTS" --low-memory
@@ -0,0 +1,34 @@
+#!/bin/bash
+
+# Starts a throwaway instance with an empty database and runs the load-test
+# harness against it: a fixed-rate REST mix plus STOMP subscribers on /ws.
+# Extra arguments after the first three are passed to the application, so the
+# same load can be compared across modes, e.g. --low-memory or --virtual-threads.
+#
+# Usage: ./scripts/benchmark-load.sh [rate] [seconds] [subscribers] [application options...]
+
+RATE=${1:-50}
+DURATION=${2:-60}
+SUBSCRIBERS=${3:-100}
+shift $(( $# < 3 ? $# : 3 ))
+PROJECT_DIR=$(cd "$(dirname "$0")/.." && pwd)
+JAR="$PROJECT_DIR/target/sessionflow.jar"
+PORT=58125
+
+if [ ! -f "$JAR" ]; then
+    echo "Build first: mvn clean package -DskipTests" >&2
+    exit 1
+fi
+
+work_dir=$(mktemp -d)
+(cd "$work_dir" && exec java -jar "$JAR" --port "$PORT" "$@" > "$work_dir/app.log" 2>&1) &
+pid=$!
+trap 'kill "$pid" 2> /dev/null; wait "$pid" 2> /dev/null; rm -rf "$work_dir"' EXIT
+
+for _ in $(seq 120); do
+    curl -s -o /dev/null "http://localhost:$PORT/api/health" && break
+    sleep 1
+done
+
+cd "$PROJECT_DIR" && mvn -q -Pjmh test-compile exec:exec@load \
+    -Dload.args="--url http://localhost:$PORT --rate $RATE --duration $DURATION --subscribers $SUBSCRIBERS"
@@ -0,0 +1,65 @@
+#!/bin/bash
+
+# Compares time-to-ready of the plain jar against the fast-start layout
+# (Spring AOT + AppCDS) produced by `mvn package -Popenapi,fast-start`.
+#
+# Each run starts the application in a fresh working directory on a random
+# port and reads the elapsed time written on ApplicationReadyEvent.
+#
+# Usage: ./scripts/benchmark-startup.sh [runs]
+
+RUNS=${1:-5}
+PROJECT_DIR=$(cd "$(dirname "$0")/.." && pwd)
+FAT_JAR="$PROJECT_DIR/target/sessionflow.jar"
+FAST_START_JAR="$PROJECT_DIR/target/fast-start/sessionflow.jar"
+TIMEOUT_SECONDS=60
+
+if [ ! -f "$FAT_JAR" ] || [ ! -f "$FAST_START_JAR" ]; then
+    echo "Build first: mvn clean package -DskipTests -Popenapi,fast-start" >&2
+    exit 1
+fi
+
+# Runs the application once and prints the milliseconds until it was ready.
+measure() {
+    local work_dir report pid
+    work_dir=$(mktemp -d)
+    report="$work_dir/startup.txt"
+
+    (cd "$work_dir" && exec java -Dsessionflow.startup.report-file="$report" "$@" --port 0 > /dev/null 2>&1) &
+    pid=$!
+
+    for _ in $(seq $((TIMEOUT_SECONDS * 10))); do
+        [ -s "$report" ] && break
+        sleep 0.1
+    done
+
+    kill "$pid" 2> /dev/null
+    wait "$pid" 2> /dev/null
+    if [ -s "$report" ]; then
+        head -n 1 "$report"
+    fi
+    rm -rf "$work_dir"
+}
+
+benchmark() {
+    local label=$1
+    shift
+    local results=()
+    for _ in $(seq "$RUNS"); do
+        local ms
+        ms=$(measure "$@")
+        if [ -z "$ms" ]; then
+            echo "$label: application did not become ready within ${TIMEOUT_SECONDS}s" >&2
+            return 1
+        fi
+        results+=("$ms")
+    done
+    printf '%s\n' "${results[@]}" | sort -n | awk -v label="$label" '
+        { sum += $1; values[NR] = $1 }
+        END { printf "%-28s min %5d ms   avg %5d ms   max %5d ms\n", label, values[1], sum / NR, values[NR] }'
+}
+
+echo "Measuring time to ready over $RUNS run(s)..."
+benchmark "executable jar" -jar "$FAT_JAR"
+benchmark "extracted jar" -Dsessionflow.fast-start=false -jar "$FAST_START_JAR"
+benchmark "extracted jar + AOT + CDS" -jar "$FAST_START_JAR"
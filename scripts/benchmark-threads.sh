@@ -0,0 +1,47 @@
+#!/bin/bash
+
+# Compares read throughput and latency with platform threads and --virtual-threads
+# under high-concurrency load. Virtual threads require Java 21 or later; on older
+# runtimes the second run falls back to platform threads and says so.
+#
+# Usage: ./scripts/benchmark-threads.sh [clients] [seconds]
+
+CLIENTS=${1:-200}
+SECONDS_PER_RUN=${2:-30}
+PROJECT_DIR=$(cd "$(dirname "$0")/.." && pwd)
+JAR="$PROJECT_DIR/target/sessionflow.jar"
+PORT=58124
+READ_PATHS=("/api/tasks" "/api/tags" "/api/sessions" "/api/bootstrap")
+
+if [ ! -f "$JAR" ]; then
+    echo "Build first: mvn clean package -DskipTests" >&2
+    exit 1
+fi
+
+benchmark() {
+    local label=$1
+    shift
+    local work_dir pid
+    work_dir=$(mktemp -d)
+
+    (cd "$work_dir" && exec java -jar "$JAR" --port "$PORT" "$@" > "$work_dir/app.log" 2>&1) &
+    pid=$!
+    for _ in $(seq 120); do
+        curl -s -o /dev/null "http://localhost:$PORT/api/health" && break
+        sleep 1
+    done
+
+    # Short warm-up so both runs are measured with compiled code
+    java "$PROJECT_DIR/scripts/ReadLoad.java" "http://localhost:$PORT" 16 5 "${READ_PATHS[@]}" > /dev/null
+    printf "%-16s " "$label"
+    java "$PROJECT_DIR/scripts/ReadLoad.java" "http://localhost:$PORT" "$CLIENTS" "$SECONDS_PER_RUN" "${READ_PATHS[@]}"
+    grep -h "virtual-threads requires" "$work_dir/app.log"
+
+    kill "$pid" 2> /dev/null
+    wait "$pid" 2> /dev/null
+    rm -rf "$work_dir"
+}
+
+echo "$CLIENTS concurrent clients for ${SECONDS_PER_RUN}s per run..."
+benchmark "platform"
+benchmark "virtual-threads" --virtual-threads
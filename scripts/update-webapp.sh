@@ -3,7 +3,7 @@
 # A script to automatically download and update the webapp assets
 # from the latest release of the sessionflow-webapp GitHub repository.
 #
-# Dependencies: curl, jq, unzip
+# Dependencies: curl, jq, unzip (optional: brotli)
 # Usage: ./update-webapp.sh
 
 # --- Configuration ---
@@ -138,7 +138,16 @@ log "${YELLOW}🚚 Copying new webapp files to $TARGET_DIR...${NC}"
 # Use `.` at the end of source path to copy contents, including hidden files.
 cp -r "$SOURCE_PATH"/. "$TARGET_DIR"/
 
-# 10. Write new version to file
+# 10. Precompress text assets with brotli when available (the server gzips on its own at startup)
+if command -v brotli &> /dev/null; then
+    log "${YELLOW}🗜️  Precompressing assets with brotli...${NC}"
+    find "$TARGET_DIR" -type f \( -name '*.js' -o -name '*.mjs' -o -name '*.css' \
+        -o -name '*.json' -o -name '*.svg' -o -name '*.map' \) -size +1k -exec brotli -f -q 11 {} \;
+else
+    log "ℹ️  'brotli' not found, skipping .br precompression."
+fi
+
+# 11. Write new version to file
 log "${YELLOW}📝 Writing new version tag to $VERSION_FILE...${NC}"
 echo -n "$LATEST_TAG" > "$VERSION_FILE"
 
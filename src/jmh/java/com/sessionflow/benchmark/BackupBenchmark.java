@@ -0,0 +1,111 @@
+package com.sessionflow.benchmark;
+
+import com.sessionflow.backup.BackupArchive;
+import com.sessionflow.backup.BackupRestorer;
+import com.sessionflow.backup.BackupSettings;
+import com.sessionflow.backup.OnlineBackup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 線上備份與還原的時間
+ * <p>
+ * 以檔案資料庫啟動應用程式並寫入 {@code size} 筆時段紀錄與排程，完整備份後再更新約 1% 的時段紀錄。
+ * 還原寫入另一個資料庫檔案：{@code restoreFull} 只解出完整備份，{@code restoreIncremental} 再以 {@code CSVREAD} 套用增量備份。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BackupBenchmark {
+
+    @Param({"10000", "100000"})
+    int size;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private OnlineBackup backup;
+    private BackupArchive full;
+    private BackupArchive incremental;
+    private BackupRestorer restorer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("sessionflow-backup-benchmark");
+        String url = BenchmarkApplication.fileDatabaseUrl(directory.resolve("benchmark"));
+        context = BenchmarkApplication.start(url, "--sessionflow.backup.directory=" + directory.resolve("backups"));
+        DataSource dataSource = context.getBean(DataSource.class);
+        new DatasetGenerator(BenchmarkData.SEED).load(dataSource, size);
+
+        BackupSettings settings = BackupSettings.from(context.getEnvironment());
+        backup = new OnlineBackup(dataSource, settings);
+        full = backup.full();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE session_records SET completion_note = 'updated', "
+                    + "updated_at = CURRENT_TIMESTAMP WHERE MOD(id, 100) = 0");
+        }
+        incremental = backup.incremental(full);
+        restorer = new BackupRestorer(BenchmarkApplication.fileDatabaseUrl(directory.resolve("restored")), "sa",
+                "password");
+    }
+
+    @Setup(Level.Invocation)
+    public void removeRestored() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().startsWith("restored")).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public BackupArchive fullBackup() throws IOException, SQLException {
+        return backup.full();
+    }
+
+    @Benchmark
+    public BackupArchive incrementalBackup() throws IOException, SQLException {
+        return backup.incremental(full);
+    }
+
+    @Benchmark
+    public BackupRestorer.Result restoreFull() throws IOException, SQLException {
+        return restorer.restore(full);
+    }
+
+    @Benchmark
+    public BackupRestorer.Result restoreIncremental() throws IOException, SQLException {
+        return restorer.restore(incremental);
+    }
+}
@@ -0,0 +1,51 @@
+package com.sessionflow.benchmark;
+
+import com.sessionflow.SessionFlowApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 以指定的資料庫啟動完整的應用程式，供基準測試使用
+ * <p>
+ * 使用隨機埠（STOMP 代理需要 Servlet 環境），並關閉背景預熱與大部分日誌，避免干擾量測。
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static String memoryDatabaseUrl(String name) {
+        return "jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+    }
+
+    /**
+     * @param database H2 檔案資料庫路徑，不含 {@code .mv.db} 副檔名
+     */
+    static String fileDatabaseUrl(Path database) {
+        return "jdbc:h2:file:" + database.toAbsolutePath() + ";MODE=MySQL";
+    }
+
+    /**
+     * @param datasourceUrl 資料庫連線字串
+     * @param extraArgs     額外的設定，格式與命令列參數相同
+     */
+    static ConfigurableApplicationContext start(String datasourceUrl, String... extraArgs) {
+        // 以命令列參數傳入，優先於 application.properties
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + datasourceUrl,
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--spring.main.banner-mode=off",
+                "--sessionflow.warmup.enabled=false",
+                "--sessionflow.backup.enabled=false",
+                "--sessionflow.compaction.enabled=false",
+                "--logging.level.root=WARN"));
+        args.addAll(Arrays.asList(extraArgs));
+        return new SpringApplicationBuilder(SessionFlowApplication.class).run(args.toArray(String[]::new));
+    }
+}
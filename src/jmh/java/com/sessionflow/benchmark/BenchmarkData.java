@@ -0,0 +1,122 @@
+package com.sessionflow.benchmark;
+
+import com.sessionflow.model.ScheduleEntry;
+import com.sessionflow.model.SessionRecord;
+import com.sessionflow.model.Tag;
+import com.sessionflow.model.Task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 以固定種子產生基準測試資料，確保每次執行與每個 fork 的輸入相同
+ */
+final class BenchmarkData {
+
+    static final long SEED = 20240115L;
+    static final LocalDateTime ORIGIN = LocalDateTime.of(2024, 1, 1, 8, 0);
+
+    /** 資料分布的天數，排程與時段紀錄平均落在這段期間 */
+    static final int DAYS = 30;
+
+    private static final int TAG_COUNT = 12;
+    private static final int MAX_TAGS_PER_TASK = 3;
+
+    private final Random random;
+
+    BenchmarkData(long seed) {
+        this.random = new Random(seed);
+    }
+
+    BenchmarkData() {
+        this(SEED);
+    }
+
+    List<Tag> tags() {
+        List<Tag> tags = new ArrayList<>(TAG_COUNT);
+        for (int i = 0; i < TAG_COUNT; i++) {
+            Tag tag = new Tag("tag-" + i, String.format("#%06X", random.nextInt(0x1000000)));
+            tag.setId((long) i + 1);
+            tags.add(tag);
+        }
+        return tags;
+    }
+
+    /**
+     * 產生任務，約半數帶有備註與截止時間，每筆最多關聯 {@value #MAX_TAGS_PER_TASK} 個標籤
+     *
+     * @param tags 可關聯的標籤，為空列表時不關聯
+     */
+    List<Task> tasks(int count, List<Tag> tags) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task("Task " + i);
+            task.setId((long) i + 1);
+            if (random.nextBoolean()) {
+                task.setNote("Note for task " + i);
+                task.setDueAt(ORIGIN.plusDays(random.nextInt(DAYS)).withHour(23).withMinute(59));
+            }
+            if (random.nextInt(4) == 0) {
+                task.markAsComplete();
+            }
+            if (!tags.isEmpty()) {
+                Set<Tag> taskTags = new HashSet<>();
+                int tagCount = random.nextInt(MAX_TAGS_PER_TASK + 1);
+                for (int t = 0; t < tagCount; t++) {
+                    taskTags.add(tags.get(random.nextInt(tags.size())));
+                }
+                task.setTags(taskTags);
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * 產生 15 至 120 分鐘的排程，時間可能彼此重疊
+     *
+     * @param tasks 可關聯的任務，為空列表時不關聯
+     */
+    List<ScheduleEntry> scheduleEntries(int count, List<Task> tasks) {
+        List<ScheduleEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime startAt = randomStart();
+            ScheduleEntry entry = new ScheduleEntry("Entry " + i, startAt, startAt.plusMinutes(15 + random.nextInt(106)));
+            entry.setId((long) i + 1);
+            entry.setTask(pick(tasks));
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * 產生 5 至 90 分鐘的時段紀錄
+     *
+     * @param tasks 可關聯的任務，為空列表時不關聯
+     */
+    List<SessionRecord> sessionRecords(int count, List<Task> tasks) {
+        List<SessionRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime startAt = randomStart();
+            SessionRecord record = new SessionRecord("Session " + i, startAt, startAt.plusMinutes(5 + random.nextInt(86)));
+            record.setId((long) i + 1);
+            record.setPlannedNote(random.nextBoolean() ? "Planned " + i : null);
+            record.setCompletionNote(random.nextBoolean() ? "Done " + i : null);
+            record.setTask(pick(tasks));
+            records.add(record);
+        }
+        return records;
+    }
+
+    private LocalDateTime randomStart() {
+        return ORIGIN.plusDays(random.nextInt(DAYS)).plusMinutes(random.nextInt(12 * 60));
+    }
+
+    private <T> T pick(List<T> items) {
+        return items.isEmpty() || random.nextBoolean() ? null : items.get(random.nextInt(items.size()));
+    }
+}
@@ -0,0 +1,136 @@
+package com.sessionflow.benchmark;
+
+import com.sessionflow.compaction.CompactionSettings;
+import com.sessionflow.compaction.StoreCompactor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 資料庫檔案碎片對讀取延遲的影響，及線上壓縮前後的檔案大小
+ * <p>
+ * 寫入 {@code size} 筆時段紀錄後重複更新並刪除四分之三，模擬長期使用後的檔案；{@code compacted=true} 時再以
+ * {@link StoreCompactor} 線上壓縮。每次量測前清空 H2 的頁快取，讀取需要從檔案載入頁面。壓縮前後的大小印在設定階段的輸出中。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CompactionBenchmark {
+
+    private static final int LOOKUPS = 1_000;
+    /** H2 預設的頁快取大小（KB） */
+    private static final int CACHE_SIZE_KB = 16 * 1024;
+    private static final long MEGABYTE = 1024 * 1024;
+
+    @Param({"100000"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean compacted;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private DataSource dataSource;
+    private long maxId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("sessionflow-compaction-benchmark");
+        context = BenchmarkApplication.start(BenchmarkApplication.fileDatabaseUrl(directory.resolve("benchmark")));
+        dataSource = context.getBean(DataSource.class);
+        new DatasetGenerator(BenchmarkData.SEED).load(dataSource, size);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (int i = 0; i < 3; i++) {
+                statement.executeUpdate("UPDATE session_records SET completion_note = CONCAT('revision ', " + i
+                        + ", ': ', COALESCE(completion_note, ''))");
+            }
+            statement.executeUpdate("DELETE FROM session_records WHERE MOD(id, 4) <> 0");
+            try (ResultSet resultSet = statement.executeQuery("SELECT MAX(id) FROM session_records")) {
+                resultSet.next();
+                maxId = resultSet.getLong(1);
+            }
+        }
+        Path file = directory.resolve("benchmark.mv.db");
+        System.out.printf("%nFragmented database file: %d MB%n", Files.size(file) / MEGABYTE);
+        if (compacted) {
+            CompactionSettings settings = CompactionSettings.from(context.getEnvironment());
+            StoreCompactor.Result result = new StoreCompactor(dataSource, settings).compact().orElseThrow();
+            System.out.printf("Compacted: %d MB (%d%% live) -> %d MB (%d%% live) in %d slices, %d ms%n",
+                    result.sizeBefore() / MEGABYTE, result.liveRatioBefore(), result.sizeAfter() / MEGABYTE,
+                    result.liveRatioAfter(), result.slices(), result.elapsed().toMillis());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void clearPageCache() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SET CACHE_SIZE 0");
+            statement.execute("SET CACHE_SIZE " + CACHE_SIZE_KB);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    /** 依時間排序讀取全部時段紀錄 */
+    @Benchmark
+    public long scanSessionRecords() throws SQLException {
+        long total = 0;
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT id, completion_note FROM session_records ORDER BY start_at")) {
+            while (resultSet.next()) {
+                total += resultSet.getLong(1);
+            }
+        }
+        return total;
+    }
+
+    /** 以 ID 隨機讀取 {@value #LOOKUPS} 筆時段紀錄 */
+    @Benchmark
+    public long lookupSessionRecords() throws SQLException {
+        Random random = new Random(BenchmarkData.SEED);
+        long found = 0;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT completion_note FROM session_records WHERE id = ?")) {
+            for (int i = 0; i < LOOKUPS; i++) {
+                statement.setLong(1, 4L * (1 + random.nextInt((int) (maxId / 4))));
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    found += resultSet.next() ? 1 : 0;
+                }
+            }
+        }
+        return found;
+    }
+}
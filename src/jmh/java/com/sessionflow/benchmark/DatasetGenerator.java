@@ -0,0 +1,431 @@
+package com.sessionflow.benchmark;
+
+import com.sessionflow.model.TaskStatus;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 以固定種子產生接近實際使用情境的資料，並以 JDBC 批次寫入直接載入 H2
+ * <p>
+ * 資料密度固定，資料量增加時歷史期間隨之拉長，因此日期範圍查詢的結果筆數維持不變，可看出查詢成本是否隨資料表大小成長：
+ * <ul>
+ *   <li>時段紀錄：平日約 95%、週末約 30% 的日子有紀錄，每天 4 至 12 筆，時長以 25 分鐘為中心呈對數常態分布</li>
+ *   <li>排程：分布方式與時段紀錄相同，並延伸到最後一天之後兩週</li>
+ *   <li>任務：每 100 筆紀錄一個任務，依建立時間排列；紀錄多半關聯到當時最新的幾個任務，較舊的任務大多已完成</li>
+ *   <li>標籤：固定 20 個，熱門標籤被較多任務使用</li>
+ *   <li>工作階段：最後一天有 2 個進行中的工作階段</li>
+ * </ul>
+ */
+final class DatasetGenerator {
+
+    /** 歷史資料的最後一天，固定日期讓每次產生的資料相同 */
+    static final LocalDate LAST_DAY = LocalDate.of(2024, 12, 31);
+
+    private static final int RECORDS_PER_TASK = 100;
+    private static final int MIN_TASKS = 20;
+    private static final int TAG_COUNT = 20;
+    private static final int ACTIVE_SESSIONS = 2;
+    private static final int PLANNED_DAYS = 14;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int COMMIT_INTERVAL = 50_000;
+
+    private static final String[] NOTES = {
+            "整理需求與待辦事項",
+            "Review pull requests and reply to comments",
+            "撰寫單元測試並修正失敗案例",
+            "Draft the weekly summary",
+            "閱讀文件並記錄問題",
+            "Pair programming on the import feature",
+    };
+
+    private final long seed;
+
+    DatasetGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * 產生的資料概況，供基準測試決定查詢參數
+     *
+     * @param sessionRecords 時段紀錄筆數
+     * @param scheduleEntries 排程筆數
+     * @param tasks          任務數
+     * @param firstDay       最早的時段紀錄日期
+     * @param busiestTaskId  關聯最多時段紀錄的任務
+     */
+    record Dataset(long sessionRecords, long scheduleEntries, long tasks, LocalDate firstDay, long busiestTaskId) {
+
+        /** 歷史資料的最後一週，對應 Web App 週檢視的查詢範圍 */
+        LocalDate lastWeekStart() {
+            return LAST_DAY.minusDays(6);
+        }
+
+        LocalDate lastWeekEnd() {
+            return LAST_DAY;
+        }
+    }
+
+    /**
+     * 寫入 {@code size} 筆時段紀錄與排程，以及對應比例的任務、標籤與工作階段
+     * <p>
+     * 資料表須已由 Hibernate 建立且為空；ID 由產生器指定，寫入後重設各資料表的識別欄位。
+     *
+     * @throws IllegalStateException 資料庫中已有資料時
+     */
+    Dataset load(DataSource dataSource, int size) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            requireEmpty(connection);
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                Random random = new Random(seed);
+                List<Day> recordDays = plan(random, size, LAST_DAY);
+                LocalDate firstDay = recordDays.get(0).date();
+                int taskCount = Math.max(MIN_TASKS, size / RECORDS_PER_TASK);
+                Duration history = Duration.between(firstDay.atStartOfDay(), LAST_DAY.plusDays(1).atStartOfDay());
+
+                insertTags(connection, random);
+                insertTasks(connection, random, taskCount, firstDay, history);
+                insertSessionRecords(connection, random, recordDays, taskCount, firstDay, history);
+                insertScheduleEntries(connection, random, plan(random, size, LAST_DAY.plusDays(PLANNED_DAYS)),
+                        taskCount, firstDay, history);
+                insertSessions(connection, taskCount);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+        return describe(dataSource);
+    }
+
+    /**
+     * 讀取既有資料庫的概況，用於重複使用先前產生的資料
+     */
+    static Dataset describe(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            long records = count(statement, "SELECT COUNT(*) FROM session_records");
+            long entries = count(statement, "SELECT COUNT(*) FROM schedule_entries");
+            long tasks = count(statement, "SELECT COUNT(*) FROM tasks");
+            long busiestTaskId = count(statement, "SELECT task_id FROM session_records WHERE task_id IS NOT NULL "
+                    + "GROUP BY task_id ORDER BY COUNT(*) DESC, task_id LIMIT 1");
+            LocalDate firstDay;
+            try (ResultSet rs = statement.executeQuery("SELECT MIN(start_at) FROM session_records")) {
+                rs.next();
+                LocalDateTime first = rs.getObject(1, LocalDateTime.class);
+                firstDay = first != null ? first.toLocalDate() : LAST_DAY;
+            }
+            return new Dataset(records, entries, tasks, firstDay, busiestTaskId);
+        }
+    }
+
+    /**
+     * 以產生器建立指定大小的檔案資料庫；檔案已存在時直接沿用
+     *
+     * @param directory 資料庫檔案所在目錄
+     * @return 資料庫路徑，不含 {@code .mv.db} 副檔名
+     */
+    static Path ensureDatabase(Path directory, int size, long seed) throws SQLException, IOException {
+        Path database = directory.resolve("sessionflow-" + size + "-" + seed);
+        if (!Files.exists(Path.of(database + ".mv.db"))) {
+            generateAtomically(database, size, seed);
+        }
+        return database;
+    }
+
+    /**
+     * 啟動應用程式以建立資料表後寫入資料
+     */
+    static Dataset generate(Path database, int size, long seed) throws SQLException {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = BenchmarkApplication.start(
+                BenchmarkApplication.fileDatabaseUrl(database))) {
+            Dataset dataset = new DatasetGenerator(seed).load(context.getBean(DataSource.class), size);
+            System.out.printf("Generated %s in %d s: %s%n",
+                    database, Duration.ofNanos(System.nanoTime() - start).toSeconds(), dataset);
+            return dataset;
+        }
+    }
+
+    /**
+     * 先寫入暫存檔，完成後才改名，避免中斷的產生過程留下不完整的快取
+     */
+    private static void generateAtomically(Path database, int size, long seed) throws SQLException, IOException {
+        Path partial = database.resolveSibling(database.getFileName() + "-partial");
+        Files.deleteIfExists(Path.of(partial + ".mv.db"));
+        generate(partial, size, seed);
+        Files.move(Path.of(partial + ".mv.db"), Path.of(database + ".mv.db"), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 用法：{@code DatasetGenerator --size 100000 [--seed 42] --database ./sessionflow_db}
+     */
+    public static void main(String[] args) throws SQLException {
+        int size = 10_000;
+        long seed = BenchmarkData.SEED;
+        Path database = null;
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--size" -> size = Integer.parseInt(require(args[i], value));
+                case "--seed" -> seed = Long.parseLong(require(args[i], value));
+                case "--database" -> database = Path.of(require(args[i], value));
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+            i++;
+        }
+        if (database == null) {
+            throw new IllegalArgumentException("--database is required");
+        }
+        generate(database, size, seed);
+    }
+
+    private static String require(String option, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException(option + " requires a value");
+        }
+        return value;
+    }
+
+    private record Day(LocalDate date, int count) {
+    }
+
+    /**
+     * 從最後一天往前安排有活動的日子，直到總筆數達到 {@code total}，再依日期先後排列
+     */
+    private static List<Day> plan(Random random, int total, LocalDate lastDay) {
+        List<Day> days = new ArrayList<>();
+        int remaining = total;
+        for (LocalDate date = lastDay; remaining > 0; date = date.minusDays(1)) {
+            boolean weekend = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+            if (random.nextDouble() < (weekend ? 0.3 : 0.95)) {
+                int count = Math.min(remaining, 4 + random.nextInt(9));
+                days.add(new Day(date, count));
+                remaining -= count;
+            }
+        }
+        Collections.reverse(days);
+        return days;
+    }
+
+    private void insertTags(Connection connection, Random random) throws SQLException {
+        LocalDateTime createdAt = LAST_DAY.atStartOfDay().minusYears(1);
+        try (Batch batch = new Batch(connection,
+                "INSERT INTO tags (id, name, color, created_at, updated_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= TAG_COUNT; i++) {
+                batch.add(i, "tag-" + i, String.format("#%06X", random.nextInt(0x1000000)), createdAt, createdAt);
+            }
+        }
+        restartIdentity(connection, "tags", TAG_COUNT);
+    }
+
+    /**
+     * 任務的建立時間平均分布在整段歷史中；一個月前建立的任務約九成已完成
+     */
+    private void insertTasks(Connection connection, Random random, int taskCount, LocalDate firstDay,
+                             Duration history) throws SQLException {
+        LocalDateTime recent = LAST_DAY.minusDays(30).atStartOfDay();
+        List<long[]> taskTags = new ArrayList<>();
+        try (Batch tasks = new Batch(connection, "INSERT INTO tasks (id, title, due_at, completed_at, note, status, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= taskCount; i++) {
+                LocalDateTime createdAt = firstDay.atStartOfDay().plus(history.multipliedBy(i - 1).dividedBy(taskCount));
+                LocalDateTime dueAt = random.nextBoolean()
+                        ? createdAt.toLocalDate().plusDays(1 + random.nextInt(14)).atTime(23, 59)
+                        : null;
+                boolean completed = random.nextDouble() < (createdAt.isBefore(recent) ? 0.9 : 0.3);
+                LocalDateTime completedAt = completed
+                        ? min(createdAt.plusHours(1 + random.nextInt(21 * 24)), LAST_DAY.atTime(LocalTime.NOON))
+                        : null;
+                tasks.add(i, "Task " + i, dueAt, completedAt, note(random, 0.3),
+                        (completed ? TaskStatus.COMPLETE : TaskStatus.PENDING).name(),
+                        createdAt, completedAt != null ? completedAt : createdAt);
+
+                // 熱門標籤（編號較小）被較多任務使用
+                int tagCount = random.nextInt(4);
+                boolean[] used = new boolean[TAG_COUNT + 1];
+                for (int t = 0; t < tagCount; t++) {
+                    int tagId = 1 + (int) (TAG_COUNT * Math.pow(random.nextDouble(), 2));
+                    if (!used[tagId]) {
+                        used[tagId] = true;
+                        taskTags.add(new long[]{i, tagId});
+                    }
+                }
+            }
+        }
+        // 關聯表參照任務，須在任務全部寫入後才寫入
+        try (Batch batch = new Batch(connection, "INSERT INTO task_tags (task_id, tag_id) VALUES (?, ?)")) {
+            for (long[] taskTag : taskTags) {
+                batch.add(taskTag[0], taskTag[1]);
+            }
+        }
+        restartIdentity(connection, "tasks", taskCount);
+    }
+
+    private void insertSessionRecords(Connection connection, Random random, List<Day> days, int taskCount,
+                                      LocalDate firstDay, Duration history) throws SQLException {
+        long id = 0;
+        try (Batch batch = new Batch(connection, "INSERT INTO session_records (id, title, task_id, start_at, end_at, "
+                + "planned_note, completion_note, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (Day day : days) {
+                LocalDateTime startAt = day.date().atTime(8, 0).plusMinutes(random.nextInt(120));
+                for (int i = 0; i < day.count(); i++) {
+                    // 對數常態分布，中位數 25 分鐘，限制在 5 至 180 分鐘
+                    long minutes = Math.round(Math.exp(Math.log(25) + 0.5 * random.nextGaussian()));
+                    LocalDateTime endAt = startAt.plusMinutes(Math.max(5, Math.min(180, minutes)));
+                    id++;
+                    batch.add(id, "Session " + id, taskId(random, startAt, taskCount, firstDay, history),
+                            startAt, endAt, note(random, 0.4), note(random, 0.3), endAt, endAt);
+                    startAt = endAt.plusMinutes(random.nextInt(31));
+                }
+            }
+        }
+        restartIdentity(connection, "session_records", id);
+    }
+
+    private void insertScheduleEntries(Connection connection, Random random, List<Day> days, int taskCount,
+                                       LocalDate firstDay, Duration history) throws SQLException {
+        long id = 0;
+        try (Batch batch = new Batch(connection, "INSERT INTO schedule_entries (id, title, task_id, start_at, end_at, "
+                + "note) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (Day day : days) {
+                LocalDateTime startAt = day.date().atTime(9, 0);
+                for (int i = 0; i < day.count(); i++) {
+                    LocalDateTime endAt = startAt.plusMinutes(30L * (1 + random.nextInt(4)));
+                    id++;
+                    batch.add(id, "Entry " + id, taskId(random, startAt, taskCount, firstDay, history),
+                            startAt, endAt, note(random, 0.2));
+                    startAt = endAt.plusMinutes(15L * random.nextInt(5));
+                }
+            }
+        }
+        restartIdentity(connection, "schedule_entries", id);
+    }
+
+    private void insertSessions(Connection connection, int taskCount) throws SQLException {
+        try (Batch batch = new Batch(connection, "INSERT INTO sessions (id, title, task_id, start_at, end_reminder, "
+                + "note, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= ACTIVE_SESSIONS; i++) {
+                LocalDateTime startAt = LAST_DAY.atTime(9, 0).plusMinutes(30L * i);
+                batch.add(i, "Active session " + i, taskCount - i + 1, startAt, startAt.plusMinutes(25), null,
+                        startAt, startAt);
+            }
+        }
+        restartIdentity(connection, "sessions", ACTIVE_SESSIONS);
+    }
+
+    /**
+     * 約 85% 的資料關聯任務，集中在該時間點之前最新建立的任務
+     */
+    private static Long taskId(Random random, LocalDateTime at, int taskCount, LocalDate firstDay, Duration history) {
+        if (random.nextDouble() >= 0.85) {
+            return null;
+        }
+        long elapsed = Duration.between(firstDay.atStartOfDay(), at).toMinutes();
+        long created = Math.min(taskCount, Math.max(1, taskCount * elapsed / Math.max(1, history.toMinutes()) + 1));
+        long offset = (long) Math.abs(random.nextGaussian() * 5);
+        return Math.max(1, created - offset);
+    }
+
+    private static String note(Random random, double probability) {
+        return random.nextDouble() < probability ? NOTES[random.nextInt(NOTES.length)] : null;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static void requireEmpty(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : List.of("tags", "tasks", "sessions", "session_records", "schedule_entries")) {
+                if (count(statement, "SELECT COUNT(*) FROM " + table) > 0) {
+                    throw new IllegalStateException("Table " + table + " is not empty; use a new database file");
+                }
+            }
+        }
+    }
+
+    private static void restartIdentity(Connection connection, String table, long lastId) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (lastId + 1));
+        }
+    }
+
+    private static long count(Statement statement, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * 累積到 {@value #BATCH_SIZE} 筆送出一次，每 {@value #COMMIT_INTERVAL} 筆提交一次以限制未提交資料的記憶體用量
+     */
+    private static final class Batch implements AutoCloseable {
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private int pending;
+        private long total;
+
+        Batch(Connection connection, String sql) throws SQLException {
+            this.connection = connection;
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    statement.setNull(i + 1, Types.NULL);
+                } else {
+                    statement.setObject(i + 1, values[i]);
+                }
+            }
+            statement.addBatch();
+            total++;
+            if (++pending == BATCH_SIZE) {
+                flush();
+            }
+            if (total % COMMIT_INTERVAL == 0) {
+                connection.commit();
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
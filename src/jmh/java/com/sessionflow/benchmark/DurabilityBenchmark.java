@@ -0,0 +1,75 @@
+package com.sessionflow.benchmark;
+
+import com.sessionflow.benchmark.DatasetGenerator.Dataset;
+import com.sessionflow.dto.TaskResponse;
+import com.sessionflow.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 各耐久性模式（{@code sessionflow.durability.mode}）的寫入吞吐量
+ * <p>
+ * 使用檔案資料庫並以多個執行緒完成隨機任務；{@code strict} 每次提交都 fsync，{@code batched} 定期同步，
+ * {@code memory} 只在背景寫入快照。可搭配 {@code -p} 與 {@code sessionflow.write.group-commit.enabled} 比較合併提交的效果。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class DurabilityBenchmark {
+
+    @Param({"strict", "batched", "memory"})
+    String mode;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private long tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("sessionflow-durability-benchmark");
+        context = BenchmarkApplication.start(BenchmarkApplication.fileDatabaseUrl(directory.resolve("benchmark")),
+                "--sessionflow.durability.mode=" + mode);
+        Dataset dataset = new DatasetGenerator(BenchmarkData.SEED).load(context.getBean(DataSource.class), 1000);
+        tasks = dataset.tasks();
+        taskService = context.getBean(TaskService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    /** PATCH /api/tasks/{id}/complete */
+    @Benchmark
+    public TaskResponse completeTask() {
+        return taskService.completeTask(ThreadLocalRandom.current().nextLong(1, tasks + 1));
+    }
+}
@@ -0,0 +1,117 @@
+package com.sessionflow.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 每個請求的日誌成本：原本的同步輸出與 logback-spring.xml 的非同步佇列
+ * <p>
+ * 使用獨立的 LoggerContext 與 Spring Boot 預設的主控台格式，輸出到暫存檔（相當於把主控台導向檔案）。
+ * {@code async} 的佇列設定與 application.properties 相同；寫入速度跟不上時 INFO 事件會被丟棄，
+ * 因此持續飽和時的吞吐量反映的是丟棄策略，而不是寫入速度。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p %pid --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"sync", "async"})
+    String pipeline;
+
+    private LoggerContext context;
+    private Logger controllerLog;
+    private Logger serviceLog;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("sessionflow-logging-benchmark", ".log");
+        context = new LoggerContext();
+        context.putProperty("PID", Long.toString(ProcessHandle.current().pid()));
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (pipeline.equals("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(1024);
+            async.setDiscardingThreshold(128);
+            async.setIncludeCallerData(false);
+            async.setNeverBlock(false);
+            async.addAppender(file);
+            async.start();
+            appender = async;
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+        controllerLog = context.getLogger("com.sessionflow.controller.TaskController");
+        serviceLog = context.getLogger("com.sessionflow.service.impl.TaskServiceImpl");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    /** 調整前 PUT /api/tasks/{id} 的日誌：Controller 一筆、Service 前後各一筆，皆為 INFO */
+    @Benchmark
+    public void infoPerRequest() {
+        Long id = 42L;
+        controllerLog.info("Received request to update task with id: {}", id);
+        serviceLog.info("Updating task with id: {}", id);
+        serviceLog.info("Task updated successfully with id: {}", id);
+    }
+
+    /** 調整後的同一請求：三筆降為 DEBUG，在 INFO 層級下只做層級判斷 */
+    @Benchmark
+    public void debugPerRequest() {
+        Long id = 42L;
+        controllerLog.debug("Received request to update task with id: {}", id);
+        serviceLog.debug("Updating task with id: {}", id);
+        serviceLog.debug("Task updated successfully with id: {}", id);
+    }
+}
@@ -0,0 +1,80 @@
+package com.sessionflow.benchmark;
+
+import com.sessionflow.dto.ScheduleEntryResponse;
+import com.sessionflow.dto.SessionRecordResponse;
+import com.sessionflow.dto.TaskResponse;
+import com.sessionflow.mapper.impl.ScheduleEntryMapperImpl;
+import com.sessionflow.mapper.impl.SessionRecordMapperImpl;
+import com.sessionflow.mapper.impl.TagMapperImpl;
+import com.sessionflow.mapper.impl.TaskMapperImpl;
+import com.sessionflow.model.ScheduleEntry;
+import com.sessionflow.model.SessionRecord;
+import com.sessionflow.model.Tag;
+import com.sessionflow.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 實體列表轉換為回應 DTO 的成本，對應列表 API 回傳前的轉換步驟
+ * <p>
+ * 列表轉換不會查詢 Repository，因此直接建立 Mapper 實作，不需要 Spring 容器。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int size;
+
+    private TaskMapperImpl taskMapper;
+    private ScheduleEntryMapperImpl scheduleEntryMapper;
+    private SessionRecordMapperImpl sessionRecordMapper;
+
+    private List<Task> tasks;
+    private List<ScheduleEntry> scheduleEntries;
+    private List<SessionRecord> sessionRecords;
+
+    @Setup
+    public void setUp() {
+        taskMapper = new TaskMapperImpl(null, new TagMapperImpl());
+        scheduleEntryMapper = new ScheduleEntryMapperImpl(null);
+        sessionRecordMapper = new SessionRecordMapperImpl();
+
+        BenchmarkData data = new BenchmarkData();
+        List<Tag> tags = data.tags();
+        tasks = data.tasks(size, tags);
+        scheduleEntries = data.scheduleEntries(size, tasks);
+        sessionRecords = data.sessionRecords(size, tasks);
+    }
+
+    @Benchmark
+    public List<TaskResponse> taskToResponseList() {
+        return taskMapper.toResponseList(tasks);
+    }
+
+    @Benchmark
+    public List<ScheduleEntryResponse> scheduleEntryToResponseList() {
+        return scheduleEntryMapper.toResponseList(scheduleEntries);
+    }
+
+    @Benchmark
+    public List<SessionRecordResponse> sessionRecordToResponseList() {
+        return sessionRecordMapper.toResponseList(sessionRecords);
+    }
+}
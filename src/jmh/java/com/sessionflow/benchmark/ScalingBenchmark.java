@@ -0,0 +1,327 @@
+package com.sessionflow.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sessionflow.benchmark.DatasetGenerator.Dataset;
+import com.sessionflow.dto.ScheduleEntryRequest;
+import com.sessionflow.dto.SessionRecordCreateRequest;
+import com.sessionflow.dto.SessionRecordUpdateRequest;
+import com.sessionflow.dto.SessionRequest;
+import com.sessionflow.dto.TagRequest;
+import com.sessionflow.dto.TaskRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+/**
+ * 在不同資料量下量測每個 API 端點的延遲、每次請求的配置量與 SQL 陳述式數
+ * <p>
+ * 每個資料量以 {@link DatasetGenerator} 產生一次檔案資料庫並快取於輸出目錄，量測時複製一份後啟動完整的應用程式，
+ * 以 MockMvc 在目前的執行緒中呼叫 Controller，因此執行緒配置量涵蓋分派、查詢、轉換與序列化。
+ * 寫入端點所需的資源在量測前建立，不計入結果。
+ * <p>
+ * 用法：{@code ScalingBenchmark [--sizes 10000,100000,1000000] [--seed 42] [--warmup 10] [--iterations 50]
+ * [--max-seconds 20] [--directory target/scaling]}
+ */
+final class ScalingBenchmark {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final int warmup;
+    private final int iterations;
+    private final Duration maxDuration;
+
+    private MockMvc mockMvc;
+    private ObjectMapper objectMapper;
+    private Statistics statistics;
+
+    ScalingBenchmark(int warmup, int iterations, Duration maxDuration) {
+        this.warmup = warmup;
+        this.iterations = iterations;
+        this.maxDuration = maxDuration;
+    }
+
+    /**
+     * 單一端點在單一資料量下的量測結果
+     *
+     * @param size              產生資料時指定的時段紀錄與排程筆數
+     * @param endpoint          HTTP 方法與路徑樣式
+     * @param samples           量測次數
+     * @param meanMillis        平均延遲
+     * @param p50Millis         延遲中位數
+     * @param p99Millis         第 99 百分位延遲
+     * @param maxMillis         最大延遲
+     * @param allocatedBytes    每次請求在呼叫執行緒上的平均配置量
+     * @param statements        每次請求平均執行的 SQL 陳述式數
+     * @param responseBytes     最後一次回應的本體大小
+     */
+    record Result(int size, String endpoint, int samples, double meanMillis, double p50Millis, double p99Millis,
+                  double maxMillis, long allocatedBytes, double statements, int responseBytes) {
+    }
+
+    /**
+     * 準備一次呼叫，回傳要量測的請求；準備過程中送出的請求不計入量測
+     */
+    @FunctionalInterface
+    private interface Operation {
+        RequestBuilder prepare(int iteration) throws Exception;
+    }
+
+    private record Endpoint(String name, Operation operation) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> sizes = List.of(10_000, 100_000, 1_000_000);
+        long seed = BenchmarkData.SEED;
+        int warmup = 10;
+        int iterations = 50;
+        Duration maxDuration = Duration.ofSeconds(20);
+        Path directory = Path.of("target", "scaling");
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--sizes" -> sizes = Arrays.stream(value.split(",")).map(String::trim).map(Integer::valueOf).toList();
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--iterations" -> iterations = Integer.parseInt(value);
+                case "--max-seconds" -> maxDuration = Duration.ofSeconds(Long.parseLong(value));
+                case "--directory" -> directory = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (args.length % 2 != 0) {
+            throw new IllegalArgumentException(args[args.length - 1] + " requires a value");
+        }
+
+        Files.createDirectories(directory);
+        ScalingBenchmark benchmark = new ScalingBenchmark(warmup, iterations, maxDuration);
+        List<Result> results = new ArrayList<>();
+        for (int size : sizes) {
+            Path dataset = DatasetGenerator.ensureDatabase(directory, size, seed);
+            List<Result> sizeResults = benchmark.run(dataset, directory.resolve("work"), size, seed);
+            print(sizeResults);
+            results.addAll(sizeResults);
+        }
+
+        Path output = directory.resolve("scaling-result.json");
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), results);
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    /**
+     * 複製資料庫後啟動應用程式並依序量測所有端點
+     */
+    List<Result> run(Path dataset, Path workCopy, int size, long seed) throws Exception {
+        Files.copy(Path.of(dataset + ".mv.db"), Path.of(workCopy + ".mv.db"), StandardCopyOption.REPLACE_EXISTING);
+        try (ConfigurableApplicationContext context = BenchmarkApplication.start(
+                BenchmarkApplication.fileDatabaseUrl(workCopy),
+                "--spring.jpa.properties.hibernate.generate_statistics=true")) {
+            mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+            objectMapper = context.getBean(ObjectMapper.class);
+            statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+            Dataset data = DatasetGenerator.describe(context.getBean(DataSource.class));
+            List<Result> results = new ArrayList<>();
+            for (Endpoint endpoint : endpoints(data, new Random(seed))) {
+                results.add(measure(size, endpoint));
+            }
+            return results;
+        } finally {
+            Files.deleteIfExists(Path.of(workCopy + ".mv.db"));
+        }
+    }
+
+    /**
+     * 所有 Controller 端點；讀取端點排在前面，避免受到寫入的資料影響
+     */
+    private List<Endpoint> endpoints(Dataset data, Random random) {
+        String week = "startDate=" + data.lastWeekStart() + "&endDate=" + data.lastWeekEnd();
+        LocalDateTime planned = data.lastWeekEnd().plusDays(1).atTime(20, 0);
+        return List.of(
+                new Endpoint("GET /api/health", i -> get("/api/health")),
+                new Endpoint("GET /api/bootstrap", i -> get("/api/bootstrap")),
+                // 先修改標籤讓資料版本變更，量測快照重建而非快取命中
+                new Endpoint("GET /api/bootstrap (rebuild)", i -> {
+                    send(put("/api/tags/{id}", 1), new TagRequest("tag-1", i % 2 == 0 ? "#112233" : "#445566"));
+                    return get("/api/bootstrap");
+                }),
+                new Endpoint("GET /api/tasks", i -> get("/api/tasks")),
+                new Endpoint("GET /api/tasks?status=pending", i -> get("/api/tasks").param("status", "pending")),
+                new Endpoint("GET /api/tags", i -> get("/api/tags")),
+                new Endpoint("GET /api/sessions", i -> get("/api/sessions")),
+                new Endpoint("GET /api/schedule-entries?week", i -> get("/api/schedule-entries?" + week)),
+                new Endpoint("GET /api/session-records?week", i -> get("/api/session-records?" + week)),
+                new Endpoint("GET /api/session-records?taskId",
+                        i -> get("/api/session-records").param("taskId", String.valueOf(data.busiestTaskId()))),
+
+                new Endpoint("POST /api/tasks", i -> json(post("/api/tasks"), newTask(i))),
+                new Endpoint("PUT /api/tasks/{id}", i -> json(put("/api/tasks/{id}", pick(random, data.tasks())),
+                        new TaskRequest("Updated task " + i, List.of(1L, 2L), null, "updated"))),
+                new Endpoint("PATCH /api/tasks/{id}/complete",
+                        i -> patch("/api/tasks/{id}/complete", create("/api/tasks", newTask(i)))),
+                new Endpoint("PATCH /api/tasks/{id}/reopen", i -> {
+                    long id = create("/api/tasks", newTask(i));
+                    send(patch("/api/tasks/{id}/complete", id), null);
+                    return patch("/api/tasks/{id}/reopen", id);
+                }),
+                new Endpoint("DELETE /api/tasks/{id}", i -> delete("/api/tasks/{id}", create("/api/tasks", newTask(i)))),
+
+                new Endpoint("POST /api/tags", i -> json(post("/api/tags"), new TagRequest("bench-" + i, "#336699"))),
+                new Endpoint("PUT /api/tags/{id}", i -> json(put("/api/tags/{id}", 2),
+                        new TagRequest("tag-2", i % 2 == 0 ? "#778899" : "#AABBCC"))),
+                new Endpoint("DELETE /api/tags/{id}",
+                        i -> delete("/api/tags/{id}", create("/api/tags", new TagRequest("drop-" + i, "#336699")))),
+
+                new Endpoint("POST /api/schedule-entries",
+                        i -> json(post("/api/schedule-entries"), newScheduleEntry(i, planned))),
+                new Endpoint("PUT /api/schedule-entries/{id}",
+                        i -> json(put("/api/schedule-entries/{id}", pick(random, data.scheduleEntries())),
+                                newScheduleEntry(i, planned))),
+                new Endpoint("DELETE /api/schedule-entries/{id}", i -> delete("/api/schedule-entries/{id}",
+                        create("/api/schedule-entries", newScheduleEntry(i, planned)))),
+
+                new Endpoint("POST /api/sessions", i -> json(post("/api/sessions"), newSession(i))),
+                new Endpoint("POST /api/sessions/{id}/end", i -> {
+                    long id = create("/api/sessions", newSession(i));
+                    return json(post("/api/sessions/{id}/end", id), new SessionRecordCreateRequest(id, "done"));
+                }),
+                new Endpoint("PUT /api/session-records/{id}",
+                        i -> json(put("/api/session-records/{id}", pick(random, data.sessionRecords())),
+                                new SessionRecordUpdateRequest("planned " + i, "completed " + i))),
+                new Endpoint("DELETE /api/session-records/{id}", i -> {
+                    long sessionId = create("/api/sessions", newSession(i));
+                    long id = create("/api/sessions/" + sessionId + "/end",
+                            new SessionRecordCreateRequest(sessionId, null));
+                    return delete("/api/session-records/{id}", id);
+                }));
+    }
+
+    private Result measure(int size, Endpoint endpoint) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            execute(endpoint, endpoint.operation().prepare(i));
+        }
+
+        long[] latencies = new long[iterations];
+        long allocated = 0;
+        long statements = 0;
+        int responseBytes = 0;
+        int samples = 0;
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        long threadId = Thread.currentThread().getId();
+        while (samples < iterations && (samples == 0 || System.nanoTime() < deadline)) {
+            RequestBuilder request = endpoint.operation().prepare(warmup + samples);
+
+            long statementsBefore = statistics.getPrepareStatementCount();
+            long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            MockHttpServletResponse response = execute(endpoint, request);
+            latencies[samples] = System.nanoTime() - start;
+            allocated += THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            statements += statistics.getPrepareStatementCount() - statementsBefore;
+
+            responseBytes = response.getContentAsByteArray().length;
+            samples++;
+        }
+
+        long[] sorted = Arrays.copyOf(latencies, samples);
+        Arrays.sort(sorted);
+        return new Result(size, endpoint.name(), samples,
+                millis(Arrays.stream(sorted).sum() / (double) samples),
+                millis(percentile(sorted, 0.50)),
+                millis(percentile(sorted, 0.99)),
+                millis(sorted[samples - 1]),
+                allocated / samples,
+                statements / (double) samples,
+                responseBytes);
+    }
+
+    private MockHttpServletResponse execute(Endpoint endpoint, RequestBuilder request) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+        if (response.getStatus() >= 400) {
+            throw new IllegalStateException(endpoint.name() + " returned " + response.getStatus() + ": "
+                    + response.getContentAsString());
+        }
+        return response;
+    }
+
+    /**
+     * 送出準備用的請求，不計入量測
+     */
+    private MockHttpServletResponse send(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(body != null ? json(request, body) : request)
+                .andReturn().getResponse();
+        if (response.getStatus() >= 400) {
+            throw new IllegalStateException(response.getStatus() + ": " + response.getContentAsString());
+        }
+        return response;
+    }
+
+    /**
+     * 建立資源並回傳其 ID
+     */
+    private long create(String path, Object body) throws Exception {
+        return objectMapper.readTree(send(post(path), body).getContentAsByteArray()).get("id").asLong();
+    }
+
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, Object body) throws IOException {
+        return request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsBytes(body));
+    }
+
+    private static TaskRequest newTask(int i) {
+        return new TaskRequest("Benchmark task " + i, List.of(1L), null, null);
+    }
+
+    private static ScheduleEntryRequest newScheduleEntry(int i, LocalDateTime planned) {
+        LocalDateTime startAt = planned.plusMinutes(30L * i);
+        return new ScheduleEntryRequest("Benchmark entry " + i, null, startAt, startAt.plusMinutes(30), null);
+    }
+
+    private static SessionRequest newSession(int i) {
+        return new SessionRequest("Benchmark session " + i, null, null, null);
+    }
+
+    private static long pick(Random random, long count) {
+        return 1 + (long) (random.nextDouble() * count);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private static double millis(double nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    private static void print(List<Result> results) {
+        System.out.printf("%n%-40s %8s %8s %8s %8s %8s %12s %8s %10s%n", "Endpoint (size=" + results.get(0).size()
+                + ")", "samples", "mean", "p50", "p99", "max", "alloc/op", "sql/op", "body");
+        for (Result r : results) {
+            System.out.printf("%-40s %8d %8.2f %8.2f %8.2f %8.2f %12d %8.1f %10d%n", r.endpoint(), r.samples(),
+                    r.meanMillis(), r.p50Millis(), r.p99Millis(), r.maxMillis(), r.allocatedBytes(), r.statements(),
+                    r.responseBytes());
+        }
+    }
+}
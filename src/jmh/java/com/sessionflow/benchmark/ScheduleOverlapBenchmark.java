@@ -0,0 +1,67 @@
+package com.sessionflow.benchmark;
+
+import com.sessionflow.model.ScheduleEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ScheduleEntry#isOverlapping(ScheduleEntry)} 在大量排程上的成本
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleOverlapBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int size;
+
+    private List<ScheduleEntry> entries;
+    private ScheduleEntry candidate;
+
+    @Setup
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData();
+        entries = data.scheduleEntries(size, List.of());
+        candidate = data.scheduleEntries(1, List.of()).get(0);
+    }
+
+    /** 新增一筆排程時與既有排程逐一比對 */
+    @Benchmark
+    public int overlapsWithCandidate() {
+        int overlapping = 0;
+        for (ScheduleEntry entry : entries) {
+            if (candidate.isOverlapping(entry)) {
+                overlapping++;
+            }
+        }
+        return overlapping;
+    }
+
+    /** 在整個排程集合中找出所有重疊的配對，成本隨 size 平方成長 */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void allOverlappingPairs(Blackhole blackhole) {
+        for (int i = 0; i < entries.size(); i++) {
+            ScheduleEntry entry = entries.get(i);
+            for (int j = i + 1; j < entries.size(); j++) {
+                blackhole.consume(entry.isOverlapping(entries.get(j)));
+            }
+        }
+    }
+}
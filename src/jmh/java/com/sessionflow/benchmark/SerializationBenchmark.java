@@ -0,0 +1,86 @@
+package com.sessionflow.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sessionflow.common.NotificationType;
+import com.sessionflow.dto.ResourceChangedNotification;
+import com.sessionflow.dto.TaskResponse;
+import com.sessionflow.mapper.impl.TagMapperImpl;
+import com.sessionflow.mapper.impl.TaskMapperImpl;
+import com.sessionflow.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST 回應與 WebSocket 通知的 JSON 序列化成本
+ * <p>
+ * ObjectMapper 的設定與 Spring Boot 自動設定相同：註冊 JavaTimeModule 並以 ISO-8601 字串輸出時間。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponse> taskResponses;
+    private ResourceChangedNotification<TaskResponse> updateNotification;
+    private ResourceChangedNotification<Void> batchDeleteNotification;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        BenchmarkData data = new BenchmarkData();
+        List<Task> tasks = data.tasks(size, data.tags());
+        taskResponses = new TaskMapperImpl(null, new TagMapperImpl()).toResponseList(tasks);
+
+        TaskResponse updated = taskResponses.get(0);
+        updateNotification = new ResourceChangedNotification<>(
+                NotificationType.TASK_UPDATE, updated.getId(), null, updated,
+                List.of(new ResourceChangedNotification.Affected(NotificationType.SCHEDULE_ENTRY_UPDATE, List.of(1L, 2L))),
+                System.currentTimeMillis());
+        batchDeleteNotification = new ResourceChangedNotification<>(
+                NotificationType.TASK_DELETE, null, tasks.stream().map(Task::getId).toList(), null, null,
+                System.currentTimeMillis());
+    }
+
+    /** GET /api/tasks 的回應本體 */
+    @Benchmark
+    public byte[] taskResponseList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(taskResponses);
+    }
+
+    /** 單筆任務更新推播，每次寫入操作都會序列化一次 */
+    @Benchmark
+    public byte[] taskUpdateNotification() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(updateNotification);
+    }
+
+    /** 批次刪除推播，ID 列表長度與 size 相同 */
+    @Benchmark
+    public byte[] taskBatchDeleteNotification() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(batchDeleteNotification);
+    }
+}
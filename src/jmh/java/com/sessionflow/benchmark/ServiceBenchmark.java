@@ -0,0 +1,100 @@
+package com.sessionflow.benchmark;
+
+import com.sessionflow.benchmark.DatasetGenerator.Dataset;
+import com.sessionflow.dto.ScheduleEntryResponse;
+import com.sessionflow.dto.SessionRecordResponse;
+import com.sessionflow.dto.TaskResponse;
+import com.sessionflow.service.ScheduleEntryService;
+import com.sessionflow.service.SessionRecordService;
+import com.sessionflow.service.TaskService;
+import com.sessionflow.store.InMemoryStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 透過 Service 層查詢內嵌 H2 的端對端成本，包含交易、JPQL 查詢、延遲載入關聯與 DTO 轉換
+ * <p>
+ * 每個 fork 以記憶體資料庫啟動完整的應用程式，並以 {@link DatasetGenerator} 寫入 {@code size} 筆時段紀錄與排程。
+ * {@code inMemory} 為 true 時啟用記憶體資料集（{@code sessionflow.store.in-memory.enabled}），寫入資料後重新載入，
+ * 讀取改由記憶體回應。不同資料量下的端點比較請使用 {@link ScalingBenchmark}。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean inMemory;
+
+    private ConfigurableApplicationContext context;
+    private Dataset dataset;
+    private TaskService taskService;
+    private ScheduleEntryService scheduleEntryService;
+    private SessionRecordService sessionRecordService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        context = BenchmarkApplication.start(BenchmarkApplication.memoryDatabaseUrl("benchmark"),
+                "--sessionflow.store.in-memory.enabled=" + inMemory);
+        dataset = new DatasetGenerator(BenchmarkData.SEED).load(context.getBean(DataSource.class), size);
+        if (inMemory) {
+            // 資料直接以 JDBC 寫入，不經過 Service，需重新載入
+            context.getBean(InMemoryStore.class).load();
+        }
+        taskService = context.getBean(TaskService.class);
+        scheduleEntryService = context.getBean(ScheduleEntryService.class);
+        sessionRecordService = context.getBean(SessionRecordService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** GET /api/tasks：全部任務與其標籤 */
+    @Benchmark
+    public List<TaskResponse> getAllTasks() {
+        return taskService.getAllTasks(null);
+    }
+
+    /** GET /api/tasks?status=pending */
+    @Benchmark
+    public List<TaskResponse> getPendingTasks() {
+        return taskService.getAllTasks("pending");
+    }
+
+    /** GET /api/schedule-entries：最後一週 */
+    @Benchmark
+    public List<ScheduleEntryResponse> getScheduleEntries() {
+        return scheduleEntryService.getScheduleEntries(dataset.lastWeekStart(), dataset.lastWeekEnd());
+    }
+
+    /** GET /api/session-records：最後一週 */
+    @Benchmark
+    public List<SessionRecordResponse> getSessionRecords() {
+        return sessionRecordService.getSessionRecords(dataset.lastWeekStart(), dataset.lastWeekEnd(), null);
+    }
+}
@@ -0,0 +1,270 @@
+package com.sessionflow.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sessionflow.loadtest.RequestMix.Operation;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 對執行中的應用程式施加 REST 與 WebSocket 負載，輸出請求延遲與通知延遲的分布
+ * <p>
+ * 請求依固定速率排程（開放模型），延遲自預定的送出時間起算：伺服器變慢時，排在後面的請求等待的時間也計入延遲，
+ * 不會因為負載產生器跟著放慢而低估（coordinated omission）。同時在途的請求數達上限時，新的請求等待空位，
+ * 等待時間同樣計入延遲。
+ * <p>
+ * 用法：{@code LoadTest [--url http://localhost:53551] [--rate 50] [--duration 60] [--warmup 10]
+ * [--subscribers 100] [--max-in-flight 256] [--seed 42] [--output target/load]}
+ */
+final class LoadTest {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+    /** 最後一個請求完成後等待通知送達的時間 */
+    private static final Duration NOTIFICATION_GRACE = Duration.ofSeconds(2);
+
+    private final URI baseUri;
+    private final int rate;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int subscriberCount;
+    private final int maxInFlight;
+    private final long seed;
+
+    private final Map<Operation, Recorder> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+
+    LoadTest(URI baseUri, int rate, Duration duration, Duration warmup, int subscriberCount, int maxInFlight,
+             long seed) {
+        this.baseUri = baseUri;
+        this.rate = rate;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.subscriberCount = subscriberCount;
+        this.maxInFlight = maxInFlight;
+        this.seed = seed;
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new Recorder(3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    /**
+     * 測試結果，延遲單位為毫秒
+     */
+    record Summary(String url, int targetRate, double achievedRate, long durationSeconds, int subscribers,
+                   Map<String, Percentiles> requests, Percentiles notificationDelay, long notificationFrames,
+                   long minFramesPerSubscriber, long maxFramesPerSubscriber) {
+    }
+
+    record Percentiles(long count, long errors, double mean, double p50, double p90, double p99, double p999,
+                       double max) {
+
+        static Percentiles of(Histogram histogram, long errors) {
+            return new Percentiles(histogram.getTotalCount(), errors,
+                    millis(histogram.getMean()),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(double micros) {
+            return Math.round(micros / 10.0) / 100.0;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI url = URI.create("http://localhost:53551");
+        int rate = 50;
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(10);
+        int subscribers = 100;
+        int maxInFlight = 256;
+        long seed = 42;
+        Path output = Path.of("target", "load");
+        if (args.length % 2 != 0) {
+            throw new IllegalArgumentException(args[args.length - 1] + " requires a value");
+        }
+        for (int i = 0; i < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--url" -> url = URI.create(value);
+                case "--rate" -> rate = Integer.parseInt(value);
+                case "--duration" -> duration = Duration.ofSeconds(Long.parseLong(value));
+                case "--warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "--subscribers" -> subscribers = Integer.parseInt(value);
+                case "--max-in-flight" -> maxInFlight = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--output" -> output = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (rate <= 0 || maxInFlight <= 0 || subscribers < 0) {
+            throw new IllegalArgumentException("--rate and --max-in-flight must be positive, --subscribers non-negative");
+        }
+
+        new LoadTest(url, rate, duration, warmup, subscribers, maxInFlight, seed).run(output);
+    }
+
+    void run(Path output) throws Exception {
+        System.out.printf("Connecting %d STOMP subscribers to %s...%n", subscriberCount, baseUri);
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(4);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .executor(httpExecutor)
+                .build();
+        try (NotificationSubscribers subscribers =
+                     NotificationSubscribers.connect(baseUri, subscriberCount, CONNECT_TIMEOUT)) {
+            System.out.printf("Running %d req/s for %ds after %ds warm-up...%n",
+                    rate, duration.toSeconds(), warmup.toSeconds());
+            long sent = generate(httpClient, subscribers);
+
+            Thread.sleep(NOTIFICATION_GRACE.toMillis());
+            subscribers.setRecording(false);
+            if (subscribers.connected() < subscriberCount) {
+                System.out.printf("Warning: only %d of %d subscribers still connected%n",
+                        subscribers.connected(), subscriberCount);
+            }
+            if (subscribers.unreadableFrames() > 0) {
+                System.out.printf("Warning: %d notification frames had no readable timestamp%n",
+                        subscribers.unreadableFrames());
+            }
+            report(output, sent, subscribers);
+        } finally {
+            httpExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 依固定速率送出請求，直到預熱與量測時間結束，並等待所有在途請求完成
+     *
+     * @return 量測期間送出的請求數
+     */
+    private long generate(HttpClient httpClient, NotificationSubscribers subscribers) throws InterruptedException {
+        RequestMix mix = new RequestMix(baseUri);
+        Random random = new Random(seed);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        long sent = 0;
+        boolean measuring = false;
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * interval;
+            if (intended >= end) {
+                break;
+            }
+            if (!measuring && intended >= measureFrom) {
+                measuring = true;
+                subscribers.setRecording(true);
+            }
+            parkUntil(intended);
+
+            RequestMix.Request request = mix.next(random);
+            boolean record = measuring;
+            inFlight.acquire();
+            if (record) {
+                sent++;
+            }
+            httpClient.sendAsync(request.httpRequest(), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> {
+                        long latency = System.nanoTime() - intended;
+                        inFlight.release();
+                        if (record) {
+                            latencies.get(request.operation()).recordValue(TimeUnit.NANOSECONDS.toMicros(latency));
+                            if (error != null || response.statusCode() >= 400) {
+                                errors.get(request.operation()).incrementAndGet();
+                            }
+                        }
+                        if (response != null) {
+                            mix.onResponse(request.operation(), response);
+                        }
+                    });
+        }
+        if (!inFlight.tryAcquire(maxInFlight, DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            System.out.println("Warning: requests still in flight after " + DRAIN_TIMEOUT.toSeconds() + "s");
+        }
+        return sent;
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private void report(Path output, long sent, NotificationSubscribers subscribers) throws IOException {
+        Files.createDirectories(output);
+        Histogram all = new Histogram(3);
+        Map<String, Percentiles> requests = new LinkedHashMap<>();
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation).getIntervalHistogram();
+            all.add(histogram);
+            long operationErrors = errors.get(operation).get();
+            totalErrors += operationErrors;
+            requests.put(operation.label(), Percentiles.of(histogram, operationErrors));
+        }
+        requests.put("all", Percentiles.of(all, totalErrors));
+        Histogram delays = subscribers.delayHistogram();
+
+        Summary summary = new Summary(baseUri.toString(), rate, sent / (double) duration.toSeconds(),
+                duration.toSeconds(), subscriberCount, requests, Percentiles.of(delays, 0),
+                subscribers.totalFrames(), subscribers.minFrames(), subscribers.maxFrames());
+
+        print(summary);
+        writeHistogram(output.resolve("requests.hgrm"), all);
+        writeHistogram(output.resolve("notification-delay.hgrm"), delays);
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.resolve("summary.json").toFile(), summary);
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    /**
+     * HdrHistogram 百分位分布格式，可用 HistogramLogAnalyzer 或 hdrhistogram.github.io/HdrHistogram/plotFiles.html 繪圖
+     */
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private static void print(Summary summary) {
+        System.out.printf("%n%-36s %8s %7s %8s %8s %8s %8s %8s %8s%n",
+                "Latency (ms)", "count", "errors", "mean", "p50", "p90", "p99", "p99.9", "max");
+        summary.requests().forEach((name, p) -> printRow(name, p));
+        printRow("notification delay", summary.notificationDelay());
+        System.out.printf("%nAchieved %.1f req/s (target %d); %d notification frames, %d to %d per subscriber%n",
+                summary.achievedRate(), summary.targetRate(), summary.notificationFrames(),
+                summary.minFramesPerSubscriber(), summary.maxFramesPerSubscriber());
+    }
+
+    private static void printRow(String name, Percentiles p) {
+        System.out.printf("%-36s %8d %7d %8.2f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                name, p.count(), p.errors(), p.mean(), p.p50(), p.p90(), p.p99(), p.p999(), p.max());
+    }
+}
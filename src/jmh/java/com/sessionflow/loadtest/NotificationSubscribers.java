@@ -0,0 +1,164 @@
+package com.sessionflow.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 多個同時連線的 STOMP 訂閱者，量測資源變更通知從伺服器送出到用戶端收到的延遲
+ * <p>
+ * 延遲以通知內的 {@code timestamp} 與收到訊框的時間相減，因此須與伺服器在同一台機器上執行；時鐘精度為毫秒。
+ * {@code timestamp} 是 Service 在交易中發布事件的時間，通知則在交易提交後才送出（合併提交時在整批提交後），
+ * 延遲因此包含交易剩下的部分與提交本身，不只是推送的時間。
+ */
+final class NotificationSubscribers implements AutoCloseable {
+
+    static final String TOPIC = "/topic/notification";
+
+    private final WebSocketStompClient client;
+    private final List<StompSession> sessions = new ArrayList<>();
+    private final AtomicLongArray frames;
+    private final AtomicLong unreadable = new AtomicLong();
+    private final Recorder delays = new Recorder(3);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private volatile boolean recording;
+
+    private NotificationSubscribers(int count) {
+        this.client = new WebSocketStompClient(new StandardWebSocketClient());
+        this.client.setInboundMessageSizeLimit(1024 * 1024);
+        this.frames = new AtomicLongArray(count);
+    }
+
+    /**
+     * 建立 {@code count} 個連線並訂閱通知主題
+     *
+     * @param baseUri 應用程式位址，例如 {@code http://localhost:53551}
+     */
+    static NotificationSubscribers connect(URI baseUri, int count, Duration timeout) throws Exception {
+        NotificationSubscribers subscribers = new NotificationSubscribers(count);
+        // SockJS 端點同時提供原生 WebSocket 傳輸，路徑為 /ws/websocket
+        String url = baseUri.toString().replaceFirst("^http", "ws").replaceAll("/$", "") + "/ws/websocket";
+        try {
+            for (int i = 0; i < count; i++) {
+                subscribers.sessions.add(subscribers.subscribe(url, i, timeout));
+            }
+        } catch (Exception e) {
+            subscribers.close();
+            throw e;
+        }
+        return subscribers;
+    }
+
+    private StompSession subscribe(String url, int index, Duration timeout) throws Exception {
+        StompSession session = client.connectAsync(url, new StompSessionHandlerAdapter() {
+        }).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        session.subscribe(TOPIC, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                onFrame(index, (byte[]) payload, System.currentTimeMillis());
+            }
+        });
+        return session;
+    }
+
+    private void onFrame(int index, byte[] payload, long receivedAt) {
+        if (!recording) {
+            return;
+        }
+        frames.incrementAndGet(index);
+        try {
+            JsonNode timestamp = objectMapper.readTree(payload).get("timestamp");
+            if (timestamp == null) {
+                unreadable.incrementAndGet();
+                return;
+            }
+            delays.recordValue(TimeUnit.MILLISECONDS.toMicros(Math.max(0, receivedAt - timestamp.asLong())));
+        } catch (IOException e) {
+            unreadable.incrementAndGet();
+        }
+    }
+
+    /**
+     * 開始或停止記錄；預熱期間收到的通知不列入結果
+     */
+    void setRecording(boolean recording) {
+        if (recording) {
+            delays.reset();
+        }
+        this.recording = recording;
+    }
+
+    /**
+     * 目前為止記錄的延遲分布，單位為微秒
+     */
+    Histogram delayHistogram() {
+        return delays.getIntervalHistogram();
+    }
+
+    int connected() {
+        return (int) sessions.stream().filter(StompSession::isConnected).count();
+    }
+
+    long totalFrames() {
+        long total = 0;
+        for (int i = 0; i < frames.length(); i++) {
+            total += frames.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * 各訂閱者收到的訊框數最小值；小於最大值表示有訂閱者漏收或落後
+     */
+    long minFrames() {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < frames.length(); i++) {
+            min = Math.min(min, frames.get(i));
+        }
+        return frames.length() == 0 ? 0 : min;
+    }
+
+    long maxFrames() {
+        long max = 0;
+        for (int i = 0; i < frames.length(); i++) {
+            max = Math.max(max, frames.get(i));
+        }
+        return max;
+    }
+
+    long unreadableFrames() {
+        return unreadable.get();
+    }
+
+    @Override
+    public void close() {
+        for (StompSession session : sessions) {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        }
+        client.stop();
+    }
+}
@@ -0,0 +1,185 @@
+package com.sessionflow.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Deque;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 模擬 Web App 使用情境的請求組合，涵蓋任務、工作階段與排程的讀取與寫入
+ * <p>
+ * 更新、刪除與結束操作只使用本次負載測試建立的資源；沒有可用的資源時改送對應的建立請求。
+ */
+final class RequestMix {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * 操作與權重，權重總和為 100
+     */
+    enum Operation {
+        LIST_TASKS("GET /api/tasks", 25, false),
+        LIST_SCHEDULE_ENTRIES("GET /api/schedule-entries", 20, false),
+        LIST_SESSIONS("GET /api/sessions", 10, false),
+        CREATE_TASK("POST /api/tasks", 8, true),
+        UPDATE_TASK("PUT /api/tasks/{id}", 7, true),
+        COMPLETE_TASK("PATCH /api/tasks/{id}/complete", 5, true),
+        DELETE_TASK("DELETE /api/tasks/{id}", 3, true),
+        CREATE_SCHEDULE_ENTRY("POST /api/schedule-entries", 8, true),
+        UPDATE_SCHEDULE_ENTRY("PUT /api/schedule-entries/{id}", 5, true),
+        DELETE_SCHEDULE_ENTRY("DELETE /api/schedule-entries/{id}", 3, true),
+        START_SESSION("POST /api/sessions", 3, true),
+        END_SESSION("POST /api/sessions/{id}/end", 3, true);
+
+        private final String label;
+        private final int weight;
+        private final boolean mutation;
+
+        Operation(String label, int weight, boolean mutation) {
+            this.label = label;
+            this.weight = weight;
+            this.mutation = mutation;
+        }
+
+        String label() {
+            return label;
+        }
+
+        boolean isMutation() {
+            return mutation;
+        }
+    }
+
+    record Request(Operation operation, HttpRequest httpRequest) {
+    }
+
+    private final URI baseUri;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Deque<Long> taskIds = new ConcurrentLinkedDeque<>();
+    private final Deque<Long> scheduleEntryIds = new ConcurrentLinkedDeque<>();
+    private final Deque<Long> sessionIds = new ConcurrentLinkedDeque<>();
+
+    RequestMix(URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * 依權重隨機選擇下一個請求
+     */
+    Request next(Random random) {
+        int roll = random.nextInt(100);
+        for (Operation operation : Operation.values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return build(operation);
+            }
+        }
+        throw new IllegalStateException("Operation weights must add up to 100");
+    }
+
+    /**
+     * 記錄建立請求回傳的 ID，供後續的更新與刪除使用
+     */
+    void onResponse(Operation operation, HttpResponse<String> response) {
+        if (response.statusCode() >= 300) {
+            return;
+        }
+        Deque<Long> ids = switch (operation) {
+            case CREATE_TASK -> taskIds;
+            case CREATE_SCHEDULE_ENTRY -> scheduleEntryIds;
+            case START_SESSION -> sessionIds;
+            default -> null;
+        };
+        if (ids != null) {
+            try {
+                JsonNode id = objectMapper.readTree(response.body()).get("id");
+                if (id != null) {
+                    ids.add(id.asLong());
+                }
+            } catch (IOException e) {
+                // 無法解析的回應不影響量測，只是少一個可供後續操作的資源
+            }
+        }
+    }
+
+    private Request build(Operation operation) {
+        long n = sequence.incrementAndGet();
+        LocalDate today = LocalDate.now();
+        return switch (operation) {
+            case LIST_TASKS -> get(operation, "/api/tasks");
+            case LIST_SCHEDULE_ENTRIES -> get(operation,
+                    "/api/schedule-entries?startDate=" + today + "&endDate=" + today.plusDays(6));
+            case LIST_SESSIONS -> get(operation, "/api/sessions");
+            case CREATE_TASK -> send(operation, "POST", "/api/tasks", task(n));
+            case UPDATE_TASK -> withId(taskIds, false, Operation.CREATE_TASK,
+                    id -> send(operation, "PUT", "/api/tasks/" + id, task(n)));
+            case COMPLETE_TASK -> withId(taskIds, false, Operation.CREATE_TASK,
+                    id -> send(operation, "PATCH", "/api/tasks/" + id + "/complete", null));
+            case DELETE_TASK -> withId(taskIds, true, Operation.CREATE_TASK,
+                    id -> send(operation, "DELETE", "/api/tasks/" + id, null));
+            case CREATE_SCHEDULE_ENTRY -> send(operation, "POST", "/api/schedule-entries", scheduleEntry(n, today));
+            case UPDATE_SCHEDULE_ENTRY -> withId(scheduleEntryIds, false, Operation.CREATE_SCHEDULE_ENTRY,
+                    id -> send(operation, "PUT", "/api/schedule-entries/" + id, scheduleEntry(n, today)));
+            case DELETE_SCHEDULE_ENTRY -> withId(scheduleEntryIds, true, Operation.CREATE_SCHEDULE_ENTRY,
+                    id -> send(operation, "DELETE", "/api/schedule-entries/" + id, null));
+            case START_SESSION -> send(operation, "POST", "/api/sessions",
+                    objectMapper.createObjectNode().put("title", "Load session " + n));
+            case END_SESSION -> withId(sessionIds, true, Operation.START_SESSION,
+                    id -> send(operation, "POST", "/api/sessions/" + id + "/end",
+                            objectMapper.createObjectNode().put("sessionId", id).put("completionNote", "done")));
+        };
+    }
+
+    private interface IdRequest {
+        Request build(long id);
+    }
+
+    /**
+     * 取用先前建立的資源；{@code remove} 為 true 時自佇列移除（刪除與結束只能執行一次）
+     */
+    private Request withId(Deque<Long> ids, boolean remove, Operation fallback, IdRequest request) {
+        Long id = remove ? ids.pollFirst() : ids.peekLast();
+        return id != null ? request.build(id) : build(fallback);
+    }
+
+    private ObjectNode task(long n) {
+        return objectMapper.createObjectNode()
+                .put("title", "Load task " + n)
+                .put("note", n % 3 == 0 ? "Created by the load test" : null);
+    }
+
+    private ObjectNode scheduleEntry(long n, LocalDate today) {
+        LocalDateTime startAt = today.plusDays(1 + n % 6).atTime(9, 0).plusMinutes(30 * (n % 16));
+        return objectMapper.createObjectNode()
+                .put("title", "Load entry " + n)
+                .put("startAt", startAt.toString())
+                .put("endAt", startAt.plusMinutes(30).toString());
+    }
+
+    private Request get(Operation operation, String path) {
+        return new Request(operation, HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT).GET().build());
+    }
+
+    private Request send(Operation operation, String method, String path, ObjectNode body) {
+        HttpRequest.BodyPublisher publisher = body != null
+                ? HttpRequest.BodyPublishers.ofString(body.toString())
+                : HttpRequest.BodyPublishers.noBody();
+        return new Request(operation, HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .method(method, publisher)
+                .build());
+    }
+}
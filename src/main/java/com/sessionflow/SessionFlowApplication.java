@@ -1,33 +1,17 @@
 package com.sessionflow;
 
+import com.sessionflow.runner.ClientCommands;
 import com.sessionflow.runner.StartupManager;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.jmx.JmxAutoConfiguration;
 import org.springframework.boot.autoconfigure.mail.MailSenderAutoConfiguration;
 import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
-import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
-import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
-import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
-import org.springframework.boot.actuate.autoconfigure.metrics.jdbc.DataSourcePoolMetricsAutoConfiguration;
-import org.springframework.boot.actuate.autoconfigure.metrics.JvmMetricsAutoConfiguration;
-import org.springframework.boot.actuate.autoconfigure.metrics.LogbackMetricsAutoConfiguration;
-import org.springframework.boot.actuate.autoconfigure.metrics.SystemMetricsAutoConfiguration;
-import org.springframework.boot.actuate.autoconfigure.metrics.web.tomcat.TomcatMetricsAutoConfiguration;
-import org.springframework.boot.actuate.autoconfigure.metrics.startup.StartupTimeMetricsListenerAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.info.InfoEndpointAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.health.HealthEndpointAutoConfiguration;
 
+// Metrics auto-configurations are excluded in application.properties so the metrics profile can enable them
 @SpringBootApplication(
 	exclude = {
-		MetricsAutoConfiguration.class,
-		CompositeMeterRegistryAutoConfiguration.class,
-		SimpleMetricsExportAutoConfiguration.class,
-		DataSourcePoolMetricsAutoConfiguration.class,
-		JvmMetricsAutoConfiguration.class,
-		LogbackMetricsAutoConfiguration.class,
-		SystemMetricsAutoConfiguration.class,
-		TomcatMetricsAutoConfiguration.class,
-		StartupTimeMetricsListenerAutoConfiguration.class,
 		InfoEndpointAutoConfiguration.class,
 		HealthEndpointAutoConfiguration.class,
 		JmxAutoConfiguration.class,
@@ -38,6 +22,10 @@ import org.springframework.boot.actuate.autoconfigure.health.HealthEndpointAutoC
 public class SessionFlowApplication {
 
 	public static void main(String[] args) {
+		// Client sub-commands talk to a running instance; checked before StartupManager so no Spring class is loaded
+		if (ClientCommands.isClientCommand(args)) {
+			System.exit(ClientCommands.run(args));
+		}
 		StartupManager.run(SessionFlowApplication.class, args);
 	}
 } 
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.sessionflow.backup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * 備份檔
+ *
+ * 檔名為 {@code <資料庫名稱>-<full|incr>-<yyyyMMdd-HHmmss>.zip}。完整備份是 H2 {@code BACKUP TO} 產生的資料庫檔案壓縮檔；
+ * 增量備份包含自所屬完整備份以來變更的資料列（CSV）與 {@link #MANIFEST}，還原時只需要完整備份與其最新的增量備份。
+ *
+ * @param file    備份檔
+ * @param kind    備份種類
+ * @param takenAt 開始備份的時間
+ */
+public record BackupArchive(Path file, Kind kind, LocalDateTime takenAt) {
+
+    /**
+     * 增量備份中記錄所屬完整備份、起始時間與各資料表內容的項目
+     */
+    static final String MANIFEST = "manifest.properties";
+    static final String BASE_PROPERTY = "base";
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Pattern NAME = Pattern.compile("(.+)-(full|incr)-(\\d{8}-\\d{6})\\.zip");
+
+    public enum Kind {
+        FULL("full"),
+        INCREMENTAL("incr");
+
+        private final String suffix;
+
+        Kind(String suffix) {
+            this.suffix = suffix;
+        }
+    }
+
+    /**
+     * 新備份檔的位置，時間取到秒
+     */
+    static BackupArchive create(Path directory, String prefix, Kind kind, LocalDateTime takenAt) {
+        LocalDateTime seconds = takenAt.withNano(0);
+        String name = prefix + "-" + kind.suffix + "-" + TIMESTAMP.format(seconds) + ".zip";
+        return new BackupArchive(directory.resolve(name), kind, seconds);
+    }
+
+    /**
+     * 依檔名解析備份檔；不是備份檔名時為空
+     */
+    public static Optional<BackupArchive> parse(Path file) {
+        Matcher matcher = NAME.matcher(file.getFileName().toString());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        Kind kind = matcher.group(2).equals(Kind.FULL.suffix) ? Kind.FULL : Kind.INCREMENTAL;
+        return Optional.of(new BackupArchive(file.toAbsolutePath().normalize(), kind,
+                LocalDateTime.parse(matcher.group(3), TIMESTAMP)));
+    }
+
+    /**
+     * 目錄中指定資料庫的備份檔，依備份時間排序（同一秒時完整備份在前）
+     */
+    public static List<BackupArchive> list(Path directory, String prefix) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(BackupArchive::parse)
+                    .flatMap(Optional::stream)
+                    .filter(archive -> archive.file().getFileName().toString().startsWith(prefix + "-"))
+                    .sorted(Comparator.comparing(BackupArchive::takenAt).thenComparing(BackupArchive::kind))
+                    .toList();
+        }
+    }
+
+    /**
+     * 增量備份所屬的完整備份，與增量備份位於同一個目錄
+     */
+    public BackupArchive base() throws IOException {
+        if (kind == Kind.FULL) {
+            return this;
+        }
+        String base = manifest().getProperty(BASE_PROPERTY);
+        return parse(file.resolveSibling(base == null ? "" : base))
+                .filter(archive -> archive.kind() == Kind.FULL)
+                .orElseThrow(() -> new IOException("Incremental backup " + file + " does not name its full backup"));
+    }
+
+    Properties manifest() throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry entry = zip.getEntry(MANIFEST);
+            if (entry == null) {
+                throw new IOException(file + " has no " + MANIFEST);
+            }
+            Properties manifest = new Properties();
+            try (InputStream in = zip.getInputStream(entry)) {
+                manifest.load(in);
+            }
+            return manifest;
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.sessionflow.backup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.springframework.lang.Nullable;
+
+import com.sessionflow.backup.BackupArchive.Kind;
+import com.sessionflow.durability.DurabilitySettings;
+import com.sessionflow.monitoring.health.DiskSpaceProbe;
+
+/**
+ * 從備份重建資料庫
+ *
+ * 只能在應用程式未執行時使用（命令列 {@code --restore}）。目前的資料庫檔案先改名保留，再從完整備份解出資料庫檔案；
+ * 有增量備份時，以 {@code CSVREAD} 直接讀取各資料表的 CSV，每個資料表以少數集合式的 {@code DELETE} 與 {@code MERGE}
+ * 套用，全部在同一個交易中提交，不逐筆重播。任何步驟失敗時放回原本的資料庫檔案。
+ */
+public class BackupRestorer {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String H2_FILE_SUFFIX = ".mv.db";
+    private static final String CSV_OPTIONS = "NULL, 'charset=UTF-8'";
+    private static final String ID = "\"ID\"";
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Path databaseFile;
+
+    /**
+     * 還原的結果
+     *
+     * @param full             套用的完整備份
+     * @param incremental      套用的增量備份，只還原完整備份時為 null
+     * @param previousDatabase 改名保留的原本資料庫檔案，原本沒有資料庫時為 null
+     * @param rows             增量備份寫入與刪除的資料列數
+     * @param elapsed          還原花費的時間
+     */
+    public record Result(BackupArchive full, @Nullable BackupArchive incremental, @Nullable Path previousDatabase,
+                         long rows, Duration elapsed) {
+    }
+
+    /**
+     * @param url 嵌入式 H2 檔案資料庫的連線字串
+     * @throws IllegalArgumentException 連線字串不是嵌入式檔案資料庫時
+     */
+    public BackupRestorer(String url, String username, String password) {
+        if (!DurabilitySettings.isEmbeddedFile(url)) {
+            throw new IllegalArgumentException("Only embedded H2 file databases can be restored: " + url);
+        }
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.databaseFile = DiskSpaceProbe.databaseFile(url).toAbsolutePath().normalize();
+    }
+
+    public Path databaseFile() {
+        return databaseFile;
+    }
+
+    /**
+     * 從目錄中最新的備份還原：最新的是增量備份時一併套用其完整備份
+     *
+     * @throws IOException 目錄中沒有備份時
+     */
+    public Result restoreLatest(Path directory, String prefix) throws IOException, SQLException {
+        List<BackupArchive> archives = BackupArchive.list(directory, prefix);
+        if (archives.isEmpty()) {
+            throw new IOException("No backups of " + prefix + " in " + directory);
+        }
+        return restore(archives.get(archives.size() - 1));
+    }
+
+    /**
+     * 從完整備份，或增量備份與其所屬的完整備份還原
+     */
+    public Result restore(BackupArchive archive) throws IOException, SQLException {
+        long start = System.nanoTime();
+        BackupArchive full = archive.base();
+        BackupArchive incremental = archive.kind() == Kind.INCREMENTAL ? archive : null;
+        if (!Files.isRegularFile(full.file())) {
+            throw new IOException("Full backup " + full.file() + " does not exist");
+        }
+        Path previous = null;
+        if (Files.exists(databaseFile)) {
+            previous = databaseFile.resolveSibling(databaseFile.getFileName() + ".before-restore-"
+                    + TIMESTAMP.format(LocalDateTime.now()));
+            Files.move(databaseFile, previous);
+        }
+        try {
+            extractDatabase(full.file());
+            long rows = incremental != null ? applyIncremental(incremental) : 0;
+            return new Result(full, incremental, previous, rows, Duration.ofNanos(System.nanoTime() - start));
+        } catch (IOException | SQLException | RuntimeException e) {
+            Files.deleteIfExists(databaseFile);
+            if (previous != null) {
+                Files.move(previous, databaseFile);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 解出完整備份中的資料庫檔案（{@code BACKUP TO} 的 zip 只有一個 {@code .mv.db}），依目前的資料庫名稱命名
+     */
+    private void extractDatabase(Path archive) throws IOException {
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            ZipEntry entry = zip.stream()
+                    .filter(candidate -> candidate.getName().endsWith(H2_FILE_SUFFIX))
+                    .findFirst()
+                    .orElseThrow(() -> new IOException(archive + " does not contain an H2 database file"));
+            Files.createDirectories(databaseFile.getParent());
+            Path temp = databaseFile.resolveSibling(databaseFile.getFileName() + ".restore.tmp");
+            try (InputStream in = zip.getInputStream(entry)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(temp, databaseFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private long applyIncremental(BackupArchive incremental) throws IOException, SQLException {
+        Properties manifest = incremental.manifest();
+        Path csvDirectory = Files.createTempDirectory(databaseFile.getParent(), "restore-");
+        try {
+            extractCsv(incremental.file(), csvDirectory);
+            try (Connection connection = DriverManager.getConnection(url + ";IFEXISTS=TRUE", username, password)) {
+                long rows = apply(connection, csvDirectory, tableNames(manifest, OnlineBackup.DIFFERENTIAL_PROPERTY),
+                        tableNames(manifest, OnlineBackup.COMPLETE_PROPERTY));
+                restartIdentities(connection);
+                return rows;
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(csvDirectory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * 在同一個交易中套用所有資料表；套用期間關閉參照完整性，各資料表的順序不影響結果
+     */
+    private long apply(Connection connection, Path csvDirectory, List<String> differential, List<String> complete)
+            throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        }
+        connection.setAutoCommit(false);
+        long rows = 0;
+        int tables = 0;
+        try (Statement statement = connection.createStatement()) {
+            for (String table : differential) {
+                Path changed = csvDirectory.resolve(table + OnlineBackup.ROWS_SUFFIX);
+                Path ids = csvDirectory.resolve(table + OnlineBackup.IDS_SUFFIX);
+                rows += deleteMissing(statement, table, ids, ++tables);
+                rows += statement.executeUpdate("MERGE INTO " + OnlineBackup.quote(table) + " ("
+                        + String.join(", ", columns(statement, changed)) + ") KEY(" + ID + ") SELECT * FROM "
+                        + csvRead(changed));
+            }
+            for (String table : complete) {
+                Path contents = csvDirectory.resolve(table + OnlineBackup.ROWS_SUFFIX);
+                List<String> columns = columns(statement, contents);
+                if (columns.contains(ID)) {
+                    rows += deleteMissing(statement, table, contents, ++tables);
+                    rows += mergeChanged(statement, table, columns, contents);
+                } else {
+                    // 沒有 ID 的關聯表
+                    rows += statement.executeUpdate("DELETE FROM " + OnlineBackup.quote(table));
+                    rows += statement.executeUpdate("INSERT INTO " + OnlineBackup.quote(table) + " ("
+                            + String.join(", ", columns) + ") SELECT * FROM " + csvRead(contents));
+                }
+            }
+            detachMissingReferences(statement, Set.copyOf(differential));
+            connection.commit();
+            return rows;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
+            }
+        }
+    }
+
+    /**
+     * 刪除 CSV 中沒有的 ID，即完整備份之後刪除的資料列
+     *
+     * ID 先載入有主鍵的暫存表，不對每一列重新讀取 CSV；{@code TRANSACTIONAL} 的暫存表不會提交進行中的交易，連線關閉時刪除
+     */
+    private static int deleteMissing(Statement statement, String table, Path ids, int index) throws SQLException {
+        String temporary = OnlineBackup.quote("RESTORE_IDS_" + index);
+        statement.execute("CREATE LOCAL TEMPORARY TABLE " + temporary + " (" + ID
+                + " BIGINT PRIMARY KEY) TRANSACTIONAL");
+        statement.executeUpdate("INSERT INTO " + temporary + " SELECT CAST(" + ID + " AS BIGINT) FROM " + csvRead(ids));
+        return statement.executeUpdate("DELETE FROM " + OnlineBackup.quote(table)
+                + " t WHERE NOT EXISTS (SELECT 1 FROM " + temporary + " r WHERE r." + ID + " = t." + ID + ")");
+    }
+
+    /**
+     * 整個寫入的資料表只更新內容不同的資料列並新增缺少的資料列，未變更的資料列不寫入
+     */
+    private static int mergeChanged(Statement statement, String table, List<String> columns, Path contents)
+            throws SQLException {
+        List<String> values = columns.stream().filter(column -> !column.equals(ID)).toList();
+        String matched = values.isEmpty() ? "" : " WHEN MATCHED AND ("
+                + values.stream().map(column -> "t." + column + " IS DISTINCT FROM s." + column)
+                        .collect(Collectors.joining(" OR "))
+                + ") THEN UPDATE SET "
+                + values.stream().map(column -> column + " = s." + column).collect(Collectors.joining(", "));
+        return statement.executeUpdate("MERGE INTO " + OnlineBackup.quote(table) + " t USING (SELECT * FROM "
+                + csvRead(contents) + ") s ON t." + ID + " = CAST(s." + ID + " AS BIGINT)" + matched
+                + " WHEN NOT MATCHED THEN INSERT (" + String.join(", ", columns) + ") VALUES ("
+                + columns.stream().map(column -> "s." + column).collect(Collectors.joining(", ")) + ")");
+    }
+
+    /**
+     * 批次更新（例如刪除任務時將工作階段的任務設為 null）不會更新 {@code UPDATED_AT}，這些資料列仍指向已刪除的資料；
+     * 來源資料庫的外鍵保證它們在備份時已為 null，還原時同樣設為 null
+     */
+    private static void detachMissingReferences(Statement statement, Set<String> differential) throws SQLException {
+        List<String[]> references = new ArrayList<>();
+        try (ResultSet resultSet = statement.executeQuery("""
+                SELECT fk.TABLE_NAME, fk.COLUMN_NAME, pk.TABLE_NAME, pk.COLUMN_NAME
+                FROM INFORMATION_SCHEMA.REFERENTIAL_CONSTRAINTS rc
+                JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE fk ON fk.CONSTRAINT_SCHEMA = rc.CONSTRAINT_SCHEMA
+                     AND fk.CONSTRAINT_NAME = rc.CONSTRAINT_NAME
+                JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE pk ON pk.CONSTRAINT_SCHEMA = rc.UNIQUE_CONSTRAINT_SCHEMA
+                     AND pk.CONSTRAINT_NAME = rc.UNIQUE_CONSTRAINT_NAME
+                     AND pk.ORDINAL_POSITION = fk.POSITION_IN_UNIQUE_CONSTRAINT
+                JOIN INFORMATION_SCHEMA.COLUMNS c ON c.TABLE_SCHEMA = fk.TABLE_SCHEMA
+                     AND c.TABLE_NAME = fk.TABLE_NAME AND c.COLUMN_NAME = fk.COLUMN_NAME
+                WHERE rc.CONSTRAINT_SCHEMA = 'PUBLIC' AND c.IS_NULLABLE = 'YES'""")) {
+            while (resultSet.next()) {
+                if (differential.contains(resultSet.getString(1))) {
+                    references.add(new String[] {resultSet.getString(1), resultSet.getString(2),
+                            resultSet.getString(3), resultSet.getString(4)});
+                }
+            }
+        }
+        for (String[] reference : references) {
+            String column = OnlineBackup.quote(reference[1]);
+            statement.executeUpdate("UPDATE " + OnlineBackup.quote(reference[0]) + " t SET " + column + " = NULL WHERE "
+                    + column + " IS NOT NULL AND NOT EXISTS (SELECT 1 FROM " + OnlineBackup.quote(reference[2])
+                    + " p WHERE p." + OnlineBackup.quote(reference[3]) + " = t." + column + ")");
+        }
+    }
+
+    /**
+     * 以明確的 ID 寫入後，識別欄位從目前最大值之後繼續
+     */
+    private static void restartIdentities(Connection connection) throws SQLException {
+        List<String[]> identities = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT TABLE_NAME, COLUMN_NAME "
+                     + "FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = 'PUBLIC' AND IS_IDENTITY = 'YES'")) {
+            while (resultSet.next()) {
+                identities.add(new String[] {resultSet.getString(1), resultSet.getString(2)});
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String[] identity : identities) {
+                String table = OnlineBackup.quote(identity[0]);
+                String column = OnlineBackup.quote(identity[1]);
+                long next;
+                try (ResultSet resultSet = statement.executeQuery(
+                        "SELECT COALESCE(MAX(" + column + "), 0) + 1 FROM " + table)) {
+                    resultSet.next();
+                    next = resultSet.getLong(1);
+                }
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+            }
+        }
+    }
+
+    private static void extractCsv(Path archive, Path directory) throws IOException {
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                Path name = Path.of(entry.getName()).getFileName();
+                if (entry.isDirectory() || name == null || !name.toString().endsWith(OnlineBackup.ROWS_SUFFIX)) {
+                    continue;
+                }
+                try (InputStream in = zip.getInputStream(entry)) {
+                    Files.copy(in, directory.resolve(name.toString()), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
+    /**
+     * CSV 標題列的欄位（已加上引號），與 {@code SELECT * FROM CSVREAD(...)} 的順序相同
+     */
+    private static List<String> columns(Statement statement, Path csv) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("SELECT * FROM " + csvRead(csv) + " LIMIT 0")) {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            List<String> columns = new ArrayList<>();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                columns.add(OnlineBackup.quote(metaData.getColumnName(i)));
+            }
+            return columns;
+        }
+    }
+
+    private static String csvRead(Path csv) {
+        return "CSVREAD(" + OnlineBackup.literal(csv) + ", " + CSV_OPTIONS + ")";
+    }
+
+    private static List<String> tableNames(Properties manifest, String property) {
+        String tables = manifest.getProperty(property, "");
+        return tables.isBlank() ? List.of()
+                : Arrays.stream(tables.split(",")).map(String::trim).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,106 @@
+package com.sessionflow.backup;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.context.SmartLifecycle;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 定期執行線上備份
+ *
+ * 每個增量間隔檢查一次：沒有完整備份或最新的完整備份超過完整備份間隔時寫入完整備份，
+ * 否則在資料版本自上次備份後有變更時寫入增量備份。啟動後稍待片刻才第一次檢查，不與啟動及預熱競爭。
+ */
+@Slf4j
+public class BackupScheduler implements SmartLifecycle {
+
+    static final Duration INITIAL_DELAY = Duration.ofMinutes(1);
+
+    private final OnlineBackup backup;
+    private final BackupSettings settings;
+    private final LongSupplier dataVersion;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+    private long backedUpVersion = -1;
+
+    /**
+     * @param dataVersion 目前的資料版本，每次提交變更後遞增
+     */
+    public BackupScheduler(OnlineBackup backup, BackupSettings settings, LongSupplier dataVersion) {
+        this.backup = backup;
+        this.settings = settings;
+        this.dataVersion = dataVersion;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        long period = settings.incrementalInterval().toMillis();
+        if (settings.databaseFile() == null || period <= 0) {
+            // 記憶體或遠端資料庫沒有可備份的檔案
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "backup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::backUp, Math.min(INITIAL_DELAY.toMillis(), period), period,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (scheduler != null) {
+            // 進行中的備份在資料庫關閉前完成
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(60, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 需要時寫入完整或增量備份；失敗時只記錄警告，下一個週期再試
+     */
+    synchronized void backUp() {
+        // 先取得版本，備份期間提交的變更由下一次備份涵蓋
+        long version = dataVersion.getAsLong();
+        try {
+            Optional<BackupArchive> full = backup.latestFull();
+            if (full.isEmpty() || full.get().takenAt().plus(settings.fullInterval()).isBefore(LocalDateTime.now())) {
+                backup.full();
+            } else if (version != backedUpVersion) {
+                backup.incremental(full.get());
+            }
+            backedUpVersion = version;
+        } catch (SQLException | IOException | RuntimeException e) {
+            log.warn("Could not back up the database to {}: {}", settings.directory(), e.toString());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.sessionflow.backup;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.lang.Nullable;
+
+import com.sessionflow.durability.DurabilitySettings;
+import com.sessionflow.monitoring.health.DiskSpaceProbe;
+
+/**
+ * 線上備份設定
+ *
+ * @param databaseFile        H2 資料庫檔案（{@code .mv.db}）；不是嵌入式檔案資料庫時為 null，無法備份
+ * @param directory           備份檔目錄，預設為資料庫檔案旁的 {@code backups}
+ * @param fullInterval        完整備份的間隔
+ * @param incrementalInterval 檢查是否需要備份的間隔，上次備份後有變更時寫入增量備份
+ * @param keepFull            保留的完整備份數，較舊的完整備份與其增量備份一併刪除
+ */
+public record BackupSettings(@Nullable Path databaseFile, Path directory, Duration fullInterval,
+                             Duration incrementalInterval, int keepFull) {
+
+    public static final String PREFIX = "sessionflow.backup.";
+    public static final String ENABLED_PROPERTY = PREFIX + "enabled";
+
+    private static final String H2_FILE_SUFFIX = ".mv.db";
+
+    public static BackupSettings from(PropertyResolver properties) {
+        String url = properties.getProperty("spring.datasource.url", "");
+        Path databaseFile = DurabilitySettings.isEmbeddedFile(url)
+                ? DiskSpaceProbe.databaseFile(url).toAbsolutePath().normalize() : null;
+        String directory = properties.getProperty(PREFIX + "directory");
+        return new BackupSettings(databaseFile,
+                directory != null && !directory.isBlank() ? Path.of(directory).toAbsolutePath().normalize()
+                        : (databaseFile != null ? databaseFile.resolveSibling("backups")
+                        : Path.of("backups").toAbsolutePath().normalize()),
+                Duration.ofHours(properties.getProperty(PREFIX + "full-interval-hours", Long.class, 24L)),
+                Duration.ofMinutes(properties.getProperty(PREFIX + "incremental-interval-minutes", Long.class, 15L)),
+                Math.max(1, properties.getProperty(PREFIX + "keep-full", Integer.class, 7)));
+    }
+
+    /**
+     * 備份檔名的前綴，即資料庫名稱，例如 {@code sessionflow_db}
+     */
+    public String archivePrefix() {
+        String name = databaseFile != null ? databaseFile.getFileName().toString() : "sessionflow";
+        return name.endsWith(H2_FILE_SUFFIX) ? name.substring(0, name.length() - H2_FILE_SUFFIX.length()) : name;
+    }
+}
@@ -0,0 +1,258 @@
+package com.sessionflow.backup;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.sql.DataSource;
+
+import com.sessionflow.backup.BackupArchive.Kind;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 在應用程式執行中備份 H2 資料庫
+ *
+ * 完整備份以 H2 {@code BACKUP TO} 將資料庫檔案串流寫入 zip：MVStore 為寫入時複製，備份期間不鎖定資料表，內容為交易一致的快照。
+ * 增量備份在單一快照交易中，將有 {@code ID} 與 {@code UPDATED_AT} 欄位的資料表自所屬完整備份以來更新的資料列，
+ * 以及目前所有的 {@code ID}（還原時判斷刪除）寫成 CSV；沒有更新時間的資料表（排程、任務標籤關聯）則整個寫入。
+ * 備份檔都先寫入暫存檔並 fsync，再移到最終位置。
+ */
+@Slf4j
+public class OnlineBackup {
+
+    /**
+     * 增量備份的起始時間往前推的時間，涵蓋完整備份開始時仍未提交、但更新時間較早的交易；重複的資料列還原時以 MERGE 覆蓋
+     */
+    static final Duration SINCE_MARGIN = Duration.ofMinutes(5);
+
+    static final String DIFFERENTIAL_PROPERTY = "differential";
+    static final String COMPLETE_PROPERTY = "complete";
+    static final String SINCE_PROPERTY = "since";
+    static final String ROWS_SUFFIX = ".csv";
+    static final String IDS_SUFFIX = ".ids.csv";
+
+    private final DataSource dataSource;
+    private final BackupSettings settings;
+    private final Clock clock;
+
+    public OnlineBackup(DataSource dataSource, BackupSettings settings) {
+        this(dataSource, settings, Clock.systemDefaultZone());
+    }
+
+    OnlineBackup(DataSource dataSource, BackupSettings settings, Clock clock) {
+        this.dataSource = dataSource;
+        this.settings = settings;
+        this.clock = clock;
+    }
+
+    /**
+     * 資料表與是否能以更新時間找出變更的資料列
+     */
+    record Table(String name, boolean differential) {
+    }
+
+    /**
+     * 寫入完整備份，並刪除超過保留數的舊備份
+     */
+    public BackupArchive full() throws SQLException, IOException {
+        long start = System.nanoTime();
+        BackupArchive archive = BackupArchive.create(settings.directory(), settings.archivePrefix(), Kind.FULL,
+                LocalDateTime.now(clock));
+        Path temp = prepareTemp(archive);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("BACKUP TO " + literal(temp));
+        }
+        moveIntoPlace(temp, archive.file());
+        log.info("Wrote full backup {} ({} KB) in {} ms", archive.file(), Files.size(archive.file()) / 1024,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        rotate();
+        return archive;
+    }
+
+    /**
+     * 寫入自 {@code base} 以來的增量備份
+     */
+    public BackupArchive incremental(BackupArchive base) throws SQLException, IOException {
+        long start = System.nanoTime();
+        BackupArchive archive = BackupArchive.create(settings.directory(), settings.archivePrefix(), Kind.INCREMENTAL,
+                LocalDateTime.now(clock));
+        LocalDateTime since = base.takenAt().minus(SINCE_MARGIN);
+        Path temp = prepareTemp(archive);
+        Path csvDirectory = Files.createTempDirectory(settings.directory(), "incremental-");
+        long rows = 0;
+        try (Connection connection = dataSource.getConnection();
+             ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(temp))) {
+            List<String> differential = new ArrayList<>();
+            List<String> complete = new ArrayList<>();
+            // 唯讀的快照交易，所有資料表來自同一個時間點
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+            try {
+                for (Table table : tables(connection)) {
+                    String name = quote(table.name());
+                    if (table.differential()) {
+                        rows += writeCsv(connection, csvDirectory.resolve(table.name() + ROWS_SUFFIX),
+                                "SELECT * FROM " + name + " WHERE \"UPDATED_AT\" >= TIMESTAMP '"
+                                        + Timestamp.valueOf(since) + "' ORDER BY \"ID\"");
+                        writeCsv(connection, csvDirectory.resolve(table.name() + IDS_SUFFIX),
+                                "SELECT \"ID\" FROM " + name + " ORDER BY \"ID\"");
+                        differential.add(table.name());
+                    } else {
+                        rows += writeCsv(connection, csvDirectory.resolve(table.name() + ROWS_SUFFIX),
+                                "SELECT * FROM " + name);
+                        complete.add(table.name());
+                    }
+                }
+            } finally {
+                connection.rollback();
+            }
+            for (Path csv : list(csvDirectory)) {
+                zip.putNextEntry(new ZipEntry(csv.getFileName().toString()));
+                Files.copy(csv, zip);
+                zip.closeEntry();
+            }
+            Properties manifest = new Properties();
+            manifest.setProperty(BackupArchive.BASE_PROPERTY, base.file().getFileName().toString());
+            manifest.setProperty(SINCE_PROPERTY, since.toString());
+            manifest.setProperty(DIFFERENTIAL_PROPERTY, String.join(",", differential));
+            manifest.setProperty(COMPLETE_PROPERTY, String.join(",", complete));
+            zip.putNextEntry(new ZipEntry(BackupArchive.MANIFEST));
+            manifest.store(zip, "SessionFlow incremental backup");
+            zip.closeEntry();
+        } finally {
+            for (Path csv : list(csvDirectory)) {
+                Files.deleteIfExists(csv);
+            }
+            Files.deleteIfExists(csvDirectory);
+        }
+        moveIntoPlace(temp, archive.file());
+        log.info("Wrote incremental backup {} ({} rows since {}) in {} ms", archive.file(), rows, since,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return archive;
+    }
+
+    /**
+     * 最新的完整備份
+     */
+    public Optional<BackupArchive> latestFull() throws IOException {
+        List<BackupArchive> archives = BackupArchive.list(settings.directory(), settings.archivePrefix());
+        for (int i = archives.size() - 1; i >= 0; i--) {
+            if (archives.get(i).kind() == Kind.FULL) {
+                return Optional.of(archives.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 只保留最新的 {@link BackupSettings#keepFull} 個完整備份，刪除較舊的完整備份與其增量備份
+     *
+     * @return 刪除的備份檔
+     */
+    List<Path> rotate() throws IOException {
+        List<BackupArchive> archives = BackupArchive.list(settings.directory(), settings.archivePrefix());
+        List<BackupArchive> fulls = archives.stream().filter(archive -> archive.kind() == Kind.FULL).toList();
+        if (fulls.size() <= settings.keepFull()) {
+            return List.of();
+        }
+        LocalDateTime oldestKept = fulls.get(fulls.size() - settings.keepFull()).takenAt();
+        List<Path> deleted = new ArrayList<>();
+        for (BackupArchive archive : archives) {
+            if (archive.takenAt().isBefore(oldestKept)) {
+                Files.deleteIfExists(archive.file());
+                deleted.add(archive.file());
+            }
+        }
+        log.debug("Deleted {} old backups", deleted.size());
+        return deleted;
+    }
+
+    static List<Table> tables(Connection connection) throws SQLException {
+        List<Table> tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("""
+                     SELECT t.TABLE_NAME,
+                            EXISTS(SELECT 1 FROM INFORMATION_SCHEMA.COLUMNS c WHERE c.TABLE_SCHEMA = t.TABLE_SCHEMA
+                                   AND c.TABLE_NAME = t.TABLE_NAME AND c.COLUMN_NAME = 'ID')
+                        AND EXISTS(SELECT 1 FROM INFORMATION_SCHEMA.COLUMNS c WHERE c.TABLE_SCHEMA = t.TABLE_SCHEMA
+                                   AND c.TABLE_NAME = t.TABLE_NAME AND c.COLUMN_NAME = 'UPDATED_AT')
+                     FROM INFORMATION_SCHEMA.TABLES t
+                     WHERE t.TABLE_SCHEMA = 'PUBLIC' AND t.TABLE_TYPE = 'BASE TABLE'
+                     ORDER BY t.TABLE_NAME""")) {
+            while (resultSet.next()) {
+                tables.add(new Table(resultSet.getString(1), resultSet.getBoolean(2)));
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * 以 H2 {@code CSVWRITE} 在同一個交易中寫出查詢結果，NULL 與空字串可區分
+     *
+     * @return 寫出的資料列數
+     */
+    private static long writeCsv(Connection connection, Path file, String query) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("CALL CSVWRITE(?, ?, 'charset=UTF-8')")) {
+            statement.setString(1, file.toAbsolutePath().toString());
+            statement.setString(2, query);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : 0;
+            }
+        }
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static Path prepareTemp(BackupArchive archive) throws IOException {
+        Files.createDirectories(archive.file().getParent());
+        Path temp = archive.file().resolveSibling(archive.file().getFileName() + ".tmp");
+        Files.deleteIfExists(temp);
+        return temp;
+    }
+
+    private static void moveIntoPlace(Path temp, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    static String literal(Path path) {
+        return "'" + path.toAbsolutePath().toString().replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,112 @@
+package com.sessionflow.compaction;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.SmartLifecycle;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 定期檢查資料庫檔案的碎片，有效資料低於門檻時線上壓縮
+ *
+ * 第一次檢查在一個間隔之後，不與啟動及預熱競爭。壓縮的次數與釋放的空間以 {@code h2.compaction.*} 指標提供。
+ */
+@Slf4j
+public class CompactionScheduler implements SmartLifecycle, MeterBinder {
+
+    private static final long MEGABYTE = 1024 * 1024;
+
+    private final StoreCompactor compactor;
+    private final CompactionSettings settings;
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong reclaimed = new AtomicLong();
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public CompactionScheduler(StoreCompactor compactor, CompactionSettings settings) {
+        this.compactor = compactor;
+        this.settings = settings;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        long period = settings.interval().toMillis();
+        if (period <= 0) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::compact, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (scheduler != null) {
+            // 進行中的壓縮在下一段之前停止
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("h2.compaction.runs", runs, AtomicLong::get)
+                .description("Online compactions of the database file")
+                .register(registry);
+        FunctionCounter.builder("h2.compaction.reclaimed", reclaimed, AtomicLong::get)
+                .description("Bytes removed from the database file by online compaction")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+
+    /**
+     * 需要時壓縮；失敗時只記錄警告，下一個週期再試
+     */
+    void compact() {
+        try {
+            Optional<StoreCompactor.Result> result = compactor.compactIfFragmented(this::isRunning);
+            if (result.isEmpty()) {
+                return;
+            }
+            StoreCompactor.Result compacted = result.get();
+            runs.incrementAndGet();
+            reclaimed.addAndGet(compacted.reclaimed());
+            log.info("Compacted the database file from {} MB ({}% live) to {} MB ({}% live) in {} slices, {} ms",
+                    compacted.sizeBefore() / MEGABYTE, compacted.liveRatioBefore(), compacted.sizeAfter() / MEGABYTE,
+                    compacted.liveRatioAfter(), compacted.slices(), compacted.elapsed().toMillis());
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Could not compact the database file: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.sessionflow.compaction;
+
+import java.time.Duration;
+
+import org.springframework.core.env.PropertyResolver;
+
+/**
+ * 資料庫檔案壓縮設定
+ *
+ * @param interval    檢查碎片的間隔
+ * @param liveRatio   檔案中有效資料低於此比例（%）時開始壓縮
+ * @param minFileSize 小於此大小（位元組）的檔案不壓縮
+ * @param sliceBytes  每一段壓縮最多重寫的位元組數
+ * @param pause       兩段壓縮之間的暫停，限制壓縮佔用的磁碟 I/O
+ * @param maxDuration 一次壓縮的總時間上限，未完成的部分留到下一次
+ * @param onShutdown  應用程式結束時是否以 {@code SHUTDOWN COMPACT} 完整壓縮
+ */
+public record CompactionSettings(Duration interval, int liveRatio, long minFileSize, int sliceBytes, Duration pause,
+                                 Duration maxDuration, boolean onShutdown) {
+
+    public static final String PREFIX = "sessionflow.compaction.";
+    public static final String ENABLED_PROPERTY = PREFIX + "enabled";
+
+    private static final long MEGABYTE = 1024 * 1024;
+
+    public static CompactionSettings from(PropertyResolver properties) {
+        return new CompactionSettings(
+                Duration.ofMinutes(properties.getProperty(PREFIX + "interval-minutes", Long.class, 60L)),
+                Math.min(100, Math.max(0, properties.getProperty(PREFIX + "live-ratio-threshold", Integer.class, 50))),
+                properties.getProperty(PREFIX + "min-file-size-mb", Long.class, 16L) * MEGABYTE,
+                (int) Math.min(Integer.MAX_VALUE,
+                        Math.max(1, properties.getProperty(PREFIX + "slice-mb", Long.class, 4L)) * MEGABYTE),
+                Duration.ofMillis(Math.max(0, properties.getProperty(PREFIX + "pause-ms", Long.class, 400L))),
+                Duration.ofSeconds(properties.getProperty(PREFIX + "max-duration-seconds", Long.class, 60L)),
+                properties.getProperty(PREFIX + "on-shutdown", Boolean.class, false));
+    }
+}
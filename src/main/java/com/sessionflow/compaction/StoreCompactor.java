@@ -0,0 +1,281 @@
+package com.sessionflow.compaction;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.BooleanSupplier;
+
+import javax.sql.DataSource;
+
+import org.h2.engine.Session;
+import org.h2.engine.SessionLocal;
+import org.h2.jdbc.JdbcConnection;
+import org.h2.mvstore.Chunk;
+import org.h2.mvstore.FileStore;
+import org.h2.mvstore.MVStore;
+
+import com.sessionflow.durability.DurabilitySettings;
+import com.sessionflow.monitoring.health.DiskSpaceProbe;
+
+/**
+ * 壓縮 H2 資料庫檔案
+ *
+ * MVStore 將變更寫成附加在檔案中的新區塊，舊區塊要等其中的資料全部失效才能重複使用，大量刪除後檔案遠大於有效資料，
+ * 頁快取也被稀疏的區塊佔用。H2 沒有線上壓縮的 SQL 指令，此處經由連線取得 MVStore，分段呼叫 {@link MVStore#compact(int, int)}：
+ * 每段最多重寫 {@code slice-mb} 的稀疏區塊，段與段之間暫停以限制磁碟 I/O；區塊集中到檔案前段後，H2 在寫入時截斷檔案尾端。
+ * 重寫期間將保留時間暫時設為 0，被取代的舊區塊才能立即釋放，每段之後恢復原本的設定。
+ * 不使用 {@link MVStore#compactFile(int)}，它是為關閉資料庫設計的，在資料庫使用中移動區塊會違反 H2 的內部檢查。
+ *
+ * 應用程式結束時可改用 {@link #compactClosed}，以 {@code SHUTDOWN COMPACT} 重寫全部資料，比線上壓縮徹底。
+ */
+public class StoreCompactor {
+
+    /**
+     * 重寫有效資料低於此比例（%）的區塊；檔案中有效資料達到此比例時停止壓縮
+     */
+    static final int TARGET_FILL_RATE = 90;
+    /**
+     * 連續這麼多段檔案都沒有更小時停止；壓縮完成後重寫只會在相近的大小之間來回
+     */
+    static final int SLICES_WITHOUT_PROGRESS = 5;
+    /**
+     * MVStore 的區塊大小，區塊長度以此為單位
+     */
+    private static final int BLOCK_SIZE = 4096;
+    private static final String CHUNK_PREFIX = "chunk.";
+
+    private final DataSource dataSource;
+    private final CompactionSettings settings;
+
+    /**
+     * 壓縮的結果
+     *
+     * @param sizeBefore      壓縮前的檔案大小（位元組）
+     * @param sizeAfter       壓縮後的檔案大小（位元組）
+     * @param liveRatioBefore 壓縮前檔案中有效資料的比例（%）
+     * @param liveRatioAfter  壓縮後檔案中有效資料的比例（%）
+     * @param slices          線上壓縮的段數；{@code SHUTDOWN COMPACT} 為 1
+     * @param elapsed         壓縮花費的時間，不含段與段之間的暫停
+     */
+    public record Result(long sizeBefore, long sizeAfter, int liveRatioBefore, int liveRatioAfter, int slices,
+                         Duration elapsed) {
+
+        public long reclaimed() {
+            return Math.max(0, sizeBefore - sizeAfter);
+        }
+    }
+
+    public StoreCompactor(DataSource dataSource, CompactionSettings settings) {
+        this.dataSource = dataSource;
+        this.settings = settings;
+    }
+
+    /**
+     * 檔案達到最小大小且有效資料低於門檻時線上壓縮；不是嵌入式檔案資料庫或不需要壓縮時為空
+     *
+     * @param proceed 每段之前檢查，回傳 false 時停止，例如應用程式正在關閉
+     */
+    public Optional<Result> compactIfFragmented(BooleanSupplier proceed) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<MVStore> store = fileStore(connection);
+            if (store.isEmpty()) {
+                return Optional.empty();
+            }
+            if (store.get().getFileStore().size() < settings.minFileSize()) {
+                return Optional.empty();
+            }
+            settle(store.get());
+            if (liveRatio(store.get()) >= settings.liveRatio()) {
+                return Optional.empty();
+            }
+            return Optional.of(compact(store.get(), proceed));
+        }
+    }
+
+    /**
+     * 不論碎片程度立即線上壓縮；不是嵌入式檔案資料庫時為空
+     */
+    public Optional<Result> compact() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<MVStore> store = fileStore(connection);
+            if (store.isEmpty()) {
+                return Optional.empty();
+            }
+            settle(store.get());
+            return Optional.of(compact(store.get(), () -> true));
+        }
+    }
+
+    /**
+     * 分段壓縮到檔案不再變小；呼叫前先 {@link #settle}，壓縮前的比例才準確
+     */
+    private Result compact(MVStore store, BooleanSupplier proceed) {
+        FileStore<?> fileStore = store.getFileStore();
+        long sizeBefore = fileStore.size();
+        int liveRatioBefore = liveRatio(store);
+        long deadline = System.nanoTime() + settings.maxDuration().toNanos();
+        long elapsed = 0;
+        int slices = 0;
+        long smallest = sizeBefore;
+        int withoutProgress = 0;
+        int targetFillRate = TARGET_FILL_RATE;
+        while (proceed.getAsBoolean()) {
+            long start = System.nanoTime();
+            int retentionTime = store.getRetentionTime();
+            boolean rewritten;
+            try {
+                store.setRetentionTime(0);
+                rewritten = store.compact(targetFillRate, settings.sliceBytes());
+                store.commit();
+            } finally {
+                store.setRetentionTime(retentionTime);
+            }
+            elapsed += System.nanoTime() - start;
+            slices++;
+            if (!rewritten && allocatedRatio(store) < TARGET_FILL_RATE) {
+                // 稀疏的區塊都已重寫，但剩下的區塊仍留在檔案後段，尾端無法截斷：改為重寫全部區塊，移到前段的空閒空間。
+                targetFillRate = 100;
+                advanceVersion(store);
+                rewritten = true;
+            }
+            if (fileStore.size() < smallest) {
+                smallest = fileStore.size();
+                withoutProgress = 0;
+            } else {
+                withoutProgress++;
+            }
+            if (!rewritten || withoutProgress >= SLICES_WITHOUT_PROGRESS
+                    || liveRatio(store) >= TARGET_FILL_RATE || System.nanoTime() - deadline >= 0) {
+                break;
+            }
+            try {
+                Thread.sleep(settings.pause().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        settle(store);
+        return new Result(sizeBefore, fileStore.size(), liveRatioBefore, liveRatio(store), slices,
+                Duration.ofNanos(elapsed));
+    }
+
+    /**
+     * 提交並立即釋放已失效的區塊，讓區塊的統計反映目前的資料後才計算比例
+     *
+     * 被取代的頁面要到保留時間之後才從統計中扣除，否則壓縮前的比例偏高，壓縮後也會隨尚未釋放的舊區塊跳動。
+     * 最後寫入的區塊要到下一個區塊才記錄在 layout map 中，因此再寫入一個只有中繼資料的小區塊，所有資料區塊都計入比例。
+     * 失效區塊由 H2 在下一次提交時於 store lock 內釋放，所以推進兩次版本；不直接呼叫 {@link FileStore#dropUnusedChunks()}，
+     * 它沒有 store lock，與背景寫入同時執行時檔案的空閒空間會與區塊不一致。
+     */
+    private static void settle(MVStore store) {
+        int retentionTime = store.getRetentionTime();
+        try {
+            store.setRetentionTime(0);
+            advanceVersion(store);
+            advanceVersion(store);
+        } finally {
+            store.setRetentionTime(retentionTime);
+        }
+    }
+
+    /**
+     * 寫入不變的 store version 並提交，產生只有中繼資料的新版本；剛寫入的區塊要等版本往前推進後才能重寫，閒置的資料庫不會自己推進
+     */
+    private static void advanceVersion(MVStore store) {
+        store.setStoreVersion(store.getStoreVersion());
+        store.commit();
+    }
+
+    /**
+     * 以 {@code SHUTDOWN COMPACT} 完整壓縮沒有其他連線的資料庫，用於應用程式關閉之後
+     *
+     * @param url 嵌入式 H2 檔案資料庫的連線字串
+     * @throws IllegalArgumentException 連線字串不是嵌入式檔案資料庫時
+     */
+    public static Result compactClosed(String url, String username, String password)
+            throws SQLException, IOException {
+        if (!DurabilitySettings.isEmbeddedFile(url)) {
+            throw new IllegalArgumentException("Only embedded H2 file databases can be compacted: " + url);
+        }
+        Path databaseFile = DiskSpaceProbe.databaseFile(url);
+        String existingUrl = url + ";IFEXISTS=TRUE";
+        long sizeBefore = Files.size(databaseFile);
+        int liveRatioBefore;
+        long start = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(existingUrl, username, password);
+             Statement statement = connection.createStatement()) {
+            Optional<MVStore> store = fileStore(connection);
+            store.ifPresent(StoreCompactor::settle);
+            liveRatioBefore = store.map(StoreCompactor::liveRatio).orElse(-1);
+            statement.execute("SHUTDOWN COMPACT");
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        int liveRatioAfter;
+        try (Connection connection = DriverManager.getConnection(existingUrl, username, password)) {
+            Optional<MVStore> store = fileStore(connection);
+            store.ifPresent(StoreCompactor::settle);
+            liveRatioAfter = store.map(StoreCompactor::liveRatio).orElse(-1);
+        }
+        return new Result(sizeBefore, Files.size(databaseFile), liveRatioBefore, liveRatioAfter, 1, elapsed);
+    }
+
+    /**
+     * 連線所在資料庫檔案中有效資料的比例（%），{@code h2.file.live.ratio} 指標也由此取得；不是嵌入式檔案資料庫時為空
+     */
+    public static OptionalInt liveRatio(Connection connection) throws SQLException {
+        Optional<MVStore> store = fileStore(connection);
+        return store.isEmpty() ? OptionalInt.empty() : OptionalInt.of(liveRatio(store.get()));
+    }
+
+    /**
+     * 檔案中有效資料的比例（%）：區塊佔整個檔案的比例乘以區塊中有效資料的比例
+     *
+     * 不使用 {@link FileStore#getFillRate()}，它只計算第一個空閒區段之後的部分，檔案完全緊密時反而回傳 0。
+     */
+    static int liveRatio(MVStore store) {
+        return allocatedRatio(store) * store.getFileStore().getChunksFillRate() / 100;
+    }
+
+    /**
+     * 區塊佔整個檔案的比例（%），區塊的長度從 layout map 取得
+     */
+    private static int allocatedRatio(MVStore store) {
+        FileStore<?> fileStore = store.getFileStore();
+        long size = fileStore.size();
+        if (size <= 0) {
+            return 100;
+        }
+        long allocated = 0;
+        for (Map.Entry<String, String> entry : store.getLayoutMap().entrySet()) {
+            if (entry.getKey().startsWith(CHUNK_PREFIX)) {
+                Chunk<?> chunk = fileStore.createChunk(entry.getValue());
+                allocated += (long) chunk.len * BLOCK_SIZE;
+            }
+        }
+        return (int) (Math.min(allocated, size) * 100 / size);
+    }
+
+    /**
+     * 連線所在資料庫的 MVStore；遠端連線或記憶體資料庫時為空
+     */
+    private static Optional<MVStore> fileStore(Connection connection) throws SQLException {
+        if (!connection.isWrapperFor(JdbcConnection.class)) {
+            return Optional.empty();
+        }
+        Session session = connection.unwrap(JdbcConnection.class).getSession();
+        if (!(session instanceof SessionLocal local) || local.getDatabase().getStore() == null) {
+            return Optional.empty();
+        }
+        MVStore store = local.getDatabase().getStore().getMvStore();
+        return store.getFileStore() != null ? Optional.of(store) : Optional.empty();
+    }
+}
@@ -24,5 +24,6 @@ public final class ApiResponseTemplates {
     public static final String TYPE_MISMATCH_ERROR_REF = "#/components/examples/type_mismatch_error_example";
     public static final String MISSING_PARAMETER_REF = "#/components/examples/missing_parameter_example";
     public static final String UNSUPPORTED_MEDIA_TYPE_REF = "#/components/examples/unsupported_media_type_example";
+    public static final String SERVICE_BUSY_REF = "#/components/examples/service_busy_example";
     public static final String INTERNAL_SERVER_ERROR_REF = "#/components/examples/internal_server_error_example";
 } 
\ No newline at end of file
@@ -2,8 +2,12 @@ package com.sessionflow.config;
 
 import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -19,13 +23,28 @@ public class AsyncConfig {
     /**
      * WebSocket 事件處理執行緒池
      * 
+     * 啟用虛擬執行緒（{@code spring.threads.virtual.enabled}，需 Java 21 以上）時，
+     * 改為每個工作一條虛擬執行緒，並以最大執行緒數限制並行數
+     * 
+     * @param corePoolSize 核心執行緒數
+     * @param maxPoolSize  最大執行緒數
+     * @param environment  執行環境
      * @return 執行緒池執行器
      */
     @Bean(name = "websocketEventExecutor")
-    Executor websocketEventExecutor() {
+    Executor websocketEventExecutor(@Value("${sessionflow.async.websocket.core-pool-size:2}") int corePoolSize,
+                                    @Value("${sessionflow.async.websocket.max-pool-size:5}") int maxPoolSize,
+                                    Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("websocket-event-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxPoolSize);
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("websocket-event-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
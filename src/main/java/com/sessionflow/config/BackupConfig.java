@@ -0,0 +1,34 @@
+package com.sessionflow.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.sessionflow.backup.BackupScheduler;
+import com.sessionflow.backup.BackupSettings;
+import com.sessionflow.backup.OnlineBackup;
+import com.sessionflow.event.listener.ChangeVersionTracker;
+
+/**
+ * 線上備份配置
+ *
+ * 以 {@code sessionflow.backup.enabled} 控制（預設開啟）。執行中定期將資料庫寫入 {@code sessionflow.backup.directory}
+ * 的完整與增量備份，以命令列 {@code --restore} 還原。{@code memory} 耐久性模式已有自己的快照，不另外備份。
+ */
+@Configuration
+@ConditionalOnProperty(name = BackupSettings.ENABLED_PROPERTY, havingValue = "true")
+@ConditionalOnExpression("!'${sessionflow.durability.mode:batched}'.trim().equalsIgnoreCase('memory')")
+public class BackupConfig {
+
+    @Bean
+    BackupScheduler backupScheduler(Environment environment, DataSource dataSource,
+                                    ChangeVersionTracker changeVersionTracker) {
+        BackupSettings settings = BackupSettings.from(environment);
+        return new BackupScheduler(new OnlineBackup(dataSource, settings), settings,
+                changeVersionTracker::currentVersion);
+    }
+}
@@ -0,0 +1,32 @@
+package com.sessionflow.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.sessionflow.compaction.CompactionScheduler;
+import com.sessionflow.compaction.CompactionSettings;
+import com.sessionflow.compaction.StoreCompactor;
+
+/**
+ * 資料庫檔案壓縮配置
+ *
+ * 以 {@code sessionflow.compaction.enabled} 控制（預設開啟）。執行中定期檢查檔案中有效資料的比例，低於門檻時分段線上壓縮；
+ * 結束時的完整壓縮（{@code sessionflow.compaction.on-shutdown}）由 {@code ApplicationLockManager} 的關閉掛鉤執行。
+ * {@code memory} 耐久性模式沒有資料庫檔案，不壓縮。
+ */
+@Configuration
+@ConditionalOnProperty(name = CompactionSettings.ENABLED_PROPERTY, havingValue = "true")
+@ConditionalOnExpression("!'${sessionflow.durability.mode:batched}'.trim().equalsIgnoreCase('memory')")
+public class CompactionConfig {
+
+    @Bean
+    CompactionScheduler compactionScheduler(Environment environment, DataSource dataSource) {
+        CompactionSettings settings = CompactionSettings.from(environment);
+        return new CompactionScheduler(new StoreCompactor(dataSource, settings), settings);
+    }
+}
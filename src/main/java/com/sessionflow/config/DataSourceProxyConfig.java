@@ -0,0 +1,52 @@
+package com.sessionflow.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sessionflow.monitoring.SqlStatementCounter;
+
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * DataSource 代理配置
+ *
+ * 以 datasource-proxy 包裝應用程式的 DataSource，將每次執行的 SQL 陳述式交給所有
+ * {@link QueryExecutionListener} Bean（例如 {@link SqlStatementCounter}），JDBC 方法呼叫（例如連線的 {@code commit}）
+ * 交給所有 {@link MethodExecutionListener} Bean。
+ * 代理支援 {@code unwrap}，連線池指標等仍可取得底層的 HikariDataSource。
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    /**
+     * 必須為 static，避免為了建立後處理器而提早初始化此配置類別
+     */
+    @Bean
+    static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<QueryExecutionListener> listeners,
+                                                          ObjectProvider<MethodExecutionListener> methodListeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource).name(beanName);
+                listeners.orderedStream().forEach(builder::listener);
+                methodListeners.orderedStream().forEach(builder::methodListener);
+                return builder.build();
+            }
+        };
+    }
+}
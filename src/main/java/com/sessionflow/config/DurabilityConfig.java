@@ -0,0 +1,88 @@
+package com.sessionflow.config;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.sessionflow.durability.DurabilityManager;
+import com.sessionflow.durability.DurabilityMode;
+import com.sessionflow.durability.DurabilitySettings;
+import com.sessionflow.durability.DurabilitySync;
+import com.sessionflow.durability.SnapshotStore;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+
+/**
+ * 耐久性配置
+ *
+ * 依 {@code sessionflow.durability.mode}（命令列 {@code --durability}）調整 H2 連線字串與背景同步：
+ * {@code strict} 每次寫入提交後 fsync，{@code batched}（預設）斷電時最多遺失 {@code batched.window-ms} 內的提交，
+ * {@code memory} 以記憶體資料庫執行並定期寫入快照。目前模式與可能遺失的時間顯示於 {@code /api/health}。
+ * 同步的監聽器經由 {@link DataSourceProxyConfig} 註冊。
+ */
+@Configuration
+@Slf4j
+public class DurabilityConfig {
+
+    @Bean
+    DurabilitySync durabilitySync(Environment environment) {
+        return new DurabilitySync(DurabilitySettings.from(environment).mode());
+    }
+
+    @Bean
+    MethodExecutionListener durabilityCommitListener(DurabilitySync durabilitySync) {
+        return durabilitySync.commitListener();
+    }
+
+    @Bean
+    DurabilityManager durabilityManager(Environment environment, DataSource dataSource, DurabilitySync durabilitySync) {
+        return new DurabilityManager(DurabilitySettings.from(environment), dataSource, durabilitySync);
+    }
+
+    /**
+     * 在連線池啟動前改寫連線字串；記憶體模式接著載入快照，之後 Hibernate 才看到資料表
+     *
+     * 必須為 static，避免為了建立後處理器而提早初始化此配置類別
+     */
+    @Bean
+    static BeanPostProcessor durabilityDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                try {
+                    if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                        return bean;
+                    }
+                    HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+                    if (hikari.getJdbcUrl() == null || hikari.isRunning()) {
+                        return bean;
+                    }
+                    DurabilitySettings settings = DurabilitySettings.from(environment);
+                    String configuredUrl = hikari.getJdbcUrl();
+                    hikari.setJdbcUrl(settings.datasourceUrl(configuredUrl));
+                    log.debug("Durability mode {}: {}", settings.mode().value(), hikari.getJdbcUrl());
+                    if (settings.mode() == DurabilityMode.MEMORY) {
+                        new SnapshotStore(settings.snapshotFile()).load(hikari, settings.importUrl(configuredUrl),
+                                hikari.getUsername(), hikari.getPassword());
+                    }
+                    return bean;
+                } catch (SQLException | IOException e) {
+                    throw new BeanCreationException(beanName, "Could not prepare the in-memory database", e);
+                }
+            }
+        };
+    }
+}
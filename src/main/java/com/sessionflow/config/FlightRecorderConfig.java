@@ -0,0 +1,72 @@
+package com.sessionflow.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sessionflow.monitoring.jfr.FlightRecorderEndpoint;
+import com.sessionflow.web.BearerTokenFilter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JFR 錄製配置
+ *
+ * 領域事件（{@code com.sessionflow.*}）一律在程式碼中發出，沒有錄製時幾乎沒有成本；
+ * {@code /actuator/flightrecorder} 可在執行中開始、停止與下載錄製，不需另外連線到 JVM。
+ * 端點需以 {@code Authorization: Bearer <token>} 存取，token 取自 {@code sessionflow.flight-recorder.token}，
+ * 未設定時於啟動時產生並寫入工作目錄的 {@value #TOKEN_FILE_NAME}（僅擁有者可讀，結束時刪除）。
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = FlightRecorderConfig.ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class FlightRecorderConfig {
+
+    public static final String ENABLED_PROPERTY = "sessionflow.flight-recorder.enabled";
+    static final String TOKEN_FILE_NAME = ".sessionflow-recorder.token";
+
+    @Bean
+    FlightRecorderEndpoint flightRecorderEndpoint() {
+        return new FlightRecorderEndpoint();
+    }
+
+    @Bean
+    FilterRegistrationBean<BearerTokenFilter> flightRecorderTokenFilter(
+            @Value("${sessionflow.flight-recorder.token:}") String token,
+            @Value("${management.endpoints.web.base-path:/actuator}") String basePath) {
+        FilterRegistrationBean<BearerTokenFilter> registration = new FilterRegistrationBean<>(
+                new BearerTokenFilter(token.isBlank() ? generateToken(Path.of(TOKEN_FILE_NAME)) : token));
+        registration.addUrlPatterns(basePath + "/flightrecorder", basePath + "/flightrecorder/*");
+        return registration;
+    }
+
+    private static String generateToken(Path file) {
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+        try {
+            Files.deleteIfExists(file);
+            try {
+                Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+            } catch (UnsupportedOperationException e) {
+                Files.createFile(file);
+            }
+            Files.writeString(file, token);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write flight recorder token to " + file, e);
+        }
+        file.toFile().deleteOnExit();
+        log.info("Flight recorder endpoint token written to {}", file.toAbsolutePath());
+        return token;
+    }
+}
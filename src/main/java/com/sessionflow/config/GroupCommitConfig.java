@@ -0,0 +1,43 @@
+package com.sessionflow.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sessionflow.write.GroupCommit;
+import com.sessionflow.write.GroupCommitAspect;
+import com.sessionflow.write.GroupCommitWriter;
+
+/**
+ * 合併提交配置
+ *
+ * 以 {@code sessionflow.write.group-commit.enabled=true} 啟用。標註 {@link GroupCommit} 的高頻寫入
+ * （結束工作階段、完成任務、排程編輯）排入單一寫入執行緒，與並行請求的寫入合併在同一個交易中提交，
+ * 減少每次提交的日誌同步；單一使用者時每批只有一筆，行為與未啟用相同。
+ */
+@Configuration
+@ConditionalOnProperty(name = GroupCommitConfig.ENABLED_PROPERTY, havingValue = "true")
+public class GroupCommitConfig {
+
+    public static final String ENABLED_PROPERTY = "sessionflow.write.group-commit.enabled";
+
+    private static final String PREFIX = "sessionflow.write.group-commit.";
+
+    @Bean
+    GroupCommitWriter groupCommitWriter(PlatformTransactionManager transactionManager, Environment environment) {
+        return new GroupCommitWriter(new TransactionTemplate(transactionManager),
+                environment.getProperty(PREFIX + "queue-capacity", Integer.class, 256),
+                environment.getProperty(PREFIX + "max-batch-size", Integer.class, 64),
+                Duration.ofMillis(environment.getProperty(PREFIX + "enqueue-timeout-ms", Long.class, 1_000L)));
+    }
+
+    @Bean
+    GroupCommitAspect groupCommitAspect(GroupCommitWriter groupCommitWriter) {
+        return new GroupCommitAspect(groupCommitWriter);
+    }
+}
@@ -0,0 +1,65 @@
+package com.sessionflow.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+
+import com.sessionflow.monitoring.health.BrokerSessionProbe;
+import com.sessionflow.monitoring.health.ConnectionPoolProbe;
+import com.sessionflow.monitoring.health.DatabaseProbe;
+import com.sessionflow.monitoring.health.DiskSpaceProbe;
+import com.sessionflow.monitoring.health.ExecutorQueueProbe;
+import com.sessionflow.monitoring.health.HealthMonitor;
+import com.sessionflow.monitoring.health.HeapProbe;
+import com.sessionflow.monitoring.health.Thresholds;
+
+/**
+ * 健康檢查配置
+ *
+ * 探測每 {@code sessionflow.health.interval-ms} 在背景執行一次，各探測的降級與失效門檻為
+ * {@code sessionflow.health.<探測>.degraded} 與 {@code .down}。依賴的 Bean 在第一次探測時才取得，
+ * 不影響延遲初始化下的啟動時間。
+ */
+@Configuration
+public class HealthConfig {
+
+    private static final String PREFIX = "sessionflow.health.";
+
+    @Bean
+    HealthMonitor healthMonitor(Environment environment,
+                                ObjectProvider<DataSource> dataSource,
+                                @Qualifier("websocketEventExecutor") ObjectProvider<Executor> websocketEventExecutor,
+                                ObjectProvider<WebSocketMessageBrokerStats> webSocketMessageBrokerStats) {
+        String url = environment.getProperty("spring.datasource.url", "");
+        return new HealthMonitor(List.of(
+                new DatabaseProbe(dataSource, above(environment, "database", 100, 2_000)),
+                new ConnectionPoolProbe(dataSource, above(environment, "connection-pool", 50, 1_000)),
+                new ExecutorQueueProbe("websocketEventExecutor", websocketEventExecutor,
+                        above(environment, "websocket-executor", 50, 100)),
+                new BrokerSessionProbe(webSocketMessageBrokerStats, above(environment, "broker-sessions", 50, 1_000)),
+                new DiskSpaceProbe(DiskSpaceProbe.databaseFile(url), below(environment, "disk", 500, 50)),
+                new HeapProbe(above(environment, "heap", 85, 95))),
+                Duration.ofMillis(environment.getProperty(PREFIX + "interval-ms", Long.class, 10_000L)));
+    }
+
+    private static Thresholds above(Environment environment, String probe, double degraded, double down) {
+        return Thresholds.above(
+                environment.getProperty(PREFIX + probe + ".degraded", Double.class, degraded),
+                environment.getProperty(PREFIX + probe + ".down", Double.class, down));
+    }
+
+    private static Thresholds below(Environment environment, String probe, double degraded, double down) {
+        return Thresholds.below(
+                environment.getProperty(PREFIX + probe + ".degraded", Double.class, degraded),
+                environment.getProperty(PREFIX + probe + ".down", Double.class, down));
+    }
+}
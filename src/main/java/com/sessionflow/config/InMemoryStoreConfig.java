@@ -0,0 +1,112 @@
+package com.sessionflow.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sessionflow.event.listener.ChangeVersionTracker;
+import com.sessionflow.mapper.ScheduleEntryMapper;
+import com.sessionflow.mapper.SessionMapper;
+import com.sessionflow.mapper.SessionRecordMapper;
+import com.sessionflow.mapper.TagMapper;
+import com.sessionflow.mapper.TaskMapper;
+import com.sessionflow.repository.ScheduleEntryRepository;
+import com.sessionflow.repository.SessionRecordRepository;
+import com.sessionflow.repository.SessionRepository;
+import com.sessionflow.repository.TagRepository;
+import com.sessionflow.repository.TaskRepository;
+import com.sessionflow.service.BootstrapService;
+import com.sessionflow.service.ScheduleEntryService;
+import com.sessionflow.service.SessionRecordService;
+import com.sessionflow.service.SessionService;
+import com.sessionflow.service.TagService;
+import com.sessionflow.service.TaskService;
+import com.sessionflow.service.impl.BootstrapServiceImpl;
+import com.sessionflow.service.impl.ScheduleEntryServiceImpl;
+import com.sessionflow.service.impl.SessionRecordServiceImpl;
+import com.sessionflow.service.impl.SessionServiceImpl;
+import com.sessionflow.service.impl.TagServiceImpl;
+import com.sessionflow.service.impl.TaskServiceImpl;
+import com.sessionflow.store.InMemoryBootstrapService;
+import com.sessionflow.store.InMemoryScheduleEntryService;
+import com.sessionflow.store.InMemorySessionRecordService;
+import com.sessionflow.store.InMemorySessionService;
+import com.sessionflow.store.InMemoryStore;
+import com.sessionflow.store.InMemoryTagService;
+import com.sessionflow.store.InMemoryTaskService;
+import com.sessionflow.store.StoreLoader;
+
+/**
+ * 記憶體資料集配置
+ *
+ * 以 {@code sessionflow.store.in-memory.enabled=true} 啟用。啟動時將所有資料載入 {@link InMemoryStore}，
+ * 各 Service 介面改由包裝原本實作的 {@code InMemory*Service} 提供（{@link Primary}）：讀取由記憶體回應，
+ * 寫入仍經由原本的實作在 H2 中同步提交。記憶體用量約為資料庫檔案大小的數倍，適合單一使用者的資料量。
+ */
+@Configuration
+@ConditionalOnProperty(name = InMemoryStoreConfig.ENABLED_PROPERTY, havingValue = "true")
+public class InMemoryStoreConfig {
+
+    public static final String ENABLED_PROPERTY = "sessionflow.store.in-memory.enabled";
+
+    @Bean
+    InMemoryStore inMemoryStore(TaskRepository taskRepository,
+                                TagRepository tagRepository,
+                                SessionRepository sessionRepository,
+                                SessionRecordRepository sessionRecordRepository,
+                                ScheduleEntryRepository scheduleEntryRepository,
+                                TaskMapper taskMapper,
+                                TagMapper tagMapper,
+                                SessionMapper sessionMapper,
+                                SessionRecordMapper sessionRecordMapper,
+                                ScheduleEntryMapper scheduleEntryMapper,
+                                PlatformTransactionManager transactionManager) {
+        return new InMemoryStore(new StoreLoader(taskRepository, tagRepository, sessionRepository,
+                sessionRecordRepository, scheduleEntryRepository, taskMapper, tagMapper, sessionMapper,
+                sessionRecordMapper, scheduleEntryMapper, transactionManager));
+    }
+
+    @Bean
+    @Primary
+    TaskService inMemoryTaskService(TaskServiceImpl taskServiceImpl, InMemoryStore inMemoryStore) {
+        return new InMemoryTaskService(taskServiceImpl, inMemoryStore);
+    }
+
+    @Bean
+    @Primary
+    TagService inMemoryTagService(TagServiceImpl tagServiceImpl, InMemoryStore inMemoryStore) {
+        return new InMemoryTagService(tagServiceImpl, inMemoryStore);
+    }
+
+    @Bean
+    @Primary
+    SessionService inMemorySessionService(SessionServiceImpl sessionServiceImpl, InMemoryStore inMemoryStore) {
+        return new InMemorySessionService(sessionServiceImpl, inMemoryStore);
+    }
+
+    @Bean
+    @Primary
+    SessionRecordService inMemorySessionRecordService(SessionRecordServiceImpl sessionRecordServiceImpl,
+                                                      InMemoryStore inMemoryStore) {
+        return new InMemorySessionRecordService(sessionRecordServiceImpl, inMemoryStore);
+    }
+
+    @Bean
+    @Primary
+    ScheduleEntryService inMemoryScheduleEntryService(ScheduleEntryServiceImpl scheduleEntryServiceImpl,
+                                                      InMemoryStore inMemoryStore) {
+        return new InMemoryScheduleEntryService(scheduleEntryServiceImpl, inMemoryStore);
+    }
+
+    @Bean
+    @Primary
+    BootstrapService inMemoryBootstrapService(BootstrapServiceImpl bootstrapServiceImpl,
+                                              InMemoryStore inMemoryStore,
+                                              ChangeVersionTracker changeVersionTracker,
+                                              ObjectMapper objectMapper) {
+        return new InMemoryBootstrapService(bootstrapServiceImpl, inMemoryStore, changeVersionTracker, objectMapper);
+    }
+}
@@ -0,0 +1,91 @@
+package com.sessionflow.config;
+
+import java.util.concurrent.Executor;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractMessageChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+
+import com.sessionflow.compaction.CompactionScheduler;
+import com.sessionflow.monitoring.H2Metrics;
+import com.sessionflow.monitoring.ServiceMetricsAspect;
+import com.sessionflow.monitoring.WebSocketMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 指標配置
+ *
+ * 以 {@code --metrics} 啟動時啟用（{@code application-metrics.properties}），於 {@code /actuator/prometheus} 提供
+ * Prometheus 格式的指標。API 端點（{@code http.server.requests}）、Hikari 連線池、JVM 與執行緒池指標由 Spring Boot 提供，
+ * 此處補上 Service 方法、H2、Hibernate 統計與 WebSocket 指標。
+ */
+@Configuration
+@ConditionalOnProperty(name = MetricsConfig.ENABLED_PROPERTY, havingValue = "true")
+public class MetricsConfig {
+
+    public static final String ENABLED_PROPERTY = "sessionflow.metrics.enabled";
+
+    @Bean
+    ServiceMetricsAspect serviceMetricsAspect(MeterRegistry registry) {
+        return new ServiceMetricsAspect(registry);
+    }
+
+    @Bean
+    MeterBinder h2Metrics(DataSource dataSource) {
+        return new H2Metrics(dataSource);
+    }
+
+    /**
+     * 線上壓縮的次數與釋放的空間；停用壓縮時沒有這些指標
+     */
+    @Bean
+    MeterBinder compactionMetrics(ObjectProvider<CompactionScheduler> compactionScheduler) {
+        return registry -> compactionScheduler.ifAvailable(scheduler -> scheduler.bindTo(registry));
+    }
+
+    /**
+     * 需要 {@code hibernate.generate_statistics=true}
+     */
+    @Bean
+    MeterBinder hibernateMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class), "sessionflow", Tags.empty());
+    }
+
+    @Bean
+    MeterBinder webSocketMetrics(WebSocketMessageBrokerStats webSocketMessageBrokerStats,
+                                 @Qualifier("clientOutboundChannel") AbstractMessageChannel clientOutboundChannel,
+                                 @Qualifier("clientOutboundChannelExecutor")
+                                 ThreadPoolTaskExecutor clientOutboundChannelExecutor) {
+        return new WebSocketMetrics(webSocketMessageBrokerStats, clientOutboundChannel, clientOutboundChannelExecutor);
+    }
+
+    /**
+     * WebSocket 事件執行緒池的使用率與佇列長度（{@code executor.*{name="websocketEventExecutor"}}）
+     * <p>
+     * 此執行緒池延遲初始化，Spring Boot 只會綁定啟動時已建立的執行緒池，因此在此明確綁定；
+     * 虛擬執行緒模式下沒有執行緒池可量測
+     */
+    @Bean
+    MeterBinder websocketEventExecutorMetrics(@Qualifier("websocketEventExecutor") Executor websocketEventExecutor) {
+        return registry -> {
+            if (websocketEventExecutor instanceof ThreadPoolTaskExecutor threadPool) {
+                new ExecutorServiceMetrics(threadPool.getThreadPoolExecutor(), "websocketEventExecutor", Tags.empty())
+                        .bindTo(registry);
+            }
+        };
+    }
+}
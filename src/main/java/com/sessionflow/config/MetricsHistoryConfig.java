@@ -0,0 +1,61 @@
+package com.sessionflow.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.sessionflow.monitoring.health.DiskSpaceProbe;
+import com.sessionflow.monitoring.history.MetricsCollector;
+import com.sessionflow.monitoring.history.MetricsHistory;
+
+/**
+ * 本機指標歷史配置
+ *
+ * 每 {@code sessionflow.metrics.history.interval-seconds} 將端點延遲、請求率、SQL 執行時間、通知扇出與堆積使用量
+ * 寫入資料庫檔案旁的固定大小環狀檔案，於 {@code /api/admin/metrics/history} 查詢，不需要 Prometheus。
+ * 收集器同時是 {@link DataSourceProxyConfig} 的監聽器，請求延遲與 WebSocket 計數分別於 {@link WebConfig}
+ * 與 {@link WebSocketConfig} 註冊。
+ */
+@Configuration
+@ConditionalOnProperty(name = MetricsHistoryConfig.ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class MetricsHistoryConfig {
+
+    public static final String ENABLED_PROPERTY = "sessionflow.metrics.history.enabled";
+
+    private static final String PREFIX = "sessionflow.metrics.history.";
+    private static final String H2_FILE_SUFFIX = ".mv.db";
+
+    @Bean
+    MetricsCollector metricsCollector(Environment environment) {
+        return new MetricsCollector(environment.getProperty(PREFIX + "max-endpoints", Integer.class,
+                MetricsCollector.DEFAULT_MAX_ENDPOINTS));
+    }
+
+    @Bean
+    MetricsHistory metricsHistory(MetricsCollector metricsCollector, Environment environment) {
+        return new MetricsHistory(metricsCollector, filePrefix(environment),
+                Duration.ofSeconds(environment.getProperty(PREFIX + "interval-seconds", Long.class, 60L)),
+                environment.getProperty(PREFIX + "system-capacity", Integer.class, 10_080),
+                environment.getProperty(PREFIX + "endpoint-capacity", Integer.class, 10_080));
+    }
+
+    /**
+     * 預設與 H2 資料庫檔案同目錄同名（{@code ./sessionflow_db.metrics.ring}），非檔案資料庫時位於工作目錄
+     */
+    private static Path filePrefix(Environment environment) {
+        String configured = environment.getProperty(PREFIX + "file-prefix");
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        Path databaseFile = DiskSpaceProbe.databaseFile(environment.getProperty("spring.datasource.url", ""));
+        String name = databaseFile.getFileName() != null ? databaseFile.getFileName().toString() : "";
+        if (!name.endsWith(H2_FILE_SUFFIX)) {
+            return Path.of("sessionflow");
+        }
+        return databaseFile.resolveSibling(name.substring(0, name.length() - H2_FILE_SUFFIX.length()));
+    }
+}
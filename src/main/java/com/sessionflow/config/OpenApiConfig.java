@@ -5,10 +5,13 @@ import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.examples.Example;
 import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.servers.Server;
 import org.springdoc.core.customizers.OpenApiCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 /**
  * OpenAPI 配置
  */
@@ -21,7 +24,9 @@ public class OpenApiConfig {
                 .info(new Info()
                         .title("SessionFlow API")
                         .description("工作階段管理系統 API")
-                        .version("1.0.0"));
+                        .version("1.0.0"))
+                // 使用相對路徑，讓打包時預先產生的文件不綁定產生時的埠號
+                .servers(List.of(new Server().url("/")));
     }
 
     @Bean
@@ -0,0 +1,45 @@
+package com.sessionflow.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.webjars.WebJarVersionLocator;
+
+/**
+ * 預先產生的 OpenAPI 文件配置
+ *
+ * 打包時以 {@code -Popenapi} 產生 {@code openapi/openapi.json}；正式執行時關閉 springdoc，
+ * 由 {@link com.sessionflow.controller.ApiDocsController} 直接提供該檔案，Swagger UI 則由 webjar 靜態提供。
+ * 以 {@code --dev} 啟動時仍使用 springdoc 於執行期掃描。
+ */
+@Configuration
+@ConditionalOnProperty(name = PrebuiltOpenApiConfig.ENABLED_PROPERTY, havingValue = "true")
+public class PrebuiltOpenApiConfig implements WebMvcConfigurer {
+
+    public static final String ENABLED_PROPERTY = "sessionflow.openapi.prebuilt";
+    public static final String SPEC_LOCATION = "openapi/openapi.json";
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // classpath:/openapi/ 提供指向 /api-docs 的 swagger-initializer.js，取代 webjar 內建的範例設定
+        registry.addResourceHandler("/swagger-ui/**")
+                .addResourceLocations("classpath:/openapi/", swaggerUiLocation())
+                .setCacheControl(CacheControl.noCache());
+    }
+
+    private static String swaggerUiLocation() {
+        String version = new WebJarVersionLocator().version("swagger-ui");
+        if (version == null) {
+            throw new IllegalStateException("swagger-ui webjar not found on the classpath");
+        }
+        return "classpath:/META-INF/resources/webjars/swagger-ui/" + version + "/";
+    }
+
+    @Override
+    public void addViewControllers(ViewControllerRegistry registry) {
+        registry.addRedirectViewController("/swagger-ui.html", "/swagger-ui/index.html");
+    }
+}
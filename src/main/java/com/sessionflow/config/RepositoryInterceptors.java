@@ -0,0 +1,35 @@
+package com.sessionflow.config;
+
+import java.util.function.Function;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * 在 Spring Data Repository 代理中加入攔截器
+ */
+final class RepositoryInterceptors {
+
+    private RepositoryInterceptors() {
+    }
+
+    /**
+     * 依 Repository 介面建立攔截器並加入其代理
+     * <p>
+     * 須在 factory bean 建立 Repository 之前（初始化前）加入，宣告此後處理器的 {@code @Bean} 方法必須為 static
+     */
+    static BeanPostProcessor postProcessor(Function<Class<?>, MethodInterceptor> interceptorFactory) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    interceptorFactory.apply(repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.sessionflow.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sessionflow.monitoring.RepositoryMethodTracker;
+import com.sessionflow.monitoring.SlowQueryEndpoint;
+import com.sessionflow.monitoring.SlowQueryRecorder;
+
+/**
+ * 慢查詢紀錄配置
+ *
+ * 執行時間達 {@code sessionflow.sql.slow-query.threshold-ms} 的陳述式記錄於日誌，最慢的幾筆連同綁定參數、
+ * Repository 方法與執行計畫保存於 {@code /actuator/slowqueries}。紀錄器為 {@link DataSourceProxyConfig} 的監聽器。
+ */
+@Configuration
+@ConditionalOnProperty(name = SlowQueryConfig.ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    public static final String ENABLED_PROPERTY = "sessionflow.sql.slow-query.enabled";
+
+    @Bean
+    SlowQueryRecorder slowQueryRecorder(@Value("${sessionflow.sql.slow-query.threshold-ms:100}") long thresholdMillis,
+                                        @Value("${sessionflow.sql.slow-query.capacity:20}") int capacity,
+                                        @Value("${sessionflow.sql.slow-query.explain:true}") boolean explain) {
+        return new SlowQueryRecorder(thresholdMillis, capacity, explain);
+    }
+
+    @Bean
+    SlowQueryEndpoint slowQueryEndpoint(SlowQueryRecorder slowQueryRecorder) {
+        return new SlowQueryEndpoint(slowQueryRecorder);
+    }
+
+    /**
+     * 在每個 Repository 代理加入 {@link RepositoryMethodTracker}，讓慢查詢紀錄得知呼叫的 Repository 方法
+     */
+    @Bean
+    static BeanPostProcessor repositoryMethodTrackerPostProcessor() {
+        return RepositoryInterceptors.postProcessor(RepositoryMethodTracker::new);
+    }
+}
@@ -0,0 +1,46 @@
+package com.sessionflow.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.sessionflow.monitoring.RepositoryTracingInterceptor;
+import com.sessionflow.monitoring.RequestTraceEndpoint;
+import com.sessionflow.monitoring.RequestTracer;
+import com.sessionflow.monitoring.RequestTracingAspect;
+
+/**
+ * 請求追蹤配置
+ *
+ * 記錄每個 API 請求在 Controller、Service、Repository、Mapper 與事件監聽器各層的執行時間與 SQL 陳述式數，
+ * 最近 {@code sessionflow.tracing.capacity} 個請求中最慢的幾筆可於 {@code /actuator/traces} 查看。
+ * 請求層的攔截器於 {@link WebConfig} 註冊，追蹤器同時是 {@link DataSourceProxyConfig} 的監聽器。
+ */
+@Configuration
+@ConditionalOnProperty(name = TracingConfig.ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    public static final String ENABLED_PROPERTY = "sessionflow.tracing.enabled";
+
+    @Bean
+    RequestTracer requestTracer(@Value("${sessionflow.tracing.capacity:256}") int capacity) {
+        return new RequestTracer(capacity);
+    }
+
+    @Bean
+    RequestTracingAspect requestTracingAspect() {
+        return new RequestTracingAspect();
+    }
+
+    @Bean
+    RequestTraceEndpoint requestTraceEndpoint(RequestTracer requestTracer) {
+        return new RequestTraceEndpoint(requestTracer);
+    }
+
+    @Bean
+    static BeanPostProcessor repositoryTracingPostProcessor() {
+        return RepositoryInterceptors.postProcessor(RepositoryTracingInterceptor::new);
+    }
+}
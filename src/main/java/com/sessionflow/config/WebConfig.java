@@ -1,70 +1,130 @@
 package com.sessionflow.config;
 
+import com.sessionflow.web.AccessLogInterceptor;
+import com.sessionflow.web.CachedAssetResolver;
+import com.sessionflow.web.CachedAssetResource;
+import com.sessionflow.web.EndpointLatencyInterceptor;
+import com.sessionflow.monitoring.RequestTracer;
+import com.sessionflow.monitoring.history.MetricsCollector;
+import com.sessionflow.web.IndexHtmlRenderer;
+import com.sessionflow.web.RequestConcurrencyLimiter;
+import com.sessionflow.web.RequestTracingInterceptor;
+import com.sessionflow.web.SqlBudgetInterceptor;
+import com.sessionflow.web.StaticAssetCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
+import org.springframework.core.env.Environment;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.web.servlet.resource.PathResourceResolver;
-
-import java.io.IOException;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private static final String MAX_CONCURRENT_REQUESTS_PROPERTY = "sessionflow.web.max-concurrent-requests";
+    private static final String CONCURRENCY_WAIT_TIMEOUT_PROPERTY = "sessionflow.web.concurrency-wait-timeout-ms";
+    private static final int DEFAULT_HIKARI_POOL_SIZE = 10;
+    private static final String SQL_BUDGET_ENABLED_PROPERTY = "sessionflow.sql.budget.enabled";
+    private static final String SQL_BUDGET_MAX_STATEMENTS_PROPERTY = "sessionflow.sql.budget.max-statements";
+    private static final String SQL_BUDGET_MAX_REPEATS_PROPERTY = "sessionflow.sql.budget.max-repeats";
+    private static final String ACCESS_LOG_ENABLED_PROPERTY = "sessionflow.logging.access.enabled";
+    private static final String ACCESS_LOG_SAMPLE_RATE_PROPERTY = "sessionflow.logging.access.sample-rate";
+    private static final String ACCESS_LOG_SLOW_MS_PROPERTY = "sessionflow.logging.access.slow-ms";
+
+    private final ObjectProvider<IndexHtmlRenderer> indexHtmlRenderer;
+    private final ObjectProvider<RequestTracer> requestTracer;
+    private final ObjectProvider<MetricsCollector> metricsCollector;
+    private final Environment environment;
+
+    /**
+     * 前端靜態資源的記憶體快取
+     */
+    @Bean
+    public StaticAssetCache staticAssetCache() {
+        return new StaticAssetCache();
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 快取策略與 ETag 由各資源自行提供：assets/ 長期快取，index.html 每次重新驗證
+        // 資源由記憶體快取提供，且 index.html 依資料版本重新渲染，因此不使用 resource chain 快取
+
         // 處理前端靜態資源
         registry.addResourceHandler("/sessionflowapp/**")
                 .addResourceLocations("classpath:/static/sessionflowapp/")
-                .setCachePeriod(3600)
-                .resourceChain(true)
-                .addResolver(new PathResourceResolver() {
-                    @Override
-                    protected Resource getResource(String resourcePath, Resource location) throws IOException {
-                        Resource requestedResource = location.createRelative(resourcePath);
-                        // 如果請求的資源存在，直接返回
-                        if (requestedResource.exists() && requestedResource.isReadable()) {
-                            return requestedResource;
-                        }
+                .setUseLastModified(false)
+                .setEtagGenerator(CachedAssetResource::etagOf)
+                .resourceChain(false)
+                .addResolver(new CachedAssetResolver(staticAssetCache(), indexHtmlRenderer::getIfAvailable,
                         // 對於 SPA 路由，返回 index.html
-                        if (resourcePath.startsWith("assets/") || resourcePath.equals("favicon.ico")) {
-                            return super.getResource(resourcePath, location);
-                        }
-                        return new ClassPathResource("/static/sessionflowapp/index.html");
-                    }
-                });
+                        path -> !path.startsWith("assets/") && !path.equals("favicon.ico")));
         
         // 處理根路徑和其他前端路由
         registry.addResourceHandler("/**")
                 .addResourceLocations("classpath:/static/sessionflowapp/")
-                .setCachePeriod(3600)
-                .resourceChain(true)
-                .addResolver(new PathResourceResolver() {
-                    @Override
-                    protected Resource getResource(String resourcePath, Resource location) throws IOException {
-                        Resource requestedResource = location.createRelative(resourcePath);
-                        
+                .setUseLastModified(false)
+                .setEtagGenerator(CachedAssetResource::etagOf)
+                .resourceChain(false)
+                .addResolver(new CachedAssetResolver(staticAssetCache(), indexHtmlRenderer::getIfAvailable,
                         // API 路徑不處理
-                        if (resourcePath.startsWith("api/") || 
-                            resourcePath.startsWith("swagger-ui") || 
-                            resourcePath.startsWith("h2-console") ||
-                            resourcePath.startsWith("ws") ||
-                            resourcePath.startsWith("actuator/")) {
-                            return null;
-                        }
-                        
-                        // 如果是靜態資源文件且存在，直接返回
-                        if (requestedResource.exists() && requestedResource.isReadable()) {
-                            return requestedResource;
-                        }
-                        
-                        // 對於 SPA 路由，返回 index.html
-                        return new ClassPathResource("/static/sessionflowapp/index.html");
-                    }
-                });
+                        path -> !path.startsWith("api/") &&
+                                !path.startsWith("swagger-ui") &&
+                                !path.startsWith("h2-console") &&
+                                !path.startsWith("ws") &&
+                                !path.startsWith("actuator/")));
+    }
+
+    /**
+     * 請求追蹤：最先註冊，追蹤時間包含等待並行數限制
+     * <p>
+     * 存取日誌：依取樣率記錄 API 請求，慢請求與伺服器錯誤一律記錄，時間同樣包含等待並行數限制
+     * <p>
+     * 指標歷史：累計各端點的延遲分布
+     * <p>
+     * API 並行數限制：使用虛擬執行緒時預設為資料庫連線池大小，平台執行緒下預設不限制（由 Tomcat 執行緒池限制）
+     * <p>
+     * SQL 陳述式預算：每個 API 請求超過陳述式數量或同一陳述式重複過多次時記錄警告
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        RequestTracer tracer = requestTracer.getIfAvailable();
+        if (tracer != null) {
+            registry.addInterceptor(new RequestTracingInterceptor(tracer)).addPathPatterns("/api/**");
+        }
+        if (environment.getProperty(ACCESS_LOG_ENABLED_PROPERTY, Boolean.class, true)) {
+            registry.addInterceptor(new AccessLogInterceptor(
+                            environment.getProperty(ACCESS_LOG_SAMPLE_RATE_PROPERTY, Double.class, 0.01),
+                            environment.getProperty(ACCESS_LOG_SLOW_MS_PROPERTY, Long.class, 500L)))
+                    .addPathPatterns("/api/**");
+        }
+        MetricsCollector collector = metricsCollector.getIfAvailable();
+        if (collector != null) {
+            registry.addInterceptor(new EndpointLatencyInterceptor(collector)).addPathPatterns("/api/**");
+        }
+        int defaultLimit = Threading.VIRTUAL.isActive(environment)
+                ? environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class,
+                        DEFAULT_HIKARI_POOL_SIZE)
+                : 0;
+        int maxConcurrentRequests = environment.getProperty(MAX_CONCURRENT_REQUESTS_PROPERTY, Integer.class,
+                defaultLimit);
+        if (maxConcurrentRequests > 0) {
+            long waitTimeoutMillis = environment.getProperty(CONCURRENCY_WAIT_TIMEOUT_PROPERTY, Long.class, 10_000L);
+            registry.addInterceptor(new RequestConcurrencyLimiter(maxConcurrentRequests, waitTimeoutMillis))
+                    .addPathPatterns("/api/**")
+                    .excludePathPatterns("/api/health", "/api/health/**");
+        }
+        if (environment.getProperty(SQL_BUDGET_ENABLED_PROPERTY, Boolean.class, true)) {
+            registry.addInterceptor(new SqlBudgetInterceptor(
+                            environment.getProperty(SQL_BUDGET_MAX_STATEMENTS_PROPERTY, Integer.class, 30),
+                            environment.getProperty(SQL_BUDGET_MAX_REPEATS_PROPERTY, Integer.class, 10)))
+                    .addPathPatterns("/api/**");
+        }
     }
 
     @Override
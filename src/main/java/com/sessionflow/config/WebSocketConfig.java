@@ -1,12 +1,17 @@
 package com.sessionflow.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 import org.springframework.lang.NonNull;
 
+import com.sessionflow.monitoring.history.MetricsCollector;
+
 /**
  * WebSocket 配置類別
  * 
@@ -16,6 +21,18 @@ import org.springframework.lang.NonNull;
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    /**
+     * STOMP 輸入/輸出通道的執行緒數，0 表示使用框架預設值（CPU 數的兩倍）
+     */
+    @Value("${sessionflow.websocket.channel-pool-size:0}")
+    private int channelPoolSize;
+
+    private final ObjectProvider<MetricsCollector> metricsCollector;
+
+    public WebSocketConfig(ObjectProvider<MetricsCollector> metricsCollector) {
+        this.metricsCollector = metricsCollector;
+    }
+
     /**
      * 配置訊息代理
      * 
@@ -28,6 +45,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         
         // 設定應用程式目的地前綴，客戶端發送訊息時使用
         config.setApplicationDestinationPrefixes("/app");
+
+        // 指標歷史：計算發布的通知數
+        metricsCollector.ifAvailable(collector -> config.configureBrokerChannel()
+                .interceptors(collector.notificationCounter()));
     }
 
     /**
@@ -42,4 +63,22 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*") // 允許所有來源 (開發環境)
                 .withSockJS(); // 啟用 SockJS 回退選項
     }
-} 
\ No newline at end of file
+
+    @Override
+    public void configureClientInboundChannel(@NonNull ChannelRegistration registration) {
+        configureChannelPool(registration);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(@NonNull ChannelRegistration registration) {
+        configureChannelPool(registration);
+        // 指標歷史：計算送到用戶端的通知訊框（扇出）
+        metricsCollector.ifAvailable(collector -> registration.interceptors(collector.frameCounter()));
+    }
+
+    private void configureChannelPool(ChannelRegistration registration) {
+        if (channelPoolSize > 0) {
+            registration.taskExecutor().corePoolSize(channelPoolSize).maxPoolSize(channelPoolSize);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.sessionflow.controller;
+
+import com.sessionflow.config.PrebuiltOpenApiConfig;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 提供打包時預先產生的 OpenAPI 文件，取代 springdoc 的執行期掃描
+ */
+@RestController
+@Hidden
+@Slf4j
+@ConditionalOnProperty(name = PrebuiltOpenApiConfig.ENABLED_PROPERTY, havingValue = "true")
+public class ApiDocsController {
+
+    private final byte[] spec;
+    private final String etag;
+
+    public ApiDocsController() {
+        this(new ClassPathResource(PrebuiltOpenApiConfig.SPEC_LOCATION));
+    }
+
+    ApiDocsController(Resource specResource) {
+        try (InputStream in = specResource.getInputStream()) {
+            this.spec = in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read prebuilt OpenAPI spec", e);
+        }
+        this.etag = "\"" + DigestUtils.md5DigestAsHex(spec) + "\"";
+    }
+
+    @GetMapping(value = "${springdoc.api-docs.path:/api-docs}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getApiDocs(WebRequest webRequest) {
+        log.debug("Received request to get prebuilt OpenAPI spec");
+
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(spec);
+    }
+}
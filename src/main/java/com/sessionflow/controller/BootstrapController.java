@@ -0,0 +1,79 @@
+package com.sessionflow.controller;
+
+import com.sessionflow.config.ApiResponseTemplates;
+import com.sessionflow.dto.BootstrapResponse;
+import com.sessionflow.dto.BootstrapSnapshot;
+import com.sessionflow.exception.ErrorResponse;
+import com.sessionflow.service.BootstrapService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/bootstrap")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Bootstrap", description = "前端啟動資料 API")
+@ApiResponse(responseCode = "503", description = "伺服器忙碌（同時處理的請求或寫入佇列已滿），請依 Retry-After 稍後重試",
+        content = @Content(mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "Service Busy", ref = ApiResponseTemplates.SERVICE_BUSY_REF)))
+public class BootstrapController {
+
+    private final BootstrapService bootstrapService;
+
+    @GetMapping
+    @Operation(summary = "取得啟動資料快照",
+            description = "一次取得任務、標籤、進行中的工作階段、今天的排程與最近的工作階段紀錄。"
+                    + "回應帶有資料版本 ETag，可使用 If-None-Match 重新驗證")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "查詢成功",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = BootstrapResponse.class))),
+        @ApiResponse(responseCode = "304", description = "資料未變更"),
+        @ApiResponse(responseCode = "500", description = "伺服器內部錯誤",
+                content = @Content(mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class),
+                examples = @ExampleObject(name = "Internal Server Error", ref = ApiResponseTemplates.INTERNAL_SERVER_ERROR_REF)))
+    })
+    public ResponseEntity<byte[]> getBootstrap(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        log.debug("Received request to get bootstrap snapshot");
+
+        BootstrapSnapshot snapshot = bootstrapService.getSnapshot();
+        if (webRequest.checkNotModified(snapshot.etag())) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(snapshot.etag())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return response.body(snapshot.json());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+}
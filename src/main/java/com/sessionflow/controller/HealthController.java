@@ -1,7 +1,11 @@
 package com.sessionflow.controller;
 
 import com.sessionflow.config.ApiResponseTemplates;
+import com.sessionflow.durability.DurabilityManager;
 import com.sessionflow.exception.ErrorResponse;
+import com.sessionflow.monitoring.health.HealthMonitor;
+import com.sessionflow.monitoring.health.HealthSnapshot;
+import com.sessionflow.monitoring.health.HealthStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -9,42 +13,98 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @RestController
-@RequestMapping("/api")
+@RequestMapping("/api/health")
 @Tag(name = "Health", description = "系統健康檢查 API")
+@RequiredArgsConstructor
 public class HealthController {
 
-    @GetMapping("/health")
-    @Operation(summary = "健康檢查", description = "檢查系統是否正常運作")
+    private final HealthMonitor healthMonitor;
+    private final DurabilityManager durabilityManager;
+
+    @GetMapping
+    @Operation(summary = "健康檢查",
+            description = "回傳背景探測的最近結果：資料庫延遲、連線池等待、WebSocket 事件佇列、broker 連線數、磁碟空間與堆積記憶體。"
+                    + "任一探測失效時回傳 503。durability 為目前的耐久性模式與斷電時最多遺失的已提交資料時間")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "系統正常運作",
+            @ApiResponse(responseCode = "200", description = "系統正常運作或部分降級",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(type = "object"),
                     examples = @ExampleObject(value = """
                             {
                               "status": "UP",
                               "timestamp": "2024-01-15T10:30:00",
-                              "service": "Task Management System"
+                              "service": "Task Management System",
+                              "checkedAt": "2024-01-15T02:29:55Z",
+                              "probes": {
+                                "database": {
+                                  "status": "UP",
+                                  "value": 0.21,
+                                  "unit": "ms",
+                                  "thresholds": {"degraded": 100.0, "down": 2000.0, "lowerIsWorse": false},
+                                  "details": {}
+                                }
+                              },
+                              "durability": {
+                                "mode": "batched",
+                                "lossWindowMillis": 1000,
+                                "lastPersistedAt": "2024-01-15T02:29:59Z"
+                              }
                             }
                             """))),
+            @ApiResponse(responseCode = "503", description = "至少一項探測失效",
+                    content = @Content(mediaType = "application/json", schema = @Schema(type = "object"))),
             @ApiResponse(responseCode = "500", description = "系統內部錯誤",
                     content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = ErrorResponse.class),
                     examples = @ExampleObject(name = "Internal Server Error", ref = ApiResponseTemplates.INTERNAL_SERVER_ERROR_REF)))
     })
     public ResponseEntity<Map<String, Object>> health() {
-        return ResponseEntity.ok(Map.of(
-                "status", "UP",
-                "timestamp", LocalDateTime.now(),
-                "service", "Task Management System"
-        ));
+        HealthSnapshot snapshot = healthMonitor.snapshot();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", snapshot.status());
+        body.put("timestamp", LocalDateTime.now());
+        body.put("service", "Task Management System");
+        body.put("checkedAt", snapshot.checkedAt());
+        body.put("probes", snapshot.probes());
+        body.put("durability", durabilityManager.status());
+        return ResponseEntity.status(snapshot.status() == HealthStatus.DOWN ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.OK)
+                .body(body);
+    }
+
+    @GetMapping("/liveness")
+    @Operation(summary = "存活探測", description = "背景探測仍按時執行且堆積記憶體未耗盡時回傳 200，否則 503，代表程序應重新啟動")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "程序存活"),
+            @ApiResponse(responseCode = "503", description = "程序需要重新啟動")
+    })
+    public ResponseEntity<Map<String, Object>> liveness() {
+        return probe(healthMonitor.isLive());
+    }
+
+    @GetMapping("/readiness")
+    @Operation(summary = "就緒探測", description = "已完成第一次探測且沒有探測失效時回傳 200，否則 503，代表暫時不應接收流量")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "可以接收請求"),
+            @ApiResponse(responseCode = "503", description = "暫時無法服務")
+    })
+    public ResponseEntity<Map<String, Object>> readiness() {
+        return probe(healthMonitor.isReady());
+    }
+
+    private static ResponseEntity<Map<String, Object>> probe(boolean up) {
+        return ResponseEntity.status(up ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("status", up ? HealthStatus.UP : HealthStatus.DOWN));
     }
-} 
\ No newline at end of file
+}
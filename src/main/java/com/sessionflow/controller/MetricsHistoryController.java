@@ -0,0 +1,126 @@
+package com.sessionflow.controller;
+
+import com.sessionflow.config.ApiResponseTemplates;
+import com.sessionflow.config.MetricsHistoryConfig;
+import com.sessionflow.exception.ErrorResponse;
+import com.sessionflow.monitoring.history.MetricsHistory;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@RestController
+@RequestMapping("/api/admin/metrics")
+@ConditionalOnProperty(name = MetricsHistoryConfig.ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Tag(name = "Metrics", description = "本機指標歷史 API")
+@ApiResponse(responseCode = "503", description = "伺服器忙碌（同時處理的請求或寫入佇列已滿），請依 Retry-After 稍後重試",
+        content = @Content(mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "Service Busy", ref = ApiResponseTemplates.SERVICE_BUSY_REF)))
+public class MetricsHistoryController {
+
+    static final Duration DEFAULT_RANGE = Duration.ofHours(24);
+    static final int DEFAULT_MAX_POINTS = 300;
+    static final int MAX_POINTS_LIMIT = 5_000;
+
+    private final MetricsHistory metricsHistory;
+
+    @GetMapping("/history")
+    @Operation(summary = "查詢指標歷史",
+            description = "回傳本機保存的端點 p50/p99 延遲、請求率、SQL 執行時間、通知扇出與堆積使用量。"
+                    + "未指定 stepSeconds 時依 maxPoints 自動選擇步長，合併時請求數加總、p50 以請求數加權平均、p99 取最大值")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "查詢成功",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = MetricsHistory.Report.class),
+                    examples = @ExampleObject(value = """
+                            {
+                              "from": "2024-01-15T00:00:00Z",
+                              "to": "2024-01-16T00:00:00Z",
+                              "intervalSeconds": 60,
+                              "stepSeconds": 300,
+                              "series": [
+                                {
+                                  "timestamp": "2024-01-15T10:30:00Z",
+                                  "seconds": 300,
+                                  "requests": 42,
+                                  "p50Millis": 3.2,
+                                  "p99Millis": 48.0,
+                                  "dbTimeMillis": 120,
+                                  "dbStatements": 210,
+                                  "notifications": 6,
+                                  "framesDelivered": 12,
+                                  "heapUsedBytes": 73400320,
+                                  "heapMaxBytes": 268435456,
+                                  "requestsPerSecond": 0.14,
+                                  "fanOut": 2.0
+                                }
+                              ],
+                              "endpoints": [
+                                {
+                                  "timestamp": "2024-01-15T10:30:00Z",
+                                  "endpoint": "GET /api/tasks",
+                                  "requests": 20,
+                                  "p50Millis": 2.8,
+                                  "p99Millis": 15.0,
+                                  "maxMillis": 16.1
+                                }
+                              ]
+                            }
+                            """))),
+            @ApiResponse(responseCode = "400", description = "時間範圍或參數錯誤",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "系統內部錯誤",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class),
+                    examples = @ExampleObject(name = "Internal Server Error", ref = ApiResponseTemplates.INTERNAL_SERVER_ERROR_REF)))
+    })
+    public ResponseEntity<MetricsHistory.Report> history(
+            @Parameter(description = "開始時間（ISO-8601），預設為結束時間前 24 小時", example = "2024-01-15T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+
+            @Parameter(description = "結束時間（ISO-8601），預設為現在", example = "2024-01-16T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+
+            @Parameter(description = "每一點涵蓋的秒數，不小於取樣區間", example = "300")
+            @RequestParam(required = false) Long stepSeconds,
+
+            @Parameter(description = "未指定 stepSeconds 時的最多點數", example = "300")
+            @RequestParam(defaultValue = "" + DEFAULT_MAX_POINTS) int maxPoints,
+
+            @Parameter(description = "只回傳此端點的延遲", example = "GET /api/tasks")
+            @RequestParam(required = false) String endpoint) {
+
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(DEFAULT_RANGE);
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("'to' must be after 'from'");
+        }
+        if (maxPoints < 1 || maxPoints > MAX_POINTS_LIMIT) {
+            throw new IllegalArgumentException("maxPoints must be between 1 and " + MAX_POINTS_LIMIT);
+        }
+        if (stepSeconds != null && stepSeconds < 1) {
+            throw new IllegalArgumentException("stepSeconds must be positive");
+        }
+        long rangeSeconds = Duration.between(start, end).toSeconds();
+        Duration step = Duration.ofSeconds(stepSeconds != null ? stepSeconds : (rangeSeconds + maxPoints - 1) / maxPoints);
+        return ResponseEntity.ok(metricsHistory.query(start, end, step, endpoint));
+    }
+}
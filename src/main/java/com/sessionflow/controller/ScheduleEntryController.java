@@ -30,6 +30,10 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "ScheduleEntry", description = "排程管理 API")
+@ApiResponse(responseCode = "503", description = "伺服器忙碌（同時處理的請求或寫入佇列已滿），請依 Retry-After 稍後重試",
+        content = @Content(mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "Service Busy", ref = ApiResponseTemplates.SERVICE_BUSY_REF)))
 public class ScheduleEntryController {
     
     private final ScheduleEntryService scheduleEntryService;
@@ -53,7 +57,7 @@ public class ScheduleEntryController {
     public ResponseEntity<ScheduleEntryResponse> createScheduleEntry(
             @Parameter(description = "排程建立請求", required = true)
             @Valid @RequestBody ScheduleEntryRequest request) {
-        log.info("建立排程請求 - title: {}", request.getTitle());
+        log.debug("建立排程請求 - title: {}", request.getTitle());
         
         ScheduleEntryResponse response = scheduleEntryService.createScheduleEntry(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -83,7 +87,7 @@ public class ScheduleEntryController {
             @Parameter(description = "排程 ID", required = true, example = "1") @PathVariable Long id,
             @Parameter(description = "排程更新請求", required = true)
             @Valid @RequestBody ScheduleEntryRequest request) {
-        log.info("更新排程請求 - ID: {}, title: {}", id, request.getTitle());
+        log.debug("更新排程請求 - ID: {}, title: {}", id, request.getTitle());
         
         ScheduleEntryResponse response = scheduleEntryService.updateScheduleEntry(id, request);
         return ResponseEntity.ok(response);
@@ -100,7 +104,7 @@ public class ScheduleEntryController {
     })
     public ResponseEntity<Void> deleteScheduleEntry(
             @Parameter(description = "排程 ID", required = true, example = "1") @PathVariable Long id) {
-        log.info("刪除排程請求 - ID: {}", id);
+        log.debug("刪除排程請求 - ID: {}", id);
         
         scheduleEntryService.deleteScheduleEntry(id);
         return ResponseEntity.noContent().build();
@@ -122,7 +126,7 @@ public class ScheduleEntryController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @Parameter(description = "結束日期", required = true, example = "2024-01-16")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        log.info("查詢排程請求 - startDate: {}, endDate: {}", startDate, endDate);
+        log.debug("查詢排程請求 - startDate: {}, endDate: {}", startDate, endDate);
         
         List<ScheduleEntryResponse> responses = scheduleEntryService.getScheduleEntries(startDate, endDate);
         return ResponseEntity.ok(responses);
@@ -30,6 +30,10 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Session", description = "工作階段管理 API")
+@ApiResponse(responseCode = "503", description = "伺服器忙碌（同時處理的請求或寫入佇列已滿），請依 Retry-After 稍後重試",
+        content = @Content(mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "Service Busy", ref = ApiResponseTemplates.SERVICE_BUSY_REF)))
 public class SessionController {
     
     private final SessionService sessionService;
@@ -49,7 +53,7 @@ public class SessionController {
             @Parameter(description = "工作階段建立請求", required = true)
             @Valid @RequestBody SessionRequest request) {
         
-        log.info("Received request to create session: {}", request.getTitle());
+        log.debug("Received request to create session: {}", request.getTitle());
         
         SessionResponse response = sessionService.createSession(request);
         
@@ -63,7 +67,7 @@ public class SessionController {
             array = @ArraySchema(schema = @Schema(implementation = SessionResponse.class))))
     public ResponseEntity<List<SessionResponse>> getAllSessions() {
         
-        log.info("Received request to get all sessions");
+        log.debug("Received request to get all sessions");
         
         List<SessionResponse> responses = sessionService.getAllSessions();
         
@@ -90,7 +94,7 @@ public class SessionController {
             @Parameter(description = "工作階段結束請求", required = true)
             @Valid @RequestBody SessionRecordCreateRequest request) {
         
-        log.info("Received request to end session: {}", id);
+        log.debug("Received request to end session: {}", id);
         
         SessionRecordResponse response = sessionService.endSession(id, request);
         
@@ -29,6 +29,10 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "SessionRecord", description = "工作階段紀錄管理 API")
+@ApiResponse(responseCode = "503", description = "伺服器忙碌（同時處理的請求或寫入佇列已滿），請依 Retry-After 稍後重試",
+        content = @Content(mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "Service Busy", ref = ApiResponseTemplates.SERVICE_BUSY_REF)))
 public class SessionRecordController {
     
     private final SessionRecordService sessionRecordService;
@@ -56,11 +60,11 @@ public class SessionRecordController {
             @Parameter(description = "任務ID", example = "1")
             @RequestParam(required = false) Long taskId) {
         
-        log.info("查詢工作階段紀錄請求 - startDate: {}, endDate: {}, taskId: {}", startDate, endDate, taskId);
+        log.debug("查詢工作階段紀錄請求 - startDate: {}, endDate: {}, taskId: {}", startDate, endDate, taskId);
         
         List<SessionRecordResponse> records = sessionRecordService.getSessionRecords(startDate, endDate, taskId);
         
-        log.info("成功查詢到 {} 筆工作階段紀錄", records.size());
+        log.debug("成功查詢到 {} 筆工作階段紀錄", records.size());
         return ResponseEntity.ok(records);
     }
     
@@ -86,11 +90,11 @@ public class SessionRecordController {
             @Parameter(description = "工作階段紀錄更新請求", required = true)
             @Valid @RequestBody SessionRecordUpdateRequest updateRequest) {
         
-        log.info("更新工作階段紀錄請求 - ID: {}", id);
+        log.debug("更新工作階段紀錄請求 - ID: {}", id);
         
         SessionRecordResponse updatedRecord = sessionRecordService.updateSessionRecord(id, updateRequest);
         
-        log.info("成功更新工作階段紀錄 - ID: {}", updatedRecord.getId());
+        log.debug("成功更新工作階段紀錄 - ID: {}", updatedRecord.getId());
         return ResponseEntity.ok(updatedRecord);
     }
     
@@ -107,11 +111,11 @@ public class SessionRecordController {
             @Parameter(description = "工作階段紀錄ID", required = true, example = "1")
             @PathVariable Long id) {
         
-        log.info("刪除工作階段紀錄請求 - ID: {}", id);
+        log.debug("刪除工作階段紀錄請求 - ID: {}", id);
         
         sessionRecordService.deleteSessionRecord(id);
         
-        log.info("成功刪除工作階段紀錄 - ID: {}", id);
+        log.debug("成功刪除工作階段紀錄 - ID: {}", id);
         return ResponseEntity.noContent().build();
     }
 } 
\ No newline at end of file
@@ -28,6 +28,10 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Tag Management", description = "標籤管理相關 API")
+@ApiResponse(responseCode = "503", description = "伺服器忙碌（同時處理的請求或寫入佇列已滿），請依 Retry-After 稍後重試",
+        content = @Content(mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "Service Busy", ref = ApiResponseTemplates.SERVICE_BUSY_REF)))
 public class TagController {
     
     private final TagService tagService;
@@ -51,7 +55,7 @@ public class TagController {
             @Parameter(description = "標籤建立請求", required = true)
             @Valid @RequestBody TagRequest request) {
         
-        log.info("POST /api/tags - Creating tag with name: {}", request.getName());
+        log.debug("POST /api/tags - Creating tag with name: {}", request.getName());
         TagResponse response = tagService.createTag(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -64,7 +68,7 @@ public class TagController {
                 array = @ArraySchema(schema = @Schema(implementation = TagResponse.class))))
     })
     public ResponseEntity<List<TagResponse>> getAllTags() {
-        log.info("GET /api/tags - Fetching all tags");
+        log.debug("GET /api/tags - Fetching all tags");
         List<TagResponse> response = tagService.getAllTags();
         return ResponseEntity.ok(response);
     }
@@ -94,7 +98,7 @@ public class TagController {
             @Parameter(description = "標籤更新請求", required = true)
             @Valid @RequestBody TagRequest request) {
         
-        log.info("PUT /api/tags/{} - Updating tag with name: {}", id, request.getName());
+        log.debug("PUT /api/tags/{} - Updating tag with name: {}", id, request.getName());
         TagResponse response = tagService.updateTag(id, request);
         return ResponseEntity.ok(response);
     }
@@ -112,7 +116,7 @@ public class TagController {
             @Parameter(description = "標籤 ID", required = true, example = "1")
             @PathVariable Long id) {
         
-        log.info("DELETE /api/tags/{} - Deleting tag", id);
+        log.debug("DELETE /api/tags/{} - Deleting tag", id);
         tagService.deleteTag(id);
         return ResponseEntity.noContent().build();
     }
@@ -28,6 +28,10 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Task", description = "任務管理 API")
+@ApiResponse(responseCode = "503", description = "伺服器忙碌（同時處理的請求或寫入佇列已滿），請依 Retry-After 稍後重試",
+        content = @Content(mediaType = "application/json",
+        schema = @Schema(implementation = ErrorResponse.class),
+        examples = @ExampleObject(name = "Service Busy", ref = ApiResponseTemplates.SERVICE_BUSY_REF)))
 public class TaskController {
     
     private final TaskService taskService;
@@ -50,7 +54,7 @@ public class TaskController {
     public ResponseEntity<TaskResponse> createTask(
             @Parameter(description = "任務建立請求", required = true)
             @Valid @RequestBody TaskRequest taskRequest) {
-        log.info("Received request to create task: {}", taskRequest.getTitle());
+        log.debug("Received request to create task: {}", taskRequest.getTitle());
         
         TaskResponse response = taskService.createTask(taskRequest);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
@@ -74,7 +78,7 @@ public class TaskController {
     public ResponseEntity<List<TaskResponse>> getAllTasks(
             @Parameter(description = "任務狀態篩選 (PENDING/COMPLETE)", example = "PENDING")
             @RequestParam(required = false) String status) {
-        log.info("Received request to get all tasks with status: {}", status);
+        log.debug("Received request to get all tasks with status: {}", status);
         
         List<TaskResponse> responses = taskService.getAllTasks(status);
         return ResponseEntity.ok(responses);
@@ -104,7 +108,7 @@ public class TaskController {
             @PathVariable Long id,
             @Parameter(description = "任務更新請求", required = true)
             @Valid @RequestBody TaskRequest taskRequest) {
-        log.info("Received request to update task with id: {}", id);
+        log.debug("Received request to update task with id: {}", id);
         
         TaskResponse response = taskService.updateTask(id, taskRequest);
         return ResponseEntity.ok(response);
@@ -128,7 +132,7 @@ public class TaskController {
     public ResponseEntity<TaskResponse> completeTask(
             @Parameter(description = "任務 ID", required = true, example = "1")
             @PathVariable Long id) {
-        log.info("Received request to complete task with id: {}", id);
+        log.debug("Received request to complete task with id: {}", id);
         
         TaskResponse response = taskService.completeTask(id);
         return ResponseEntity.ok(response);
@@ -152,7 +156,7 @@ public class TaskController {
     public ResponseEntity<TaskResponse> reopenTask(
             @Parameter(description = "任務 ID", required = true, example = "1")
             @PathVariable Long id) {
-        log.info("Received request to reopen task with id: {}", id);
+        log.debug("Received request to reopen task with id: {}", id);
         
         TaskResponse response = taskService.reopenTask(id);
         return ResponseEntity.ok(response);
@@ -174,7 +178,7 @@ public class TaskController {
     public ResponseEntity<Void> deleteTask(
             @Parameter(description = "任務 ID", required = true, example = "1")
             @PathVariable Long id) {
-        log.info("Received request to delete task with id: {}", id);
+        log.debug("Received request to delete task with id: {}", id);
         
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
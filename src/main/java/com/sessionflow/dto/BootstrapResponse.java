@@ -0,0 +1,49 @@
+package com.sessionflow.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "前端啟動資料快照")
+public class BootstrapResponse {
+
+    @NotNull
+    @Schema(description = "資料版本，資料有變更時遞增", example = "1718000000123", nullable = false)
+    private Long version;
+
+    @NotNull
+    @Schema(description = "快照產生時間", example = "2024-01-15T10:30:00", nullable = false)
+    private LocalDateTime generatedAt;
+
+    @NotNull
+    @Schema(description = "「今天」對應的日期", example = "2024-01-15", nullable = false)
+    private LocalDate date;
+
+    @NotNull
+    @Schema(description = "所有任務", nullable = false)
+    private List<TaskResponse> tasks;
+
+    @NotNull
+    @Schema(description = "所有標籤", nullable = false)
+    private List<TagResponse> tags;
+
+    @NotNull
+    @Schema(description = "進行中的工作階段", nullable = false)
+    private List<SessionResponse> activeSessions;
+
+    @NotNull
+    @Schema(description = "今天的排程", nullable = false)
+    private List<ScheduleEntryResponse> todayScheduleEntries;
+
+    @NotNull
+    @Schema(description = "最近的工作階段紀錄", nullable = false)
+    private List<SessionRecordResponse> recentSessionRecords;
+}
@@ -0,0 +1,56 @@
+package com.sessionflow.dto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 已序列化的啟動資料快照
+ *
+ * @param version 資料版本
+ * @param date    快照對應的日期
+ * @param data    快照內容
+ * @param json    預先序列化的 JSON
+ * @param gzip    預先壓縮的 JSON (gzip)
+ */
+public record BootstrapSnapshot(
+        long version,
+        LocalDate date,
+        BootstrapResponse data,
+        byte[] json,
+        byte[] gzip) {
+
+    /**
+     * 快照的 ETag，版本或日期不同即視為不同內容
+     */
+    public String etag() {
+        return "\"bootstrap-" + version + "-" + date.toEpochDay() + "\"";
+    }
+
+    /**
+     * 序列化並壓縮快照內容
+     */
+    public static BootstrapSnapshot of(long version, LocalDate date, BootstrapResponse data, ObjectMapper objectMapper) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(data);
+            return new BootstrapSnapshot(version, date, data, json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize bootstrap snapshot", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,23 @@
+package com.sessionflow.dto;
+
+import java.util.List;
+
+/**
+ * 內嵌於 index.html 的前端初始狀態
+ *
+ * @param version        資料版本
+ * @param tasks          所有任務
+ * @param tags           所有標籤
+ * @param activeSessions 進行中的工作階段
+ */
+public record InitialState(
+        long version,
+        List<TaskResponse> tasks,
+        List<TagResponse> tags,
+        List<SessionResponse> activeSessions) {
+
+    public static InitialState from(BootstrapSnapshot snapshot) {
+        BootstrapResponse data = snapshot.data();
+        return new InitialState(snapshot.version(), data.getTasks(), data.getTags(), data.getActiveSessions());
+    }
+}
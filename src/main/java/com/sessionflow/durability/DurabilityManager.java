@@ -0,0 +1,141 @@
+package com.sessionflow.durability;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 依耐久性模式執行背景的同步與快照
+ *
+ * {@link DurabilityMode#BATCHED} 每半個時間窗在有寫入時同步一次；{@link DurabilityMode#MEMORY} 每個快照間隔寫入快照；
+ * {@link DurabilityMode#STRICT} 在提交時同步，不需要背景工作。停止時再同步或寫入快照一次。
+ */
+@Slf4j
+public class DurabilityManager implements SmartLifecycle {
+
+    /**
+     * 在 Web 伺服器與合併提交的寫入執行緒之後停止，最後一次同步或快照包含所有已回應的寫入
+     */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 8192;
+
+    private final DurabilitySettings settings;
+    private final DataSource dataSource;
+    private final DurabilitySync sync;
+    private final SnapshotStore snapshots;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+    private volatile Instant lastPersistedAt;
+
+    /**
+     * 目前的耐久性
+     *
+     * @param mode             耐久性模式
+     * @param lossWindowMillis 斷電或程序異常結束時最多遺失的已提交資料時間（毫秒）
+     * @param lastPersistedAt  最近一次確認所有已提交資料都已落盤（同步或快照）的時間
+     */
+    public record Status(DurabilityMode mode, long lossWindowMillis, @Nullable Instant lastPersistedAt) {
+    }
+
+    public DurabilityManager(DurabilitySettings settings, DataSource dataSource, DurabilitySync sync) {
+        this.settings = settings;
+        this.dataSource = dataSource;
+        this.sync = sync;
+        this.snapshots = new SnapshotStore(settings.snapshotFile());
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Duration period = switch (settings.mode()) {
+            case STRICT -> null;
+            case BATCHED -> settings.syncInterval();
+            case MEMORY -> settings.snapshotInterval();
+        };
+        if (period == null || period.isZero() || period.isNegative()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "durability");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::persist, period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            scheduler = null;
+        }
+        persist();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    public Status status() {
+        Instant persisted = settings.mode() == DurabilityMode.STRICT ? sync.getLastSyncAt() : lastPersistedAt;
+        return new Status(settings.mode(), settings.lossWindow().toMillis(), persisted);
+    }
+
+    /**
+     * 立即寫入記憶體資料庫的快照
+     */
+    public void snapshot() throws SQLException, IOException {
+        long start = System.nanoTime();
+        snapshots.save(dataSource);
+        lastPersistedAt = Instant.now();
+        log.debug("Wrote snapshot {} in {} ms", snapshots.file(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * 依模式同步或寫入快照；失敗時只記錄警告，下一個週期再試
+     */
+    void persist() {
+        try {
+            switch (settings.mode()) {
+                case STRICT -> sync.syncIfDirty(dataSource);
+                case BATCHED -> {
+                    sync.syncIfDirty(dataSource);
+                    lastPersistedAt = Instant.now();
+                }
+                case MEMORY -> snapshot();
+            }
+        } catch (SQLException | IOException | RuntimeException e) {
+            log.warn("Could not persist {} durability state: {}", settings.mode().value(), e.toString());
+        }
+    }
+}
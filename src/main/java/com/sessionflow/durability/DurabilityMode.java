@@ -0,0 +1,49 @@
+package com.sessionflow.durability;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * H2 資料庫的耐久性模式
+ */
+public enum DurabilityMode {
+
+    /**
+     * 每次寫入交易提交後強制同步到磁碟，回應請求時資料已落盤
+     */
+    STRICT,
+
+    /**
+     * H2 延遲寫入並定期同步，斷電時最多遺失一個時間窗內提交的資料
+     */
+    BATCHED,
+
+    /**
+     * 資料只在記憶體中，定期寫入壓縮快照；程序異常結束時遺失上次快照後的資料
+     */
+    MEMORY;
+
+    /**
+     * 設定值與命令列參數使用的名稱
+     */
+    @JsonValue
+    public String value() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @throws IllegalArgumentException 名稱不是任何模式時，訊息列出可用的名稱
+     */
+    public static DurabilityMode parse(String value) {
+        for (DurabilityMode mode : values()) {
+            if (mode.value().equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown durability mode '" + value + "', expected one of "
+                + Arrays.stream(values()).map(DurabilityMode::value).collect(Collectors.joining(", ")));
+    }
+}
@@ -0,0 +1,150 @@
+package com.sessionflow.durability;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.core.env.Environment;
+import org.springframework.lang.Nullable;
+
+import com.sessionflow.monitoring.health.DiskSpaceProbe;
+
+/**
+ * 耐久性設定
+ *
+ * @param mode             耐久性模式
+ * @param window           {@link DurabilityMode#BATCHED} 斷電時最多遺失的時間；H2 延遲寫入與定期同步各佔一半
+ * @param snapshotInterval {@link DurabilityMode#MEMORY} 的快照間隔
+ * @param autoServer       是否開啟 H2 {@code AUTO_SERVER}，讓其他程序（例如外部 SQL 工具）連線到同一個資料庫檔案
+ * @param snapshotFile     {@link DurabilityMode#MEMORY} 的快照檔
+ */
+public record DurabilitySettings(DurabilityMode mode, Duration window, Duration snapshotInterval, boolean autoServer,
+                                 Path snapshotFile) {
+
+    public static final String PREFIX = "sessionflow.durability.";
+    public static final String MODE_PROPERTY = PREFIX + "mode";
+    public static final String SNAPSHOT_SUFFIX = ".snapshot.sql.gz";
+
+    private static final String H2_PREFIX = "jdbc:h2:";
+    private static final String H2_FILE_SUFFIX = ".mv.db";
+    private static final Set<String> MANAGED_SETTINGS = Set.of("WRITE_DELAY", "DB_CLOSE_DELAY", "DB_CLOSE_ON_EXIT");
+    private static final Set<String> SERVER_SETTINGS = Set.of("AUTO_SERVER", "AUTO_SERVER_PORT");
+
+    public static DurabilitySettings from(Environment environment) {
+        DurabilityMode mode = DurabilityMode.parse(environment.getProperty(MODE_PROPERTY, "batched"));
+        String snapshotFile = environment.getProperty(PREFIX + "memory.snapshot-file");
+        return new DurabilitySettings(mode,
+                Duration.ofMillis(environment.getProperty(PREFIX + "batched.window-ms", Long.class, 1_000L)),
+                Duration.ofSeconds(environment.getProperty(PREFIX + "memory.snapshot-interval-seconds", Long.class, 60L)),
+                environment.getProperty(PREFIX + "auto-server", Boolean.class, false),
+                snapshotFile != null && !snapshotFile.isBlank() ? Path.of(snapshotFile)
+                        : Path.of(databaseName(environment.getProperty("spring.datasource.url", "")) + SNAPSHOT_SUFFIX));
+    }
+
+    /**
+     * 斷電或程序異常結束時最多遺失的已提交資料時間
+     */
+    public Duration lossWindow() {
+        return switch (mode) {
+            case STRICT -> Duration.ZERO;
+            case BATCHED -> window;
+            case MEMORY -> snapshotInterval;
+        };
+    }
+
+    /**
+     * H2 延遲寫入（{@code WRITE_DELAY}）與定期同步的間隔，兩者相加為 {@link #window}
+     */
+    public Duration syncInterval() {
+        return window.dividedBy(2);
+    }
+
+    /**
+     * 依模式調整 H2 檔案資料庫的連線字串
+     *
+     * 檔案模式設定 {@code WRITE_DELAY}，{@code AUTO_SERVER} 只在 {@link #autoServer} 或原本的連線字串指定時保留；
+     * 記憶體模式改為同名的記憶體資料庫，並由應用程式負責關閉（{@code DB_CLOSE_ON_EXIT=FALSE}），確保關閉時能寫入最後的快照。
+     * 非嵌入式檔案資料庫（記憶體、TCP）的連線字串不變。
+     */
+    public String datasourceUrl(String url) {
+        if (!isEmbeddedFile(url)) {
+            return url;
+        }
+        List<String> settings = settings(url, mode != DurabilityMode.MEMORY);
+        String base = url.split(";", 2)[0];
+        switch (mode) {
+            case STRICT -> settings.add("WRITE_DELAY=0");
+            case BATCHED -> settings.add("WRITE_DELAY=" + syncInterval().toMillis());
+            case MEMORY -> {
+                base = H2_PREFIX + "mem:" + Path.of(databaseName(url)).getFileName();
+                settings.add("DB_CLOSE_DELAY=-1");
+                settings.add("DB_CLOSE_ON_EXIT=FALSE");
+            }
+        }
+        if (autoServer && mode != DurabilityMode.MEMORY
+                && settings.stream().noneMatch(setting -> SERVER_SETTINGS.contains(key(setting)))) {
+            settings.add("AUTO_SERVER=TRUE");
+        }
+        return base + ";" + String.join(";", settings);
+    }
+
+    /**
+     * 記憶體模式第一次啟動時匯入的檔案資料庫連線字串，只開啟已存在的檔案；原本不是嵌入式檔案資料庫時為 null
+     */
+    @Nullable
+    public String importUrl(String url) {
+        if (!isEmbeddedFile(url)) {
+            return null;
+        }
+        List<String> settings = settings(url, false);
+        settings.add("IFEXISTS=TRUE");
+        return url.split(";", 2)[0] + ";" + String.join(";", settings);
+    }
+
+    /**
+     * 連線字串中由使用者指定、不受模式管理的設定
+     */
+    private static List<String> settings(String url, boolean keepServer) {
+        String[] parts = url.split(";");
+        List<String> settings = new ArrayList<>();
+        for (String setting : Arrays.asList(parts).subList(1, parts.length)) {
+            String key = key(setting);
+            if (!setting.isBlank() && !MANAGED_SETTINGS.contains(key) && (keepServer || !SERVER_SETTINGS.contains(key))) {
+                settings.add(setting);
+            }
+        }
+        return settings;
+    }
+
+    private static String key(String setting) {
+        return setting.split("=", 2)[0].trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 是否為嵌入式 H2 檔案資料庫（不是記憶體、TCP 或唯讀壓縮檔資料庫）
+     */
+    public static boolean isEmbeddedFile(String url) {
+        if (!url.startsWith(H2_PREFIX)) {
+            return false;
+        }
+        String location = url.substring(H2_PREFIX.length());
+        return !location.startsWith("mem:") && !location.startsWith("tcp:") && !location.startsWith("ssl:")
+                && !location.startsWith("zip:");
+    }
+
+    /**
+     * 資料庫檔案去掉 {@code .mv.db} 的路徑，例如 {@code ./sessionflow_db}；非檔案資料庫時為工作目錄下的 {@code sessionflow}
+     */
+    private static String databaseName(String url) {
+        Path databaseFile = DiskSpaceProbe.databaseFile(url);
+        String name = databaseFile.getFileName() != null ? databaseFile.getFileName().toString() : "";
+        if (!name.endsWith(H2_FILE_SUFFIX)) {
+            return "sessionflow";
+        }
+        return databaseFile.resolveSibling(name.substring(0, name.length() - H2_FILE_SUFFIX.length())).toString();
+    }
+}
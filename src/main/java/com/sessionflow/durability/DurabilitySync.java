@@ -0,0 +1,153 @@
+package com.sessionflow.durability;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.lang.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+/**
+ * 將已提交的寫入同步到磁碟
+ *
+ * 以 datasource-proxy 記錄執行過寫入陳述式的連線。{@link DurabilityMode#STRICT} 時，這些連線提交後立即在同一條連線上
+ * 執行 {@code CHECKPOINT SYNC}（H2 寫出並 fsync），提交的呼叫在同步完成後才返回；
+ * {@link DurabilityMode#BATCHED} 時由 {@link DurabilityManager} 定期呼叫 {@link #syncIfDirty}。
+ * 同步陳述式直接在底層連線執行，不經過代理，也不計入請求的 SQL 預算。
+ */
+@Slf4j
+public class DurabilitySync implements QueryExecutionListener {
+
+    static final String SYNC_STATEMENT = "CHECKPOINT SYNC";
+
+    private final boolean syncOnCommit;
+    private final Set<String> writingConnections = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean unsynced = new AtomicBoolean();
+    private final LongAdder syncs = new LongAdder();
+    private volatile Instant lastSyncAt;
+
+    public DurabilitySync(DurabilityMode mode) {
+        this.syncOnCommit = mode == DurabilityMode.STRICT;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            if (isWrite(queryInfo.getQuery())) {
+                writingConnections.add(execInfo.getConnectionId());
+                unsynced.set(true);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 攔截連線的 {@code commit}、{@code rollback} 與 {@code close}，註冊於 DataSource 代理
+     */
+    public MethodExecutionListener commitListener() {
+        return new MethodExecutionListener() {
+            @Override
+            public void beforeMethod(MethodExecutionContext executionContext) {
+            }
+
+            @Override
+            public void afterMethod(MethodExecutionContext executionContext) {
+                if (!(executionContext.getTarget() instanceof Connection connection)) {
+                    return;
+                }
+                ConnectionInfo connectionInfo = executionContext.getConnectionInfo();
+                String method = executionContext.getMethod().getName();
+                boolean wrote = connectionInfo != null && switch (method) {
+                    case "commit", "close" -> writingConnections.remove(connectionInfo.getConnectionId());
+                    // rollback(Savepoint) 只回復部分寫入，交易仍可能提交
+                    case "rollback" -> isEmpty(executionContext.getMethodArgs())
+                            && writingConnections.remove(connectionInfo.getConnectionId());
+                    default -> false;
+                };
+                if (wrote && syncOnCommit && method.equals("commit") && executionContext.getThrown() == null) {
+                    try {
+                        sync(connection);
+                    } catch (SQLException e) {
+                        // 交易已提交，同步失敗只能記錄；下一次同步會一併寫出
+                        unsynced.set(true);
+                        log.warn("Could not sync committed transaction to disk: {}", e.toString());
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * 上次同步後有寫入時同步一次
+     *
+     * @return 是否執行了同步
+     */
+    public boolean syncIfDirty(DataSource dataSource) throws SQLException {
+        if (!unsynced.getAndSet(false)) {
+            return false;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            sync(connection);
+            return true;
+        } catch (SQLException | RuntimeException e) {
+            unsynced.set(true);
+            throw e;
+        }
+    }
+
+    public long getSyncCount() {
+        return syncs.sum();
+    }
+
+    @Nullable
+    public Instant getLastSyncAt() {
+        return lastSyncAt;
+    }
+
+    private static boolean isEmpty(@Nullable Object[] args) {
+        return args == null || args.length == 0;
+    }
+
+    private void sync(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(SYNC_STATEMENT);
+        }
+        syncs.increment();
+        lastSyncAt = Instant.now();
+    }
+
+    /**
+     * 查詢以外的陳述式（含 DDL）視為寫入；本類別、快照與線上備份自己執行的陳述式除外
+     */
+    static boolean isWrite(String query) {
+        if (QueryUtils.getQueryType(query) == QueryType.SELECT) {
+            return false;
+        }
+        String statement = query.strip().toUpperCase(Locale.ROOT);
+        return !statement.startsWith("CHECKPOINT") && !statement.startsWith("SCRIPT")
+                && !statement.startsWith("SET ") && !statement.startsWith("SHOW ")
+                && !statement.startsWith("BACKUP");
+    }
+}
@@ -0,0 +1,122 @@
+package com.sessionflow.durability;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.lang.Nullable;
+
+import com.sessionflow.monitoring.health.DiskSpaceProbe;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 記憶體資料庫的快照檔
+ *
+ * 以 H2 {@code SCRIPT ... COMPRESSION GZIP} 將整個資料庫（結構、資料與識別欄位的下一個值）寫成壓縮的 SQL 腳本，
+ * 先寫入暫存檔並 fsync，再以原子移動取代舊快照，寫入中途失敗時舊快照仍完整。啟動時以 {@code RUNSCRIPT} 還原。
+ */
+@Slf4j
+public class SnapshotStore {
+
+    private final Path file;
+
+    public SnapshotStore(Path file) {
+        this.file = file.toAbsolutePath().normalize();
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * 寫入目前資料庫的快照
+     */
+    public void save(DataSource dataSource) throws SQLException, IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.deleteIfExists(temp);
+        try (Connection connection = dataSource.getConnection()) {
+            script(connection, temp);
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 資料庫仍為空時載入快照；沒有快照但 {@code importUrl} 指向的檔案資料庫存在時，匯入該資料庫（第一次切換到記憶體模式）
+     *
+     * @param importUrl 檔案資料庫的連線字串，null 時不匯入
+     * @return 是否載入了資料
+     */
+    public boolean load(DataSource dataSource, @Nullable String importUrl, String username, String password)
+            throws SQLException, IOException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (hasTables(connection)) {
+                return false;
+            }
+            if (Files.isRegularFile(file)) {
+                runScript(connection, file);
+                log.info("Loaded in-memory database from snapshot {}", file);
+                return true;
+            }
+            if (importUrl == null || !Files.isRegularFile(DiskSpaceProbe.databaseFile(importUrl))) {
+                return false;
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".import.tmp");
+            try {
+                Files.createDirectories(temp.getParent());
+                Files.deleteIfExists(temp);
+                try (Connection source = DriverManager.getConnection(importUrl, username, password)) {
+                    script(source, temp);
+                }
+                runScript(connection, temp);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.info("Imported {} into the in-memory database", DiskSpaceProbe.databaseFile(importUrl));
+            return true;
+        }
+    }
+
+    private static boolean hasTables(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC'")) {
+            return resultSet.next() && resultSet.getLong(1) > 0;
+        }
+    }
+
+    private static void script(Connection connection, Path target) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SCRIPT TO " + literal(target) + " COMPRESSION GZIP");
+        }
+    }
+
+    private static void runScript(Connection connection, Path source) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("RUNSCRIPT FROM " + literal(source) + " COMPRESSION GZIP");
+        }
+    }
+
+    private static String literal(Path path) {
+        return "'" + path.toAbsolutePath().toString().replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,34 @@
+package com.sessionflow.event.listener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sessionflow.event.ResourceChangedEvent;
+
+/**
+ * 資料變更版本追蹤
+ *
+ * 每次資源變更提交後遞增版本號，供快照類 API 判斷快取是否仍然有效。
+ * 初始值取啟動時間（毫秒），確保重新啟動後版本號仍大於先前發出的版本。
+ */
+@Component
+public class ChangeVersionTracker {
+
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * 目前的資料版本
+     *
+     * @return 版本號
+     */
+    public long currentVersion() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public <T> void onResourceChanged(ResourceChangedEvent<T> event) {
+        version.incrementAndGet();
+    }
+}
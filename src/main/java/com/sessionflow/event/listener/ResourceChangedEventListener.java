@@ -1,12 +1,14 @@
 package com.sessionflow.event.listener;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.sessionflow.dto.ResourceChangedNotification;
 import com.sessionflow.event.ResourceChangedEvent;
 import com.sessionflow.mapper.ResourceChangedNotificationMapper;
+import com.sessionflow.monitoring.jfr.NotificationDispatchEvent;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import lombok.RequiredArgsConstructor;
@@ -17,16 +19,35 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ResourceChangedEventListener {
     
+    private static final String DESTINATION = "/topic/notification";
+
     private final ResourceChangedNotificationMapper resourceChangedNotificationMapper;
 
     @Autowired
     private SimpMessagingTemplate messagingTemplate;
     
-    @EventListener
+    // 交易提交後才通知，回復的變更不會送出；合併提交時同一批的通知在該批提交後一起送出
+    @TransactionalEventListener(fallbackExecution = true)
     public <T> void onResourceChanged(ResourceChangedEvent<T> event) {
+        NotificationDispatchEvent dispatchEvent = new NotificationDispatchEvent();
+        dispatchEvent.begin();
+
         // 將 event 內容轉成 WebSocket notification DTO
         // 通知對應用戶端
         ResourceChangedNotification<T> notification = resourceChangedNotificationMapper.toNotification(event);
-        messagingTemplate.convertAndSend("/topic/notification", notification);
+        messagingTemplate.convertAndSend(DESTINATION, notification);
+        dispatchEvent.end();
+
+        if (dispatchEvent.shouldCommit()) {
+            dispatchEvent.notificationType = String.valueOf(event.notificationType());
+            dispatchEvent.entityId = event.id() != null ? event.id() : 0;
+            dispatchEvent.destination = DESTINATION;
+            dispatchEvent.affectedGroups = event.affected() != null ? event.affected().size() : 0;
+            // 只在錄製中才再轉換一次以取得大小，與送出的內容相同
+            Message<?> message = messagingTemplate.getMessageConverter().toMessage(notification, null);
+            dispatchEvent.payloadBytes = message != null && message.getPayload() instanceof byte[] payload
+                    ? payload.length : 0;
+            dispatchEvent.commit();
+        }
     }
 }
@@ -32,6 +32,7 @@ public enum ErrorDefinition {
     UNSUPPORTED_MEDIA_TYPE("UNSUPPORTED_MEDIA_TYPE", "不支援的媒體類型"),
     
     // 系統錯誤
+    SERVICE_BUSY("SERVICE_BUSY", "伺服器忙碌中，請稍後再試"),
     INTERNAL_SERVER_ERROR("INTERNAL_SERVER_ERROR", "伺服器內部錯誤");
     
     private final String code;
@@ -96,6 +97,7 @@ public enum ErrorDefinition {
             case TYPE_MISMATCH_ERROR -> "Invalid value 'abc' for parameter 'id'. Expected type: Long";
             case MISSING_PARAMETER -> "Required parameter 'title' is missing";
             case UNSUPPORTED_MEDIA_TYPE -> "Content type 'text/plain' not supported";
+            case SERVICE_BUSY -> "More than 10 concurrent API requests; waited 10000 ms";
             case INTERNAL_SERVER_ERROR -> "An unexpected error occurred";
             case RESOURCE_NOT_FOUND -> "The requested resource at /non-existent/path could not be found";
         };
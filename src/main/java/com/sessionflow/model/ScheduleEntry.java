@@ -61,6 +61,13 @@ public class ScheduleEntry {
         this.endAt = endAt;
     }
     
+    // 同時更新開始與結束時間，只驗證新的區間，避免逐一設定時與舊的時間比較
+    public void setTimeRange(LocalDateTime startAt, LocalDateTime endAt) {
+        validateTimeRange(startAt, endAt);
+        this.startAt = startAt;
+        this.endAt = endAt;
+    }
+    
     // Lifecycle methods
     @PrePersist
     @PreUpdate
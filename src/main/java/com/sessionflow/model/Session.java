@@ -8,6 +8,7 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "sessions")
@@ -49,7 +50,7 @@ public class Session {
     // Custom constructor
     public Session(String title) {
         this.title = title;
-        this.startAt = LocalDateTime.now(); // 業務邏輯：session 建立時即開始
+        this.startAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS); // 業務邏輯：session 建立時即開始
     }
     
     // Lifecycle methods
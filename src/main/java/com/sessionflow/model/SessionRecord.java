@@ -9,6 +9,7 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Table(name = "session_records")
@@ -62,7 +63,7 @@ public class SessionRecord {
     public SessionRecord(String title, LocalDateTime startAt) {
         this.title = title;
         this.startAt = startAt;
-        this.endAt = LocalDateTime.now(); // Business logic: record ends at current time
+        this.endAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS); // Business logic: record ends at current time
     }
     
     // Lifecycle methods
@@ -8,6 +8,7 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -78,7 +79,8 @@ public class Task {
     // Business methods
     public void markAsComplete() {
         this.status = TaskStatus.COMPLETE;
-        this.completedAt = LocalDateTime.now();
+        // 與資料庫欄位相同的精度（微秒），回應的時間與之後查詢到的一致
+        this.completedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
     
     public void markAsPending() {
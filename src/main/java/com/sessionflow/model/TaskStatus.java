@@ -13,6 +13,21 @@ public enum TaskStatus {
     public String getValue() {
         return value;
     }
+
+    /**
+     * 依名稱取得狀態，不分大小寫
+     *
+     * @throws IllegalArgumentException 名稱不是任何狀態時
+     */
+    public static TaskStatus parse(String status) {
+        for (TaskStatus taskStatus : values()) {
+            if (taskStatus.value.equalsIgnoreCase(status)) {
+                return taskStatus;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Invalid task status: " + status + ". Valid values are: PENDING, COMPLETE");
+    }
     
     @Override
     public String toString() {
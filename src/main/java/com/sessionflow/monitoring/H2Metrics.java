@@ -0,0 +1,133 @@
+package com.sessionflow.monitoring;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+import javax.sql.DataSource;
+
+import com.sessionflow.compaction.StoreCompactor;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * H2 MVStore 指標
+ *
+ * 讀取 {@code INFORMATION_SCHEMA.SETTINGS} 中的 {@code info.*} 項目：檔案大小、填充率、頁快取與檔案讀寫量。
+ * {@code h2.file.live.ratio} 是檔案中有效資料的比例，由 {@link StoreCompactor#liveRatio(Connection)} 計算，
+ * 偏低時表示檔案有大量碎片，由 {@code StoreCompactor} 壓縮；被取代的頁面要到 H2 的保留時間之後才從統計中扣除，大量刪除後會延遲下降。
+ * 一次查詢取得全部項目並快取 {@link #MAX_AGE_MILLIS}，同一次擷取中的多個指標只查詢資料庫一次。
+ */
+@Slf4j
+public class H2Metrics implements MeterBinder {
+
+    static final long MAX_AGE_MILLIS = 1000;
+    private static final String QUERY =
+            "SELECT SETTING_NAME, SETTING_VALUE FROM INFORMATION_SCHEMA.SETTINGS WHERE SETTING_NAME LIKE 'info.%'";
+    private static final long MEGABYTE = 1024 * 1024;
+    /**
+     * 放在快照中的有效資料比例，不是 H2 的項目
+     */
+    static final String LIVE_RATIO = "sessionflow.LIVE_RATIO";
+
+    private final DataSource dataSource;
+    private Map<String, String> snapshot = Map.of();
+    private long snapshotTakenAt;
+
+    public H2Metrics(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        gauge(registry, "h2.file.size", "Size of the database file", BaseUnits.BYTES,
+                info -> number(info, "info.FILE_SIZE"));
+        gauge(registry, "h2.file.fill.rate", "Share of the file occupied by live pages", "percent",
+                info -> number(info, "info.FILL_RATE"));
+        gauge(registry, "h2.chunks.fill.rate", "Share of live data in allocated chunks", "percent",
+                info -> number(info, "info.CHUNKS_FILL_RATE"));
+        gauge(registry, "h2.file.live.ratio", "Share of the file occupied by live data", "percent",
+                H2Metrics::liveRatio);
+        gauge(registry, "h2.pages.live", "Live pages in the store", null,
+                info -> number(info, "info.PAGE_COUNT_LIVE"));
+        gauge(registry, "h2.cache.size", "Page cache in use", BaseUnits.BYTES,
+                info -> number(info, "info.CACHE_SIZE") * MEGABYTE);
+        gauge(registry, "h2.cache.max", "Page cache limit", BaseUnits.BYTES,
+                info -> number(info, "info.CACHE_MAX_SIZE") * MEGABYTE);
+        gauge(registry, "h2.cache.hit.ratio", "Page cache hit ratio", "percent",
+                info -> number(info, "info.CACHE_HIT_RATIO"));
+        counter(registry, "h2.file.reads", "Read operations on the database file", null, "info.FILE_READ");
+        counter(registry, "h2.file.read", "Bytes read from the database file", BaseUnits.BYTES, "info.FILE_READ_BYTES");
+        counter(registry, "h2.file.writes", "Write operations on the database file", null, "info.FILE_WRITE");
+        counter(registry, "h2.file.written", "Bytes written to the database file", BaseUnits.BYTES,
+                "info.FILE_WRITE_BYTES");
+    }
+
+    private void gauge(MeterRegistry registry, String name, String description, String unit,
+                       ToDoubleFunction<Map<String, String>> value) {
+        Gauge.builder(name, this, metrics -> value.applyAsDouble(metrics.info()))
+                .description(description)
+                .baseUnit(unit)
+                .strongReference(true)
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String name, String description, String unit, String setting) {
+        FunctionCounter.builder(name, this, metrics -> number(metrics.info(), setting))
+                .description(description)
+                .baseUnit(unit)
+                .register(registry);
+    }
+
+    /**
+     * 最近一次查詢的 {@code info.*} 項目，超過 {@link #MAX_AGE_MILLIS} 時重新查詢；資料庫無法使用時回傳空集合
+     */
+    synchronized Map<String, String> info() {
+        long now = System.currentTimeMillis();
+        if (now - snapshotTakenAt < MAX_AGE_MILLIS) {
+            return snapshot;
+        }
+        Map<String, String> info = new HashMap<>();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(QUERY)) {
+            while (resultSet.next()) {
+                info.put(resultSet.getString(1), resultSet.getString(2));
+            }
+            StoreCompactor.liveRatio(connection).ifPresent(ratio -> info.put(LIVE_RATIO, Integer.toString(ratio)));
+        } catch (SQLException e) {
+            log.debug("Could not read H2 store information", e);
+        }
+        snapshot = info;
+        snapshotTakenAt = now;
+        return snapshot;
+    }
+
+    /**
+     * 檔案中有效資料的比例；記憶體資料庫或遠端連線時為 NaN
+     */
+    static double liveRatio(Map<String, String> info) {
+        return number(info, LIVE_RATIO);
+    }
+
+    static double number(Map<String, String> info, String setting) {
+        String value = info.get(setting);
+        if (value == null) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value.replace("%", "").trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.sessionflow.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.lang.Nullable;
+
+/**
+ * 記錄目前執行緒正在執行的 Repository 方法，例如 {@code SessionRecordRepository.findByDateRange}
+ *
+ * 加入每個 Spring Data Repository 代理，讓 JDBC 層的監聽器知道陳述式由哪個 Repository 方法產生。
+ * 巢狀呼叫時記錄最內層的方法，返回後恢復外層。
+ */
+public class RepositoryMethodTracker implements MethodInterceptor {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private final String repositoryName;
+
+    public RepositoryMethodTracker(Class<?> repositoryInterface) {
+        this.repositoryName = repositoryInterface.getSimpleName();
+    }
+
+    /**
+     * 目前執行緒正在執行的 Repository 方法，不在 Repository 呼叫中時為 null
+     */
+    @Nullable
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String previous = CURRENT.get();
+        CURRENT.set(repositoryName + "." + invocation.getMethod().getName());
+        try {
+            return invocation.proceed();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.sessionflow.monitoring;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * 將 Repository 方法呼叫記錄為請求追蹤中的區間，例如 {@code TaskRepository.findById}
+ *
+ * 加入每個 Spring Data Repository 代理；繼承自 {@code JpaRepository} 的方法也會記錄。
+ */
+public class RepositoryTracingInterceptor implements MethodInterceptor {
+
+    private final String repositoryName;
+
+    public RepositoryTracingInterceptor(Class<?> repositoryInterface) {
+        this.repositoryName = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Span span = RequestTracer.enter("repository", repositoryName + "." + invocation.getMethod().getName());
+        if (span == null) {
+            return invocation.proceed();
+        }
+        Throwable failure = null;
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            RequestTracer.exit(span, failure);
+        }
+    }
+}
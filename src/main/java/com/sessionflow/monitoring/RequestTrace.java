@@ -0,0 +1,79 @@
+package com.sessionflow.monitoring;
+
+import java.time.Instant;
+
+/**
+ * 一個請求的追蹤：以根區間為起點、依呼叫層級巢狀的區間樹
+ *
+ * 每個追蹤最多記錄 {@link #MAX_SPANS} 個區間，超過的只計數（例如迴圈中大量的 Repository 呼叫），
+ * 讓單一請求的記憶體用量有上限。
+ */
+public final class RequestTrace {
+
+    static final int MAX_SPANS = 256;
+
+    private final Instant startedAt = Instant.now();
+    private final Span root;
+    private Span current;
+    private int spanCount;
+    private int droppedSpans;
+    private int status;
+
+    RequestTrace(String name) {
+        this.root = new Span(null, "http", name, System.nanoTime());
+        this.current = root;
+    }
+
+    Span enter(String layer, String name) {
+        if (spanCount >= MAX_SPANS) {
+            droppedSpans++;
+            return null;
+        }
+        Span span = new Span(current, layer, name, System.nanoTime());
+        current.addChild(span);
+        current = span;
+        spanCount++;
+        return span;
+    }
+
+    void exit(Span span, Throwable failure) {
+        span.finish(System.nanoTime(), failure);
+        current = span.parent();
+    }
+
+    void finish(int status, Throwable failure) {
+        this.status = status;
+        root.finish(System.nanoTime(), failure);
+    }
+
+    void statementsExecuted(int count) {
+        current.statementsExecuted(count);
+    }
+
+    public String name() {
+        return root.name();
+    }
+
+    public Instant startedAt() {
+        return startedAt;
+    }
+
+    public long durationNanos() {
+        return root.durationNanos();
+    }
+
+    /**
+     * HTTP 回應狀態碼
+     */
+    public int status() {
+        return status;
+    }
+
+    public Span root() {
+        return root;
+    }
+
+    public int droppedSpans() {
+        return droppedSpans;
+    }
+}
@@ -0,0 +1,69 @@
+package com.sessionflow.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * 請求追蹤端點 {@code /actuator/traces}
+ *
+ * GET 列出最近請求中最慢的幾筆及其區間樹（{@code ?limit=} 指定筆數，預設 10），DELETE 清除緩衝區。
+ * 區間的開始時間為相對於請求開始的毫秒數。
+ */
+@Endpoint(id = "traces")
+public class RequestTraceEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final RequestTracer tracer;
+
+    public RequestTraceEndpoint(RequestTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    public record TraceReport(int capacity, long completedCount, List<TraceView> slowest) {
+    }
+
+    public record TraceView(String name, Instant startedAt, double durationMillis, int status, String error,
+                            int droppedSpans, List<SpanView> spans) {
+    }
+
+    public record SpanView(String layer, String name, double offsetMillis, double durationMillis, int sqlStatements,
+                           String error, List<SpanView> children) {
+    }
+
+    @ReadOperation
+    public TraceReport traces(@Nullable Integer limit) {
+        List<TraceView> slowest = tracer.slowest(limit != null ? limit : DEFAULT_LIMIT).stream()
+                .map(RequestTraceEndpoint::view)
+                .toList();
+        return new TraceReport(tracer.getCapacity(), tracer.completedCount(), slowest);
+    }
+
+    @DeleteOperation
+    public void clear() {
+        tracer.clear();
+    }
+
+    private static TraceView view(RequestTrace trace) {
+        Span root = trace.root();
+        return new TraceView(trace.name(), trace.startedAt(), millis(trace.durationNanos()), trace.status(),
+                root.error(), trace.droppedSpans(), views(root.children(), root.startNanos()));
+    }
+
+    private static List<SpanView> views(List<Span> spans, long requestStartNanos) {
+        return spans.stream()
+                .map(span -> new SpanView(span.layer(), span.name(), millis(span.startNanos() - requestStartNanos),
+                        millis(span.durationNanos()), span.sqlStatements(), span.error(),
+                        views(span.children(), requestStartNanos)))
+                .toList();
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
@@ -0,0 +1,130 @@
+package com.sessionflow.monitoring;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.lang.Nullable;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * 請求追蹤器
+ *
+ * 請求層由 {@code RequestTracingInterceptor} 開始與結束追蹤，各層（Controller、Service、Repository、Mapper、
+ * 事件監聽器）以 {@link #enter(String, String)} / {@link #exit(Span, Throwable)} 在目前執行緒的追蹤中加入區間；
+ * 沒有進行中的追蹤時不做任何事。掛在 DataSource 代理上，將 SQL 陳述式數計入當下的區間。
+ * <p>
+ * 結束的追蹤寫入固定容量的環狀緩衝區：以遞增序號取得位置後直接覆寫最舊的一筆，寫入端不需加鎖也不會等待，
+ * 讀取端取快照後再依執行時間排序，因此可常駐開啟。
+ */
+public class RequestTracer implements QueryExecutionListener {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final AtomicReferenceArray<RequestTrace> slots;
+    private final int mask;
+    private final AtomicLong completed = new AtomicLong();
+
+    /**
+     * @param capacity 保留的最近請求數，進位至 2 的次方
+     */
+    public RequestTracer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Trace capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 在目前執行緒開始追蹤；已有進行中的追蹤時回傳 null
+     */
+    @Nullable
+    public RequestTrace begin(String name) {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        RequestTrace trace = new RequestTrace(name);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /**
+     * 結束追蹤並放入環狀緩衝區
+     */
+    public void end(RequestTrace trace, int status, @Nullable Throwable failure) {
+        if (CURRENT.get() == trace) {
+            CURRENT.remove();
+        }
+        trace.finish(status, failure);
+        slots.set((int) (completed.getAndIncrement() & mask), trace);
+    }
+
+    /**
+     * 在目前的追蹤中開始一個區間；沒有進行中的追蹤或已達區間上限時回傳 null
+     */
+    @Nullable
+    public static Span enter(String layer, String name) {
+        RequestTrace trace = CURRENT.get();
+        return trace != null ? trace.enter(layer, name) : null;
+    }
+
+    public static void exit(@Nullable Span span, @Nullable Throwable failure) {
+        RequestTrace trace = CURRENT.get();
+        if (span != null && trace != null) {
+            trace.exit(span, failure);
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestTrace trace = CURRENT.get();
+        if (trace != null) {
+            trace.statementsExecuted(queryInfoList.size());
+        }
+    }
+
+    /**
+     * 緩衝區中最慢的追蹤，由慢到快排列
+     */
+    public List<RequestTrace> slowest(int limit) {
+        List<RequestTrace> traces = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            RequestTrace trace = slots.get(i);
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        return traces.stream()
+                .sorted(Comparator.comparingLong(RequestTrace::durationNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 啟動以來完成的追蹤數，包含已被覆寫的
+     */
+    public long completedCount() {
+        return completed.get();
+    }
+
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+}
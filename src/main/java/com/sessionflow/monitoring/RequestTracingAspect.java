@@ -0,0 +1,58 @@
+package com.sessionflow.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+
+/**
+ * 將 Controller、Service、Mapper 與事件監聽器的方法呼叫記錄為請求追蹤中的區間
+ *
+ * 不在請求追蹤中（例如啟動、排程或 WebSocket 執行緒）時直接執行原方法。
+ * 順序在最外層，因此 Service 區間包含交易提交，也包含其他切面的時間。
+ */
+@Aspect
+public class RequestTracingAspect implements Ordered {
+
+    @Around("execution(public * com.sessionflow.controller..*(..))")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "controller");
+    }
+
+    @Around("execution(public * com.sessionflow.service.impl..*(..))")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "service");
+    }
+
+    @Around("execution(public * com.sessionflow.mapper.impl..*(..))")
+    public Object traceMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "mapper");
+    }
+
+    @Around("execution(public * com.sessionflow.event.listener..*(..))")
+    public Object traceEventListener(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "event");
+    }
+
+    private static Object trace(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        Span span = RequestTracer.enter(layer, joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName());
+        if (span == null) {
+            return joinPoint.proceed();
+        }
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            RequestTracer.exit(span, failure);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sessionflow.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 一筆慢查詢紀錄
+ *
+ * @param executedAt       執行完成的時間
+ * @param elapsedMillis    執行時間（毫秒）
+ * @param sql              陳述式
+ * @param parameters       綁定參數，依參數位置排列；批次執行時為第一組
+ * @param batchSize        批次筆數，非批次時為 0
+ * @param repositoryMethod 產生此陳述式的 Repository 方法，非經由 Repository 時為 null
+ * @param thread           執行緒名稱
+ * @param plan             H2 {@code EXPLAIN} 輸出，無法取得時為 null
+ */
+public record SlowQuery(Instant executedAt, long elapsedMillis, String sql, List<Object> parameters, int batchSize,
+                        String repositoryMethod, String thread, String plan) {
+}
@@ -0,0 +1,36 @@
+package com.sessionflow.monitoring;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * 慢查詢端點 {@code /actuator/slowqueries}
+ *
+ * GET 列出目前保存的最慢陳述式（含綁定參數、Repository 方法與執行計畫），DELETE 清除紀錄。
+ */
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryRecorder recorder;
+
+    public SlowQueryEndpoint(SlowQueryRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    public record SlowQueryReport(long thresholdMillis, int capacity, long recordedCount, List<SlowQuery> slowest) {
+    }
+
+    @ReadOperation
+    public SlowQueryReport slowQueries() {
+        return new SlowQueryReport(recorder.getThresholdMillis(), recorder.getCapacity(), recorder.recordedCount(),
+                recorder.slowest());
+    }
+
+    @DeleteOperation
+    public void clear() {
+        recorder.clear();
+    }
+}
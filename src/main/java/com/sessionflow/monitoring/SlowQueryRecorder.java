@@ -0,0 +1,186 @@
+package com.sessionflow.monitoring;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 慢查詢紀錄器
+ *
+ * 執行時間達門檻的陳述式連同綁定參數、產生它的 Repository 方法與 H2 {@code EXPLAIN} 輸出一起保存，
+ * 固定容量，只保留最慢的 N 筆：已滿時新紀錄取代其中最快的一筆，比它們都快的則只計數不保存。
+ * 執行計畫只在紀錄會被保存時才查詢，並使用原本的連線，因此在同一交易中看得到相同的資料。
+ */
+@Slf4j
+public class SlowQueryRecorder implements QueryExecutionListener {
+
+    private static final Pattern EXPLAINABLE = Pattern.compile("(?i)\\s*(select|with|insert|update|delete|merge)\\b");
+    private static final int MAX_PARAMETER_LENGTH = 200;
+
+    private final long thresholdMillis;
+    private final boolean explain;
+    private final SlowQuery[] slots;
+    private final AtomicLong recorded = new AtomicLong();
+    private int size;
+
+    public SlowQueryRecorder(long thresholdMillis, int capacity, boolean explain) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Slow query capacity must be positive: " + capacity);
+        }
+        this.thresholdMillis = thresholdMillis;
+        this.explain = explain;
+        this.slots = new SlowQuery[capacity];
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        if (elapsed < thresholdMillis) {
+            return;
+        }
+        recorded.incrementAndGet();
+        String repositoryMethod = RepositoryMethodTracker.current();
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<Object> parameters = parametersOf(queryInfo);
+            log.warn("Slow query ({} ms) from {}: {} {}", elapsed,
+                    repositoryMethod != null ? repositoryMethod : "unknown caller", queryInfo.getQuery(), parameters);
+            if (!admits(elapsed)) {
+                continue;
+            }
+            String plan = explain ? explain(execInfo.getStatement(), queryInfo.getQuery(), parameters) : null;
+            add(new SlowQuery(Instant.now(), elapsed, queryInfo.getQuery(), parameters,
+                    execInfo.isBatch() ? execInfo.getBatchSize() : 0, repositoryMethod,
+                    Thread.currentThread().getName(), plan));
+        }
+    }
+
+    /**
+     * 目前保存的慢查詢，由慢到快排列
+     */
+    public synchronized List<SlowQuery> slowest() {
+        return Arrays.stream(slots, 0, size)
+                .sorted(Comparator.comparingLong(SlowQuery::elapsedMillis).reversed())
+                .toList();
+    }
+
+    /**
+     * 啟動或上次清除以來達門檻的陳述式總數，包含未保存的
+     */
+    public long recordedCount() {
+        return recorded.get();
+    }
+
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(slots, null);
+        size = 0;
+        recorded.set(0);
+    }
+
+    private synchronized boolean admits(long elapsed) {
+        return size < slots.length || slots[fastestIndex()].elapsedMillis() < elapsed;
+    }
+
+    private synchronized void add(SlowQuery query) {
+        if (size < slots.length) {
+            slots[size++] = query;
+            return;
+        }
+        int fastest = fastestIndex();
+        if (slots[fastest].elapsedMillis() < query.elapsedMillis()) {
+            slots[fastest] = query;
+        }
+    }
+
+    private int fastestIndex() {
+        int fastest = 0;
+        for (int i = 1; i < size; i++) {
+            if (slots[i].elapsedMillis() < slots[fastest].elapsedMillis()) {
+                fastest = i;
+            }
+        }
+        return fastest;
+    }
+
+    /**
+     * 依參數位置排列的綁定值；批次執行時取第一組
+     */
+    static List<Object> parametersOf(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        if (parametersList.isEmpty()) {
+            return List.of();
+        }
+        TreeMap<Integer, Object> byIndex = new TreeMap<>();
+        for (ParameterSetOperation operation : parametersList.get(0)) {
+            Object[] args = operation.getArgs();
+            if (args.length < 2 || !(args[0] instanceof Integer index)) {
+                continue;
+            }
+            Object value = ParameterSetOperation.isSetNullParameterOperation(operation) ? null : args[1];
+            byIndex.put(index, truncate(value));
+        }
+        return new ArrayList<>(byIndex.values());
+    }
+
+    private static Object truncate(Object value) {
+        if (value instanceof String text && text.length() > MAX_PARAMETER_LENGTH) {
+            return text.substring(0, MAX_PARAMETER_LENGTH) + "...";
+        }
+        return value;
+    }
+
+    /**
+     * 以原本的連線執行 {@code EXPLAIN}；取得底層連線，避免再經過 DataSource 代理而被重複計數
+     */
+    private static String explain(Statement statement, String sql, List<Object> parameters) {
+        if (statement == null || !EXPLAINABLE.matcher(sql).lookingAt()) {
+            return null;
+        }
+        try {
+            Connection connection = statement.getConnection().unwrap(Connection.class);
+            try (PreparedStatement explainStatement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    explainStatement.setObject(i + 1, parameters.get(i));
+                }
+                try (ResultSet resultSet = explainStatement.executeQuery()) {
+                    List<String> lines = new ArrayList<>();
+                    while (resultSet.next()) {
+                        lines.add(Objects.toString(resultSet.getString(1), ""));
+                    }
+                    return String.join("\n", lines);
+                }
+            }
+        } catch (SQLException e) {
+            log.debug("Could not explain slow query: {}", sql, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.sessionflow.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 請求追蹤中的一段執行區間，例如一次 Service 或 Repository 方法呼叫
+ *
+ * 只由處理請求的執行緒建立與修改；追蹤結束並放入 {@link RequestTracer} 後不再變動。
+ */
+public final class Span {
+
+    private final Span parent;
+    private final String layer;
+    private final String name;
+    private final long startNanos;
+    private long endNanos;
+    private int sqlStatements;
+    private String error;
+    private List<Span> children;
+
+    Span(Span parent, String layer, String name, long startNanos) {
+        this.parent = parent;
+        this.layer = layer;
+        this.name = name;
+        this.startNanos = startNanos;
+    }
+
+    Span parent() {
+        return parent;
+    }
+
+    void addChild(Span child) {
+        if (children == null) {
+            children = new ArrayList<>(4);
+        }
+        children.add(child);
+    }
+
+    void finish(long endNanos, Throwable failure) {
+        this.endNanos = endNanos;
+        if (failure != null) {
+            this.error = failure.getClass().getSimpleName();
+        }
+    }
+
+    void statementsExecuted(int count) {
+        sqlStatements += count;
+    }
+
+    public String layer() {
+        return layer;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long startNanos() {
+        return startNanos;
+    }
+
+    /**
+     * 執行時間（奈秒），尚未結束時為 0
+     */
+    public long durationNanos() {
+        return endNanos == 0 ? 0 : endNanos - startNanos;
+    }
+
+    /**
+     * 此區間內、不屬於任何子區間的 SQL 陳述式數
+     */
+    public int sqlStatements() {
+        return sqlStatements;
+    }
+
+    /**
+     * 拋出的例外類型，正常結束時為 null
+     */
+    public String error() {
+        return error;
+    }
+
+    public List<Span> children() {
+        return children != null ? children : List.of();
+    }
+}
@@ -0,0 +1,29 @@
+package com.sessionflow.monitoring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 覆寫 API 端點每次請求的 SQL 陳述式預算
+ *
+ * 可標註於 Controller 類別或方法，方法上的設定優先；未指定（小於 0）的項目使用全域預設值
+ * （{@code sessionflow.sql.budget.max-statements}、{@code sessionflow.sql.budget.max-repeats}）。
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface SqlBudget {
+
+    /**
+     * 每次請求最多執行的陳述式數
+     */
+    int statements() default -1;
+
+    /**
+     * 同一形狀的陳述式最多重複次數
+     */
+    int repeats() default -1;
+}
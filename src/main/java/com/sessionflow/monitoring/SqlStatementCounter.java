@@ -0,0 +1,70 @@
+package com.sessionflow.monitoring;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * JDBC 層的 SQL 陳述式計數器
+ *
+ * 掛在 DataSource 代理上，將每次執行的陳述式計入目前執行緒上的 {@link SqlStatementRecording}；
+ * 沒有進行中的記錄時不做任何事。請求層由 {@code SqlBudgetInterceptor} 開始記錄，
+ * 測試中可直接以 {@link #start()} 包住要量測的程式碼。
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<SqlStatementRecording> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * 在目前執行緒開始記錄，直到回傳的記錄關閉為止；可巢狀使用，內層的陳述式同時計入外層
+     */
+    public static SqlStatementRecording start() {
+        SqlStatementRecording recording = new SqlStatementRecording(CURRENT.get());
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    static void finish(SqlStatementRecording recording) {
+        if (CURRENT.get() == recording) {
+            if (recording.parent() != null) {
+                CURRENT.set(recording.parent());
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 陳述式形狀：常數值替換為 ?、IN 清單合併為單一參數並壓縮空白，
+     * 使只有參數不同的陳述式視為同一個
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementRecording recording = CURRENT.get();
+        if (recording == null) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            recording.record(shapeOf(queryInfo.getQuery()));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.sessionflow.monitoring;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 一段期間內於同一執行緒執行的 SQL 陳述式統計
+ *
+ * 由 {@link SqlStatementCounter#start()} 建立，關閉前執行的陳述式都會計入；
+ * 相同形狀（參數與常數值替換為 ?）的陳述式合併計數，用於找出 N+1 查詢。
+ * 只由建立它的執行緒寫入，不需同步。
+ */
+public final class SqlStatementRecording implements AutoCloseable {
+
+    private final SqlStatementRecording parent;
+    private final Map<String, Integer> countsByShape = new LinkedHashMap<>();
+    private int total;
+    private boolean closed;
+
+    SqlStatementRecording(SqlStatementRecording parent) {
+        this.parent = parent;
+    }
+
+    void record(String shape) {
+        // 巢狀記錄時外層同樣計入
+        for (SqlStatementRecording recording = this; recording != null; recording = recording.parent) {
+            recording.total++;
+            recording.countsByShape.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    SqlStatementRecording parent() {
+        return parent;
+    }
+
+    /**
+     * 執行的陳述式總數（批次執行計為一次）
+     */
+    public int total() {
+        return total;
+    }
+
+    /**
+     * 各形狀的執行次數，依第一次執行的順序排列
+     */
+    public Map<String, Integer> countsByShape() {
+        return Collections.unmodifiableMap(countsByShape);
+    }
+
+    /**
+     * 同一形狀的最多執行次數
+     */
+    public int maxRepeats() {
+        return countsByShape.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    /**
+     * 執行次數超過 {@code limit} 的形狀
+     */
+    public Map<String, Integer> repeatedMoreThan(int limit) {
+        return countsByShape.entrySet().stream()
+                .filter(entry -> entry.getValue() > limit)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * 停止記錄，恢復外層的記錄（若有）
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            SqlStatementCounter.finish(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return total + " statements " + countsByShape;
+    }
+}
@@ -0,0 +1,115 @@
+package com.sessionflow.monitoring;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.AbstractMessageChannel;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * WebSocket / STOMP 指標
+ *
+ * <ul>
+ * <li>{@code sessionflow.websocket.sessions}：目前連線數，依傳輸方式區分</li>
+ * <li>{@code sessionflow.websocket.sessions.closed}：異常關閉的連線數，依原因區分</li>
+ * <li>{@code sessionflow.websocket.frames.sent}：送往用戶端的訊框數，依類型區分（每秒數量以 rate() 計算）</li>
+ * <li>{@code sessionflow.websocket.outbound.queue}：等待送出的訊框數（輸出通道執行緒池的佇列）</li>
+ * </ul>
+ * 訊框計數器依類型預先建立，攔截器中只做一次陣列查詢與遞增。
+ */
+public class WebSocketMetrics implements MeterBinder {
+
+    private final WebSocketMessageBrokerStats stats;
+    private final AbstractMessageChannel clientOutboundChannel;
+    private final ThreadPoolTaskExecutor clientOutboundChannelExecutor;
+
+    public WebSocketMetrics(WebSocketMessageBrokerStats stats, AbstractMessageChannel clientOutboundChannel,
+                            ThreadPoolTaskExecutor clientOutboundChannelExecutor) {
+        this.stats = stats;
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.clientOutboundChannelExecutor = clientOutboundChannelExecutor;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        sessionGauge(registry, "websocket", SubProtocolWebSocketHandler.Stats::getWebSocketSessions);
+        sessionGauge(registry, "http-streaming", SubProtocolWebSocketHandler.Stats::getHttpStreamingSessions);
+        sessionGauge(registry, "http-polling", SubProtocolWebSocketHandler.Stats::getHttpPollingSessions);
+        sessionCounter(registry, "limit-exceeded", SubProtocolWebSocketHandler.Stats::getLimitExceededSessions);
+        sessionCounter(registry, "no-messages-received",
+                SubProtocolWebSocketHandler.Stats::getNoMessagesReceivedSessions);
+        sessionCounter(registry, "transport-error", SubProtocolWebSocketHandler.Stats::getTransportErrorSessions);
+
+        Gauge.builder("sessionflow.websocket.outbound.queue", clientOutboundChannelExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("Frames waiting for a client outbound channel thread")
+                .register(registry);
+
+        clientOutboundChannel.addInterceptor(new FrameCounter(registry));
+    }
+
+    private void sessionGauge(MeterRegistry registry, String transport,
+                              ToIntFunction<SubProtocolWebSocketHandler.Stats> value) {
+        Gauge.builder("sessionflow.websocket.sessions", stats,
+                        s -> s.getWebSocketSessionStats() != null
+                                ? value.applyAsInt(s.getWebSocketSessionStats()) : Double.NaN)
+                .description("Open WebSocket sessions")
+                .tag("transport", transport)
+                .register(registry);
+    }
+
+    private void sessionCounter(MeterRegistry registry, String reason,
+                                ToIntFunction<SubProtocolWebSocketHandler.Stats> value) {
+        FunctionCounter.builder("sessionflow.websocket.sessions.closed", stats,
+                        s -> s.getWebSocketSessionStats() != null
+                                ? value.applyAsInt(s.getWebSocketSessionStats()) : 0)
+                .description("WebSocket sessions closed abnormally")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    /**
+     * 計算送往用戶端的訊框，依 {@link SimpMessageType} 區分
+     */
+    static class FrameCounter implements ExecutorChannelInterceptor {
+
+        private final Map<SimpMessageType, Counter> counters = new EnumMap<>(SimpMessageType.class);
+
+        FrameCounter(MeterRegistry registry) {
+            for (SimpMessageType type : SimpMessageType.values()) {
+                counters.put(type, Counter.builder("sessionflow.websocket.frames.sent")
+                        .description("Frames sent to WebSocket clients")
+                        .tag("type", type.name().toLowerCase())
+                        .register(registry));
+            }
+        }
+
+        /**
+         * 於輸出通道執行緒寫出訊框後計數，不含送出失敗的訊框
+         */
+        @Override
+        public void afterMessageHandled(@NonNull Message<?> message, @NonNull MessageChannel channel,
+                                        @NonNull MessageHandler handler, Exception ex) {
+            SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+            if (ex == null && type != null) {
+                counters.get(type).increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.sessionflow.monitoring.health;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * STOMP broker 的連線數（WebSocket 與 SockJS 後援傳輸合計）
+ */
+public class BrokerSessionProbe implements HealthProbe {
+
+    private final ObjectProvider<WebSocketMessageBrokerStats> stats;
+    private final Thresholds thresholds;
+
+    public BrokerSessionProbe(ObjectProvider<WebSocketMessageBrokerStats> stats, Thresholds thresholds) {
+        this.stats = stats;
+        this.thresholds = thresholds;
+    }
+
+    @Override
+    public String name() {
+        return "brokerSessions";
+    }
+
+    @Override
+    public ProbeResult check() {
+        SubProtocolWebSocketHandler.Stats sessions = stats.getObject().getWebSocketSessionStats();
+        if (sessions == null) {
+            return ProbeResult.of(0, "sessions", thresholds, Map.of());
+        }
+        int total = sessions.getWebSocketSessions() + sessions.getHttpStreamingSessions()
+                + sessions.getHttpPollingSessions();
+        return ProbeResult.of(total, "sessions", thresholds, Map.of(
+                "webSocket", sessions.getWebSocketSessions(),
+                "httpStreaming", sessions.getHttpStreamingSessions(),
+                "httpPolling", sessions.getHttpPollingSessions(),
+                "totalSessions", sessions.getTotalSessions()));
+    }
+}
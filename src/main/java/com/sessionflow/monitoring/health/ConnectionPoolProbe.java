@@ -0,0 +1,53 @@
+package com.sessionflow.monitoring.health;
+
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * Hikari 連線池等待：取得一條連線所需的時間（ms），並附上使用中、閒置與等待中的執行緒數
+ */
+public class ConnectionPoolProbe implements HealthProbe {
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final Thresholds thresholds;
+
+    public ConnectionPoolProbe(ObjectProvider<DataSource> dataSource, Thresholds thresholds) {
+        this.dataSource = dataSource;
+        this.thresholds = thresholds;
+    }
+
+    @Override
+    public String name() {
+        return "connectionPool";
+    }
+
+    @Override
+    public ProbeResult check() throws Exception {
+        DataSource pool = dataSource.getObject();
+        long start = System.nanoTime();
+        try (Connection ignored = pool.getConnection()) {
+            double millis = (System.nanoTime() - start) / 1_000_000.0;
+            Map<String, Object> details = new LinkedHashMap<>();
+            if (pool.isWrapperFor(HikariDataSource.class)) {
+                HikariDataSource hikari = pool.unwrap(HikariDataSource.class);
+                HikariPoolMXBean mxBean = hikari.getHikariPoolMXBean();
+                details.put("maximumPoolSize", hikari.getMaximumPoolSize());
+                if (mxBean != null) {
+                    // 包含此探測本身使用中的連線
+                    details.put("active", mxBean.getActiveConnections());
+                    details.put("idle", mxBean.getIdleConnections());
+                    details.put("threadsAwaiting", mxBean.getThreadsAwaitingConnection());
+                }
+            }
+            return ProbeResult.of(millis, "ms", thresholds, details);
+        }
+    }
+}
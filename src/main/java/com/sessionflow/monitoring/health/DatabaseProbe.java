@@ -0,0 +1,39 @@
+package com.sessionflow.monitoring.health;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * H2 往返延遲：在已取得的連線上執行 {@code SELECT 1} 的時間（ms），不含取得連線的等待
+ */
+public class DatabaseProbe implements HealthProbe {
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final Thresholds thresholds;
+
+    public DatabaseProbe(ObjectProvider<DataSource> dataSource, Thresholds thresholds) {
+        this.dataSource = dataSource;
+        this.thresholds = thresholds;
+    }
+
+    @Override
+    public String name() {
+        return "database";
+    }
+
+    @Override
+    public ProbeResult check() throws Exception {
+        try (Connection connection = dataSource.getObject().getConnection();
+             Statement statement = connection.createStatement()) {
+            long start = System.nanoTime();
+            statement.execute("SELECT 1");
+            double millis = (System.nanoTime() - start) / 1_000_000.0;
+            return ProbeResult.of(millis, "ms", thresholds, Map.of());
+        }
+    }
+}
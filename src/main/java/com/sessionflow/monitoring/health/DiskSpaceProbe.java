@@ -0,0 +1,58 @@
+package com.sessionflow.monitoring.health;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 資料庫檔案所在磁碟的可用空間（MB）
+ */
+public class DiskSpaceProbe implements HealthProbe {
+
+    private static final double MB = 1024 * 1024;
+
+    private final Path databaseFile;
+    private final Thresholds thresholds;
+
+    /**
+     * @param databaseFile 資料庫檔案（不一定已存在），以其所在目錄判斷磁碟
+     */
+    public DiskSpaceProbe(Path databaseFile, Thresholds thresholds) {
+        this.databaseFile = databaseFile.toAbsolutePath().normalize();
+        this.thresholds = thresholds;
+    }
+
+    /**
+     * 由 JDBC URL 取得 H2 資料庫檔案（{@code .mv.db}）；記憶體資料庫等非檔案資料庫回傳工作目錄
+     */
+    public static Path databaseFile(String jdbcUrl) {
+        String prefix = jdbcUrl.startsWith("jdbc:h2:file:") ? "jdbc:h2:file:" : "jdbc:h2:";
+        String location = jdbcUrl.substring(prefix.length()).split(";", 2)[0];
+        if (!jdbcUrl.startsWith("jdbc:h2:") || location.startsWith("mem:") || location.startsWith("tcp:")
+                || location.startsWith("ssl:")) {
+            return Path.of(".");
+        }
+        if (location.startsWith("~")) {
+            location = System.getProperty("user.home") + location.substring(1);
+        }
+        return Path.of(location + ".mv.db");
+    }
+
+    @Override
+    public String name() {
+        return "diskSpace";
+    }
+
+    @Override
+    public ProbeResult check() throws Exception {
+        Path directory = Files.isDirectory(databaseFile) ? databaseFile : databaseFile.getParent();
+        long usable = Files.getFileStore(directory).getUsableSpace();
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("path", databaseFile.toString());
+        if (Files.isRegularFile(databaseFile)) {
+            details.put("databaseFileMB", Math.round(Files.size(databaseFile) / MB * 100) / 100.0);
+        }
+        return ProbeResult.of(usable / MB, "MB", thresholds, details);
+    }
+}
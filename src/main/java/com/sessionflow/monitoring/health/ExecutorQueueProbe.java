@@ -0,0 +1,41 @@
+package com.sessionflow.monitoring.health;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 執行緒池佇列長度（等待執行的工作數）
+ *
+ * 虛擬執行緒模式下沒有佇列，一律為 0。
+ */
+public class ExecutorQueueProbe implements HealthProbe {
+
+    private final String name;
+    private final ObjectProvider<Executor> executor;
+    private final Thresholds thresholds;
+
+    public ExecutorQueueProbe(String name, ObjectProvider<Executor> executor, Thresholds thresholds) {
+        this.name = name;
+        this.executor = executor;
+        this.thresholds = thresholds;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public ProbeResult check() {
+        if (!(executor.getObject() instanceof ThreadPoolTaskExecutor threadPool)) {
+            return ProbeResult.of(0, "tasks", thresholds, Map.of("virtualThreads", true));
+        }
+        return ProbeResult.of(threadPool.getQueueSize(), "tasks", thresholds, Map.of(
+                "queueCapacity", threadPool.getQueueCapacity(),
+                "activeThreads", threadPool.getActiveCount(),
+                "poolSize", threadPool.getPoolSize()));
+    }
+}
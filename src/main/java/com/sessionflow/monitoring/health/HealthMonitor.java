@@ -0,0 +1,114 @@
+package com.sessionflow.monitoring.health;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 健康監控
+ *
+ * 在背景執行緒以固定間隔依序執行所有 {@link HealthProbe}，保存最近一輪的結果；
+ * 健康檢查 API 只讀取保存的結果，因此呼叫頻繁也不會增加資料庫或系統的負擔。
+ * <ul>
+ *   <li>readiness：已完成第一輪探測且沒有探測失效</li>
+ *   <li>liveness：探測仍按時執行（未卡住），且影響存活的探測（堆積記憶體）沒有失效</li>
+ * </ul>
+ */
+@Slf4j
+public class HealthMonitor implements SmartLifecycle {
+
+    private static final Duration MIN_STALE_AFTER = Duration.ofSeconds(60);
+
+    private final List<HealthProbe> probes;
+    private final Duration interval;
+    private final Duration staleAfter;
+    private volatile HealthSnapshot snapshot = HealthSnapshot.pending();
+    private volatile Instant startedAt;
+    private ScheduledExecutorService scheduler;
+
+    public HealthMonitor(List<HealthProbe> probes, Duration interval) {
+        this.probes = List.copyOf(probes);
+        this.interval = interval;
+        Duration threeIntervals = interval.multipliedBy(3);
+        this.staleAfter = threeIntervals.compareTo(MIN_STALE_AFTER) > 0 ? threeIntervals : MIN_STALE_AFTER;
+    }
+
+    /**
+     * 執行所有探測並保存結果
+     */
+    public HealthSnapshot runProbes() {
+        Map<String, ProbeResult> results = new LinkedHashMap<>();
+        HealthStatus status = HealthStatus.UP;
+        for (HealthProbe probe : probes) {
+            ProbeResult result;
+            try {
+                result = probe.check();
+            } catch (Exception e) {
+                result = ProbeResult.failed(e);
+            }
+            if (result.status() != HealthStatus.UP) {
+                log.warn("Health probe {} is {}: {}", probe.name(), result.status(),
+                        result.error() != null ? result.error() : result.value() + " " + result.unit());
+            }
+            results.put(probe.name(), result);
+            status = status.worse(result.status());
+        }
+        HealthSnapshot completed = new HealthSnapshot(status, Instant.now(), results);
+        snapshot = completed;
+        return completed;
+    }
+
+    public HealthSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public boolean isReady() {
+        HealthSnapshot current = snapshot;
+        return current.checkedAt() != null && current.status() != HealthStatus.DOWN;
+    }
+
+    public boolean isLive() {
+        HealthSnapshot current = snapshot;
+        Instant lastProgress = current.checkedAt() != null ? current.checkedAt() : startedAt;
+        if (lastProgress != null && lastProgress.plus(staleAfter).isBefore(Instant.now())) {
+            return false;
+        }
+        return probes.stream()
+                .filter(HealthProbe::affectsLiveness)
+                .map(probe -> current.probes().get(probe.name()))
+                .noneMatch(result -> result != null && result.status() == HealthStatus.DOWN);
+    }
+
+    @Override
+    public void start() {
+        startedAt = Instant.now();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "health-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::runProbes, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sessionflow.monitoring.health;
+
+/**
+ * 由 {@link HealthMonitor} 定期執行的探測
+ */
+public interface HealthProbe {
+
+    String name();
+
+    ProbeResult check() throws Exception;
+
+    /**
+     * 失效（{@link HealthStatus#DOWN}）時是否代表程序本身需要重新啟動，而不只是暫時無法服務
+     */
+    default boolean affectsLiveness() {
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sessionflow.monitoring.health;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 最近一輪探測的結果
+ *
+ * @param status    所有探測中最嚴重的狀態
+ * @param checkedAt 完成時間，尚未探測時為 null
+ * @param probes    依探測名稱排列的結果
+ */
+public record HealthSnapshot(HealthStatus status, Instant checkedAt, Map<String, ProbeResult> probes) {
+
+    static HealthSnapshot pending() {
+        return new HealthSnapshot(HealthStatus.UNKNOWN, null, Map.of());
+    }
+}
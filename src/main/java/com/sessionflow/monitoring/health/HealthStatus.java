@@ -0,0 +1,18 @@
+package com.sessionflow.monitoring.health;
+
+/**
+ * 健康狀態，依嚴重程度排列
+ */
+public enum HealthStatus {
+
+    /** 尚未完成第一次檢查 */
+    UNKNOWN,
+    UP,
+    /** 仍可服務，但已接近飽和或變慢 */
+    DEGRADED,
+    DOWN;
+
+    public HealthStatus worse(HealthStatus other) {
+        return other.ordinal() > ordinal() ? other : this;
+    }
+}
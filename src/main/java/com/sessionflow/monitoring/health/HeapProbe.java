@@ -0,0 +1,58 @@
+package com.sessionflow.monitoring.health;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.Map;
+
+/**
+ * JVM 堆積記憶體壓力：上次 GC 後仍存活的資料佔最大堆積的百分比
+ *
+ * GC 後的使用量反映實際存活的資料，不會因尚未回收的暫時物件而誤判；JVM 尚未執行過 GC 時以目前使用量代替。
+ * 此值持續接近上限代表 GC 將頻繁執行甚至記憶體不足，因此影響 liveness。
+ */
+public class HeapProbe implements HealthProbe {
+
+    private final Thresholds thresholds;
+
+    public HeapProbe(Thresholds thresholds) {
+        this.thresholds = thresholds;
+    }
+
+    @Override
+    public String name() {
+        return "heap";
+    }
+
+    @Override
+    public boolean affectsLiveness() {
+        return true;
+    }
+
+    @Override
+    public ProbeResult check() {
+        long max = Runtime.getRuntime().maxMemory();
+        long used = 0;
+        long usedAfterGc = 0;
+        boolean collected = false;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP) {
+                continue;
+            }
+            used += pool.getUsage().getUsed();
+            MemoryUsage afterGc = pool.getCollectionUsage();
+            if (afterGc != null && afterGc.getCommitted() > 0) {
+                collected = true;
+                usedAfterGc += afterGc.getUsed();
+            } else {
+                usedAfterGc += pool.getUsage().getUsed();
+            }
+        }
+        double percent = (collected ? usedAfterGc : used) * 100.0 / max;
+        return ProbeResult.of(percent, "%", thresholds, Map.of(
+                "usedMB", used / (1024 * 1024),
+                "maxMB", max / (1024 * 1024),
+                "afterGc", collected));
+    }
+}
@@ -0,0 +1,30 @@
+package com.sessionflow.monitoring.health;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 一次探測的結果
+ *
+ * @param status     依門檻判斷的狀態；探測失敗時為 {@link HealthStatus#DOWN}
+ * @param value      探測值，單位見 {@code unit}
+ * @param unit       單位，例如 {@code ms}、{@code MB}、{@code %}
+ * @param thresholds 判斷用的門檻
+ * @param details    其他參考數值
+ * @param error      探測失敗的原因
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProbeResult(HealthStatus status, Double value, String unit, Thresholds thresholds,
+                          Map<String, Object> details, String error) {
+
+    public static ProbeResult of(double value, String unit, Thresholds thresholds, Map<String, Object> details) {
+        return new ProbeResult(thresholds.statusOf(value), Math.round(value * 100) / 100.0, unit, thresholds,
+                details, null);
+    }
+
+    public static ProbeResult failed(Throwable failure) {
+        return new ProbeResult(HealthStatus.DOWN, null, null, null, null,
+                failure.getClass().getSimpleName() + ": " + failure.getMessage());
+    }
+}
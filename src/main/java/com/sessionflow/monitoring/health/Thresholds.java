@@ -0,0 +1,29 @@
+package com.sessionflow.monitoring.health;
+
+/**
+ * 探測值的降級與失效門檻
+ *
+ * @param degraded     達到此值時為 {@link HealthStatus#DEGRADED}
+ * @param down         達到此值時為 {@link HealthStatus#DOWN}
+ * @param lowerIsWorse 數值越小越糟（例如剩餘磁碟空間）時為 true
+ */
+public record Thresholds(double degraded, double down, boolean lowerIsWorse) {
+
+    public static Thresholds above(double degraded, double down) {
+        return new Thresholds(degraded, down, false);
+    }
+
+    public static Thresholds below(double degraded, double down) {
+        return new Thresholds(degraded, down, true);
+    }
+
+    public HealthStatus statusOf(double value) {
+        if (lowerIsWorse ? value <= down : value >= down) {
+            return HealthStatus.DOWN;
+        }
+        if (lowerIsWorse ? value <= degraded : value >= degraded) {
+            return HealthStatus.DEGRADED;
+        }
+        return HealthStatus.UP;
+    }
+}
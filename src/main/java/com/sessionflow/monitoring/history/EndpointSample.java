@@ -0,0 +1,28 @@
+package com.sessionflow.monitoring.history;
+
+import java.time.Instant;
+
+/**
+ * 一個取樣區間內單一端點的延遲；只記錄有請求的端點
+ *
+ * @param timestamp 區間開始時間
+ * @param endpoint  端點，例如 {@code GET /api/tasks/{id}}
+ * @param requests  請求數
+ * @param p50Millis 延遲中位數（毫秒）；合併時以請求數加權平均
+ * @param p99Millis p99 延遲（毫秒）；合併時取最大值
+ * @param maxMillis 最大延遲（毫秒）
+ */
+public record EndpointSample(Instant timestamp, String endpoint, long requests, double p50Millis, double p99Millis,
+                             double maxMillis) {
+
+    EndpointSample merge(EndpointSample other) {
+        long total = requests + other.requests;
+        return new EndpointSample(timestamp, endpoint, total,
+                SystemSample.weighted(p50Millis, requests, other.p50Millis, other.requests, total),
+                Math.max(p99Millis, other.p99Millis), Math.max(maxMillis, other.maxMillis));
+    }
+
+    EndpointSample at(Instant bucketStart) {
+        return new EndpointSample(bucketStart, endpoint, requests, p50Millis, p99Millis, maxMillis);
+    }
+}
@@ -0,0 +1,81 @@
+package com.sessionflow.monitoring.history;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 固定大小的延遲分布
+ *
+ * 以微秒為單位，每個 2 的次方區間再分為 4 格（誤差約 12%），涵蓋 1 µs 到約 4.5 分鐘；
+ * 記錄只做一次陣列遞增，不配置物件，取出時歸零以開始下一個區間。
+ */
+class LatencyHistogram {
+
+    static final int SUB_BUCKETS = 4;
+    static final int BUCKETS = 28 * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    void record(long nanos) {
+        long micros = Math.max(1, nanos / 1_000);
+        counts.incrementAndGet(bucketOf(micros));
+        if (micros > maxMicros.get()) {
+            maxMicros.accumulateAndGet(micros, Math::max);
+        }
+    }
+
+    /**
+     * 將目前的計數加到 {@code into} 並歸零，回傳取出的筆數
+     */
+    long drainTo(long[] into) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = counts.getAndSet(i, 0);
+            into[i] += count;
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 取出並歸零目前區間的最大值（毫秒）
+     */
+    double drainMaxMillis() {
+        return maxMicros.getAndSet(0) / 1_000.0;
+    }
+
+    static int bucketOf(long micros) {
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) ((micros << 2) >>> exponent) & (SUB_BUCKETS - 1);
+        return Math.min(exponent * SUB_BUCKETS + sub, BUCKETS - 1);
+    }
+
+    /**
+     * 格子的中點（微秒）
+     */
+    static double midpointMicros(int bucket) {
+        double lower = Math.pow(2, bucket / SUB_BUCKETS);
+        return lower * (1 + (bucket % SUB_BUCKETS + 0.5) / SUB_BUCKETS);
+    }
+
+    /**
+     * 依計數估計百分位數（毫秒），沒有資料時為 0
+     *
+     * @param quantile 0 到 1，例如 0.99
+     */
+    static double percentileMillis(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return midpointMicros(i) / 1_000.0;
+            }
+        }
+        return midpointMicros(counts.length - 1) / 1_000.0;
+    }
+}
@@ -0,0 +1,158 @@
+package com.sessionflow.monitoring.history;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * 指標歷史的區間累計
+ *
+ * 請求延遲依 Controller 方法分別累計在固定大小的 {@link LatencyHistogram}，SQL 執行時間、WebSocket 通知與訊框
+ * 以 {@link LongAdder} 計數；記錄時只做遞增，由 {@link MetricsHistory} 每個區間取出並歸零一次。
+ * 端點數量有上限，超過的端點不記錄延遲，但仍計入請求數；{@link MetricsHistory} 依此上限決定端點環狀檔案的大小。
+ */
+public class MetricsCollector implements QueryExecutionListener {
+
+    public static final int DEFAULT_MAX_ENDPOINTS = 32;
+
+    private final int maxEndpoints;
+    private final Map<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder untrackedRequests = new LongAdder();
+    private final LongAdder dbTimeMillis = new LongAdder();
+    private final LongAdder dbStatements = new LongAdder();
+    private final LongAdder notifications = new LongAdder();
+    private final LongAdder framesDelivered = new LongAdder();
+
+    private record Endpoint(String name, LatencyHistogram histogram) {
+    }
+
+    public MetricsCollector() {
+        this(DEFAULT_MAX_ENDPOINTS);
+    }
+
+    /**
+     * @param maxEndpoints 分別記錄延遲的端點數上限
+     */
+    public MetricsCollector(int maxEndpoints) {
+        if (maxEndpoints <= 0) {
+            throw new IllegalArgumentException("maxEndpoints must be positive: " + maxEndpoints);
+        }
+        this.maxEndpoints = maxEndpoints;
+    }
+
+    public int getMaxEndpoints() {
+        return maxEndpoints;
+    }
+
+    /**
+     * 記錄一次 API 請求
+     *
+     * @param handler Controller 方法，作為端點的識別
+     * @param name    端點名稱，只在第一次遇到此端點時呼叫
+     * @param nanos   處理時間
+     */
+    public void recordRequest(Method handler, Supplier<String> name, long nanos) {
+        Endpoint endpoint = endpoints.get(handler);
+        if (endpoint == null) {
+            if (endpoints.size() >= maxEndpoints) {
+                untrackedRequests.increment();
+                return;
+            }
+            endpoint = endpoints.computeIfAbsent(handler, key -> new Endpoint(name.get(), new LatencyHistogram()));
+        }
+        endpoint.histogram().record(nanos);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        dbTimeMillis.add(execInfo.getElapsedTime());
+        dbStatements.add(queryInfoList.size());
+    }
+
+    /**
+     * 計算發布到 broker 的通知，註冊於 broker 通道
+     */
+    public ChannelInterceptor notificationCounter() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+                if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                    notifications.increment();
+                }
+                return message;
+            }
+        };
+    }
+
+    /**
+     * 計算實際送到用戶端的通知訊框，註冊於用戶端輸出通道
+     */
+    public ExecutorChannelInterceptor frameCounter() {
+        return new ExecutorChannelInterceptor() {
+            @Override
+            public void afterMessageHandled(@NonNull Message<?> message, @NonNull MessageChannel channel,
+                                            @NonNull MessageHandler handler, Exception ex) {
+                if (ex == null
+                        && SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                    framesDelivered.increment();
+                }
+            }
+        };
+    }
+
+    /**
+     * 取出上一個區間的累計並歸零
+     *
+     * @param timestamp    區間開始時間
+     * @param seconds      區間秒數
+     * @param endpointsOut 有請求的端點會加入此清單
+     */
+    SystemSample drain(Instant timestamp, long seconds, long heapUsedBytes, long heapMaxBytes,
+                       List<EndpointSample> endpointsOut) {
+        long[] all = new long[LatencyHistogram.BUCKETS];
+        long[] counts = new long[LatencyHistogram.BUCKETS];
+        long tracked = 0;
+        for (Endpoint endpoint : endpoints.values()) {
+            Arrays.fill(counts, 0);
+            long count = endpoint.histogram().drainTo(counts);
+            double maxMillis = endpoint.histogram().drainMaxMillis();
+            if (count == 0) {
+                continue;
+            }
+            for (int i = 0; i < counts.length; i++) {
+                all[i] += counts[i];
+            }
+            tracked += count;
+            endpointsOut.add(new EndpointSample(timestamp, endpoint.name(), count,
+                    LatencyHistogram.percentileMillis(counts, count, 0.5),
+                    LatencyHistogram.percentileMillis(counts, count, 0.99), maxMillis));
+        }
+        return new SystemSample(timestamp, seconds, tracked + untrackedRequests.sumThenReset(),
+                LatencyHistogram.percentileMillis(all, tracked, 0.5),
+                LatencyHistogram.percentileMillis(all, tracked, 0.99),
+                dbTimeMillis.sumThenReset(), dbStatements.sumThenReset(),
+                notifications.sumThenReset(), framesDelivered.sumThenReset(), heapUsedBytes, heapMaxBytes);
+    }
+}
@@ -0,0 +1,269 @@
+package com.sessionflow.monitoring.history;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 本機指標歷史
+ *
+ * 每個區間從 {@link MetricsCollector} 取出累計值，連同堆積使用量寫入兩個 {@link RingFile}：
+ * 整體指標一個區間一筆，端點延遲每個有請求的端點一筆。檔案大小固定，寫滿後覆寫最舊的資料，
+ * 因此磁碟用量與每個區間的成本都不隨執行時間增加。查詢時依步長合併區間（降採樣）。
+ * 端點檔案依收集器的端點數上限配置，每個區間最多寫入上限筆，所有端點都同時有請求時也能保存指定的區間數。
+ */
+@Slf4j
+public class MetricsHistory implements SmartLifecycle {
+
+    public static final String SYSTEM_FILE_SUFFIX = ".metrics.ring";
+    public static final String ENDPOINT_FILE_SUFFIX = ".endpoints.ring";
+
+    static final int SYSTEM_RECORD_SIZE = 96;
+    static final int ENDPOINT_RECORD_SIZE = 128;
+    static final int MAX_ENDPOINT_NAME_BYTES = ENDPOINT_RECORD_SIZE - 42;
+
+    private final MetricsCollector collector;
+    private final Path systemFile;
+    private final Path endpointFile;
+    private final Duration interval;
+    private final int systemCapacity;
+    private final int endpointRecords;
+
+    private RingFile system;
+    private RingFile endpoints;
+    private ScheduledExecutorService scheduler;
+    private Instant intervalStart;
+
+    /**
+     * @param filePrefix       檔案路徑前綴，例如 {@code ./sessionflow_db}，實際檔案為加上
+     *                         {@link #SYSTEM_FILE_SUFFIX} 與 {@link #ENDPOINT_FILE_SUFFIX}
+     * @param systemCapacity   保存的區間數
+     * @param endpointCapacity 每個端點保存的區間數；端點檔案的紀錄數為此值乘以
+     *                         {@link MetricsCollector#getMaxEndpoints()}
+     */
+    public MetricsHistory(MetricsCollector collector, Path filePrefix, Duration interval, int systemCapacity,
+                          int endpointCapacity) {
+        this.collector = collector;
+        this.systemFile = Path.of(filePrefix + SYSTEM_FILE_SUFFIX);
+        this.endpointFile = Path.of(filePrefix + ENDPOINT_FILE_SUFFIX);
+        this.interval = interval;
+        this.systemCapacity = systemCapacity;
+        this.endpointRecords = Math.toIntExact((long) endpointCapacity * collector.getMaxEndpoints());
+    }
+
+    /**
+     * 查詢結果
+     *
+     * @param stepSeconds 降採樣後每一點涵蓋的秒數
+     * @param series      整體指標，依時間排列
+     * @param endpoints   端點延遲，依端點與時間排列
+     */
+    public record Report(Instant from, Instant to, long intervalSeconds, long stepSeconds,
+                         List<SystemSample> series, List<EndpointSample> endpoints) {
+    }
+
+    /**
+     * 開啟檔案並開始定期取樣；檔案無法開啟時只記錄警告，應用程式照常執行
+     */
+    @Override
+    public synchronized void start() {
+        try {
+            system = new RingFile(systemFile, SYSTEM_RECORD_SIZE, systemCapacity);
+            endpoints = new RingFile(endpointFile, ENDPOINT_RECORD_SIZE, endpointRecords);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Metrics history disabled, could not open {}: {}", systemFile, e.toString());
+            closeFiles();
+            return;
+        }
+        intervalStart = Instant.now();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-history");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::sample, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 停止取樣，寫入最後一個不完整的區間後關閉檔案
+     */
+    @Override
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+        sample();
+        closeFiles();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * 結束目前區間並寫入檔案
+     */
+    synchronized void sample() {
+        if (system == null) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            long seconds = Math.max(1, Duration.between(intervalStart, now).toSeconds());
+            MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+            List<EndpointSample> endpointSamples = new ArrayList<>();
+            SystemSample sample = collector.drain(intervalStart, seconds, heap.getUsed(), heap.getMax(),
+                    endpointSamples);
+            intervalStart = now;
+            system.append(buffer -> writeSystem(buffer, sample));
+            for (EndpointSample endpointSample : endpointSamples) {
+                endpoints.append(buffer -> writeEndpoint(buffer, endpointSample));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not record metrics history sample", e);
+        }
+    }
+
+    /**
+     * 查詢 {@code [from, to)} 的指標，依步長合併
+     *
+     * @param step     每一點涵蓋的時間，小於取樣區間時以取樣區間為準
+     * @param endpoint 只回傳此端點的延遲，null 時回傳全部
+     */
+    public synchronized Report query(Instant from, Instant to, Duration step, @Nullable String endpoint) {
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("'to' must be after 'from'");
+        }
+        long stepSeconds = Math.max(Math.max(1, interval.toSeconds()), step.toSeconds());
+        if (system == null) {
+            return new Report(from, to, interval.toSeconds(), stepSeconds, List.of(), List.of());
+        }
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+        List<SystemSample> series = downsample(system.read(fromMillis, toMillis, MetricsHistory::readSystem),
+                from, stepSeconds, SystemSample::timestamp, s -> "", SystemSample::merge, SystemSample::at);
+        List<EndpointSample> endpointSeries = downsample(
+                endpoints.read(fromMillis, toMillis, MetricsHistory::readEndpoint).stream()
+                        .filter(sample -> endpoint == null || endpoint.equals(sample.endpoint()))
+                        .toList(),
+                from, stepSeconds, EndpointSample::timestamp, EndpointSample::endpoint, EndpointSample::merge,
+                EndpointSample::at);
+        return new Report(from, to, interval.toSeconds(), stepSeconds, series, endpointSeries.stream()
+                .sorted(Comparator.comparing(EndpointSample::endpoint).thenComparing(EndpointSample::timestamp))
+                .toList());
+    }
+
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * 將樣本依 {@code key} 分組後，合併落在同一個步長內的樣本，時間戳記設為該步長的開始
+     */
+    private static <T> List<T> downsample(List<T> samples, Instant origin, long stepSeconds,
+                                          Function<T, Instant> timestamp, Function<T, String> key,
+                                          BinaryOperator<T> merge, BiFunction<T, Instant, T> at) {
+        Map<String, T> buckets = new LinkedHashMap<>();
+        long stepMillis = stepSeconds * 1_000;
+        for (T sample : samples) {
+            long offset = Math.floorDiv(timestamp.apply(sample).toEpochMilli() - origin.toEpochMilli(), stepMillis);
+            Instant bucketStart = origin.plusMillis(offset * stepMillis);
+            buckets.merge(key.apply(sample) + "\n" + offset, at.apply(sample, bucketStart), merge);
+        }
+        return new ArrayList<>(buckets.values());
+    }
+
+    private void closeFiles() {
+        for (RingFile file : new RingFile[] {system, endpoints}) {
+            if (file != null) {
+                try {
+                    file.close();
+                } catch (IOException e) {
+                    log.debug("Could not close {}", file.path(), e);
+                }
+            }
+        }
+        system = null;
+        endpoints = null;
+    }
+
+    static void writeSystem(ByteBuffer buffer, SystemSample sample) {
+        buffer.putLong(0, sample.timestamp().toEpochMilli())
+                .putLong(8, sample.seconds())
+                .putLong(16, sample.requests())
+                .putDouble(24, sample.p50Millis())
+                .putDouble(32, sample.p99Millis())
+                .putLong(40, sample.dbTimeMillis())
+                .putLong(48, sample.dbStatements())
+                .putLong(56, sample.notifications())
+                .putLong(64, sample.framesDelivered())
+                .putLong(72, sample.heapUsedBytes())
+                .putLong(80, sample.heapMaxBytes());
+    }
+
+    static SystemSample readSystem(ByteBuffer buffer) {
+        return new SystemSample(Instant.ofEpochMilli(buffer.getLong(0)), buffer.getLong(8), buffer.getLong(16),
+                buffer.getDouble(24), buffer.getDouble(32), buffer.getLong(40), buffer.getLong(48),
+                buffer.getLong(56), buffer.getLong(64), buffer.getLong(72), buffer.getLong(80));
+    }
+
+    static void writeEndpoint(ByteBuffer buffer, EndpointSample sample) {
+        byte[] name = truncatedName(sample.endpoint());
+        buffer.putLong(0, sample.timestamp().toEpochMilli())
+                .putLong(8, sample.requests())
+                .putDouble(16, sample.p50Millis())
+                .putDouble(24, sample.p99Millis())
+                .putDouble(32, sample.maxMillis())
+                .putShort(40, (short) name.length)
+                .put(42, name);
+    }
+
+    static EndpointSample readEndpoint(ByteBuffer buffer) {
+        int length = Math.min(Math.max(buffer.getShort(40), 0), MAX_ENDPOINT_NAME_BYTES);
+        byte[] name = new byte[length];
+        buffer.get(42, name);
+        return new EndpointSample(Instant.ofEpochMilli(buffer.getLong(0)),
+                new String(name, StandardCharsets.UTF_8), buffer.getLong(8), buffer.getDouble(16),
+                buffer.getDouble(24), buffer.getDouble(32));
+    }
+
+    /**
+     * 端點名稱以 UTF-8 儲存，超過欄位長度時在字元邊界截斷
+     */
+    private static byte[] truncatedName(String endpoint) {
+        byte[] bytes = endpoint.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_ENDPOINT_NAME_BYTES) {
+            return bytes;
+        }
+        int length = MAX_ENDPOINT_NAME_BYTES;
+        while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        return Arrays.copyOf(bytes, length);
+    }
+}
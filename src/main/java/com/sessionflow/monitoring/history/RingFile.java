@@ -0,0 +1,124 @@
+package com.sessionflow.monitoring.history;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 記憶體映射的固定大小環狀檔案
+ *
+ * 檔案由 64 位元組的標頭與 {@code capacity} 個固定長度的紀錄組成，大小在建立時決定且不再成長；
+ * 寫滿後覆寫最舊的紀錄。每筆紀錄的前 8 個位元組為時間戳記（epoch 毫秒），用於範圍查詢。
+ * 紀錄寫入完成後才更新標頭中的寫入總數，程序中途結束時最多遺失正在寫入的一筆。
+ * 紀錄長度或容量與既有檔案不同時重新初始化。
+ */
+public class RingFile implements Closeable {
+
+    static final int HEADER_SIZE = 64;
+
+    private static final int MAGIC = 0x53464D48; // "SFMH"
+    private static final int VERSION = 1;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int RECORD_SIZE_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 12;
+    private static final int WRITTEN_OFFSET = 16;
+
+    private final Path path;
+    private final int recordSize;
+    private final int capacity;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private long written;
+
+    public RingFile(Path path, int recordSize, int capacity) throws IOException {
+        if (recordSize < Long.BYTES || capacity <= 0) {
+            throw new IllegalArgumentException("Invalid ring file layout: record size " + recordSize
+                    + ", capacity " + capacity);
+        }
+        long size = HEADER_SIZE + (long) recordSize * capacity;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Ring file too large: " + size + " bytes");
+        }
+        this.path = path;
+        this.recordSize = recordSize;
+        this.capacity = capacity;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        if (channel.size() != size) {
+            channel.truncate(0);
+        }
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        if (buffer.getInt(MAGIC_OFFSET) == MAGIC && buffer.getInt(VERSION_OFFSET) == VERSION
+                && buffer.getInt(RECORD_SIZE_OFFSET) == recordSize && buffer.getInt(CAPACITY_OFFSET) == capacity) {
+            this.written = Math.max(0, buffer.getLong(WRITTEN_OFFSET));
+        } else {
+            buffer.putInt(MAGIC_OFFSET, MAGIC);
+            buffer.putInt(VERSION_OFFSET, VERSION);
+            buffer.putInt(RECORD_SIZE_OFFSET, recordSize);
+            buffer.putInt(CAPACITY_OFFSET, capacity);
+            buffer.putLong(WRITTEN_OFFSET, 0);
+            this.written = 0;
+        }
+    }
+
+    /**
+     * 寫入一筆紀錄，{@code writer} 收到長度為紀錄大小、位置為 0 的緩衝區，必須先寫入時間戳記
+     */
+    public synchronized void append(Consumer<ByteBuffer> writer) {
+        int offset = HEADER_SIZE + (int) (written % capacity) * recordSize;
+        ByteBuffer slot = buffer.slice(offset, recordSize).put(0, new byte[recordSize]);
+        writer.accept(slot);
+        written++;
+        buffer.putLong(WRITTEN_OFFSET, written);
+    }
+
+    /**
+     * 依寫入順序讀取時間戳記在 {@code [fromMillis, toMillis)} 內的紀錄
+     */
+    public synchronized <T> List<T> read(long fromMillis, long toMillis, Function<ByteBuffer, T> reader) {
+        List<T> records = new ArrayList<>();
+        for (long i = Math.max(0, written - capacity); i < written; i++) {
+            int offset = HEADER_SIZE + (int) (i % capacity) * recordSize;
+            long timestamp = buffer.getLong(offset);
+            if (timestamp >= fromMillis && timestamp < toMillis) {
+                records.add(reader.apply(buffer.slice(offset, recordSize)));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 啟動以來與先前執行寫入的紀錄總數，包含已被覆寫的
+     */
+    public synchronized long written() {
+        return written;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+}
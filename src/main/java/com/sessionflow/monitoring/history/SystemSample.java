@@ -0,0 +1,54 @@
+package com.sessionflow.monitoring.history;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 一個取樣區間的整體指標；降採樣後代表數個區間的合併
+ *
+ * @param timestamp       區間開始時間
+ * @param seconds         區間涵蓋的秒數
+ * @param requests        API 請求數
+ * @param p50Millis       所有端點的延遲中位數（毫秒）；合併時以請求數加權平均
+ * @param p99Millis       所有端點的 p99 延遲（毫秒）；合併時取最大值
+ * @param dbTimeMillis    SQL 陳述式執行時間總和（毫秒）
+ * @param dbStatements    SQL 陳述式數
+ * @param notifications   發布到 WebSocket broker 的通知數
+ * @param framesDelivered 送到用戶端的通知訊框數，除以 notifications 即為平均扇出
+ * @param heapUsedBytes   取樣時的堆積使用量；合併時取最大值
+ * @param heapMaxBytes    堆積上限
+ */
+public record SystemSample(Instant timestamp, long seconds, long requests, double p50Millis, double p99Millis,
+                           long dbTimeMillis, long dbStatements, long notifications, long framesDelivered,
+                           long heapUsedBytes, long heapMaxBytes) {
+
+    @JsonProperty
+    public double requestsPerSecond() {
+        return seconds > 0 ? (double) requests / seconds : 0;
+    }
+
+    @JsonProperty
+    public double fanOut() {
+        return notifications > 0 ? (double) framesDelivered / notifications : 0;
+    }
+
+    SystemSample merge(SystemSample other) {
+        long totalRequests = requests + other.requests;
+        return new SystemSample(timestamp, seconds + other.seconds, totalRequests,
+                weighted(p50Millis, requests, other.p50Millis, other.requests, totalRequests),
+                Math.max(p99Millis, other.p99Millis),
+                dbTimeMillis + other.dbTimeMillis, dbStatements + other.dbStatements,
+                notifications + other.notifications, framesDelivered + other.framesDelivered,
+                Math.max(heapUsedBytes, other.heapUsedBytes), other.heapMaxBytes);
+    }
+
+    SystemSample at(Instant bucketStart) {
+        return new SystemSample(bucketStart, seconds, requests, p50Millis, p99Millis, dbTimeMillis, dbStatements,
+                notifications, framesDelivered, heapUsedBytes, heapMaxBytes);
+    }
+
+    static double weighted(double a, long weightA, double b, long weightB, long total) {
+        return total > 0 ? (a * weightA + b * weightB) / total : Math.max(a, b);
+    }
+}
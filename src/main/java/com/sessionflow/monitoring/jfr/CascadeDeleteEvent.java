@@ -0,0 +1,46 @@
+package com.sessionflow.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 連同關聯資料一併刪除的 JFR 事件：刪除任務（工作階段、工作紀錄、排程）與刪除標籤（任務關聯）
+ */
+@Name("com.sessionflow.CascadeDelete")
+@Label("Cascade Delete")
+@Category({"SessionFlow", "Delete"})
+@Description("An entity was deleted together with the rows that depend on it")
+@StackTrace(false)
+public class CascadeDeleteEvent extends Event {
+
+    @Label("Entity Type")
+    public String entityType;
+
+    @Label("Entity Id")
+    public long entityId;
+
+    @Label("Sessions")
+    public int sessions;
+
+    @Label("Session Records")
+    public int sessionRecords;
+
+    @Label("Schedule Entries")
+    public int scheduleEntries;
+
+    @Label("Task Links")
+    public int taskLinks;
+
+    @Label("Affected Rows")
+    @Description("Rows deleted or unlinked, including the entity itself")
+    public int affectedRows;
+
+    public CascadeDeleteEvent(String entityType, long entityId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+    }
+}
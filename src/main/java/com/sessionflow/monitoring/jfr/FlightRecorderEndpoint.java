@@ -0,0 +1,150 @@
+package com.sessionflow.monitoring.jfr;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * JFR 錄製端點 {@code /actuator/flightrecorder}，需以 Bearer token 存取
+ *
+ * <ul>
+ *   <li>GET：列出 JVM 中的錄製（包含以 {@code -XX:StartFlightRecording} 啟動的）</li>
+ *   <li>POST：開始錄製，可指定 {@code name}、{@code settings}（{@code default} 或 {@code profile}）、
+ *       {@code maxAgeSeconds} 與 {@code durationSeconds}；SessionFlow 的領域事件一律啟用</li>
+ *   <li>POST {@code /{id}}：停止錄製，錄製內容保留至刪除</li>
+ *   <li>GET {@code /{id}}：下載目前為止的錄製內容（.jfr），錄製中也可下載</li>
+ *   <li>DELETE {@code /{id}}：停止並捨棄錄製</li>
+ * </ul>
+ */
+@Endpoint(id = "flightrecorder")
+public class FlightRecorderEndpoint implements DisposableBean {
+
+    static final List<Class<? extends Event>> DOMAIN_EVENTS = List.of(TaskMutationEvent.class,
+            SessionEndEvent.class, CascadeDeleteEvent.class, NotificationDispatchEvent.class,
+            ScheduleRangeQueryEvent.class);
+
+    private final Map<Long, Path> dumps = new ConcurrentHashMap<>();
+
+    public record RecordingView(long id, String name, RecordingState state, Instant startTime, Duration duration,
+                                Duration maxAge, long size) {
+
+        static RecordingView of(Recording recording) {
+            return new RecordingView(recording.getId(), recording.getName(), recording.getState(),
+                    recording.getStartTime(), recording.getDuration(), recording.getMaxAge(), recording.getSize());
+        }
+    }
+
+    @ReadOperation
+    public List<RecordingView> recordings() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream().map(RecordingView::of).toList();
+    }
+
+    @WriteOperation
+    public RecordingView start(@Nullable String name, @Nullable String settings, @Nullable Long maxAgeSeconds,
+                               @Nullable Long durationSeconds) {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings != null ? settings : "default");
+        } catch (IOException | ParseException e) {
+            throw new InvalidEndpointRequestException("Unknown JFR settings: " + settings,
+                    "Unknown settings, use 'default' or 'profile'");
+        }
+        Recording recording = new Recording(configuration);
+        recording.setName(name != null ? name : "sessionflow");
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofSeconds(maxAgeSeconds != null ? maxAgeSeconds : 3600));
+        if (durationSeconds != null) {
+            recording.setDuration(Duration.ofSeconds(durationSeconds));
+        }
+        DOMAIN_EVENTS.forEach(recording::enable);
+        recording.start();
+        return RecordingView.of(recording);
+    }
+
+    @WriteOperation
+    public RecordingView stop(@Selector long id) {
+        Recording recording = find(id);
+        if (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED) {
+            recording.stop();
+        }
+        return RecordingView.of(recording);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource dump(@Selector long id) {
+        Recording recording = find(id);
+        if (recording.getState() != RecordingState.RUNNING && recording.getState() != RecordingState.STOPPED) {
+            throw new InvalidEndpointRequestException("Recording " + id + " is " + recording.getState(),
+                    "Recording has no data to dump");
+        }
+        try {
+            Path file = dumps.computeIfAbsent(id, FlightRecorderEndpoint::createDumpFile);
+            recording.dump(file);
+            return new FileSystemResource(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DeleteOperation
+    public void close(@Selector long id) {
+        find(id).close();
+        deleteDump(id);
+    }
+
+    @Override
+    public void destroy() {
+        dumps.keySet().forEach(this::deleteDump);
+    }
+
+    private static Recording find(long id) {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst()
+                .orElseThrow(() -> new InvalidEndpointRequestException("No recording with id " + id,
+                        "No such recording"));
+    }
+
+    private static Path createDumpFile(long id) {
+        try {
+            return Files.createTempFile("sessionflow-recording-" + id + "-", ".jfr");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteDump(long id) {
+        Path file = dumps.remove(id);
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // 暫存檔，刪除失敗不影響錄製
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.sessionflow.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 資源變更通知交給 STOMP broker 的 JFR 事件；時間涵蓋轉換與送入 broker，不含推送給各用戶端
+ */
+@Name("com.sessionflow.NotificationDispatch")
+@Label("Notification Dispatch")
+@Category({"SessionFlow", "WebSocket"})
+@Description("A resource change notification was converted and handed to the message broker")
+@StackTrace(false)
+public class NotificationDispatchEvent extends Event {
+
+    @Label("Notification Type")
+    public String notificationType;
+
+    @Label("Entity Id")
+    public long entityId;
+
+    @Label("Destination")
+    public String destination;
+
+    @Label("Affected Groups")
+    public int affectedGroups;
+
+    @Label("Payload Size")
+    @DataAmount
+    public long payloadBytes;
+}
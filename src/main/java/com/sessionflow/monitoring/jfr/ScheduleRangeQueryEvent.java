@@ -0,0 +1,31 @@
+package com.sessionflow.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 依日期區間查詢排程的 JFR 事件
+ */
+@Name("com.sessionflow.ScheduleRangeQuery")
+@Label("Schedule Range Query")
+@Category({"SessionFlow", "Schedule"})
+@Description("Schedule entries were queried for a date range")
+@StackTrace(false)
+public class ScheduleRangeQueryEvent extends Event {
+
+    @Label("Start Date")
+    public String startDate;
+
+    @Label("End Date")
+    public String endDate;
+
+    @Label("Days")
+    public int days;
+
+    @Label("Rows")
+    public int rows;
+}
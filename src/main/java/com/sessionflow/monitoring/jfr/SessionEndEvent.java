@@ -0,0 +1,37 @@
+package com.sessionflow.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 結束工作階段（轉為工作紀錄並刪除工作階段）的 JFR 事件
+ */
+@Name("com.sessionflow.SessionEnd")
+@Label("Session End")
+@Category({"SessionFlow", "Session"})
+@Description("A session was ended and turned into a session record")
+@StackTrace(false)
+public class SessionEndEvent extends Event {
+
+    @Label("Session Id")
+    public long sessionId;
+
+    @Label("Session Record Id")
+    public long sessionRecordId;
+
+    @Label("Task Id")
+    @Description("Linked task, 0 when the session has none")
+    public long taskId;
+
+    @Label("Session Length")
+    @Timespan(Timespan.SECONDS)
+    public long sessionLength;
+
+    @Label("Completion Note Length")
+    public int completionNoteLength;
+}
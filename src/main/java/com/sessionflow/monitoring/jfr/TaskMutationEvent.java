@@ -0,0 +1,37 @@
+package com.sessionflow.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 任務建立、更新、完成、重新開啟的 JFR 事件（刪除見 {@link CascadeDeleteEvent}）
+ */
+@Name("com.sessionflow.TaskMutation")
+@Label("Task Mutation")
+@Category({"SessionFlow", "Task"})
+@Description("A task was created, updated, completed or reopened")
+@StackTrace(false)
+public class TaskMutationEvent extends Event {
+
+    public static final String CREATE = "create";
+    public static final String UPDATE = "update";
+    public static final String COMPLETE = "complete";
+    public static final String REOPEN = "reopen";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Task Id")
+    public long taskId;
+
+    @Label("Tag Count")
+    public int tagCount;
+
+    public TaskMutationEvent(String operation) {
+        this.operation = operation;
+    }
+}
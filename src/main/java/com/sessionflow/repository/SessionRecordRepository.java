@@ -41,6 +41,11 @@ public interface SessionRecordRepository extends JpaRepository<SessionRecord, Lo
     @Query("SELECT sr FROM SessionRecord sr ORDER BY sr.id DESC")
     List<SessionRecord> findAllByOrderByIdDesc();
     
+    /**
+     * 查詢最近的 20 筆 SessionRecord，按 ID 降序排列
+     */
+    List<SessionRecord> findTop20ByOrderByIdDesc();
+    
     @Modifying
     @Transactional
     @Query("UPDATE SessionRecord sr SET sr.task = null WHERE sr.task.id = :taskId")
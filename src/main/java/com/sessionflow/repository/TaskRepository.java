@@ -23,9 +23,21 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT t FROM Task t ORDER BY t.createdAt DESC")
     List<Task> findAllOrderByCreatedAtDesc();
     
+    /**
+     * 查詢所有任務（一併載入標籤）並按創建時間降序排列
+     */
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.tags ORDER BY t.createdAt DESC")
+    List<Task> findAllWithTagsOrderByCreatedAtDesc();
+    
     /**
      * 根據狀態查詢任務並按創建時間降序排列
      */
     @Query("SELECT t FROM Task t WHERE t.status = :status ORDER BY t.createdAt DESC")
     List<Task> findByStatusOrderByCreatedAtDesc(@Param("status") TaskStatus status);
+    
+    /**
+     * 根據狀態查詢任務（一併載入標籤）並按創建時間降序排列
+     */
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.tags WHERE t.status = :status ORDER BY t.createdAt DESC")
+    List<Task> findByStatusWithTagsOrderByCreatedAtDesc(@Param("status") TaskStatus status);
 } 
\ No newline at end of file
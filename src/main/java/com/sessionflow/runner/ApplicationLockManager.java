@@ -6,6 +6,9 @@ import java.io.RandomAccessFile;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Manages application instance locking to ensure only one instance runs at a time.
@@ -17,6 +20,7 @@ public class ApplicationLockManager {
 
     private final File lockFile;
     private final File infoFile;
+    private final List<Runnable> shutdownTasks = new CopyOnWriteArrayList<>();
     private RandomAccessFile lockRaf;
     private FileChannel lockChannel;
     private FileLock fileLock;
@@ -69,14 +73,32 @@ public class ApplicationLockManager {
      * Handles the case when another instance is already running.
      */
     private void handleAlreadyRunning() throws IOException {
-        InstanceInfo info = readInstanceInfo();
+        InstanceInfo info = readInstanceInfo(infoFile);
         ConsoleMessagePrinter.printAlreadyRunningMessage(info.pid, info.port);
     }
 
+    /**
+     * Finds the instance running from the current directory, for client commands that talk to it.
+     *
+     * @return the running instance, or empty if none is running or its port is unknown
+     */
+    public static Optional<InstanceInfo> findRunningInstance() {
+        try {
+            InstanceInfo info = readInstanceInfo(new File(INFO_FILE_NAME));
+            if (info.pid == null || info.port == -1) {
+                return Optional.empty();
+            }
+            boolean alive = ProcessHandle.of(Long.parseLong(info.pid)).map(ProcessHandle::isAlive).orElse(false);
+            return alive ? Optional.of(info) : Optional.empty();
+        } catch (IOException | NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Reads instance information from the info file.
      */
-    private InstanceInfo readInstanceInfo() throws IOException {
+    private static InstanceInfo readInstanceInfo(File infoFile) throws IOException {
         String pid = null;
         int port = -1;
 
@@ -100,11 +122,37 @@ public class ApplicationLockManager {
         return new InstanceInfo(pid, port);
     }
 
+    /**
+     * Adds a task for the shutdown hook to run before the lock is released, so that no other instance can
+     * open the database while it runs. Tasks run in the order they were added; a failing task does not stop the rest.
+     *
+     * @param task the task to run when the application exits
+     */
+    public void addShutdownTask(Runnable task) {
+        shutdownTasks.add(task);
+    }
+
     /**
      * Sets up the shutdown hook to clean up resources when the application exits.
      */
     private void setupShutdownHook() {
-        Runtime.getRuntime().addShutdownHook(new Thread(this::releaseLock));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            runShutdownTasks();
+            releaseLock();
+        }));
+    }
+
+    /**
+     * Runs the tasks added with {@link #addShutdownTask(Runnable)}.
+     */
+    private void runShutdownTasks() {
+        for (Runnable task : shutdownTasks) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                System.err.println("Error during shutdown task: " + e.getMessage());
+            }
+        }
     }
 
     /**
@@ -154,7 +202,7 @@ public class ApplicationLockManager {
     /**
      * Simple data class to hold instance information.
      */
-    private static class InstanceInfo {
+    static class InstanceInfo {
         final String pid;
         final int port;
 
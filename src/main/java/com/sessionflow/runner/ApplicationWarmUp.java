@@ -0,0 +1,155 @@
+package com.sessionflow.runner;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Warms up the application on a background thread once it is ready.
+ * <p>
+ * With lazy initialization the first request to each controller would otherwise create the services, mappers and
+ * repositories behind it (Spring Data parses the {@code @Query} JPQL at that point), initialize the dispatcher servlet
+ * and build the Jackson serializers. The warm-up first creates the remaining application beans, then issues the
+ * read-only requests the web app sends on load.
+ * <p>
+ * Each phase and request is recorded as a {@code sessionflow.warmup.*} step next to Spring's own
+ * {@code spring.beans.instantiate} steps, so per-bean cost shows up in the actuator {@code startup} endpoint.
+ */
+public class ApplicationWarmUp {
+
+    static final String ENABLED_PROPERTY = "sessionflow.warmup.enabled";
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationWarmUp.class);
+    private static final String APPLICATION_PACKAGE = "com.sessionflow.";
+    private static final int REQUEST_TIMEOUT_MILLIS = 30_000;
+
+    private final ConfigurableApplicationContext context;
+    private final int port;
+
+    public ApplicationWarmUp(ConfigurableApplicationContext context, int port) {
+        this.context = context;
+        this.port = port;
+    }
+
+    /**
+     * Starts the warm-up thread unless {@code sessionflow.warmup.enabled} is {@code false}.
+     */
+    public void start() {
+        if (!context.getEnvironment().getProperty(ENABLED_PROPERTY, Boolean.class, true)) {
+            return;
+        }
+        Thread thread = new Thread(this::run, "sessionflow-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        try {
+            initializeBeans();
+            sendRequests();
+            log.debug("Warm-up finished in {} ms", Duration.ofNanos(System.nanoTime() - start).toMillis());
+        } catch (RuntimeException e) {
+            // Warm-up is best effort; the application works the same without it
+            log.debug("Warm-up stopped early", e);
+        }
+    }
+
+    /**
+     * Creates the application's lazy singletons together with the infrastructure beans they depend on.
+     */
+    private void initializeBeans() {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        StartupStep step = context.getApplicationStartup().start("sessionflow.warmup.beans");
+        int created = 0;
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            if (!context.isActive()) {
+                break;
+            }
+            if (isLazyApplicationSingleton(beanFactory, beanName)) {
+                beanFactory.getBean(beanName);
+                created++;
+            }
+        }
+        step.tag("created", String.valueOf(created));
+        step.end();
+    }
+
+    private static boolean isLazyApplicationSingleton(ConfigurableListableBeanFactory beanFactory, String beanName) {
+        if (beanFactory.containsSingleton(beanName)) {
+            return false;
+        }
+        BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+        String className = definition.getBeanClassName();
+        return definition.isSingleton()
+                && !definition.isAbstract()
+                && className != null
+                && className.startsWith(APPLICATION_PACKAGE);
+    }
+
+    /**
+     * Sends the read-only requests the web app makes on load, exercising dispatching, queries and serialization.
+     */
+    private void sendRequests() {
+        ApplicationStartup applicationStartup = context.getApplicationStartup();
+        for (String path : warmUpPaths(LocalDate.now())) {
+            if (!context.isActive()) {
+                return;
+            }
+            StartupStep step = applicationStartup.start("sessionflow.warmup.request").tag("path", path);
+            try {
+                step.tag("status", String.valueOf(get(path)));
+            } catch (IOException e) {
+                step.tag("error", e.getClass().getSimpleName());
+                log.debug("Warm-up request {} failed: {}", path, e.getMessage());
+            } finally {
+                step.end();
+            }
+        }
+    }
+
+    /**
+     * Sends a GET request and discards the body; {@link HttpURLConnection} leaves no client threads behind.
+     */
+    private int get(String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + path).openConnection();
+        try {
+            connection.setConnectTimeout(REQUEST_TIMEOUT_MILLIS);
+            connection.setReadTimeout(REQUEST_TIMEOUT_MILLIS);
+            int status = connection.getResponseCode();
+            try (InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream()) {
+                if (in != null) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+            return status;
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    static List<String> warmUpPaths(LocalDate today) {
+        String range = "?startDate=" + today + "&endDate=" + today.plusDays(1);
+        return List.of(
+                "/api/bootstrap",
+                "/api/tasks",
+                "/api/tags",
+                "/api/sessions",
+                "/api/schedule-entries" + range,
+                "/api/session-records" + range);
+    }
+}
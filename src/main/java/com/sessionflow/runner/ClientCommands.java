@@ -0,0 +1,390 @@
+package com.sessionflow.runner;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Runs client sub-commands against an already running instance through its REST API, without starting Spring.
+ * <p>
+ * The instance is found through {@code .sessionflow.info} in the current directory, or given with {@code --port}.
+ * To keep these commands fast, they use {@link HttpURLConnection} and the Jackson streaming API instead of the
+ * JDK HTTP client and data binding, which would each add hundreds of classes to load.
+ */
+public class ClientCommands {
+
+    private static final Map<String, Set<String>> COMMAND_OPTIONS = Map.of(
+            "start-session", Set.of("port", "task", "note"),
+            "end-session", Set.of("port", "note"),
+            "add-task", Set.of("port", "due", "note"),
+            "today", Set.of("port"));
+
+    private static final int TIMEOUT_MILLIS = 10_000;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final String baseUrl;
+
+    ClientCommands(int port) {
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    /**
+     * Checks whether the first argument names a client sub-command.
+     */
+    public static boolean isClientCommand(String[] args) {
+        return args.length > 0 && COMMAND_OPTIONS.containsKey(args[0]);
+    }
+
+    /**
+     * Runs the sub-command given in {@code args}.
+     *
+     * @param args the command-line arguments, starting with the sub-command name
+     * @return the process exit code
+     */
+    public static int run(String[] args) {
+        Command command;
+        try {
+            command = Command.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            printUsage();
+            return 2;
+        }
+
+        Optional<Integer> port = command.option("port").map(Integer::valueOf)
+                .or(() -> ApplicationLockManager.findRunningInstance().map(info -> info.port));
+        if (port.isEmpty()) {
+            System.err.println("❌ SessionFlow is not running in this directory. "
+                    + "Start it with 'java -jar sessionflow.jar' or pass --port.");
+            return 1;
+        }
+
+        ClientCommands client = new ClientCommands(port.get());
+        try {
+            switch (command.name) {
+                case "start-session" -> client.startSession(command);
+                case "end-session" -> client.endSession(command);
+                case "add-task" -> client.addTask(command);
+                default -> client.today();
+            }
+            return 0;
+        } catch (CommandFailedException e) {
+            System.err.println("❌ " + e.getMessage());
+            return 1;
+        } catch (IOException e) {
+            System.err.println("❌ Could not reach SessionFlow on port " + port.get() + ": " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private void startSession(Command command) throws IOException, CommandFailedException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("title", command.text);
+        command.option("task").ifPresent(taskId -> body.put("taskId", Long.valueOf(taskId)));
+        command.option("note").ifPresent(note -> body.put("note", note));
+
+        Map<String, Object> session = object(send("POST", "/api/sessions", body));
+        System.out.println("▶️  Started session #" + text(session, "id") + ": " + text(session, "title"));
+    }
+
+    private void endSession(Command command) throws IOException, CommandFailedException {
+        long sessionId = command.text.isEmpty() ? findOnlyActiveSession() : Long.parseLong(command.text);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("sessionId", sessionId);
+        command.option("note").ifPresent(note -> body.put("completionNote", note));
+
+        Map<String, Object> record = object(send("POST", "/api/sessions/" + sessionId + "/end", body));
+        System.out.println("⏹️  Ended session #" + sessionId + ": " + text(record, "title")
+                + " (" + timeRange(record) + ")");
+    }
+
+    private long findOnlyActiveSession() throws IOException, CommandFailedException {
+        List<Map<String, Object>> sessions = objects(send("GET", "/api/sessions", null));
+        if (sessions.size() == 1) {
+            return Long.parseLong(text(sessions.get(0), "id"));
+        }
+        if (sessions.isEmpty()) {
+            throw new CommandFailedException("No session is active.");
+        }
+        List<String> active = new ArrayList<>();
+        sessions.forEach(session -> active.add("#" + text(session, "id") + " " + text(session, "title")));
+        throw new CommandFailedException("Several sessions are active (" + String.join(", ", active)
+                + "). Pass the session ID.");
+    }
+
+    private void addTask(Command command) throws IOException, CommandFailedException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("title", command.text);
+        command.option("due").ifPresent(due -> body.put("dueAt", parseDueAt(due).toString()));
+        command.option("note").ifPresent(note -> body.put("note", note));
+
+        Map<String, Object> task = object(send("POST", "/api/tasks", body));
+        System.out.println("✅ Added task #" + text(task, "id") + ": " + text(task, "title"));
+    }
+
+    private void today() throws IOException, CommandFailedException {
+        Map<String, Object> bootstrap = object(send("GET", "/api/bootstrap", null));
+        LocalDate date = LocalDate.parse(text(bootstrap, "date"));
+        System.out.println("SessionFlow — " + date);
+
+        List<String> lines = new ArrayList<>();
+        for (Map<String, Object> session : objects(bootstrap.get("activeSessions"))) {
+            lines.add("#" + text(session, "id") + "  " + text(session, "title")
+                    + "  since " + time(session, "startAt"));
+        }
+        printSection("Active sessions", lines);
+
+        lines.clear();
+        for (Map<String, Object> entry : objects(bootstrap.get("todayScheduleEntries"))) {
+            lines.add(timeRange(entry) + "  " + text(entry, "title"));
+        }
+        printSection("Schedule", lines);
+
+        lines.clear();
+        for (Map<String, Object> task : objects(bootstrap.get("tasks"))) {
+            if (!"PENDING".equals(text(task, "status")) || task.get("dueAt") == null) {
+                continue;
+            }
+            LocalDateTime dueAt = LocalDateTime.parse(text(task, "dueAt"));
+            if (!dueAt.toLocalDate().isAfter(date)) {
+                String due = dueAt.toLocalDate().isBefore(date) ? "overdue since " + dueAt.toLocalDate()
+                        : "due " + dueAt.format(TIME_FORMAT);
+                lines.add("#" + text(task, "id") + "  " + text(task, "title") + "  (" + due + ")");
+            }
+        }
+        printSection("Tasks due", lines);
+
+        lines.clear();
+        for (Map<String, Object> record : objects(bootstrap.get("recentSessionRecords"))) {
+            if (LocalDateTime.parse(text(record, "startAt")).toLocalDate().equals(date)) {
+                lines.add(timeRange(record) + "  " + text(record, "title"));
+            }
+        }
+        printSection("Sessions today", lines);
+    }
+
+    private Object send(String method, String path, Map<String, Object> body)
+            throws IOException, CommandFailedException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        try {
+            connection.setRequestMethod(method);
+            connection.setConnectTimeout(TIMEOUT_MILLIS);
+            connection.setReadTimeout(TIMEOUT_MILLIS);
+            connection.setRequestProperty("Accept", "application/json");
+            if (body != null) {
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", "application/json");
+                try (OutputStream out = connection.getOutputStream()) {
+                    writeJson(body, out);
+                }
+            }
+
+            int status = connection.getResponseCode();
+            Object json;
+            try (InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream()) {
+                json = in == null ? null : readJson(in);
+            }
+            if (status >= 400) {
+                Map<String, Object> error = json instanceof Map ? object(json) : Map.of();
+                String message = error.containsKey("message") ? text(error, "message") : "HTTP " + status;
+                String details = text(error, "details");
+                throw new CommandFailedException(details.isEmpty() ? message : message + ": " + details);
+            }
+            return json;
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    static void writeJson(Map<String, Object> fields, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JSON.createGenerator(out)) {
+            generator.writeStartObject();
+            for (Map.Entry<String, Object> field : fields.entrySet()) {
+                if (field.getValue() instanceof Long number) {
+                    generator.writeNumberField(field.getKey(), number);
+                } else {
+                    generator.writeStringField(field.getKey(), String.valueOf(field.getValue()));
+                }
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads a JSON document into maps, lists, strings, numbers and booleans.
+     */
+    static Object readJson(InputStream in) throws IOException {
+        try (JsonParser parser = JSON.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            return token == null ? null : readValue(parser, token);
+        }
+    }
+
+    private static Object readValue(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT -> {
+                Map<String, Object> object = new LinkedHashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    object.put(name, readValue(parser, parser.nextToken()));
+                }
+                return object;
+            }
+            case START_ARRAY -> {
+                List<Object> array = new ArrayList<>();
+                for (JsonToken next = parser.nextToken(); next != JsonToken.END_ARRAY; next = parser.nextToken()) {
+                    array.add(readValue(parser, next));
+                }
+                return array;
+            }
+            case VALUE_STRING -> {
+                return parser.getText();
+            }
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> {
+                return parser.getNumberValue();
+            }
+            case VALUE_TRUE, VALUE_FALSE -> {
+                return parser.getBooleanValue();
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> object(Object json) {
+        return json instanceof Map ? (Map<String, Object>) json : Map.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> objects(Object json) {
+        return json instanceof List ? (List<Map<String, Object>>) json : List.of();
+    }
+
+    private static String text(Map<String, Object> object, String field) {
+        Object value = object.get(field);
+        return value == null ? "" : value.toString();
+    }
+
+    private static void printSection(String title, List<String> lines) {
+        System.out.println();
+        System.out.println(title + ":");
+        if (lines.isEmpty()) {
+            System.out.println("  (none)");
+        }
+        lines.forEach(line -> System.out.println("  " + line));
+    }
+
+    private static String time(Map<String, Object> object, String field) {
+        String value = text(object, field);
+        return value.isEmpty() ? "?" : LocalDateTime.parse(value).format(TIME_FORMAT);
+    }
+
+    private static String timeRange(Map<String, Object> object) {
+        return time(object, "startAt") + "–" + time(object, "endAt");
+    }
+
+    /**
+     * Parses {@code --due} as a date-time ({@code 2024-01-15T18:00}) or a date, which means the end of that day.
+     */
+    static LocalDateTime parseDueAt(String value) {
+        try {
+            return value.contains("T") ? LocalDateTime.parse(value) : LocalDate.parse(value).atTime(LocalTime.of(23, 59));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("--due must look like 2024-01-15 or 2024-01-15T18:00.");
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println();
+        System.err.println("Usage: java -jar sessionflow.jar <command> [options]");
+        System.err.println("  start-session <title> [--task <id>] [--note <text>]");
+        System.err.println("  end-session [<session id>] [--note <text>]");
+        System.err.println("  add-task <title> [--due <date or date-time>] [--note <text>]");
+        System.err.println("  today");
+        System.err.println("All commands accept --port <port> to reach an instance started elsewhere.");
+    }
+
+    /**
+     * A parsed sub-command: its name, the free text joined from positional arguments and its options.
+     */
+    static class Command {
+        final String name;
+        final String text;
+        private final Map<String, String> options;
+
+        private Command(String name, String text, Map<String, String> options) {
+            this.name = name;
+            this.text = text;
+            this.options = options;
+        }
+
+        static Command parse(String[] args) {
+            String name = args[0];
+            Set<String> allowed = COMMAND_OPTIONS.get(name);
+            List<String> words = new ArrayList<>();
+            Map<String, String> options = new HashMap<>();
+            for (int i = 1; i < args.length; i++) {
+                if (!args[i].startsWith("--")) {
+                    words.add(args[i]);
+                    continue;
+                }
+                String option = args[i].substring(2);
+                if (!allowed.contains(option)) {
+                    throw new IllegalArgumentException(name + " does not accept --" + option + ".");
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("--" + option + " requires a value.");
+                }
+                options.put(option, args[++i]);
+            }
+            for (String numeric : List.of("port", "task")) {
+                if (options.containsKey(numeric) && !options.get(numeric).matches("\\d+")) {
+                    throw new IllegalArgumentException("--" + numeric + " requires a numeric argument.");
+                }
+            }
+            if (options.containsKey("due")) {
+                parseDueAt(options.get("due"));
+            }
+            String text = String.join(" ", words).trim();
+            if (text.isEmpty() && (name.equals("start-session") || name.equals("add-task"))) {
+                throw new IllegalArgumentException(name + " requires a title.");
+            }
+            if (name.equals("end-session") && !text.isEmpty() && !text.matches("\\d+")) {
+                throw new IllegalArgumentException("'" + text + "' is not a session ID.");
+            }
+            return new Command(name, text, options);
+        }
+
+        Optional<String> option(String option) {
+            return Optional.ofNullable(options.get(option));
+        }
+    }
+
+    private static class CommandFailedException extends Exception {
+        CommandFailedException(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,5 +1,18 @@
 package com.sessionflow.runner;
 
+import com.sessionflow.backup.BackupArchive;
+import com.sessionflow.backup.BackupRestorer;
+import com.sessionflow.backup.BackupSettings;
+import com.sessionflow.config.PrebuiltOpenApiConfig;
+import com.sessionflow.durability.DurabilityMode;
+import com.sessionflow.durability.DurabilitySettings;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -8,13 +21,25 @@ import java.util.Map;
  */
 public class CommandLineProcessor {
 
+    static final String LOW_MEMORY_PROFILE = "low-memory";
+    static final String METRICS_PROFILE = "metrics";
+    private static final int VIRTUAL_THREADS_MIN_JAVA_VERSION = 21;
+
     /**
      * Parses command-line arguments and applies them to system properties.
+     * If a class data sharing archive is available, the JVM is relaunched with it first.
+     * With {@code --restore}, the database is restored from a backup and the process exits.
      * 
      * @param args the command-line arguments
      */
     public static void processArguments(String[] args) {
         Map<String, String> cliArgs = parseArguments(args);
+        if (cliArgs.containsKey("restore")) {
+            System.exit(restoreBackup(cliArgs.get("restore"), args));
+        }
+        JvmRelauncher.relaunchIfArchiveAvailable(args, cliArgs.containsKey("dev")
+                || cliArgs.containsKey("low-memory") || cliArgs.containsKey("virtual-threads")
+                || cliArgs.containsKey("metrics") || cliArgs.containsKey("durability"));
         applyCliArguments(cliArgs);
     }
 
@@ -36,6 +61,36 @@ public class CommandLineProcessor {
                 case "--debug":
                     cliArgs.put("debug", "true");
                     break;
+                case "--dev":
+                    cliArgs.put("dev", "true");
+                    break;
+                case "--low-memory":
+                    cliArgs.put("low-memory", "true");
+                    break;
+                case "--virtual-threads":
+                    cliArgs.put("virtual-threads", "true");
+                    break;
+                case "--metrics":
+                    cliArgs.put("metrics", "true");
+                    break;
+                case "--durability":
+                    if (i + 1 < args.length && isDurabilityMode(args[i + 1])) {
+                        cliArgs.put("durability", args[i + 1]);
+                        i++; // Skip next argument
+                    } else {
+                        System.err.println("Error: --durability flag requires one of: strict, batched, memory.");
+                        System.exit(1);
+                    }
+                    break;
+                case "--restore":
+                    // The backup file is optional; without it the latest backup is restored
+                    if (i + 1 < args.length && !args[i + 1].startsWith("-")) {
+                        cliArgs.put("restore", args[i + 1]);
+                        i++; // Skip next argument
+                    } else {
+                        cliArgs.put("restore", "");
+                    }
+                    break;
                 case "--port":
                     if (i + 1 < args.length && args[i + 1].matches("\\d+")) {
                         cliArgs.put("port", args[i + 1]);
@@ -59,6 +114,10 @@ public class CommandLineProcessor {
         if (cliArgs.containsKey("port")) {
             System.setProperty("server.port", cliArgs.get("port"));
         }
+        if (cliArgs.containsKey("durability")) {
+            // H2 write delay, per-commit sync or in-memory snapshots, see DurabilityConfig
+            System.setProperty(DurabilitySettings.MODE_PROPERTY, cliArgs.get("durability"));
+        }
         if (cliArgs.containsKey("debug")) {
             System.setProperty("logging.level.com.sessionflow", "DEBUG");
             System.setProperty("spring.jpa.show-sql", "true");
@@ -68,5 +127,108 @@ public class CommandLineProcessor {
         } else {
             System.setProperty("logging.level.root", "WARN");
         }
+        if (cliArgs.containsKey("low-memory")) {
+            // Footprint-oriented settings live in application-low-memory.properties
+            includeProfile(LOW_MEMORY_PROFILE);
+            System.setProperty(StartupManager.STARTUP_BUFFER_PROPERTY, "0");
+        }
+        if (cliArgs.containsKey("metrics")) {
+            // Micrometer metrics and the Prometheus endpoint, see application-metrics.properties
+            includeProfile(METRICS_PROFILE);
+        }
+        if (cliArgs.containsKey("virtual-threads")) {
+            if (Runtime.version().feature() >= VIRTUAL_THREADS_MIN_JAVA_VERSION) {
+                // Tomcat request handling and task executors run on virtual threads
+                System.setProperty("spring.threads.virtual.enabled", "true");
+            } else {
+                System.err.println("⚠️  --virtual-threads requires Java " + VIRTUAL_THREADS_MIN_JAVA_VERSION
+                        + " or later (running " + Runtime.version().feature() + "); using platform threads.");
+            }
+        }
+        if (!cliArgs.containsKey("dev") && hasPrebuiltOpenApiSpec()) {
+            // Serve the OpenAPI spec generated at package time instead of scanning controllers at runtime
+            System.setProperty(PrebuiltOpenApiConfig.ENABLED_PROPERTY, "true");
+            System.setProperty("springdoc.api-docs.enabled", "false");
+        }
+    }
+
+    /**
+     * Restores the database from an online backup, holding the application lock so no instance can start meanwhile.
+     * The database URL, credentials and backup directory are resolved like the running application resolves them,
+     * see {@link LaunchProperties}.
+     *
+     * @param archive the backup file, or blank for the latest backup in the backup directory
+     * @param args    the original command-line arguments, which may override the datasource and backup settings
+     * @return the process exit code
+     */
+    static int restoreBackup(String archive, String[] args) {
+        try {
+            if (!new ApplicationLockManager().acquireLock()) {
+                System.err.println("Stop the running instance before restoring a backup.");
+                return 1;
+            }
+            StandardEnvironment properties = LaunchProperties.resolve(args);
+            BackupSettings settings = BackupSettings.from(properties);
+            BackupRestorer restorer = new BackupRestorer(properties.getProperty("spring.datasource.url", ""),
+                    properties.getProperty("spring.datasource.username", ""),
+                    properties.getProperty("spring.datasource.password", ""));
+            if (!Files.isRegularFile(restorer.databaseFile())) {
+                // A mistyped or unresolved URL would otherwise restore into a database the application does not use
+                System.err.println("❌ No database file at " + restorer.databaseFile()
+                        + "; check spring.datasource.url.");
+                return 1;
+            }
+            BackupRestorer.Result result = archive.isBlank()
+                    ? restorer.restoreLatest(settings.directory(), settings.archivePrefix())
+                    : restorer.restore(BackupArchive.parse(Path.of(archive))
+                            .orElseThrow(() -> new IllegalArgumentException("Not a backup file: " + archive)));
+
+            System.out.println("✅ Restored " + restorer.databaseFile() + " from " + result.full().file().getFileName()
+                    + (result.incremental() != null ? " and " + result.incremental().file().getFileName()
+                            + " (" + result.rows() + " rows)" : "")
+                    + " in " + result.elapsed().toMillis() + " ms.");
+            if (result.previousDatabase() != null) {
+                System.out.println("   The previous database was kept as " + result.previousDatabase());
+            }
+            return 0;
+        } catch (IOException | SQLException | IllegalArgumentException e) {
+            System.err.println("❌ Could not restore the database: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    /**
+     * Checks whether a value names a durability mode.
+     *
+     * @param value the command-line value
+     * @return true if it is {@code strict}, {@code batched} or {@code memory}
+     */
+    static boolean isDurabilityMode(String value) {
+        try {
+            DurabilityMode.parse(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Adds a profile to {@code spring.profiles.include}, keeping profiles added by other options.
+     *
+     * @param profile the profile name
+     */
+    private static void includeProfile(String profile) {
+        String included = System.getProperty("spring.profiles.include");
+        System.setProperty("spring.profiles.include",
+                included == null || included.isBlank() ? profile : included + "," + profile);
+    }
+
+    /**
+     * Checks whether the OpenAPI spec generated by the {@code openapi} Maven profile is on the classpath.
+     *
+     * @return true if the prebuilt spec exists, false otherwise
+     */
+    static boolean hasPrebuiltOpenApiSpec() {
+        return new ClassPathResource(PrebuiltOpenApiConfig.SPEC_LOCATION).exists();
     }
 } 
\ No newline at end of file
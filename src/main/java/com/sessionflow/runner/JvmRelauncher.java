@@ -0,0 +1,196 @@
+package com.sessionflow.runner;
+
+import com.sessionflow.backup.BackupSettings;
+import com.sessionflow.compaction.CompactionSettings;
+import com.sessionflow.config.FlightRecorderConfig;
+import com.sessionflow.config.GroupCommitConfig;
+import com.sessionflow.config.InMemoryStoreConfig;
+import com.sessionflow.config.MetricsConfig;
+import com.sessionflow.config.MetricsHistoryConfig;
+import com.sessionflow.config.PrebuiltOpenApiConfig;
+import com.sessionflow.config.SlowQueryConfig;
+import com.sessionflow.config.TracingConfig;
+import com.sessionflow.durability.DurabilitySettings;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.support.ResourcePropertySource;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relaunches the application with the class data sharing archive produced by the {@code fast-start} Maven profile.
+ * <p>
+ * CDS and Spring AOT can only be enabled when the JVM starts. When {@code sessionflow.jsa} sits next to the running
+ * jar, the application is started again in a child JVM with those options and this process only waits for it.
+ * <p>
+ * The AOT-processed context fixes every {@code @Conditional} decision with the packaged {@code application.properties}.
+ * Options and properties that change those decisions start the child with the regular context instead. Properties
+ * are resolved with {@link LaunchProperties}; other config locations and profile-specific files are not checked,
+ * so start with {@code -Dsessionflow.fast-start=false} when they set one of {@link #AOT_CONDITION_PROPERTIES}.
+ */
+public class JvmRelauncher {
+
+    static final String ARCHIVE_FILE_NAME = "sessionflow.jsa";
+    static final String ENABLED_PROPERTY = "sessionflow.fast-start";
+    static final String LAUNCH_TIME_PROPERTY = "sessionflow.launch-time";
+
+    /**
+     * Properties read by the application's {@code @ConditionalOnProperty} and {@code @ConditionalOnExpression}
+     * conditions, decided at build time in the AOT-processed context. {@code JvmRelauncherTest} keeps the list
+     * in line with the conditions.
+     */
+    static final List<String> AOT_CONDITION_PROPERTIES = List.of(
+            GroupCommitConfig.ENABLED_PROPERTY,
+            InMemoryStoreConfig.ENABLED_PROPERTY,
+            DurabilitySettings.MODE_PROPERTY,
+            BackupSettings.ENABLED_PROPERTY,
+            CompactionSettings.ENABLED_PROPERTY,
+            MetricsConfig.ENABLED_PROPERTY,
+            TracingConfig.ENABLED_PROPERTY,
+            SlowQueryConfig.ENABLED_PROPERTY,
+            FlightRecorderConfig.ENABLED_PROPERTY,
+            MetricsHistoryConfig.ENABLED_PROPERTY,
+            PrebuiltOpenApiConfig.ENABLED_PROPERTY);
+
+    private static final String AOT_INITIALIZER =
+            "com/sessionflow/SessionFlowApplication__ApplicationContextInitializer.class";
+    private static final long CHILD_SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Relaunches the JVM with the CDS archive if one is available; returns normally otherwise.
+     *
+     * @param args    the original command-line arguments
+     * @param skipAot whether options that change the bean configuration ({@code --dev}, {@code --low-memory},
+     *                {@code --virtual-threads}, {@code --metrics}, {@code --durability}) were given, which rules out
+     *                the AOT-processed context
+     */
+    public static void relaunchIfArchiveAvailable(String[] args, boolean skipAot) {
+        if (!Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))
+                || System.getProperty(LAUNCH_TIME_PROPERTY) != null) {
+            return;
+        }
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        if (isClassSharingConfigured(runtime.getInputArguments())) {
+            return;
+        }
+        Optional<Path> jar = runningJar();
+        if (jar.isEmpty() || !Files.isReadable(jar.get().resolveSibling(ARCHIVE_FILE_NAME))) {
+            return;
+        }
+
+        List<String> command = buildCommand(runtime, jar.get(), useAot(skipAot, args), args);
+        try {
+            Process child = new ProcessBuilder(command).inheritIO().start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> stopChild(child)));
+            System.exit(child.waitFor());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(1);
+        } catch (Exception e) {
+            System.err.println("⚠️  Could not relaunch with the class data sharing archive, starting normally: "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Builds the child JVM command: the current JVM options plus the CDS archive, then the same jar and arguments.
+     */
+    static List<String> buildCommand(RuntimeMXBean runtime, Path jar, boolean useAot, String[] args) {
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command()
+                .orElse(Path.of(System.getProperty("java.home"), "bin", "java").toString()));
+        command.addAll(runtime.getInputArguments());
+        command.add("-XX:SharedArchiveFile=" + jar.resolveSibling(ARCHIVE_FILE_NAME));
+        command.add("-D" + LAUNCH_TIME_PROPERTY + "=" + runtime.getStartTime());
+        if (useAot) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(Arrays.asList(args));
+        return command;
+    }
+
+    static boolean isClassSharingConfigured(List<String> jvmArguments) {
+        return jvmArguments.stream().anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile")
+                || arg.startsWith("-XX:ArchiveClassesAtExit")
+                || arg.startsWith("-Xshare"));
+    }
+
+    /**
+     * The AOT-processed context was built for the prebuilt OpenAPI mode with the default profile.
+     */
+    private static boolean useAot(boolean skipAot, String[] args) {
+        return !skipAot
+                && CommandLineProcessor.hasPrebuiltOpenApiSpec()
+                && JvmRelauncher.class.getClassLoader().getResource(AOT_INITIALIZER) != null
+                && !overridesAotConditions(args);
+    }
+
+    /**
+     * Checks whether any of {@link #AOT_CONDITION_PROPERTIES} resolves at launch to a different value than in the
+     * packaged {@code application.properties}.
+     *
+     * @param args the original command-line arguments
+     * @return true if the AOT-processed context would ignore the value
+     */
+    static boolean overridesAotConditions(String[] args) {
+        try {
+            ResourcePropertySource packaged = LaunchProperties.packaged();
+            StandardEnvironment launch = LaunchProperties.resolve(args);
+            return AOT_CONDITION_PROPERTIES.stream().anyMatch(name ->
+                    !Objects.equals(conditionValue(launch.getProperty(name)), conditionValue(packaged.getProperty(name))));
+        } catch (IOException | RuntimeException e) {
+            // Unreadable properties: the regular context evaluates the conditions itself
+            return true;
+        }
+    }
+
+    private static String conditionValue(Object value) {
+        return value == null ? null : value.toString().trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Locates the jar this class was loaded from. Only a plain jar file qualifies: classes loaded from a directory
+     * or from inside the executable Spring Boot jar cannot use the archive built from the extracted layout.
+     */
+    private static Optional<Path> runningJar() {
+        CodeSource codeSource = JvmRelauncher.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null
+                || !"file".equals(codeSource.getLocation().getProtocol())) {
+            return Optional.empty();
+        }
+        try {
+            Path location = Path.of(codeSource.getLocation().toURI());
+            return Files.isRegularFile(location) && location.toString().endsWith(".jar")
+                    ? Optional.of(location)
+                    : Optional.empty();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void stopChild(Process child) {
+        if (!child.isAlive()) {
+            return;
+        }
+        child.destroy();
+        try {
+            child.waitFor(CHILD_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
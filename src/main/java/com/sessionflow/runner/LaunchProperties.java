@@ -0,0 +1,55 @@
+package com.sessionflow.runner;
+
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePropertySource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Resolves application properties before the Spring context exists, for decisions taken at launch.
+ * <p>
+ * The sources and their order follow Spring Boot's: {@code --name=value} arguments, system properties, environment
+ * variables, {@code config/application.properties} and {@code application.properties} in the working directory,
+ * then the packaged {@code application.properties}. Other config locations and profile-specific files are not read.
+ */
+final class LaunchProperties {
+
+    static final String APPLICATION_PROPERTIES = "application.properties";
+
+    private LaunchProperties() {
+    }
+
+    /**
+     * The packaged {@code application.properties}.
+     */
+    static ResourcePropertySource packaged() throws IOException {
+        return new ResourcePropertySource(new ClassPathResource(APPLICATION_PROPERTIES));
+    }
+
+    /**
+     * The properties the application will see when started with these arguments.
+     *
+     * @param args the original command-line arguments
+     */
+    static StandardEnvironment resolve(String[] args) throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        MutablePropertySources sources = environment.getPropertySources();
+        sources.addFirst(new SimpleCommandLinePropertySource(args));
+        addIfExists(sources, new FileSystemResource(Path.of("config", APPLICATION_PROPERTIES)));
+        addIfExists(sources, new FileSystemResource(APPLICATION_PROPERTIES));
+        sources.addLast(packaged());
+        return environment;
+    }
+
+    private static void addIfExists(MutablePropertySources sources, Resource resource) throws IOException {
+        if (resource.exists()) {
+            sources.addLast(new ResourcePropertySource(resource));
+        }
+    }
+}
@@ -2,10 +2,23 @@ package com.sessionflow.runner;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.web.context.WebServerApplicationContext;
 import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import com.sessionflow.compaction.CompactionSettings;
+import com.sessionflow.compaction.StoreCompactor;
+import com.sessionflow.durability.DurabilityMode;
+import com.sessionflow.durability.DurabilitySettings;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
 
 /**
  * Main startup coordinator for the SessionFlow application.
@@ -13,6 +26,11 @@ import java.io.IOException;
  */
 public class StartupManager {
 
+    private static final String STARTUP_REPORT_PROPERTY = "sessionflow.startup.report-file";
+    static final String STARTUP_BUFFER_PROPERTY = "sessionflow.startup.buffer-size";
+    private static final int DEFAULT_STARTUP_BUFFER_SIZE = 4096;
+    private static final double MEGABYTE = 1024 * 1024;
+
     public static void run(Class<?> primarySource, String[] args) {
         try {
             // 1. Process command-line arguments
@@ -29,7 +47,11 @@ public class StartupManager {
             }
 
             // 4. Start Spring Boot application
-            startSpringBootApplication(primarySource, args, webAppAssetsExist);
+            ConfigurableApplicationContext context = startSpringBootApplication(primarySource, args,
+                    webAppAssetsExist);
+
+            // 5. Compact the database file on exit, while the lock is still held
+            compactOnShutdown(context, lockManager);
 
         } catch (IOException e) {
             System.err.println("❌ Could not initialize SessionFlow application.");
@@ -41,13 +63,72 @@ public class StartupManager {
     /**
      * Starts the Spring Boot application with appropriate listeners.
      */
-    private static void startSpringBootApplication(Class<?> primarySource, String[] args, boolean webAppAssetsExist) {
+    private static ConfigurableApplicationContext startSpringBootApplication(Class<?> primarySource, String[] args,
+                                                                             boolean webAppAssetsExist) {
         SpringApplication app = new SpringApplication(primarySource);
+        // Keeps startup steps, including the warm-up, for the actuator startup endpoint
+        int startupBufferSize = Integer.getInteger(STARTUP_BUFFER_PROPERTY, DEFAULT_STARTUP_BUFFER_SIZE);
+        if (startupBufferSize > 0) {
+            app.setApplicationStartup(new BufferingApplicationStartup(startupBufferSize));
+        }
         app.addListeners((ApplicationListener<ApplicationReadyEvent>) event -> {
+            recordStartupTime();
             WebServerApplicationContext context = (WebServerApplicationContext) event.getApplicationContext();
-            ConsoleMessagePrinter.printWelcomeMessage(context.getWebServer().getPort(), webAppAssetsExist);
+            int port = context.getWebServer().getPort();
+            ConsoleMessagePrinter.printWelcomeMessage(port, webAppAssetsExist);
+            new ApplicationWarmUp(event.getApplicationContext(), port).start();
         });
 
-        app.run(args);
+        return app.run(args);
+    }
+
+    /**
+     * Registers a full compaction of the database file ({@code SHUTDOWN COMPACT}) for when the application exits,
+     * if {@code sessionflow.compaction.on-shutdown} is set. The task first closes the context, which waits for
+     * Spring's own shutdown hook, so that the connection pool has released the database before it is reopened.
+     * Skipped for in-memory, remote and {@code AUTO_SERVER} databases, which other processes may share.
+     */
+    private static void compactOnShutdown(ConfigurableApplicationContext context, ApplicationLockManager lockManager) {
+        Environment environment = context.getEnvironment();
+        String url = environment.getProperty("spring.datasource.url", "");
+        DurabilitySettings durability = DurabilitySettings.from(environment);
+        if (!CompactionSettings.from(environment).onShutdown() || !DurabilitySettings.isEmbeddedFile(url)
+                || durability.mode() == DurabilityMode.MEMORY || durability.autoServer()) {
+            return;
+        }
+        String username = environment.getProperty("spring.datasource.username", "");
+        String password = environment.getProperty("spring.datasource.password", "");
+        lockManager.addShutdownTask(() -> {
+            context.close();
+            try {
+                StoreCompactor.Result result = StoreCompactor.compactClosed(url, username, password);
+                System.out.printf("🗜️  Compacted the database file from %.2f MB (%d%% live) to %.2f MB in %d ms.%n",
+                        result.sizeBefore() / MEGABYTE, result.liveRatioBefore(), result.sizeAfter() / MEGABYTE,
+                        result.elapsed().toMillis());
+            } catch (SQLException | IOException e) {
+                System.err.println("Could not compact the database file: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Appends the time from JVM launch to {@link ApplicationReadyEvent} to the file named by
+     * {@code sessionflow.startup.report-file}, used by {@code scripts/benchmark-startup.sh}.
+     * When the JVM was relaunched with the CDS archive, the original launch time is used.
+     */
+    private static void recordStartupTime() {
+        String reportFile = System.getProperty(STARTUP_REPORT_PROPERTY);
+        if (reportFile == null) {
+            return;
+        }
+        long launchTime = Long.getLong(JvmRelauncher.LAUNCH_TIME_PROPERTY,
+                ManagementFactory.getRuntimeMXBean().getStartTime());
+        long readyMillis = System.currentTimeMillis() - launchTime;
+        try {
+            Files.writeString(Path.of(reportFile), readyMillis + System.lineSeparator(),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("Could not write startup report: " + e.getMessage());
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.sessionflow.service;
+
+import com.sessionflow.dto.BootstrapSnapshot;
+
+public interface BootstrapService {
+
+    /**
+     * 取得目前的啟動資料快照，資料未變更時回傳快取
+     */
+    BootstrapSnapshot getSnapshot();
+}
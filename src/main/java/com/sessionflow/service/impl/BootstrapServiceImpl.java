@@ -0,0 +1,122 @@
+package com.sessionflow.service.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sessionflow.dto.BootstrapResponse;
+import com.sessionflow.dto.BootstrapSnapshot;
+import com.sessionflow.event.listener.ChangeVersionTracker;
+import com.sessionflow.mapper.ScheduleEntryMapper;
+import com.sessionflow.mapper.SessionMapper;
+import com.sessionflow.mapper.SessionRecordMapper;
+import com.sessionflow.mapper.TagMapper;
+import com.sessionflow.mapper.TaskMapper;
+import com.sessionflow.repository.ScheduleEntryRepository;
+import com.sessionflow.repository.SessionRecordRepository;
+import com.sessionflow.repository.SessionRepository;
+import com.sessionflow.repository.TagRepository;
+import com.sessionflow.repository.TaskRepository;
+import com.sessionflow.service.BootstrapService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 啟動資料快照服務
+ *
+ * 在單一唯讀交易（REPEATABLE_READ）中讀取所有資料，確保快照內容彼此一致；
+ * 產生後的 JSON 與 gzip 內容會快取至資料版本或日期變更為止。
+ */
+@Service
+@Slf4j
+public class BootstrapServiceImpl implements BootstrapService {
+
+    private final TaskRepository taskRepository;
+    private final TagRepository tagRepository;
+    private final SessionRepository sessionRepository;
+    private final ScheduleEntryRepository scheduleEntryRepository;
+    private final SessionRecordRepository sessionRecordRepository;
+    private final TaskMapper taskMapper;
+    private final TagMapper tagMapper;
+    private final SessionMapper sessionMapper;
+    private final ScheduleEntryMapper scheduleEntryMapper;
+    private final SessionRecordMapper sessionRecordMapper;
+    private final ChangeVersionTracker changeVersionTracker;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate snapshotTransaction;
+
+    private final AtomicReference<BootstrapSnapshot> cachedSnapshot = new AtomicReference<>();
+
+    public BootstrapServiceImpl(TaskRepository taskRepository,
+                                TagRepository tagRepository,
+                                SessionRepository sessionRepository,
+                                ScheduleEntryRepository scheduleEntryRepository,
+                                SessionRecordRepository sessionRecordRepository,
+                                TaskMapper taskMapper,
+                                TagMapper tagMapper,
+                                SessionMapper sessionMapper,
+                                ScheduleEntryMapper scheduleEntryMapper,
+                                SessionRecordMapper sessionRecordMapper,
+                                ChangeVersionTracker changeVersionTracker,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.tagRepository = tagRepository;
+        this.sessionRepository = sessionRepository;
+        this.scheduleEntryRepository = scheduleEntryRepository;
+        this.sessionRecordRepository = sessionRecordRepository;
+        this.taskMapper = taskMapper;
+        this.tagMapper = tagMapper;
+        this.sessionMapper = sessionMapper;
+        this.scheduleEntryMapper = scheduleEntryMapper;
+        this.sessionRecordMapper = sessionRecordMapper;
+        this.changeVersionTracker = changeVersionTracker;
+        this.objectMapper = objectMapper;
+
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @Override
+    public BootstrapSnapshot getSnapshot() {
+        LocalDate today = LocalDate.now();
+        long version = changeVersionTracker.currentVersion();
+
+        BootstrapSnapshot cached = cachedSnapshot.get();
+        if (cached != null && cached.version() == version && cached.date().equals(today)) {
+            return cached;
+        }
+
+        log.debug("Building bootstrap snapshot for version {}", version);
+        BootstrapResponse data = snapshotTransaction.execute(status -> readSnapshot(version, today));
+        BootstrapSnapshot snapshot = BootstrapSnapshot.of(version, today, data, objectMapper);
+
+        // 讀取期間若有新的變更，快照可能已包含較新的資料，此時不放入快取
+        if (changeVersionTracker.currentVersion() == version) {
+            cachedSnapshot.set(snapshot);
+        }
+        return snapshot;
+    }
+
+    private BootstrapResponse readSnapshot(long version, LocalDate today) {
+        LocalDateTime startOfDay = today.atStartOfDay();
+        LocalDateTime startOfTomorrow = today.plusDays(1).atStartOfDay();
+
+        return new BootstrapResponse(
+                version,
+                LocalDateTime.now(),
+                today,
+                taskMapper.toResponseList(taskRepository.findAllWithTagsOrderByCreatedAtDesc()),
+                tagMapper.toResponseList(tagRepository.findAll()),
+                sessionMapper.toResponseList(sessionRepository.findAllByOrderByIdDesc()),
+                scheduleEntryMapper.toResponseList(scheduleEntryRepository.findByDateRange(startOfDay, startOfTomorrow)),
+                sessionRecordMapper.toResponseList(sessionRecordRepository.findTop20ByOrderByIdDesc()));
+    }
+}
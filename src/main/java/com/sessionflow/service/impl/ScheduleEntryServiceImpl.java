@@ -6,12 +6,14 @@ import com.sessionflow.exception.InvalidTimeRangeException;
 import com.sessionflow.exception.ScheduleEntryNotFoundException;
 import com.sessionflow.mapper.ScheduleEntryMapper;
 import com.sessionflow.model.ScheduleEntry;
+import com.sessionflow.monitoring.jfr.ScheduleRangeQueryEvent;
 import com.sessionflow.repository.ScheduleEntryRepository;
 import com.sessionflow.service.ScheduleEntryService;
 import com.sessionflow.event.ResourceChangedEvent;
 import com.sessionflow.common.NotificationType;
 import com.sessionflow.model.Task;
 import com.sessionflow.repository.TaskRepository;
+import com.sessionflow.write.GroupCommit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -20,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Slf4j
@@ -34,9 +37,10 @@ public class ScheduleEntryServiceImpl implements ScheduleEntryService {
     private final ApplicationEventPublisher eventPublisher;
     
     @Override
+    @GroupCommit
     @Transactional
     public ScheduleEntryResponse createScheduleEntry(ScheduleEntryRequest request) {
-        log.info("建立排程 - title: {}", request.getTitle());
+        log.debug("建立排程 - title: {}", request.getTitle());
         
         // 驗證時間區間
         validateTimeRange(request.getStartAt(), request.getEndAt());
@@ -54,14 +58,15 @@ public class ScheduleEntryServiceImpl implements ScheduleEntryService {
             null
         ));
         
-        log.info("成功建立排程 - ID: {}", savedEntry.getId());
+        log.debug("成功建立排程 - ID: {}", savedEntry.getId());
         return response;
     }
     
     @Override
+    @GroupCommit
     @Transactional
     public ScheduleEntryResponse updateScheduleEntry(Long id, ScheduleEntryRequest request) {
-        log.info("更新排程 - ID: {}", id);
+        log.debug("更新排程 - ID: {}", id);
         
         // 驗證時間區間
         validateTimeRange(request.getStartAt(), request.getEndAt());
@@ -71,8 +76,7 @@ public class ScheduleEntryServiceImpl implements ScheduleEntryService {
         
         // 將更新邏輯移至 Service 層
         scheduleEntry.setTitle(request.getTitle());
-        scheduleEntry.setEndAt(request.getEndAt());
-        scheduleEntry.setStartAt(request.getStartAt());
+        scheduleEntry.setTimeRange(request.getStartAt(), request.getEndAt());
         scheduleEntry.setNote(request.getNote());
         
         // 更新關聯的任務
@@ -95,14 +99,15 @@ public class ScheduleEntryServiceImpl implements ScheduleEntryService {
             null
         ));
         
-        log.info("成功更新排程 - ID: {}", savedEntry.getId());
+        log.debug("成功更新排程 - ID: {}", savedEntry.getId());
         return response;
     }
     
     @Override
+    @GroupCommit
     @Transactional
     public void deleteScheduleEntry(Long id) {
-        log.info("刪除排程 - ID: {}", id);
+        log.debug("刪除排程 - ID: {}", id);
         
         if (!scheduleEntryRepository.existsById(id)) {
             throw new ScheduleEntryNotFoundException(id);
@@ -119,12 +124,14 @@ public class ScheduleEntryServiceImpl implements ScheduleEntryService {
             null
         ));
         
-        log.info("成功刪除排程 - ID: {}", id);
+        log.debug("成功刪除排程 - ID: {}", id);
     }
     
     @Override
     public List<ScheduleEntryResponse> getScheduleEntries(LocalDate startDate, LocalDate endDate) {
-        log.info("查詢排程 - startDate: {}, endDate: {}", startDate, endDate);
+        log.debug("查詢排程 - startDate: {}, endDate: {}", startDate, endDate);
+        ScheduleRangeQueryEvent event = new ScheduleRangeQueryEvent();
+        event.begin();
         
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay(); // 包含結束日期的整天
@@ -132,7 +139,15 @@ public class ScheduleEntryServiceImpl implements ScheduleEntryService {
         List<ScheduleEntry> scheduleEntries = scheduleEntryRepository.findByDateRange(startDateTime, endDateTime);
         log.debug("找到 {} 筆排程", scheduleEntries.size());
         
-        return scheduleEntryMapper.toResponseList(scheduleEntries);
+        List<ScheduleEntryResponse> responses = scheduleEntryMapper.toResponseList(scheduleEntries);
+        if (event.shouldCommit()) {
+            event.startDate = startDate.toString();
+            event.endDate = endDate.toString();
+            event.days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+            event.rows = scheduleEntries.size();
+            event.commit();
+        }
+        return responses;
     }
     
     @Override
@@ -151,11 +166,11 @@ public class ScheduleEntryServiceImpl implements ScheduleEntryService {
     @Override
     @Transactional
     public void deleteByTaskId(Long taskId) {
-        log.info("Deleting schedule entries by task ID: {}", taskId);
+        log.debug("Deleting schedule entries by task ID: {}", taskId);
         
         scheduleEntryRepository.deleteByTaskId(taskId);
         
-        log.info("Successfully deleted schedule entries for task ID: {}", taskId);
+        log.debug("Successfully deleted schedule entries for task ID: {}", taskId);
     }
     
     private void validateTimeRange(LocalDateTime startAt, LocalDateTime endAt) {
@@ -31,7 +31,7 @@ public class SessionRecordServiceImpl implements SessionRecordService {
     
     @Override
     public List<SessionRecordResponse> getSessionRecords(LocalDate startDate, LocalDate endDate, Long taskId) {
-        log.info("查詢工作階段紀錄 - startDate: {}, endDate: {}, taskId: {}", startDate, endDate, taskId);
+        log.debug("查詢工作階段紀錄 - startDate: {}, endDate: {}, taskId: {}", startDate, endDate, taskId);
         
         List<SessionRecord> sessionRecords;
         
@@ -70,7 +70,7 @@ public class SessionRecordServiceImpl implements SessionRecordService {
     @Override
     @Transactional
     public SessionRecordResponse updateSessionRecord(Long id, SessionRecordUpdateRequest updateRequest) {
-        log.info("更新工作階段紀錄 - ID: {}", id);
+        log.debug("更新工作階段紀錄 - ID: {}", id);
         
         SessionRecord sessionRecord = sessionRecordRepository.findById(id)
                 .orElseThrow(() -> new SessionRecordNotFoundException(id));
@@ -98,7 +98,7 @@ public class SessionRecordServiceImpl implements SessionRecordService {
             null
         ));
         
-        log.info("成功更新工作階段紀錄 - ID: {}", savedRecord.getId());
+        log.debug("成功更新工作階段紀錄 - ID: {}", savedRecord.getId());
         
         return response;
     }
@@ -106,7 +106,7 @@ public class SessionRecordServiceImpl implements SessionRecordService {
     @Override
     @Transactional
     public void deleteSessionRecord(Long id) {
-        log.info("刪除工作階段紀錄 - ID: {}", id);
+        log.debug("刪除工作階段紀錄 - ID: {}", id);
         
         if (!sessionRecordRepository.existsById(id)) {
             throw new SessionRecordNotFoundException(id);
@@ -123,7 +123,7 @@ public class SessionRecordServiceImpl implements SessionRecordService {
             null
         ));
         
-        log.info("成功刪除工作階段紀錄 - ID: {}", id);
+        log.debug("成功刪除工作階段紀錄 - ID: {}", id);
     }
     
     @Override
@@ -142,10 +142,10 @@ public class SessionRecordServiceImpl implements SessionRecordService {
     @Override
     @Transactional
     public void deleteByTaskId(Long taskId) {
-        log.info("Deleting session records by task ID: {}", taskId);
+        log.debug("Deleting session records by task ID: {}", taskId);
         
         sessionRecordRepository.deleteByTaskId(taskId);
         
-        log.info("Successfully deleted session records for task ID: {}", taskId);
+        log.debug("Successfully deleted session records for task ID: {}", taskId);
     }
 } 
\ No newline at end of file
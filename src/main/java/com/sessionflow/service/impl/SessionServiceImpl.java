@@ -1,6 +1,8 @@
 package com.sessionflow.service.impl;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import org.springframework.context.ApplicationEventPublisher;
@@ -16,11 +18,13 @@ import com.sessionflow.mapper.SessionMapper;
 import com.sessionflow.mapper.SessionRecordMapper;
 import com.sessionflow.model.Session;
 import com.sessionflow.model.SessionRecord;
+import com.sessionflow.monitoring.jfr.SessionEndEvent;
 import com.sessionflow.repository.SessionRecordRepository;
 import com.sessionflow.repository.SessionRepository;
 import com.sessionflow.service.SessionService;
 import com.sessionflow.event.ResourceChangedEvent;
 import com.sessionflow.common.NotificationType;
+import com.sessionflow.write.GroupCommit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -38,7 +42,7 @@ public class SessionServiceImpl implements SessionService {
     
     @Override
     public SessionResponse createSession(SessionRequest request) {
-        log.info("Creating new session with title: {}", request.getTitle());
+        log.debug("Creating new session with title: {}", request.getTitle());
         
         // 轉換為實體並儲存
         Session session = sessionMapper.toEntity(request);
@@ -54,7 +58,7 @@ public class SessionServiceImpl implements SessionService {
             null
         ));
         
-        log.info("Successfully created session with id: {}", savedSession.getId());
+        log.debug("Successfully created session with id: {}", savedSession.getId());
         
         return response;
     }
@@ -62,18 +66,21 @@ public class SessionServiceImpl implements SessionService {
     @Override
     @Transactional(readOnly = true)
     public List<SessionResponse> getAllSessions() {
-        log.info("Retrieving all sessions");
+        log.debug("Retrieving all sessions");
         
         List<Session> sessions = sessionRepository.findAllByOrderByIdDesc();
         
-        log.info("Found {} sessions", sessions.size());
+        log.debug("Found {} sessions", sessions.size());
         
         return sessionMapper.toResponseList(sessions);
     }
     
     @Override
+    @GroupCommit
     public SessionRecordResponse endSession(Long sessionId, SessionRecordCreateRequest request) {
-        log.info("Ending session with id: {}", sessionId);
+        log.debug("Ending session with id: {}", sessionId);
+        SessionEndEvent event = new SessionEndEvent();
+        event.begin();
         
         // 查找工作階段
         Session session = sessionRepository.findById(sessionId)
@@ -83,7 +90,7 @@ public class SessionServiceImpl implements SessionService {
         SessionRecord sessionRecord = new SessionRecord();
         sessionRecord.setTitle(session.getTitle());
         sessionRecord.setStartAt(session.getStartAt());
-        sessionRecord.setEndAt(LocalDateTime.now()); // 結束時間由業務邏輯定義
+        sessionRecord.setEndAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS)); // 結束時間由業務邏輯定義
         sessionRecord.setPlannedNote(session.getNote());
         sessionRecord.setCompletionNote(request.getCompletionNote());
         sessionRecord.setTask(session.getTask());
@@ -112,7 +119,16 @@ public class SessionServiceImpl implements SessionService {
             null
         ));
         
-        log.info("Successfully ended session {} and created record {}", 
+        if (event.shouldCommit()) {
+            event.sessionId = sessionId;
+            event.sessionRecordId = savedRecord.getId();
+            event.taskId = savedRecord.getTask() != null ? savedRecord.getTask().getId() : 0;
+            event.sessionLength = Duration.between(savedRecord.getStartAt(), savedRecord.getEndAt()).toSeconds();
+            event.completionNoteLength = request.getCompletionNote() != null ? request.getCompletionNote().length() : 0;
+            event.commit();
+        }
+
+        log.debug("Successfully ended session {} and created record {}", 
                 sessionId, savedRecord.getId());
         
         return recordResponse;
@@ -134,10 +150,10 @@ public class SessionServiceImpl implements SessionService {
     
     @Override
     public void deleteByTaskId(Long taskId) {
-        log.info("Deleting sessions by task ID: {}", taskId);
+        log.debug("Deleting sessions by task ID: {}", taskId);
         
         sessionRepository.deleteByTaskId(taskId);
         
-        log.info("Successfully deleted sessions for task ID: {}", taskId);
+        log.debug("Successfully deleted sessions for task ID: {}", taskId);
     }
 } 
\ No newline at end of file
@@ -6,6 +6,7 @@ import com.sessionflow.exception.TagNameAlreadyExistsException;
 import com.sessionflow.exception.TagNotFoundException;
 import com.sessionflow.mapper.TagMapper;
 import com.sessionflow.model.Tag;
+import com.sessionflow.monitoring.jfr.CascadeDeleteEvent;
 import com.sessionflow.repository.TagRepository;
 import com.sessionflow.service.TagService;
 import com.sessionflow.event.ResourceChangedEvent;
@@ -30,7 +31,7 @@ public class TagServiceImpl implements TagService {
     
     @Override
     public TagResponse createTag(TagRequest request) {
-        log.info("Creating tag with name: {}", request.getName());
+        log.debug("Creating tag with name: {}", request.getName());
         
         // 檢查名稱是否已存在
         if (tagRepository.existsByName(request.getName())) {
@@ -52,24 +53,24 @@ public class TagServiceImpl implements TagService {
             null
         ));
         
-        log.info("Tag created successfully with id: {}", savedTag.getId());
+        log.debug("Tag created successfully with id: {}", savedTag.getId());
         return response;
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<TagResponse> getAllTags() {
-        log.info("Fetching all tags");
+        log.debug("Fetching all tags");
         
         List<Tag> tags = tagRepository.findAll();
         
-        log.info("Found {} tags", tags.size());
+        log.debug("Found {} tags", tags.size());
         return tagMapper.toResponseList(tags);
     }
     
     @Override
     public TagResponse updateTag(Long id, TagRequest request) {
-        log.info("Updating tag with id: {}", id);
+        log.debug("Updating tag with id: {}", id);
         
         // 查詢標籤是否存在
         Tag existingTag = tagRepository.findById(id)
@@ -100,13 +101,15 @@ public class TagServiceImpl implements TagService {
             null
         ));
         
-        log.info("Tag updated successfully with id: {}", updatedTag.getId());
+        log.debug("Tag updated successfully with id: {}", updatedTag.getId());
         return response;
     }
     
     @Override
     public void deleteTag(Long id) {
-        log.info("Deleting tag with id: {}", id);
+        log.debug("Deleting tag with id: {}", id);
+        CascadeDeleteEvent event = new CascadeDeleteEvent("Tag", id);
+        event.begin();
         
         // 查詢標籤，如果不存在則拋出異常
         Tag tag = tagRepository.findById(id)
@@ -116,6 +119,7 @@ public class TagServiceImpl implements TagService {
                 });
         
         // 在刪除標籤之前，斷開與所有任務的關聯
+        event.taskLinks = tag.getTasks().size();
         for (var task : tag.getTasks()) {
             task.getTags().remove(tag);
         }
@@ -132,6 +136,9 @@ public class TagServiceImpl implements TagService {
             null
         ));
         
-        log.info("Tag deleted successfully with id: {}", id);
+        event.affectedRows = 1 + event.taskLinks;
+        event.commit();
+
+        log.debug("Tag deleted successfully with id: {}", id);
     }
 } 
\ No newline at end of file
@@ -15,6 +15,8 @@ import com.sessionflow.exception.TaskNotFoundException;
 import com.sessionflow.mapper.TaskMapper;
 import com.sessionflow.model.Task;
 import com.sessionflow.model.TaskStatus;
+import com.sessionflow.monitoring.jfr.CascadeDeleteEvent;
+import com.sessionflow.monitoring.jfr.TaskMutationEvent;
 import com.sessionflow.repository.TaskRepository;
 import com.sessionflow.service.TaskService;
 import com.sessionflow.service.SessionService;
@@ -25,6 +27,7 @@ import com.sessionflow.common.NotificationType;
 import com.sessionflow.dto.ResourceChangedNotification.Affected;
 import com.sessionflow.model.Tag;
 import com.sessionflow.repository.TagRepository;
+import com.sessionflow.write.GroupCommit;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,7 +48,9 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     public TaskResponse createTask(TaskRequest taskRequest) {
-        log.info("Creating new task with title: {}", taskRequest.getTitle());
+        log.debug("Creating new task with title: {}", taskRequest.getTitle());
+        TaskMutationEvent event = new TaskMutationEvent(TaskMutationEvent.CREATE);
+        event.begin();
 
         Task task = taskMapper.toEntity(taskRequest);
         Task savedTask = taskRepository.save(task);
@@ -60,31 +65,35 @@ public class TaskServiceImpl implements TaskService {
             null
         ));
 
-        log.info("Task created successfully with id: {}", savedTask.getId());
+        commit(event, savedTask);
+        log.debug("Task created successfully with id: {}", savedTask.getId());
         return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponse> getAllTasks(String status) {
-        log.info("Fetching all tasks with status filter: {}", status);
+        log.debug("Fetching all tasks with status filter: {}", status);
 
+        // 一併載入標籤，避免轉換回應時逐一延遲載入（N+1）
         List<Task> tasks;
 
         if (status == null || status.trim().isEmpty()) {
-            tasks = taskRepository.findAllOrderByCreatedAtDesc();
+            tasks = taskRepository.findAllWithTagsOrderByCreatedAtDesc();
         } else {
             TaskStatus taskStatus = parseTaskStatus(status);
-            tasks = taskRepository.findByStatusOrderByCreatedAtDesc(taskStatus);
+            tasks = taskRepository.findByStatusWithTagsOrderByCreatedAtDesc(taskStatus);
         }
 
-        log.info("Found {} tasks", tasks.size());
+        log.debug("Found {} tasks", tasks.size());
         return taskMapper.toResponseList(tasks);
     }
 
     @Override
     public TaskResponse updateTask(Long id, TaskRequest taskRequest) {
-        log.info("Updating task with id: {}", id);
+        log.debug("Updating task with id: {}", id);
+        TaskMutationEvent event = new TaskMutationEvent(TaskMutationEvent.UPDATE);
+        event.begin();
 
         Task existingTask = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
@@ -115,13 +124,16 @@ public class TaskServiceImpl implements TaskService {
             null
         ));
 
-        log.info("Task updated successfully with id: {}", updatedTask.getId());
+        commit(event, updatedTask);
+        log.debug("Task updated successfully with id: {}", updatedTask.getId());
         return response;
     }
 
     @Override
     public void deleteTask(Long id) {
-        log.info("Deleting task with id: {}", id);
+        log.debug("Deleting task with id: {}", id);
+        CascadeDeleteEvent event = new CascadeDeleteEvent("Task", id);
+        event.begin();
 
         if (!taskRepository.existsById(id)) {
             throw new TaskNotFoundException(id);
@@ -162,12 +174,21 @@ public class TaskServiceImpl implements TaskService {
             affected
         ));
         
-        log.info("Task and all related entities deleted successfully with id: {}", id);
+        event.sessions = sessionIds.size();
+        event.sessionRecords = sessionRecordIds.size();
+        event.scheduleEntries = scheduleEntryIds.size();
+        event.affectedRows = 1 + event.sessions + event.sessionRecords + event.scheduleEntries;
+        event.commit();
+
+        log.debug("Task and all related entities deleted successfully with id: {}", id);
     }
 
     @Override
+    @GroupCommit
     public TaskResponse completeTask(Long id) {
-        log.info("Completing task with id: {}", id);
+        log.debug("Completing task with id: {}", id);
+        TaskMutationEvent event = new TaskMutationEvent(TaskMutationEvent.COMPLETE);
+        event.begin();
 
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
@@ -185,13 +206,17 @@ public class TaskServiceImpl implements TaskService {
             null
         ));
 
-        log.info("Task completed successfully with id: {}", completedTask.getId());
+        commit(event, completedTask);
+        log.debug("Task completed successfully with id: {}", completedTask.getId());
         return response;
     }
 
     @Override
+    @GroupCommit
     public TaskResponse reopenTask(Long id) {
-        log.info("Marking task as pending with id: {}", id);
+        log.debug("Marking task as pending with id: {}", id);
+        TaskMutationEvent event = new TaskMutationEvent(TaskMutationEvent.REOPEN);
+        event.begin();
 
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
@@ -209,21 +234,25 @@ public class TaskServiceImpl implements TaskService {
             null
         ));
 
-        log.info("Task marked as pending successfully with id: {}", pendingTask.getId());
+        commit(event, pendingTask);
+        log.debug("Task marked as pending successfully with id: {}", pendingTask.getId());
         return response;
     }
 
+    private static void commit(TaskMutationEvent event, Task task) {
+        if (event.shouldCommit()) {
+            event.taskId = task.getId();
+            event.tagCount = task.getTags().size();
+            event.commit();
+        }
+    }
+
     private TaskStatus parseTaskStatus(String status) {
         try {
-            return switch (status.toLowerCase()) {
-                case "pending" -> TaskStatus.PENDING;
-                case "complete" -> TaskStatus.COMPLETE;
-                default -> throw new IllegalArgumentException("Invalid task status: " + status);
-            };
-        } catch (Exception e) {
+            return TaskStatus.parse(status);
+        } catch (IllegalArgumentException e) {
             log.warn("Invalid task status provided: {}", status);
-            throw new IllegalArgumentException(
-                    "Invalid task status: " + status + ". Valid values are: PENDING, COMPLETE");
+            throw e;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.sessionflow.store;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sessionflow.dto.BootstrapResponse;
+import com.sessionflow.dto.BootstrapSnapshot;
+import com.sessionflow.event.listener.ChangeVersionTracker;
+import com.sessionflow.service.BootstrapService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 由 {@link InMemoryStore} 產生的啟動資料快照
+ *
+ * 在 store 的讀鎖中讀取所有資料，內容彼此一致；快取方式與 {@code BootstrapServiceImpl} 相同。
+ */
+@RequiredArgsConstructor
+public class InMemoryBootstrapService implements BootstrapService {
+
+    private static final int RECENT_SESSION_RECORDS = 20;
+
+    private final BootstrapService delegate;
+    private final InMemoryStore store;
+    private final ChangeVersionTracker changeVersionTracker;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<BootstrapSnapshot> cachedSnapshot = new AtomicReference<>();
+
+    @Override
+    public BootstrapSnapshot getSnapshot() {
+        if (!store.isLoaded()) {
+            return delegate.getSnapshot();
+        }
+        LocalDate today = LocalDate.now();
+        long version = changeVersionTracker.currentVersion();
+
+        BootstrapSnapshot cached = cachedSnapshot.get();
+        if (cached != null && cached.version() == version && cached.date().equals(today)) {
+            return cached;
+        }
+
+        BootstrapResponse data = store.read(() -> new BootstrapResponse(
+                version,
+                LocalDateTime.now(),
+                today,
+                store.tasks(null),
+                store.tags(),
+                store.sessions(),
+                store.scheduleEntries(today.atStartOfDay(), today.plusDays(1).atStartOfDay()),
+                store.recentSessionRecords(RECENT_SESSION_RECORDS)));
+        BootstrapSnapshot snapshot = BootstrapSnapshot.of(version, today, data, objectMapper);
+
+        // store 在版本號遞增前套用變更，版本未變時快照最多包含較新的資料，下一個版本會重新產生
+        if (changeVersionTracker.currentVersion() == version) {
+            cachedSnapshot.set(snapshot);
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,53 @@
+package com.sessionflow.store;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.sessionflow.dto.ScheduleEntryRequest;
+import com.sessionflow.dto.ScheduleEntryResponse;
+import com.sessionflow.service.ScheduleEntryService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 由 {@link InMemoryStore} 回應讀取的排程服務，寫入交由 {@code ScheduleEntryServiceImpl} 提交到 H2
+ */
+@RequiredArgsConstructor
+public class InMemoryScheduleEntryService implements ScheduleEntryService {
+
+    private final ScheduleEntryService delegate;
+    private final InMemoryStore store;
+
+    @Override
+    public ScheduleEntryResponse createScheduleEntry(ScheduleEntryRequest request) {
+        return delegate.createScheduleEntry(request);
+    }
+
+    @Override
+    public ScheduleEntryResponse updateScheduleEntry(Long id, ScheduleEntryRequest request) {
+        return delegate.updateScheduleEntry(id, request);
+    }
+
+    @Override
+    public void deleteScheduleEntry(Long id) {
+        delegate.deleteScheduleEntry(id);
+    }
+
+    @Override
+    public List<ScheduleEntryResponse> getScheduleEntries(LocalDate startDate, LocalDate endDate) {
+        if (!store.isLoaded()) {
+            return delegate.getScheduleEntries(startDate, endDate);
+        }
+        return store.scheduleEntries(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    }
+
+    @Override
+    public List<Long> findIdsByTaskId(Long taskId) {
+        return store.isLoaded() ? store.scheduleEntryIdsByTask(taskId) : delegate.findIdsByTaskId(taskId);
+    }
+
+    @Override
+    public void deleteByTaskId(Long taskId) {
+        delegate.deleteByTaskId(taskId);
+    }
+}
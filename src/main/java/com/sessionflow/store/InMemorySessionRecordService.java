@@ -0,0 +1,60 @@
+package com.sessionflow.store;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.sessionflow.dto.SessionRecordResponse;
+import com.sessionflow.dto.SessionRecordUpdateRequest;
+import com.sessionflow.service.SessionRecordService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 由 {@link InMemoryStore} 回應讀取的工作階段紀錄服務，寫入交由 {@code SessionRecordServiceImpl} 提交到 H2
+ *
+ * 查詢條件的組合與 {@code SessionRecordServiceImpl} 相同：只給一端日期時另一端不設限，結束日期包含當天。
+ */
+@RequiredArgsConstructor
+public class InMemorySessionRecordService implements SessionRecordService {
+
+    private final SessionRecordService delegate;
+    private final InMemoryStore store;
+
+    @Override
+    public List<SessionRecordResponse> getSessionRecords(LocalDate startDate, LocalDate endDate, Long taskId) {
+        if (!store.isLoaded()) {
+            return delegate.getSessionRecords(startDate, endDate, taskId);
+        }
+        if (startDate != null || endDate != null) {
+            LocalDateTime startDateTime = (startDate != null ? startDate : LocalDate.of(2000, 1, 1)).atStartOfDay();
+            LocalDateTime endDateTime = endDate != null
+                    ? endDate.plusDays(1).atStartOfDay() : LocalDate.of(2099, 12, 31).atStartOfDay();
+            return store.sessionRecords(startDateTime, endDateTime, taskId);
+        }
+        if (taskId != null) {
+            return store.sessionRecordsByTask(taskId);
+        }
+        return store.recentSessionRecords(Integer.MAX_VALUE);
+    }
+
+    @Override
+    public SessionRecordResponse updateSessionRecord(Long id, SessionRecordUpdateRequest updateRequest) {
+        return delegate.updateSessionRecord(id, updateRequest);
+    }
+
+    @Override
+    public void deleteSessionRecord(Long id) {
+        delegate.deleteSessionRecord(id);
+    }
+
+    @Override
+    public List<Long> findIdsByTaskId(Long taskId) {
+        return store.isLoaded() ? store.sessionRecordIdsByTask(taskId) : delegate.findIdsByTaskId(taskId);
+    }
+
+    @Override
+    public void deleteByTaskId(Long taskId) {
+        delegate.deleteByTaskId(taskId);
+    }
+}
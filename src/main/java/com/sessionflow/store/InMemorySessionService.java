@@ -0,0 +1,46 @@
+package com.sessionflow.store;
+
+import java.util.List;
+
+import com.sessionflow.dto.SessionRecordCreateRequest;
+import com.sessionflow.dto.SessionRecordResponse;
+import com.sessionflow.dto.SessionRequest;
+import com.sessionflow.dto.SessionResponse;
+import com.sessionflow.service.SessionService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 由 {@link InMemoryStore} 回應讀取的工作階段服務，寫入交由 {@code SessionServiceImpl} 提交到 H2
+ */
+@RequiredArgsConstructor
+public class InMemorySessionService implements SessionService {
+
+    private final SessionService delegate;
+    private final InMemoryStore store;
+
+    @Override
+    public SessionResponse createSession(SessionRequest request) {
+        return delegate.createSession(request);
+    }
+
+    @Override
+    public List<SessionResponse> getAllSessions() {
+        return store.isLoaded() ? store.sessions() : delegate.getAllSessions();
+    }
+
+    @Override
+    public SessionRecordResponse endSession(Long sessionId, SessionRecordCreateRequest request) {
+        return delegate.endSession(sessionId, request);
+    }
+
+    @Override
+    public List<Long> findIdsByTaskId(Long taskId) {
+        return store.isLoaded() ? store.sessionIdsByTask(taskId) : delegate.findIdsByTaskId(taskId);
+    }
+
+    @Override
+    public void deleteByTaskId(Long taskId) {
+        delegate.deleteByTaskId(taskId);
+    }
+}
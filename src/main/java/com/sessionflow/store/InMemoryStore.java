@@ -0,0 +1,415 @@
+package com.sessionflow.store;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sessionflow.common.NotificationType;
+import com.sessionflow.dto.ResourceChangedNotification.Affected;
+import com.sessionflow.dto.ScheduleEntryResponse;
+import com.sessionflow.dto.SessionRecordResponse;
+import com.sessionflow.dto.SessionResponse;
+import com.sessionflow.dto.TagResponse;
+import com.sessionflow.dto.TaskResponse;
+import com.sessionflow.event.ResourceChangedEvent;
+import com.sessionflow.model.TaskStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 記憶體中的完整資料集
+ *
+ * 啟動時由 {@link StoreLoader} 平行載入所有資料表，之後所有讀取都由記憶體中的索引回應，不經過 Hibernate 與 H2。
+ * 寫入仍由原本的 Service 在 H2 中同步提交（H2 作為耐久的日誌），交易提交後依該交易發布的
+ * {@link ResourceChangedEvent} 一次套用；套用在 WebSocket 通知與資料版本遞增之前，收到通知的用戶端重新讀取時已能看到變更。
+ * 回應物件在放入後不再修改，變更時以新的物件取代，讀取者可直接使用。
+ */
+@Slf4j
+public class InMemoryStore implements SmartLifecycle {
+
+    /**
+     * 在合併提交的寫入執行緒之後、Web 伺服器之前載入，第一個請求到達時資料已就緒
+     */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 2048;
+
+    /**
+     * 與 {@code ORDER BY created_at DESC} 相同；建立時間相同時依 ID 遞減
+     */
+    private static final Comparator<TaskRow> TASK_ORDER = Comparator
+            .comparing(TaskRow::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(row -> row.response().getId())
+            .reversed();
+
+    private final StoreLoader loader;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, TaskRow> tasks = new HashMap<>();
+    private final TreeSet<TaskRow> tasksByCreatedAt = new TreeSet<>(TASK_ORDER);
+    private final TreeMap<Long, TagResponse> tags = new TreeMap<>();
+    private final IndexedTable<SessionResponse> sessions =
+            new IndexedTable<>(SessionResponse::getId, SessionResponse::getTaskId, null);
+    private final IndexedTable<SessionRecordResponse> sessionRecords = new IndexedTable<>(
+            SessionRecordResponse::getId, SessionRecordResponse::getTaskId, SessionRecordResponse::getStartAt);
+    private final IndexedTable<ScheduleEntryResponse> scheduleEntries = new IndexedTable<>(
+            ScheduleEntryResponse::getId, ScheduleEntryResponse::getTaskId, ScheduleEntryResponse::getStartAt);
+
+    /**
+     * 最長的排程長度，區間查詢只需從查詢開始前這段時間內開始的排程找起；刪除排程時不縮短
+     */
+    private Duration longestScheduleEntry = Duration.ZERO;
+
+    /**
+     * 載入期間提交的變更，載入完成後依序重播；不在載入中時為 null
+     */
+    @Nullable
+    private List<ResourceChangedEvent<?>> changesDuringLoad;
+
+    private volatile boolean loaded;
+    private volatile boolean running;
+
+    /**
+     * 任務與其建立時間；建立時間不在回應中，只用於排序
+     */
+    record TaskRow(TaskResponse response, LocalDateTime createdAt) {
+    }
+
+    public InMemoryStore(StoreLoader loader) {
+        this.loader = loader;
+    }
+
+    @Override
+    public void start() {
+        load();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 資料是否已載入；載入前各 Service 改由 H2 讀取
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 從 H2 重新載入所有資料表
+     *
+     * 載入期間提交的變更會在載入完成後重播，不會遺失
+     */
+    public synchronized void load() {
+        long start = System.nanoTime();
+        withWriteLock(() -> changesDuringLoad = new ArrayList<>());
+        StoreLoader.Contents contents;
+        try {
+            contents = loader.load();
+        } catch (RuntimeException e) {
+            withWriteLock(() -> changesDuringLoad = null);
+            throw e;
+        }
+        withWriteLock(() -> {
+            tasks.clear();
+            tasksByCreatedAt.clear();
+            tags.clear();
+            sessions.clear();
+            sessionRecords.clear();
+            scheduleEntries.clear();
+            longestScheduleEntry = Duration.ZERO;
+
+            contents.tasks().forEach(this::putTask);
+            contents.tags().forEach(tag -> tags.put(tag.getId(), tag));
+            sessions.putAll(contents.sessions());
+            sessionRecords.putAll(contents.sessionRecords());
+            contents.scheduleEntries().forEach(this::putScheduleEntry);
+
+            List<ResourceChangedEvent<?>> replay = changesDuringLoad;
+            changesDuringLoad = null;
+            replay.forEach(this::applyChange);
+            loaded = true;
+        });
+        log.info("Loaded {} tasks, {} tags, {} sessions, {} session records and {} schedule entries into memory in {} ms",
+                contents.tasks().size(), contents.tags().size(), contents.sessions().size(),
+                contents.sessionRecords().size(), contents.scheduleEntries().size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * 在讀鎖中執行多個查詢，結果彼此一致（不會看到交易只套用一半的狀態）
+     */
+    public <T> T read(Supplier<T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 所有任務或指定狀態的任務，依建立時間遞減
+     */
+    public List<TaskResponse> tasks(@Nullable TaskStatus status) {
+        return read(() -> tasksByCreatedAt.stream()
+                .map(TaskRow::response)
+                .filter(task -> status == null || status.getValue().equals(task.getStatus()))
+                .toList());
+    }
+
+    /**
+     * 依 ID 遞增
+     */
+    public List<TagResponse> tags() {
+        return read(() -> List.copyOf(tags.values()));
+    }
+
+    /**
+     * 依 ID 遞減
+     */
+    public List<SessionResponse> sessions() {
+        return read(() -> sessions.descending(Integer.MAX_VALUE));
+    }
+
+    public List<Long> sessionIdsByTask(Long taskId) {
+        return read(() -> sessions.idsByTask(taskId));
+    }
+
+    /**
+     * 最近的紀錄，依 ID 遞減
+     */
+    public List<SessionRecordResponse> recentSessionRecords(int limit) {
+        return read(() -> sessionRecords.descending(limit));
+    }
+
+    /**
+     * 開始時間在 [{@code from}, {@code to}) 之間、可再依任務篩選的紀錄，依 ID 遞增
+     */
+    public List<SessionRecordResponse> sessionRecords(LocalDateTime from, LocalDateTime to, @Nullable Long taskId) {
+        return read(() -> sessionRecords.startingBetween(from, to).stream()
+                .filter(record -> taskId == null || taskId.equals(record.getTaskId()))
+                .sorted(Comparator.comparing(SessionRecordResponse::getId))
+                .toList());
+    }
+
+    /**
+     * 依 ID 遞增
+     */
+    public List<SessionRecordResponse> sessionRecordsByTask(Long taskId) {
+        return read(() -> sessionRecords.byTask(taskId));
+    }
+
+    public List<Long> sessionRecordIdsByTask(Long taskId) {
+        return read(() -> sessionRecords.idsByTask(taskId));
+    }
+
+    /**
+     * 與 [{@code from}, {@code to}) 重疊的排程，條件與 {@code ScheduleEntryRepository.findByDateRange} 相同，依開始時間遞增
+     */
+    public List<ScheduleEntryResponse> scheduleEntries(LocalDateTime from, LocalDateTime to) {
+        return read(() -> scheduleEntries.startingBetween(from.minus(longestScheduleEntry), to).stream()
+                .filter(entry -> !entry.getStartAt().isBefore(from)
+                        || (entry.getEndAt().isAfter(from) && !entry.getEndAt().isAfter(to))
+                        || entry.getEndAt().isAfter(to))
+                .toList());
+    }
+
+    public List<Long> scheduleEntryIdsByTask(Long taskId) {
+        return read(() -> scheduleEntries.idsByTask(taskId));
+    }
+
+    /**
+     * 交易中發布的變更在提交後一起套用，回復時捨棄；不在交易中發布時立即套用
+     */
+    @EventListener
+    public <T> void onResourceChanged(ResourceChangedEvent<T> event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(List.of(event));
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges pending && pending.store() == this) {
+                pending.events.add(event);
+                return;
+            }
+        }
+        PendingChanges pending = new PendingChanges();
+        pending.events.add(event);
+        TransactionSynchronizationManager.registerSynchronization(pending);
+    }
+
+    void apply(List<ResourceChangedEvent<?>> events) {
+        withWriteLock(() -> {
+            if (changesDuringLoad != null) {
+                changesDuringLoad.addAll(events);
+            } else if (loaded) {
+                events.forEach(this::applyChange);
+            }
+        });
+    }
+
+    private void applyChange(ResourceChangedEvent<?> event) {
+        Object data = event.data();
+        switch (event.notificationType()) {
+            case TASK_CREATE, TASK_UPDATE -> {
+                if (data instanceof TaskResponse task) {
+                    putTask(task);
+                }
+            }
+            case TAG_CREATE, TAG_UPDATE -> {
+                if (data instanceof TagResponse tag) {
+                    tags.put(tag.getId(), tag);
+                    replaceTaskTags(tag.getId(), tag);
+                }
+            }
+            case SESSION_CREATE -> {
+                if (data instanceof SessionResponse session) {
+                    sessions.put(session);
+                }
+            }
+            case SESSION_RECORD_CREATE, SESSION_RECORD_UPDATE -> {
+                if (data instanceof SessionRecordResponse record) {
+                    sessionRecords.put(record);
+                }
+            }
+            case SCHEDULE_ENTRY_CREATE, SCHEDULE_ENTRY_UPDATE -> {
+                if (data instanceof ScheduleEntryResponse entry) {
+                    putScheduleEntry(entry);
+                }
+            }
+            case TASK_DELETE, TAG_DELETE, SESSION_DELETE, SESSION_RECORD_DELETE, SCHEDULE_ENTRY_DELETE -> {
+                if (event.id() != null) {
+                    delete(event.notificationType(), event.id());
+                }
+                if (event.ids() != null) {
+                    event.ids().forEach(id -> delete(event.notificationType(), id));
+                }
+            }
+        }
+        if (event.affected() != null) {
+            for (Affected affected : event.affected()) {
+                affected.ids().forEach(id -> delete(affected.notificationType(), id));
+            }
+        }
+    }
+
+    private void delete(NotificationType type, Long id) {
+        switch (type) {
+            case TASK_DELETE -> {
+                TaskRow row = tasks.remove(id);
+                if (row != null) {
+                    tasksByCreatedAt.remove(row);
+                }
+            }
+            case TAG_DELETE -> {
+                tags.remove(id);
+                replaceTaskTags(id, null);
+            }
+            case SESSION_DELETE -> sessions.remove(id);
+            case SESSION_RECORD_DELETE -> sessionRecords.remove(id);
+            case SCHEDULE_ENTRY_DELETE -> scheduleEntries.remove(id);
+            default -> log.warn("Ignoring {} for {} in the in-memory store", type, id);
+        }
+    }
+
+    /**
+     * 建立或更新任務；更新時沿用原本的建立時間，新任務以套用的時間為建立時間
+     */
+    private void putTask(TaskResponse task) {
+        TaskRow existing = tasks.get(task.getId());
+        putTask(new TaskRow(task, existing != null ? existing.createdAt() : LocalDateTime.now()));
+    }
+
+    private void putTask(TaskRow row) {
+        TaskRow existing = tasks.put(row.response().getId(), row);
+        if (existing != null) {
+            tasksByCreatedAt.remove(existing);
+        }
+        tasksByCreatedAt.add(row);
+    }
+
+    /**
+     * 以新的標籤內容取代任務中的標籤；{@code tag} 為 null 時移除
+     */
+    private void replaceTaskTags(Long tagId, @Nullable TagResponse tag) {
+        for (TaskRow row : List.copyOf(tasks.values())) {
+            TaskResponse task = row.response();
+            if (task.getTags() == null || task.getTags().stream().noneMatch(t -> tagId.equals(t.getId()))) {
+                continue;
+            }
+            List<TagResponse> taskTags = task.getTags().stream()
+                    .map(t -> tagId.equals(t.getId()) ? tag : t)
+                    .filter(Objects::nonNull)
+                    .toList();
+            putTask(new TaskRow(new TaskResponse(task.getId(), task.getTitle(), taskTags, task.getDueAt(),
+                    task.getCompletedAt(), task.getNote(), task.getStatus()), row.createdAt()));
+        }
+    }
+
+    private void putScheduleEntry(ScheduleEntryResponse entry) {
+        scheduleEntries.put(entry);
+        Duration length = Duration.between(entry.getStartAt(), entry.getEndAt());
+        if (length.compareTo(longestScheduleEntry) > 0) {
+            longestScheduleEntry = length;
+        }
+    }
+
+    private void withWriteLock(Runnable writer) {
+        lock.writeLock().lock();
+        try {
+            writer.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 同一個交易發布的變更，提交後一次套用；順序在交易後的事件監聽器（通知、版本號）之前
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final List<ResourceChangedEvent<?>> events = new ArrayList<>();
+
+        InMemoryStore store() {
+            return InMemoryStore.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            apply(events);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
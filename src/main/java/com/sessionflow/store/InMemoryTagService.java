@@ -0,0 +1,39 @@
+package com.sessionflow.store;
+
+import java.util.List;
+
+import com.sessionflow.dto.TagRequest;
+import com.sessionflow.dto.TagResponse;
+import com.sessionflow.service.TagService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 由 {@link InMemoryStore} 回應讀取的標籤服務，寫入交由 {@code TagServiceImpl} 提交到 H2
+ */
+@RequiredArgsConstructor
+public class InMemoryTagService implements TagService {
+
+    private final TagService delegate;
+    private final InMemoryStore store;
+
+    @Override
+    public TagResponse createTag(TagRequest request) {
+        return delegate.createTag(request);
+    }
+
+    @Override
+    public List<TagResponse> getAllTags() {
+        return store.isLoaded() ? store.tags() : delegate.getAllTags();
+    }
+
+    @Override
+    public TagResponse updateTag(Long id, TagRequest request) {
+        return delegate.updateTag(id, request);
+    }
+
+    @Override
+    public void deleteTag(Long id) {
+        delegate.deleteTag(id);
+    }
+}
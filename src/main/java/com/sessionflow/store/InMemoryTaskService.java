@@ -0,0 +1,53 @@
+package com.sessionflow.store;
+
+import java.util.List;
+
+import com.sessionflow.dto.TaskRequest;
+import com.sessionflow.dto.TaskResponse;
+import com.sessionflow.model.TaskStatus;
+import com.sessionflow.service.TaskService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 由 {@link InMemoryStore} 回應讀取的任務服務，寫入交由 {@code TaskServiceImpl} 提交到 H2
+ */
+@RequiredArgsConstructor
+public class InMemoryTaskService implements TaskService {
+
+    private final TaskService delegate;
+    private final InMemoryStore store;
+
+    @Override
+    public TaskResponse createTask(TaskRequest taskRequest) {
+        return delegate.createTask(taskRequest);
+    }
+
+    @Override
+    public List<TaskResponse> getAllTasks(String status) {
+        if (!store.isLoaded()) {
+            return delegate.getAllTasks(status);
+        }
+        return store.tasks(status == null || status.trim().isEmpty() ? null : TaskStatus.parse(status));
+    }
+
+    @Override
+    public TaskResponse updateTask(Long id, TaskRequest taskRequest) {
+        return delegate.updateTask(id, taskRequest);
+    }
+
+    @Override
+    public void deleteTask(Long id) {
+        delegate.deleteTask(id);
+    }
+
+    @Override
+    public TaskResponse completeTask(Long id) {
+        return delegate.completeTask(id);
+    }
+
+    @Override
+    public TaskResponse reopenTask(Long id) {
+        return delegate.reopenTask(id);
+    }
+}
@@ -0,0 +1,131 @@
+package com.sessionflow.store;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 依 ID 排序的資料列，附任務 ID 與開始時間的索引
+ *
+ * 本身不是執行緒安全的，由 {@link InMemoryStore} 的讀寫鎖保護。
+ */
+final class IndexedTable<T> {
+
+    private final Function<T, Long> idOf;
+    private final Function<T, Long> taskIdOf;
+    @Nullable
+    private final Function<T, LocalDateTime> startAtOf;
+
+    private final TreeMap<Long, T> rows = new TreeMap<>();
+    private final Map<Long, TreeSet<Long>> byTask = new HashMap<>();
+    private final TreeMap<LocalDateTime, TreeSet<Long>> byStartAt = new TreeMap<>();
+
+    /**
+     * @param startAtOf 開始時間，null 時不建立開始時間索引
+     */
+    IndexedTable(Function<T, Long> idOf, Function<T, Long> taskIdOf, @Nullable Function<T, LocalDateTime> startAtOf) {
+        this.idOf = idOf;
+        this.taskIdOf = taskIdOf;
+        this.startAtOf = startAtOf;
+    }
+
+    void put(T row) {
+        Long id = idOf.apply(row);
+        remove(id);
+        rows.put(id, row);
+        index(byTask, taskIdOf.apply(row), id);
+        if (startAtOf != null) {
+            index(byStartAt, startAtOf.apply(row), id);
+        }
+    }
+
+    void putAll(Collection<T> rows) {
+        rows.forEach(this::put);
+    }
+
+    @Nullable
+    T remove(Long id) {
+        T row = rows.remove(id);
+        if (row != null) {
+            unindex(byTask, taskIdOf.apply(row), id);
+            if (startAtOf != null) {
+                unindex(byStartAt, startAtOf.apply(row), id);
+            }
+        }
+        return row;
+    }
+
+    void clear() {
+        rows.clear();
+        byTask.clear();
+        byStartAt.clear();
+    }
+
+    int size() {
+        return rows.size();
+    }
+
+    /**
+     * 依 ID 遞增
+     */
+    List<T> all() {
+        return new ArrayList<>(rows.values());
+    }
+
+    /**
+     * 依 ID 遞減，最多 {@code limit} 筆
+     */
+    List<T> descending(int limit) {
+        return rows.descendingMap().values().stream().limit(limit).toList();
+    }
+
+    /**
+     * 指定任務的資料列，依 ID 遞增
+     */
+    List<T> byTask(Long taskId) {
+        return byTask.getOrDefault(taskId, new TreeSet<>()).stream().map(rows::get).toList();
+    }
+
+    List<Long> idsByTask(Long taskId) {
+        return List.copyOf(byTask.getOrDefault(taskId, new TreeSet<>()));
+    }
+
+    /**
+     * 開始時間在 [{@code from}, {@code to}) 之間的資料列，依開始時間與 ID 遞增
+     */
+    List<T> startingBetween(LocalDateTime from, LocalDateTime to) {
+        List<T> result = new ArrayList<>();
+        if (from.isBefore(to)) {
+            byStartAt.subMap(from, true, to, false).values()
+                    .forEach(ids -> ids.forEach(id -> result.add(rows.get(id))));
+        }
+        return result;
+    }
+
+    private static <K> void index(Map<K, TreeSet<Long>> index, @Nullable K key, Long id) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> new TreeSet<>()).add(id);
+        }
+    }
+
+    private static <K> void unindex(Map<K, TreeSet<Long>> index, @Nullable K key, Long id) {
+        if (key == null) {
+            return;
+        }
+        TreeSet<Long> ids = index.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.sessionflow.store;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sessionflow.dto.ScheduleEntryResponse;
+import com.sessionflow.dto.SessionRecordResponse;
+import com.sessionflow.dto.SessionResponse;
+import com.sessionflow.dto.TagResponse;
+import com.sessionflow.mapper.ScheduleEntryMapper;
+import com.sessionflow.mapper.SessionMapper;
+import com.sessionflow.mapper.SessionRecordMapper;
+import com.sessionflow.mapper.TagMapper;
+import com.sessionflow.mapper.TaskMapper;
+import com.sessionflow.repository.ScheduleEntryRepository;
+import com.sessionflow.repository.SessionRecordRepository;
+import com.sessionflow.repository.SessionRepository;
+import com.sessionflow.repository.TagRepository;
+import com.sessionflow.repository.TaskRepository;
+import com.sessionflow.store.InMemoryStore.TaskRow;
+
+/**
+ * 平行載入所有資料表
+ *
+ * 每個資料表在自己的執行緒、連線與唯讀交易中讀取，經由與 Service 相同的 Mapper 轉換，
+ * 內容與經由 H2 查詢時相同。各資料表不在同一個交易中讀取，載入期間提交的變更由 {@link InMemoryStore} 重播補上。
+ */
+public class StoreLoader {
+
+    private static final int TABLES = 5;
+
+    private final TaskRepository taskRepository;
+    private final TagRepository tagRepository;
+    private final SessionRepository sessionRepository;
+    private final SessionRecordRepository sessionRecordRepository;
+    private final ScheduleEntryRepository scheduleEntryRepository;
+    private final TaskMapper taskMapper;
+    private final TagMapper tagMapper;
+    private final SessionMapper sessionMapper;
+    private final SessionRecordMapper sessionRecordMapper;
+    private final ScheduleEntryMapper scheduleEntryMapper;
+    private final TransactionTemplate readTransaction;
+
+    /**
+     * 載入的內容
+     */
+    record Contents(List<TaskRow> tasks,
+                    List<TagResponse> tags,
+                    List<SessionResponse> sessions,
+                    List<SessionRecordResponse> sessionRecords,
+                    List<ScheduleEntryResponse> scheduleEntries) {
+    }
+
+    public StoreLoader(TaskRepository taskRepository,
+                       TagRepository tagRepository,
+                       SessionRepository sessionRepository,
+                       SessionRecordRepository sessionRecordRepository,
+                       ScheduleEntryRepository scheduleEntryRepository,
+                       TaskMapper taskMapper,
+                       TagMapper tagMapper,
+                       SessionMapper sessionMapper,
+                       SessionRecordMapper sessionRecordMapper,
+                       ScheduleEntryMapper scheduleEntryMapper,
+                       PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.tagRepository = tagRepository;
+        this.sessionRepository = sessionRepository;
+        this.sessionRecordRepository = sessionRecordRepository;
+        this.scheduleEntryRepository = scheduleEntryRepository;
+        this.taskMapper = taskMapper;
+        this.tagMapper = tagMapper;
+        this.sessionMapper = sessionMapper;
+        this.sessionRecordMapper = sessionRecordMapper;
+        this.scheduleEntryMapper = scheduleEntryMapper;
+
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    Contents load() {
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(TABLES, runnable -> {
+            Thread thread = new Thread(runnable, "store-loader-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<List<TaskRow>> tasks = read(executor, () -> taskRepository
+                    .findAllWithTagsOrderByCreatedAtDesc().stream()
+                    .map(task -> new TaskRow(taskMapper.toResponse(task), task.getCreatedAt()))
+                    .toList());
+            CompletableFuture<List<TagResponse>> tags =
+                    read(executor, () -> tagMapper.toResponseList(tagRepository.findAll()));
+            CompletableFuture<List<SessionResponse>> sessions =
+                    read(executor, () -> sessionMapper.toResponseList(sessionRepository.findAll()));
+            CompletableFuture<List<SessionRecordResponse>> sessionRecords =
+                    read(executor, () -> sessionRecordMapper.toResponseList(sessionRecordRepository.findAll()));
+            CompletableFuture<List<ScheduleEntryResponse>> scheduleEntries =
+                    read(executor, () -> scheduleEntryMapper.toResponseList(scheduleEntryRepository.findAll()));
+            return new Contents(tasks.join(), tags.join(), sessions.join(), sessionRecords.join(),
+                    scheduleEntries.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Could not load the in-memory store", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> CompletableFuture<T> read(ExecutorService executor, Supplier<T> reader) {
+        return CompletableFuture.supplyAsync(() -> readTransaction.execute(status -> reader.get()), executor);
+    }
+}
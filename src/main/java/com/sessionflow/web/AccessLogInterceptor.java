@@ -0,0 +1,95 @@
+package com.sessionflow.web;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 取樣的結構化存取日誌
+ *
+ * 取代 Controller 與 Service 逐筆記錄的 INFO 日誌：每個 API 請求結束時依取樣率決定是否寫入
+ * {@code sessionflow.access}，慢請求與伺服器錯誤一律記錄。欄位以 key-value 附加，由 logback-spring.xml
+ * 的結構化編碼器輸出為 JSON；未記錄的請求只讀取一次時鐘，不建立字串。
+ */
+public class AccessLogInterceptor implements HandlerInterceptor {
+
+    public static final String LOGGER_NAME = "sessionflow.access";
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger(LOGGER_NAME);
+    private static final String START_ATTRIBUTE = AccessLogInterceptor.class.getName() + ".start";
+
+    private final double sampleRate;
+    private final long slowMillis;
+
+    /**
+     * @param sampleRate 記錄一般請求的比例，0 到 1
+     * @param slowMillis 處理時間達此毫秒數的請求一律記錄
+     */
+    public AccessLogInterceptor(double sampleRate, long slowMillis) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Access log sample rate must be between 0 and 1: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+        this.slowMillis = slowMillis;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (handler instanceof HandlerMethod && ACCESS_LOG.isInfoEnabled()) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, @Nullable Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        int status = response.getStatus();
+
+        String reason;
+        if (ex != null || status >= 500) {
+            reason = "error";
+        } else if (durationMillis >= slowMillis) {
+            reason = "slow";
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            reason = "sampled";
+        } else {
+            return;
+        }
+
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : request.getRequestURI();
+        LoggingEventBuilder event = ACCESS_LOG.atInfo()
+                .setMessage(request.getMethod() + " " + route + " " + status)
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("route", route)
+                .addKeyValue("status", status)
+                .addKeyValue("duration_ms", durationMillis)
+                .addKeyValue("handler", handlerMethod.getBeanType().getSimpleName() + "."
+                        + handlerMethod.getMethod().getName())
+                .addKeyValue("reason", reason)
+                .addKeyValue("sample_rate", sampleRate);
+        if (ex != null) {
+            event = event.addKeyValue("error", ex.getClass().getSimpleName());
+        }
+        event.log();
+    }
+}
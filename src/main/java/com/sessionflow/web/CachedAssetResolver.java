@@ -0,0 +1,78 @@
+package com.sessionflow.web;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 由 {@link StaticAssetCache} 提供前端資源的解析器
+ *
+ * index.html 交由 {@link IndexHtmlRenderer} 渲染；快取中找不到的路徑若屬於 SPA 路由，則回傳 index.html。
+ */
+public class CachedAssetResolver extends AbstractResourceResolver {
+
+    private static final String INDEX_HTML = "index.html";
+
+    private final StaticAssetCache assets;
+    private final Supplier<IndexHtmlRenderer> indexHtmlRenderer;
+    private final Predicate<String> spaRoute;
+
+    /**
+     * @param assets            靜態資源快取
+     * @param indexHtmlRenderer 取得 index.html 渲染器，不可用時回傳 null 並改用原始 index.html
+     * @param spaRoute          判斷找不到的路徑是否應回傳 index.html
+     */
+    public CachedAssetResolver(StaticAssetCache assets, Supplier<IndexHtmlRenderer> indexHtmlRenderer,
+            Predicate<String> spaRoute) {
+        this.assets = assets;
+        this.indexHtmlRenderer = indexHtmlRenderer;
+        this.spaRoute = spaRoute;
+    }
+
+    @Override
+    @Nullable
+    protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
+            List<? extends Resource> locations, ResourceResolverChain chain) {
+        String acceptEncoding = request != null ? request.getHeader(HttpHeaders.ACCEPT_ENCODING) : null;
+        if (!requestPath.equals(INDEX_HTML)) {
+            Resource asset = assets.resolve(requestPath, acceptEncoding);
+            if (asset != null || !spaRoute.test(requestPath)) {
+                return asset;
+            }
+        }
+        return indexHtml(acceptEncoding);
+    }
+
+    @Override
+    @Nullable
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+            ResourceResolverChain chain) {
+        return assets.contains(resourceUrlPath) ? resourceUrlPath : null;
+    }
+
+    @Nullable
+    private Resource indexHtml(@Nullable String acceptEncoding) {
+        IndexHtmlRenderer renderer = indexHtmlRenderer.get();
+        if (renderer != null) {
+            try {
+                Resource rendered = renderer.render(acceptEncoding);
+                if (rendered != null) {
+                    return rendered;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return assets.resolve(INDEX_HTML, acceptEncoding);
+    }
+}
@@ -0,0 +1,74 @@
+package com.sessionflow.web;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.resource.HttpResource;
+
+/**
+ * 記憶體中的靜態資源
+ *
+ * 內容可能已依 {@code Accept-Encoding} 壓縮，並帶有對應的 ETag 與快取策略。
+ */
+public class CachedAssetResource extends ByteArrayResource implements HttpResource {
+
+    private final String filename;
+    @Nullable
+    private final String etag;
+    @Nullable
+    private final String contentEncoding;
+    private final CacheControl cacheControl;
+
+    public CachedAssetResource(byte[] content, String filename, @Nullable String etag,
+            @Nullable String contentEncoding, CacheControl cacheControl) {
+        super(content, "cached " + filename);
+        this.filename = filename;
+        this.etag = etag;
+        this.contentEncoding = contentEncoding;
+        this.cacheControl = cacheControl;
+    }
+
+    /**
+     * 供 {@code ResourceHttpRequestHandler} 的 ETag 產生器使用
+     *
+     * @return 資源的 ETag；非快取資源回傳 null
+     */
+    @Nullable
+    public static String etagOf(Resource resource) {
+        return resource instanceof CachedAssetResource asset ? asset.etag : null;
+    }
+
+    @Nullable
+    public String getEtag() {
+        return etag;
+    }
+
+    @Nullable
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    @Override
+    public String getFilename() {
+        // 回傳原始檔名，讓 Content-Type 依原始副檔名判斷
+        return filename;
+    }
+
+    @Override
+    public long lastModified() {
+        return -1;
+    }
+
+    @Override
+    public HttpHeaders getResponseHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(cacheControl);
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (contentEncoding != null) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        }
+        return headers;
+    }
+}
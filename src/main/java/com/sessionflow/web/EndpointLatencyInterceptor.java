@@ -0,0 +1,53 @@
+package com.sessionflow.web;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.sessionflow.monitoring.history.MetricsCollector;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 將每個 API 請求的處理時間交給指標歷史
+ *
+ * 端點以 Controller 方法識別，名稱（例如 {@code GET /api/tasks/{id}}）只在第一次遇到時組成。
+ */
+public class EndpointLatencyInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = EndpointLatencyInterceptor.class.getName() + ".start";
+
+    private final MetricsCollector collector;
+
+    public EndpointLatencyInterceptor(MetricsCollector collector) {
+        this.collector = collector;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, @Nullable Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+        long nanos = System.nanoTime() - start;
+        collector.recordRequest(((HandlerMethod) handler).getMethod(), () -> endpointName(request), nanos);
+    }
+
+    private static String endpointName(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+}
@@ -0,0 +1,207 @@
+package com.sessionflow.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sessionflow.dto.BootstrapSnapshot;
+import com.sessionflow.dto.InitialState;
+import com.sessionflow.service.BootstrapService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SPA index.html 渲染器
+ *
+ * 將任務、標籤與進行中的工作階段以 {@code window.__SESSIONFLOW_INITIAL_STATE__} 內嵌到 index.html，
+ * 讓前端不必等 JS 載入後再發出第一輪 API 請求。
+ * 範本只讀取並切割一次；渲染結果依資料版本快取，版本變更時才重新產生。
+ */
+@Component
+@Slf4j
+public class IndexHtmlRenderer {
+
+    public static final String INDEX_HTML_LOCATION = "static/sessionflowapp/index.html";
+    static final String INITIAL_STATE_VARIABLE = "__SESSIONFLOW_INITIAL_STATE__";
+
+    private final BootstrapService bootstrapService;
+    private final ObjectMapper objectMapper;
+    private final Resource template;
+
+    private volatile Template parsedTemplate;
+    private volatile RenderedIndexResource cachedIndex;
+
+    @Autowired
+    public IndexHtmlRenderer(BootstrapService bootstrapService, ObjectMapper objectMapper) {
+        this(bootstrapService, objectMapper, new ClassPathResource(INDEX_HTML_LOCATION));
+    }
+
+    IndexHtmlRenderer(BootstrapService bootstrapService, ObjectMapper objectMapper, Resource template) {
+        this.bootstrapService = bootstrapService;
+        this.objectMapper = objectMapper;
+        this.template = template;
+    }
+
+    /**
+     * 取得內嵌初始狀態的 index.html
+     *
+     * @return 渲染後的資源；範本不存在時回傳 null
+     */
+    public Resource render() throws IOException {
+        return render(null);
+    }
+
+    /**
+     * 依用戶端支援的壓縮格式取得內嵌初始狀態的 index.html
+     *
+     * @param acceptEncoding 請求的 {@code Accept-Encoding} 標頭，可為 null
+     * @return 渲染後的資源；範本不存在時回傳 null
+     */
+    public Resource render(@Nullable String acceptEncoding) throws IOException {
+        RenderedIndexResource rendered = renderIndex();
+        if (rendered != null && StaticAssetCache.acceptsEncoding(acceptEncoding, StaticAssetCache.GZIP)) {
+            return rendered.gzipped();
+        }
+        return rendered;
+    }
+
+    private RenderedIndexResource renderIndex() throws IOException {
+        Template currentTemplate = loadTemplate();
+        if (currentTemplate == null) {
+            return null;
+        }
+
+        BootstrapSnapshot snapshot;
+        try {
+            snapshot = bootstrapService.getSnapshot();
+        } catch (RuntimeException e) {
+            // 無法取得資料時仍回傳頁面，由前端自行載入資料
+            log.warn("Could not load initial state for index.html: {}", e.getMessage());
+            return new RenderedIndexResource(currentTemplate.render(""), -1);
+        }
+
+        RenderedIndexResource cached = cachedIndex;
+        if (cached != null && cached.version == snapshot.version()) {
+            return cached;
+        }
+
+        RenderedIndexResource rendered = new RenderedIndexResource(
+                currentTemplate.render(initialStateScript(InitialState.from(snapshot))), snapshot.version());
+        cachedIndex = rendered;
+        return rendered;
+    }
+
+    private Template loadTemplate() throws IOException {
+        Template current = parsedTemplate;
+        if (current == null) {
+            if (!template.exists()) {
+                return null;
+            }
+            try (InputStream in = template.getInputStream()) {
+                current = Template.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            parsedTemplate = current;
+        }
+        return current;
+    }
+
+    private String initialStateScript(InitialState state) {
+        try {
+            String json = objectMapper.writeValueAsString(state);
+            return "<script>window." + INITIAL_STATE_VARIABLE + "=" + escapeForScript(json) + ";</script>";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize initial state", e);
+        }
+    }
+
+    /**
+     * 避免資料內容提前結束 script 區塊（例如任務標題含有 {@code </script>}）
+     */
+    static String escapeForScript(String json) {
+        StringBuilder escaped = new StringBuilder(json.length() + 16);
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            switch (c) {
+                case '<' -> escaped.append("\\u003c");
+                case '>' -> escaped.append("\\u003e");
+                case '&' -> escaped.append("\\u0026");
+                case '\u2028' -> escaped.append("\\u2028");
+                case '\u2029' -> escaped.append("\\u2029");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * 以 {@code </head>} 為界切割的範本，靜態部分只編碼一次
+     */
+    private record Template(byte[] head, byte[] tail) {
+
+        static Template parse(String html) {
+            int index = html.toLowerCase().indexOf("</head>");
+            if (index < 0) {
+                index = 0;
+            }
+            return new Template(
+                    html.substring(0, index).getBytes(StandardCharsets.UTF_8),
+                    html.substring(index).getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] render(String injection) {
+            byte[] middle = injection.getBytes(StandardCharsets.UTF_8);
+            byte[] content = new byte[head.length + middle.length + tail.length];
+            System.arraycopy(head, 0, content, 0, head.length);
+            System.arraycopy(middle, 0, content, head.length, middle.length);
+            System.arraycopy(tail, 0, content, head.length + middle.length, tail.length);
+            return content;
+        }
+    }
+
+    /**
+     * 渲染後的 index.html；內容隨資料版本變動，因此每次都需以 ETag 重新驗證
+     */
+    static final class RenderedIndexResource extends CachedAssetResource {
+
+        private final long version;
+        private volatile CachedAssetResource gzipped;
+
+        RenderedIndexResource(byte[] content, long version) {
+            super(content, "index.html", etag(version, ""), null, CacheControl.noCache());
+            this.version = version;
+        }
+
+        long getVersion() {
+            return version;
+        }
+
+        /**
+         * gzip 版本在同一資料版本內只壓縮一次
+         */
+        CachedAssetResource gzipped() {
+            CachedAssetResource current = gzipped;
+            if (current == null) {
+                current = new CachedAssetResource(StaticAssetCache.gzip(getByteArray()), "index.html",
+                        etag(version, "-gzip"), StaticAssetCache.GZIP, CacheControl.noCache());
+                gzipped = current;
+            }
+            return current;
+        }
+
+        /**
+         * 無法取得資料版本時（version 為 -1）不提供 ETag
+         */
+        private static String etag(long version, String suffix) {
+            return version >= 0 ? "\"index-" + version + suffix + "\"" : null;
+        }
+    }
+}
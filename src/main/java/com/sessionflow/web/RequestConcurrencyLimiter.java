@@ -0,0 +1,59 @@
+package com.sessionflow.web;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.sessionflow.exception.ServiceBusyException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * API 請求並行數限制
+ *
+ * 使用虛擬執行緒時 Tomcat 不再以執行緒池限制並行請求，大量請求會同時等待資料庫連線池，
+ * 直到連線取得逾時才失敗。此攔截器將同時處理的 API 請求數限制在連線池大小內，
+ * 其餘請求依序等待，超過等待時間則回傳 503。
+ */
+public class RequestConcurrencyLimiter implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = RequestConcurrencyLimiter.class.getName() + ".permit";
+
+    private final Semaphore permits;
+    private final int maxConcurrentRequests;
+    private final long acquireTimeoutMillis;
+
+    public RequestConcurrencyLimiter(int maxConcurrentRequests, long acquireTimeoutMillis) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) throws InterruptedException {
+        if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            throw new ServiceBusyException("More than %d concurrent API requests; waited %d ms"
+                    .formatted(maxConcurrentRequests, acquireTimeoutMillis));
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, @Nullable Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,49 @@
+package com.sessionflow.web;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.sessionflow.monitoring.RequestTrace;
+import com.sessionflow.monitoring.RequestTracer;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 為每個 API 請求開始與結束追蹤
+ *
+ * 追蹤涵蓋 Controller 呼叫前後的處理與回應序列化；註冊在其他攔截器之前，因此也包含等待並行數限制的時間。
+ */
+public class RequestTracingInterceptor implements HandlerInterceptor {
+
+    private static final String TRACE_ATTRIBUTE = RequestTracingInterceptor.class.getName() + ".trace";
+
+    private final RequestTracer tracer;
+
+    public RequestTracingInterceptor(RequestTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RequestTrace trace = tracer.begin(SqlBudgetInterceptor.endpointName(request, handlerMethod));
+            if (trace != null) {
+                request.setAttribute(TRACE_ATTRIBUTE, trace);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, @Nullable Exception ex) {
+        if (request.getAttribute(TRACE_ATTRIBUTE) instanceof RequestTrace trace) {
+            request.removeAttribute(TRACE_ATTRIBUTE);
+            tracer.end(trace, response.getStatus(), ex);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.sessionflow.web;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.sessionflow.monitoring.SqlBudget;
+import com.sessionflow.monitoring.SqlStatementCounter;
+import com.sessionflow.monitoring.SqlStatementRecording;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * API 請求的 SQL 陳述式預算
+ *
+ * 記錄每個 API 請求在處理執行緒上執行的陳述式（含回應序列化期間的延遲載入），
+ * 總數超過預算或同一形狀的陳述式重複過多次（常見於 N+1 查詢）時記錄警告。
+ * 預算可由 {@link SqlBudget} 依端點覆寫。
+ */
+@Slf4j
+public class SqlBudgetInterceptor implements HandlerInterceptor {
+
+    private static final String RECORDING_ATTRIBUTE = SqlBudgetInterceptor.class.getName() + ".recording";
+
+    private final int maxStatements;
+    private final int maxRepeats;
+
+    public SqlBudgetInterceptor(int maxStatements, int maxRepeats) {
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(RECORDING_ATTRIBUTE, SqlStatementCounter.start());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, @Nullable Exception ex) {
+        if (!(request.getAttribute(RECORDING_ATTRIBUTE) instanceof SqlStatementRecording recording)) {
+            return;
+        }
+        request.removeAttribute(RECORDING_ATTRIBUTE);
+        recording.close();
+
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        SqlBudget budget = findBudget(handlerMethod);
+        int statementLimit = budget != null && budget.statements() >= 0 ? budget.statements() : maxStatements;
+        int repeatLimit = budget != null && budget.repeats() >= 0 ? budget.repeats() : maxRepeats;
+
+        if (recording.total() > statementLimit) {
+            log.warn("{} executed {} SQL statements, over its budget of {}",
+                    endpointName(request, handlerMethod), recording.total(), statementLimit);
+        }
+        recording.repeatedMoreThan(repeatLimit).forEach((shape, count) ->
+                log.warn("{} repeated the same SQL statement {} times (limit {}): {}",
+                        endpointName(request, handlerMethod), count, repeatLimit, shape));
+    }
+
+    @Nullable
+    private static SqlBudget findBudget(HandlerMethod handlerMethod) {
+        SqlBudget budget = handlerMethod.getMethodAnnotation(SqlBudget.class);
+        return budget != null ? budget
+                : AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), SqlBudget.class);
+    }
+
+    /**
+     * 端點名稱，例如 {@code GET /api/tasks/{id} (TaskController.getTaskById)}
+     */
+    static String endpointName(HttpServletRequest request, HandlerMethod handlerMethod) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return "%s %s (%s.%s)".formatted(request.getMethod(),
+                pattern != null ? pattern : request.getRequestURI(),
+                handlerMethod.getBeanType().getSimpleName(), handlerMethod.getMethod().getName());
+    }
+}
@@ -0,0 +1,248 @@
+package com.sessionflow.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.CacheControl;
+import org.springframework.lang.Nullable;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 前端靜態資源的記憶體快取
+ *
+ * 啟動後一次讀入所有前端檔案並預先 gzip 壓縮，之後的請求直接由記憶體回應，
+ * 不再逐次檢查 classpath 上的檔案。建置時若已產生 {@code .br} 或 {@code .gz} 檔案，則直接採用。
+ * {@code assets/} 下的檔名含內容雜湊，可長期快取；其餘檔案以 ETag 重新驗證。
+ */
+@Slf4j
+public class StaticAssetCache {
+
+    public static final String DEFAULT_LOCATION = "classpath*:static/sessionflowapp/";
+
+    static final String GZIP = "gzip";
+    static final String BROTLI = "br";
+
+    private static final int MIN_COMPRESSIBLE_SIZE = 1024;
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS = Set.of(
+            "html", "js", "mjs", "css", "json", "map", "svg", "txt", "xml", "webmanifest", "ico");
+
+    private static final CacheControl HASHED_ASSET_CACHE = CacheControl.maxAge(365, TimeUnit.DAYS)
+            .cachePublic().immutable();
+    private static final CacheControl DEFAULT_CACHE = CacheControl.maxAge(1, TimeUnit.HOURS);
+
+    private final String location;
+    private volatile Map<String, CachedAsset> assets;
+
+    public StaticAssetCache() {
+        this(DEFAULT_LOCATION);
+    }
+
+    public StaticAssetCache(String location) {
+        this.location = location.endsWith("/") ? location : location + "/";
+    }
+
+    /**
+     * 應用程式啟動完成後預先載入，避免第一個請求承擔讀取與壓縮成本
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        assets();
+    }
+
+    /**
+     * 依用戶端支援的壓縮格式取得資源
+     *
+     * @param path           相對於前端根目錄的路徑
+     * @param acceptEncoding 請求的 {@code Accept-Encoding} 標頭，可為 null
+     * @return 快取的資源；不存在時回傳 null
+     */
+    @Nullable
+    public CachedAssetResource resolve(String path, @Nullable String acceptEncoding) {
+        CachedAsset asset = assets().get(path);
+        return asset != null ? asset.select(acceptEncoding) : null;
+    }
+
+    public boolean contains(String path) {
+        return assets().containsKey(path);
+    }
+
+    private Map<String, CachedAsset> assets() {
+        Map<String, CachedAsset> current = assets;
+        if (current == null) {
+            synchronized (this) {
+                current = assets;
+                if (current == null) {
+                    current = load();
+                    assets = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Map<String, CachedAsset> load() {
+        Map<String, byte[]> files = new HashMap<>();
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        try {
+            // classpath*: 可能對應多個根目錄，逐一展開以取得相對路徑
+            for (Resource root : resolver.getResources(location)) {
+                String rootUrl = root.getURL().toString();
+                for (Resource file : resolver.getResources(rootUrl + "**")) {
+                    String path = file.getURL().toString().substring(rootUrl.length());
+                    if (path.isEmpty() || path.endsWith("/") || !file.isReadable() || files.containsKey(path)) {
+                        continue;
+                    }
+                    try (InputStream in = file.getInputStream()) {
+                        files.put(path, in.readAllBytes());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not load web app assets from {}: {}", location, e.getMessage());
+        }
+
+        Map<String, CachedAsset> loaded = new HashMap<>();
+        long identityBytes = 0;
+        long encodedBytes = 0;
+        for (Map.Entry<String, byte[]> entry : files.entrySet()) {
+            String path = entry.getKey();
+            if (isPrecompressedSibling(path, files)) {
+                continue;
+            }
+            byte[] identity = entry.getValue();
+            byte[] gzip = files.containsKey(path + ".gz") ? files.get(path + ".gz") : compress(path, identity);
+            byte[] brotli = files.get(path + ".br");
+            loaded.put(path, new CachedAsset(path, identity, gzip, brotli, cacheControlFor(path)));
+            identityBytes += identity.length;
+            encodedBytes += gzip != null ? gzip.length : identity.length;
+        }
+        log.debug("Cached {} web app assets ({} bytes, {} bytes gzip)", loaded.size(), identityBytes, encodedBytes);
+        return Map.copyOf(loaded);
+    }
+
+    private static boolean isPrecompressedSibling(String path, Map<String, byte[]> files) {
+        for (String suffix : new String[] {".gz", ".br"}) {
+            if (path.endsWith(suffix) && files.containsKey(path.substring(0, path.length() - suffix.length()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static byte[] compress(String path, byte[] content) {
+        String extension = StringUtils.getFilenameExtension(path);
+        if (content.length < MIN_COMPRESSIBLE_SIZE || extension == null
+                || !COMPRESSIBLE_EXTENSIONS.contains(extension.toLowerCase(Locale.ROOT))) {
+            return null;
+        }
+        byte[] compressed = gzip(content);
+        return compressed.length < content.length ? compressed : null;
+    }
+
+    private static CacheControl cacheControlFor(String path) {
+        if (path.startsWith("assets/")) {
+            return HASHED_ASSET_CACHE;
+        }
+        if (path.equals("index.html")) {
+            return CacheControl.noCache();
+        }
+        return DEFAULT_CACHE;
+    }
+
+    static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 判斷 {@code Accept-Encoding} 是否接受指定的壓縮格式（{@code q=0} 視為拒絕）
+     */
+    static boolean acceptsEncoding(@Nullable String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String name = tokens[0].trim();
+            boolean accepted = true;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=") && isZero(param.substring(2))) {
+                    accepted = false;
+                }
+            }
+            if (name.equalsIgnoreCase(coding)) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean isZero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 單一檔案的各種編碼版本，每個版本預先建立好回應用的資源
+     */
+    private static final class CachedAsset {
+
+        private final CachedAssetResource identity;
+        @Nullable
+        private final CachedAssetResource gzip;
+        @Nullable
+        private final CachedAssetResource brotli;
+
+        CachedAsset(String path, byte[] identity, @Nullable byte[] gzip, @Nullable byte[] brotli,
+                CacheControl cacheControl) {
+            String filename = StringUtils.getFilename(path);
+            String hash = DigestUtils.md5DigestAsHex(identity);
+            this.identity = new CachedAssetResource(identity, filename, "\"" + hash + "\"", null, cacheControl);
+            this.gzip = gzip != null
+                    ? new CachedAssetResource(gzip, filename, "\"" + hash + "-gzip\"", GZIP, cacheControl)
+                    : null;
+            this.brotli = brotli != null
+                    ? new CachedAssetResource(brotli, filename, "\"" + hash + "-br\"", BROTLI, cacheControl)
+                    : null;
+        }
+
+        CachedAssetResource select(@Nullable String acceptEncoding) {
+            if (brotli != null && acceptsEncoding(acceptEncoding, BROTLI)) {
+                return brotli;
+            }
+            if (gzip != null && acceptsEncoding(acceptEncoding, GZIP)) {
+                return gzip;
+            }
+            return identity;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.sessionflow.write;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 標註可合併提交的高頻寫入方法
+ *
+ * 啟用 {@code sessionflow.write.group-commit.enabled} 時，標註的 Service 方法改由 {@link GroupCommitWriter}
+ * 的單一寫入執行緒執行，與其他並行請求的寫入合併在同一個交易中提交；未啟用時不影響任何行為。
+ * 方法必須是交易性的，且不依賴呼叫端執行緒的狀態。
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface GroupCommit {
+}
@@ -0,0 +1,37 @@
+package com.sessionflow.write;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 將 {@link GroupCommit} 方法交給 {@link GroupCommitWriter} 執行
+ *
+ * 順序緊鄰交易攔截器之外：追蹤與計時在呼叫端執行緒記錄（包含排隊與提交的時間），
+ * 交易攔截器在寫入執行緒中加入批次交易。呼叫端已在交易中時直接執行，維持原本的交易範圍。
+ */
+@Aspect
+public class GroupCommitAspect implements Ordered {
+
+    private final GroupCommitWriter writer;
+
+    public GroupCommitAspect(GroupCommitWriter writer) {
+        this.writer = writer;
+    }
+
+    @Around("@annotation(com.sessionflow.write.GroupCommit)")
+    public Object groupCommit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        return writer.execute(joinPoint::proceed);
+    }
+
+    @Override
+    public int getOrder() {
+        // 交易攔截器為 LOWEST_PRECEDENCE，其餘切面都在此之外
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+}
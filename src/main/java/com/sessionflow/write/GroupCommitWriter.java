@@ -0,0 +1,229 @@
+package com.sessionflow.write;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sessionflow.exception.ServiceBusyException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 合併提交的單一寫入執行緒
+ *
+ * 並行請求的寫入排入有上限的佇列，由寫入執行緒一次取出目前排隊的全部（最多 {@code maxBatchSize} 筆），
+ * 在同一個交易中依序執行後提交，H2 每批只需寫入並同步一次日誌。呼叫端在該批提交後才收到結果，
+ * 提交前後的語意與個別交易相同；事件監聽器於提交後執行，因此同一批的通知在提交後一起送出。
+ * 批次中任一筆失敗時整批回復，再逐筆以個別交易重新執行，失敗只影響該筆請求。
+ * 停止時處理完佇列中的寫入才結束，之後的寫入直接在呼叫端執行緒以個別交易執行。
+ */
+@Slf4j
+public class GroupCommitWriter implements SmartLifecycle {
+
+    /**
+     * 在 Web 伺服器（優雅關閉為 {@code DEFAULT_PHASE - 1024}、啟停為 {@code DEFAULT_PHASE - 2048}）之後停止，
+     * 確保進行中的請求都已送出寫入
+     */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long POLL_MILLIS = 100;
+
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Pending> queue;
+    private final int maxBatchSize;
+    private final Duration enqueueTimeout;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder mutations = new LongAdder();
+
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    /**
+     * 一筆寫入，通常為交易性 Service 方法的呼叫
+     */
+    @FunctionalInterface
+    public interface Mutation {
+        Object apply() throws Throwable;
+    }
+
+    private record Pending(Mutation mutation, CompletableFuture<Object> result) {
+    }
+
+    /**
+     * 批次中的寫入拋出例外，用於讓交易範本回復整批
+     */
+    private static final class MutationFailure extends RuntimeException {
+        MutationFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * @param queueCapacity  佇列上限
+     * @param maxBatchSize   每個交易最多合併的寫入數
+     * @param enqueueTimeout 佇列已滿時的等待時間，逾時回應 503
+     */
+    public GroupCommitWriter(TransactionTemplate transactionTemplate, int queueCapacity, int maxBatchSize,
+                             Duration enqueueTimeout) {
+        if (queueCapacity < 1 || maxBatchSize < 1) {
+            throw new IllegalArgumentException("Queue capacity and batch size must be positive");
+        }
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.enqueueTimeout = enqueueTimeout;
+    }
+
+    /**
+     * 排入寫入並等待所在的批次提交
+     *
+     * @return 寫入的回傳值
+     * @throws ServiceBusyException 佇列已滿且在等待時間內沒有空位
+     */
+    public Object execute(Mutation mutation) throws Throwable {
+        if (!running || Thread.currentThread() == writer) {
+            return mutation.apply();
+        }
+        Pending pending = new Pending(mutation, new CompletableFuture<>());
+        if (!queue.offer(pending, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new ServiceBusyException("Write queue is full, please retry later");
+        }
+        while (true) {
+            try {
+                return pending.result().get(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            } catch (TimeoutException e) {
+                // 停止後才排入、寫入執行緒已不會取出的寫入，由呼叫端自行執行
+                if (!running && !isWriterAlive() && queue.remove(pending)) {
+                    return mutation.apply();
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::drainLoop, "group-commit-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    /**
+     * 不再接受新的排隊，處理完佇列中的寫入後結束寫入執行緒
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = writer;
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.debug("Group commit writer stopped after {} batches, {} mutations", batches.sum(), mutations.sum());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * 已提交（含回復後逐筆重試）的批次數
+     */
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * 經由寫入執行緒執行的寫入數
+     */
+    public long getMutationCount() {
+        return mutations.sum();
+    }
+
+    private boolean isWriterAlive() {
+        Thread thread = writer;
+        return thread != null && thread.isAlive();
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            Pending first;
+            try {
+                first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, maxBatchSize - 1);
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * 在同一個交易中執行整批寫入，提交後才回應呼叫端；失敗時逐筆重試
+     */
+    private void commit(List<Pending> batch) {
+        List<Object> results;
+        try {
+            results = transactionTemplate.execute(status -> {
+                List<Object> values = new ArrayList<>(batch.size());
+                for (Pending pending : batch) {
+                    try {
+                        values.add(pending.mutation().apply());
+                    } catch (Throwable e) {
+                        throw new MutationFailure(e);
+                    }
+                }
+                return values;
+            });
+        } catch (Throwable e) {
+            if (batch.size() > 1) {
+                log.debug("Group commit of {} mutations rolled back, retrying individually", batch.size());
+                for (Pending pending : batch) {
+                    commit(List.of(pending));
+                }
+                return;
+            }
+            batches.increment();
+            mutations.increment();
+            batch.get(0).result().completeExceptionally(e instanceof MutationFailure ? e.getCause() : e);
+            return;
+        }
+        batches.increment();
+        mutations.add(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(results.get(i));
+        }
+    }
+}
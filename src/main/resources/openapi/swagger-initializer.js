@@ -0,0 +1,19 @@
+// 預先產生 OpenAPI 文件時使用的 Swagger UI 設定（對應 application.properties 的 springdoc.swagger-ui.*）
+window.onload = function() {
+  window.ui = SwaggerUIBundle({
+    url: "/api-docs",
+    dom_id: '#swagger-ui',
+    deepLinking: true,
+    presets: [
+      SwaggerUIBundle.presets.apis,
+      SwaggerUIStandalonePreset
+    ],
+    plugins: [
+      SwaggerUIBundle.plugins.DownloadUrl
+    ],
+    layout: "StandaloneLayout",
+    operationsSorter: "method",
+    tagsSorter: "alpha",
+    tryItOutEnabled: true
+  });
+};
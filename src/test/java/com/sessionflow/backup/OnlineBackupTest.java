@@ -0,0 +1,208 @@
+package com.sessionflow.backup;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("OnlineBackup 與 BackupRestorer 測試")
+class OnlineBackupTest {
+
+    private static final List<String> TABLES = List.of("tasks", "tags", "task_tags", "sessions", "schedule_entries");
+
+    @TempDir
+    Path directory;
+
+    private JdbcDataSource source;
+    private BackupSettings settings;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        source = dataSource(url("source"));
+        settings = new BackupSettings(directory.resolve("source.mv.db"), directory.resolve("backups"),
+                Duration.ofHours(24), Duration.ofMinutes(15), 2);
+        // 與應用程式相同的結構：有更新時間的資料表、沒有更新時間的排程與關聯表，及可為 null 的外鍵
+        execute(source,
+                "CREATE TABLE tasks (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, title VARCHAR(100) NOT NULL, "
+                        + "note TEXT, status ENUM('PENDING', 'COMPLETE') NOT NULL, updated_at TIMESTAMP(6) NOT NULL)",
+                "CREATE TABLE tags (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, name VARCHAR(50) NOT NULL, "
+                        + "updated_at TIMESTAMP(6) NOT NULL)",
+                "CREATE TABLE task_tags (task_id BIGINT NOT NULL REFERENCES tasks(id), "
+                        + "tag_id BIGINT NOT NULL REFERENCES tags(id), PRIMARY KEY (task_id, tag_id))",
+                "CREATE TABLE sessions (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, title VARCHAR(100), "
+                        + "task_id BIGINT REFERENCES tasks(id), updated_at TIMESTAMP(6) NOT NULL)",
+                "CREATE TABLE schedule_entries (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                        + "title VARCHAR(100) NOT NULL, task_id BIGINT REFERENCES tasks(id))",
+                "INSERT INTO tasks (title, note, status, updated_at) VALUES "
+                        + "('撰寫文件', NULL, 'PENDING', TIMESTAMP '2020-01-01 00:00:00'), "
+                        + "('整理, \"引號\"', '第一行\n第二行', 'PENDING', TIMESTAMP '2020-01-01 00:00:00'), "
+                        + "('舊任務', '', 'COMPLETE', TIMESTAMP '2020-01-01 00:00:00')",
+                "INSERT INTO tags (name, updated_at) VALUES ('工作', TIMESTAMP '2020-01-01 00:00:00'), "
+                        + "('緊急', TIMESTAMP '2020-01-01 00:00:00')",
+                "INSERT INTO task_tags VALUES (1, 1), (1, 2), (3, 2)",
+                "INSERT INTO sessions (title, task_id, updated_at) VALUES ('專注', 3, TIMESTAMP '2020-01-01 00:00:00'), "
+                        + "('閱讀', NULL, TIMESTAMP '2020-01-01 00:00:00')",
+                "INSERT INTO schedule_entries (title, task_id) VALUES ('會議', 3), ('運動', NULL)");
+    }
+
+    private String url(String name) {
+        return "jdbc:h2:file:" + directory.resolve(name).toAbsolutePath() + ";MODE=MySQL";
+    }
+
+    private static JdbcDataSource dataSource(String url) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+        return dataSource;
+    }
+
+    private static void execute(DataSource dataSource, String... sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String statementSql : sql) {
+                statement.execute(statementSql);
+            }
+        }
+    }
+
+    private static Map<String, List<List<String>>> contents(DataSource dataSource) throws SQLException {
+        Map<String, List<List<String>>> contents = new LinkedHashMap<>();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                List<List<String>> rows = new ArrayList<>();
+                try (ResultSet resultSet = statement.executeQuery("SELECT * FROM " + table + " ORDER BY 1, 2")) {
+                    while (resultSet.next()) {
+                        List<String> row = new ArrayList<>();
+                        for (int i = 1; i <= resultSet.getMetaData().getColumnCount(); i++) {
+                            row.add(resultSet.getString(i));
+                        }
+                        rows.add(row);
+                    }
+                }
+                contents.put(table, rows);
+            }
+        }
+        return contents;
+    }
+
+    private OnlineBackup backupAt(LocalDateTime time) {
+        ZoneId zone = ZoneId.systemDefault();
+        return new OnlineBackup(source, settings, Clock.fixed(time.atZone(zone).toInstant(), zone));
+    }
+
+    private List<String> archiveNames() throws Exception {
+        return BackupArchive.list(settings.directory(), settings.archivePrefix()).stream()
+                .map(archive -> archive.file().getFileName().toString())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("完整備份加上增量備份還原後與原資料庫相同，識別欄位從最大值之後繼續")
+    void restore_FullAndIncremental_SameAsSource() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        BackupArchive full = backupAt(now.minusHours(1)).full();
+
+        execute(source,
+                "UPDATE tasks SET title = '撰寫文件（修訂）', updated_at = CURRENT_TIMESTAMP WHERE id = 1",
+                "INSERT INTO tasks (title, status, updated_at) VALUES ('新任務', 'PENDING', CURRENT_TIMESTAMP)",
+                "DELETE FROM task_tags WHERE tag_id = 2",
+                "DELETE FROM tags WHERE id = 2",
+                "INSERT INTO task_tags VALUES (4, 1)",
+                // 與刪除任務相同：批次將關聯設為 null，不更新 updated_at
+                "UPDATE sessions SET task_id = NULL WHERE task_id = 3",
+                "UPDATE schedule_entries SET task_id = NULL WHERE task_id = 3",
+                "DELETE FROM tasks WHERE id = 3",
+                "INSERT INTO schedule_entries (title, task_id) VALUES ('新排程', 4)");
+        BackupArchive incremental = backupAt(now).incremental(full);
+        Map<String, List<List<String>>> expected = contents(source);
+
+        BackupRestorer restorer = new BackupRestorer(url("restored"), "sa", "");
+        BackupRestorer.Result result = restorer.restore(incremental);
+
+        assertThat(result.full()).isEqualTo(full);
+        assertThat(result.incremental()).isEqualTo(incremental);
+        assertThat(result.previousDatabase()).isNull();
+        JdbcDataSource restored = dataSource(url("restored") + ";IFEXISTS=TRUE");
+        assertThat(contents(restored)).isEqualTo(expected);
+        execute(restored, "INSERT INTO tasks (title, status, updated_at) VALUES ('還原後', 'PENDING', CURRENT_TIMESTAMP)");
+        try (Connection connection = restored.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT MAX(id) FROM tasks")) {
+            assertThat(resultSet.next()).isTrue();
+            assertThat(resultSet.getLong(1)).isEqualTo(5L);
+        }
+    }
+
+    @Test
+    @DisplayName("還原失敗時放回原本的資料庫檔案")
+    void restore_Failure_KeepsPreviousDatabase() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        BackupArchive full = backupAt(now.minusHours(1)).full();
+        BackupArchive incremental = backupAt(now).incremental(full);
+        // 備份後才新增的資料表不在完整備份中，套用增量備份時失敗
+        execute(source, "CREATE TABLE notes (id BIGINT PRIMARY KEY, updated_at TIMESTAMP NOT NULL)");
+        BackupArchive failing = backupAt(now.plusMinutes(1)).incremental(full);
+        Path previous = Files.copy(settings.databaseFile(), directory.resolve("restored.mv.db"));
+        byte[] previousBytes = Files.readAllBytes(previous);
+
+        BackupRestorer restorer = new BackupRestorer(url("restored"), "sa", "");
+        assertThatThrownBy(() -> restorer.restore(failing)).isInstanceOf(SQLException.class);
+
+        assertThat(Files.readAllBytes(previous)).isEqualTo(previousBytes);
+        assertThat(restorer.restore(incremental).previousDatabase()).isNotNull().exists();
+    }
+
+    @Test
+    @DisplayName("只保留指定數量的完整備份，較舊的完整備份與其增量備份一併刪除")
+    void full_RotatesOldBackups() throws Exception {
+        LocalDateTime day = LocalDateTime.of(2026, 3, 10, 9, 0);
+        BackupArchive first = backupAt(day).full();
+        backupAt(day.plusHours(1)).incremental(first);
+        BackupArchive second = backupAt(day.plusDays(1)).full();
+        backupAt(day.plusDays(1).plusHours(1)).incremental(second);
+
+        backupAt(day.plusDays(2)).full();
+
+        assertThat(archiveNames()).containsExactly(
+                "source-full-20260311-090000.zip",
+                "source-incr-20260311-100000.zip",
+                "source-full-20260312-090000.zip");
+    }
+
+    @Test
+    @DisplayName("排程在沒有完整備份時寫入完整備份，之後只在資料有變更時寫入增量備份")
+    void scheduler_BacksUpOnlyChanges() throws Exception {
+        AtomicLong version = new AtomicLong(1);
+        BackupScheduler scheduler = new BackupScheduler(new OnlineBackup(source, settings), settings, version::get);
+
+        scheduler.backUp();
+        assertThat(archiveNames()).singleElement().asString().contains("-full-");
+
+        scheduler.backUp();
+        assertThat(archiveNames()).hasSize(1);
+
+        version.incrementAndGet();
+        Thread.sleep(1_000); // 檔名精確到秒
+        scheduler.backUp();
+        assertThat(archiveNames()).hasSize(2).last().asString().contains("-incr-");
+    }
+}
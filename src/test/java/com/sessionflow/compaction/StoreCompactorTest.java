@@ -0,0 +1,130 @@
+package com.sessionflow.compaction;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StoreCompactor 測試")
+class StoreCompactorTest {
+
+    @TempDir
+    Path directory;
+
+    private JdbcDataSource dataSource;
+    private Connection keepOpen;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL(url());
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+    }
+
+    private String url() {
+        return "jdbc:h2:file:" + directory.resolve("compaction").toAbsolutePath();
+    }
+
+    private static CompactionSettings settings(int liveRatio) {
+        return new CompactionSettings(Duration.ofMinutes(60), liveRatio, 0, 4 * 1024 * 1024, Duration.ZERO,
+                Duration.ofSeconds(60), false);
+    }
+
+    /**
+     * 寫入後刪除九成的資料列，留下大量失效的區塊
+     */
+    private void fragment() throws SQLException {
+        keepOpen = dataSource.getConnection();
+        try (Statement statement = keepOpen.createStatement()) {
+            statement.execute("CREATE TABLE records (id BIGINT PRIMARY KEY, note VARCHAR(200))");
+            for (int i = 0; i < 4; i++) {
+                statement.execute("INSERT INTO records SELECT X + " + i * 50_000 + ", REPEAT('x', 150) "
+                        + "FROM SYSTEM_RANGE(1, 50000)");
+            }
+            statement.execute("DELETE FROM records WHERE MOD(id, 10) <> 0");
+        }
+    }
+
+    private long count() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*), SUM(LENGTH(note)) FROM records")) {
+            assertThat(resultSet.next()).isTrue();
+            assertThat(resultSet.getLong(2)).isEqualTo(resultSet.getLong(1) * 150);
+            return resultSet.getLong(1);
+        }
+    }
+
+    @Test
+    @DisplayName("有效資料低於門檻時線上壓縮，檔案變小且資料不變")
+    void compactIfFragmented_ShrinksFileOnline() throws Exception {
+        fragment();
+
+        Optional<StoreCompactor.Result> result =
+                new StoreCompactor(dataSource, settings(50)).compactIfFragmented(() -> true);
+
+        assertThat(result).hasValueSatisfying(compacted -> {
+            assertThat(compacted.liveRatioBefore()).isLessThan(10);
+            assertThat(compacted.liveRatioAfter()).isGreaterThan(compacted.liveRatioBefore());
+            assertThat(compacted.sizeAfter()).isLessThan(compacted.sizeBefore() / 2);
+            assertThat(compacted.slices()).isPositive();
+        });
+        assertThat(count()).isEqualTo(20_000);
+        try (Statement statement = keepOpen.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT SETTING_VALUE FROM INFORMATION_SCHEMA.SETTINGS WHERE SETTING_NAME = 'RETENTION_TIME'")) {
+            assertThat(resultSet.next()).isTrue();
+            assertThat(resultSet.getInt(1)).isPositive();
+        }
+        keepOpen.close();
+    }
+
+    @Test
+    @DisplayName("有效資料高於門檻或停止時不壓縮")
+    void compactIfFragmented_SkipsWhenNotNeeded() throws Exception {
+        fragment();
+
+        assertThat(new StoreCompactor(dataSource, settings(0)).compactIfFragmented(() -> true)).isEmpty();
+        assertThat(new StoreCompactor(dataSource, settings(50)).compactIfFragmented(() -> false))
+                .hasValueSatisfying(result -> assertThat(result.slices()).isZero());
+        keepOpen.close();
+    }
+
+    @Test
+    @DisplayName("關閉後以 SHUTDOWN COMPACT 完整壓縮")
+    void compactClosed_ShrinksFile() throws Exception {
+        fragment();
+        keepOpen.close();
+        long size = Files.size(directory.resolve("compaction.mv.db"));
+
+        StoreCompactor.Result result = StoreCompactor.compactClosed(url(), "sa", "");
+
+        assertThat(result.sizeBefore()).isEqualTo(size);
+        assertThat(result.sizeAfter()).isLessThan(size / 2).isEqualTo(Files.size(directory.resolve("compaction.mv.db")));
+        assertThat(result.liveRatioAfter()).isGreaterThan(result.liveRatioBefore());
+        assertThat(count()).isEqualTo(20_000);
+    }
+
+    @Test
+    @DisplayName("記憶體資料庫沒有檔案可壓縮")
+    void compact_InMemory_Empty() throws Exception {
+        JdbcDataSource memory = new JdbcDataSource();
+        memory.setURL("jdbc:h2:mem:compaction");
+
+        assertThat(new StoreCompactor(memory, settings(50)).compact()).isEmpty();
+        assertThatThrownBy(() -> StoreCompactor.compactClosed("jdbc:h2:mem:compaction", "sa", ""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.sessionflow.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("ApiDocsController 整合測試")
+class ApiDocsControllerTest {
+
+    private static final String SPEC = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"SessionFlow API\"}}";
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ApiDocsController controller = new ApiDocsController(
+                new ByteArrayResource(SPEC.getBytes(StandardCharsets.UTF_8)));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("GET /api-docs - 回傳預先產生的 OpenAPI 文件，回傳 200")
+    void getApiDocs_Success_Returns200() throws Exception {
+        mockMvc.perform(get("/api-docs"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$.info.title").value("SessionFlow API"));
+    }
+
+    @Test
+    @DisplayName("GET /api-docs - ETag 相符時回傳 304")
+    void getApiDocs_MatchingETag_Returns304() throws Exception {
+        String etag = mockMvc.perform(get("/api-docs"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api-docs").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+}
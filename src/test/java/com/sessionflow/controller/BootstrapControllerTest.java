@@ -0,0 +1,75 @@
+package com.sessionflow.controller;
+
+import com.sessionflow.dto.BootstrapResponse;
+import com.sessionflow.dto.BootstrapSnapshot;
+import com.sessionflow.service.BootstrapService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BootstrapController.class)
+@DisplayName("BootstrapController 整合測試")
+class BootstrapControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BootstrapService bootstrapService;
+
+    private BootstrapSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate today = LocalDate.of(2024, 1, 15);
+        BootstrapResponse data = new BootstrapResponse(7L, LocalDateTime.of(2024, 1, 15, 10, 30), today,
+                List.of(), List.of(), List.of(), List.of(), List.of());
+        byte[] json = "{\"version\":7}".getBytes(StandardCharsets.UTF_8);
+        byte[] gzip = new byte[] {31, -117, 8, 0};
+        snapshot = new BootstrapSnapshot(7L, today, data, json, gzip);
+        when(bootstrapService.getSnapshot()).thenReturn(snapshot);
+    }
+
+    @Test
+    @DisplayName("GET /api/bootstrap - 回傳 JSON 快照與 ETag，回傳 200")
+    void getBootstrap_Success_Returns200() throws Exception {
+        mockMvc.perform(get("/api/bootstrap"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, snapshot.etag()))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.version").value(7));
+
+        verify(bootstrapService).getSnapshot();
+    }
+
+    @Test
+    @DisplayName("GET /api/bootstrap - 支援 gzip 時回傳預先壓縮的內容")
+    void getBootstrap_AcceptsGzip_ReturnsCompressedBody() throws Exception {
+        mockMvc.perform(get("/api/bootstrap").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(content().bytes(snapshot.gzip()));
+    }
+
+    @Test
+    @DisplayName("GET /api/bootstrap - ETag 相符時回傳 304")
+    void getBootstrap_MatchingETag_Returns304() throws Exception {
+        mockMvc.perform(get("/api/bootstrap").header(HttpHeaders.IF_NONE_MATCH, snapshot.etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+}
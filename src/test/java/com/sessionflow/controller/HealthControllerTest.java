@@ -0,0 +1,103 @@
+package com.sessionflow.controller;
+
+import com.sessionflow.durability.DurabilityManager;
+import com.sessionflow.durability.DurabilityMode;
+import com.sessionflow.monitoring.health.HealthMonitor;
+import com.sessionflow.monitoring.health.HealthSnapshot;
+import com.sessionflow.monitoring.health.HealthStatus;
+import com.sessionflow.monitoring.health.ProbeResult;
+import com.sessionflow.monitoring.health.Thresholds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(HealthController.class)
+@DisplayName("HealthController 整合測試")
+class HealthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private HealthMonitor healthMonitor;
+
+    @MockitoBean
+    private DurabilityManager durabilityManager;
+
+    private static HealthSnapshot snapshot(double latencyMillis) {
+        ProbeResult database = ProbeResult.of(latencyMillis, "ms", Thresholds.above(100, 2_000), Map.of());
+        return new HealthSnapshot(database.status(), Instant.parse("2024-01-15T02:30:00Z"),
+                Map.of("database", database));
+    }
+
+    @Test
+    @DisplayName("GET /api/health - 回傳最近一次探測結果，降級時仍回傳 200")
+    void health_Degraded_Returns200() throws Exception {
+        when(healthMonitor.snapshot()).thenReturn(snapshot(150));
+
+        mockMvc.perform(get("/api/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DEGRADED"))
+                .andExpect(jsonPath("$.service").value("Task Management System"))
+                .andExpect(jsonPath("$.probes.database.value").value(150.0))
+                .andExpect(jsonPath("$.probes.database.thresholds.degraded").value(100.0));
+    }
+
+    @Test
+    @DisplayName("GET /api/health - 回傳耐久性模式與可能遺失的時間")
+    void health_IncludesDurability() throws Exception {
+        when(healthMonitor.snapshot()).thenReturn(snapshot(1));
+        when(durabilityManager.status()).thenReturn(new DurabilityManager.Status(DurabilityMode.BATCHED, 1_000,
+                Instant.parse("2024-01-15T02:29:59Z")));
+
+        mockMvc.perform(get("/api/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.durability.mode").value("batched"))
+                .andExpect(jsonPath("$.durability.lossWindowMillis").value(1000))
+                .andExpect(jsonPath("$.durability.lastPersistedAt").value("2024-01-15T02:29:59Z"));
+    }
+
+    @Test
+    @DisplayName("GET /api/health - 探測失效時回傳 503")
+    void health_Down_Returns503() throws Exception {
+        when(healthMonitor.snapshot()).thenReturn(snapshot(5_000));
+
+        mockMvc.perform(get("/api/health"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("DOWN"));
+    }
+
+    @Test
+    @DisplayName("GET /api/health/liveness 與 /readiness - 依監控結果回傳 200 或 503")
+    void probes_ReflectMonitorState() throws Exception {
+        when(healthMonitor.isLive()).thenReturn(true);
+        when(healthMonitor.isReady()).thenReturn(false);
+
+        mockMvc.perform(get("/api/health/liveness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+        mockMvc.perform(get("/api/health/readiness"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value("DOWN"));
+    }
+
+    @Test
+    @DisplayName("GET /api/health - 尚未完成第一次探測時回傳 200 與 UNKNOWN")
+    void health_Pending_Returns200() throws Exception {
+        when(healthMonitor.snapshot()).thenReturn(new HealthSnapshot(HealthStatus.UNKNOWN, null, Map.of()));
+
+        mockMvc.perform(get("/api/health"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UNKNOWN"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.sessionflow.controller;
+
+import com.sessionflow.monitoring.history.EndpointSample;
+import com.sessionflow.monitoring.history.MetricsHistory;
+import com.sessionflow.monitoring.history.SystemSample;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(MetricsHistoryController.class)
+@DisplayName("MetricsHistoryController 整合測試")
+class MetricsHistoryControllerTest {
+
+    private static final Instant FROM = Instant.parse("2024-01-15T00:00:00Z");
+    private static final Instant TO = Instant.parse("2024-01-16T00:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private MetricsHistory metricsHistory;
+
+    @Test
+    @DisplayName("GET /api/admin/metrics/history - 依 maxPoints 計算步長並回傳序列")
+    void history_DefaultStep_FromMaxPoints() throws Exception {
+        SystemSample point = new SystemSample(FROM, 300, 60, 3.0, 40.0, 120, 200, 4, 8, 1, 2);
+        EndpointSample endpoint = new EndpointSample(FROM, "GET /api/tasks", 60, 3.0, 40.0, 41.0);
+        when(metricsHistory.query(eq(FROM), eq(TO), eq(Duration.ofSeconds(288)), isNull()))
+                .thenReturn(new MetricsHistory.Report(FROM, TO, 60, 300, List.of(point), List.of(endpoint)));
+
+        mockMvc.perform(get("/api/admin/metrics/history")
+                        .param("from", "2024-01-15T00:00:00Z")
+                        .param("to", "2024-01-16T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stepSeconds").value(300))
+                .andExpect(jsonPath("$.series[0].requestsPerSecond").value(0.2))
+                .andExpect(jsonPath("$.series[0].fanOut").value(2.0))
+                .andExpect(jsonPath("$.endpoints[0].endpoint").value("GET /api/tasks"));
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/metrics/history - 指定步長與端點")
+    void history_ExplicitStepAndEndpoint() throws Exception {
+        when(metricsHistory.query(any(), any(), eq(Duration.ofHours(1)), eq("GET /api/tasks")))
+                .thenReturn(new MetricsHistory.Report(FROM, TO, 60, 3_600, List.of(), List.of()));
+
+        mockMvc.perform(get("/api/admin/metrics/history")
+                        .param("stepSeconds", "3600")
+                        .param("endpoint", "GET /api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stepSeconds").value(3_600));
+    }
+
+    @Test
+    @DisplayName("GET /api/admin/metrics/history - 結束時間早於開始時間時回傳 400")
+    void history_InvalidRange_Returns400() throws Exception {
+        mockMvc.perform(get("/api/admin/metrics/history")
+                        .param("from", "2024-01-16T00:00:00Z")
+                        .param("to", "2024-01-15T00:00:00Z"))
+                .andExpect(status().isBadRequest());
+
+        verify(metricsHistory, never()).query(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,76 @@
+package com.sessionflow.durability;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DurabilitySettings 單元測試")
+class DurabilitySettingsTest {
+
+    private static final String URL = "jdbc:h2:file:./data/sessionflow_db;MODE=MySQL;AUTO_SERVER=TRUE;WRITE_DELAY=500";
+
+    private static DurabilitySettings settings(DurabilityMode mode, boolean autoServer) {
+        return new DurabilitySettings(mode, Duration.ofMillis(1000), Duration.ofSeconds(60), autoServer,
+                Path.of("snapshot.sql.gz"));
+    }
+
+    @Test
+    @DisplayName("未設定時為 batched，快照檔位於資料庫檔案旁")
+    void from_Defaults() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.url", "jdbc:h2:file:./data/sessionflow_db;MODE=MySQL");
+
+        DurabilitySettings settings = DurabilitySettings.from(environment);
+
+        assertThat(settings.mode()).isEqualTo(DurabilityMode.BATCHED);
+        assertThat(settings.lossWindow()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(settings.autoServer()).isFalse();
+        assertThat(settings.snapshotFile()).isEqualTo(Path.of("./data/sessionflow_db.snapshot.sql.gz"));
+    }
+
+    @Test
+    @DisplayName("不支援的模式列出可用的模式")
+    void parse_UnknownMode_Throws() {
+        assertThat(DurabilityMode.parse("STRICT")).isEqualTo(DurabilityMode.STRICT);
+        assertThatIllegalArgumentException().isThrownBy(() -> DurabilityMode.parse("fast"))
+                .withMessageContaining("strict, batched, memory");
+    }
+
+    @Test
+    @DisplayName("strict 與 batched 改寫 WRITE_DELAY，保留使用者指定的其他設定")
+    void datasourceUrl_FileModes() {
+        assertThat(settings(DurabilityMode.STRICT, false).datasourceUrl(URL))
+                .isEqualTo("jdbc:h2:file:./data/sessionflow_db;MODE=MySQL;AUTO_SERVER=TRUE;WRITE_DELAY=0");
+        assertThat(settings(DurabilityMode.BATCHED, false).datasourceUrl("jdbc:h2:file:./sessionflow_db;MODE=MySQL"))
+                .isEqualTo("jdbc:h2:file:./sessionflow_db;MODE=MySQL;WRITE_DELAY=500");
+        assertThat(settings(DurabilityMode.BATCHED, true).datasourceUrl("jdbc:h2:file:./sessionflow_db;MODE=MySQL"))
+                .isEqualTo("jdbc:h2:file:./sessionflow_db;MODE=MySQL;WRITE_DELAY=500;AUTO_SERVER=TRUE");
+    }
+
+    @Test
+    @DisplayName("memory 改為同名的記憶體資料庫，匯入用的連線字串只開啟既有檔案")
+    void datasourceUrl_Memory() {
+        DurabilitySettings settings = settings(DurabilityMode.MEMORY, true);
+
+        assertThat(settings.datasourceUrl(URL))
+                .isEqualTo("jdbc:h2:mem:sessionflow_db;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        assertThat(settings.importUrl(URL)).isEqualTo("jdbc:h2:file:./data/sessionflow_db;MODE=MySQL;IFEXISTS=TRUE");
+        assertThat(settings.lossWindow()).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("記憶體與 TCP 連線字串不改寫")
+    void datasourceUrl_NotEmbeddedFile_Unchanged() {
+        DurabilitySettings settings = settings(DurabilityMode.STRICT, true);
+
+        assertThat(settings.datasourceUrl("jdbc:h2:mem:testdb;MODE=MySQL")).isEqualTo("jdbc:h2:mem:testdb;MODE=MySQL");
+        assertThat(settings.datasourceUrl("jdbc:h2:tcp://localhost/~/db")).isEqualTo("jdbc:h2:tcp://localhost/~/db");
+        assertThat(settings.importUrl("jdbc:h2:mem:testdb")).isNull();
+        assertThat(settings.lossWindow()).isZero();
+    }
+}
@@ -0,0 +1,156 @@
+package com.sessionflow.durability;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DurabilitySync 與 SnapshotStore 測試")
+class DurabilitySyncTest {
+
+    @TempDir
+    Path directory;
+
+    private JdbcDataSource target;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = dataSource("jdbc:h2:file:" + directory.resolve("db").toAbsolutePath());
+        execute(target, "CREATE TABLE items (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+    }
+
+    private static JdbcDataSource dataSource(String url) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+        dataSource.setPassword("");
+        return dataSource;
+    }
+
+    private static DataSource proxy(DataSource dataSource, DurabilitySync sync) {
+        return ProxyDataSourceBuilder.create(dataSource)
+                .listener(sync)
+                .methodListener(sync.commitListener())
+                .build();
+    }
+
+    private static void execute(DataSource dataSource, String... sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String statementSql : sql) {
+                statement.execute(statementSql);
+            }
+        }
+    }
+
+    private static void inTransaction(DataSource dataSource, String sql, boolean commit) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(sql);
+            }
+            if (commit) {
+                connection.commit();
+            } else {
+                connection.rollback();
+            }
+        }
+    }
+
+    private static long count(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM items")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    @Test
+    @DisplayName("strict 只在寫入交易提交後同步，唯讀與回復的交易不同步")
+    void strict_SyncsOnlyCommittedWrites() throws SQLException {
+        DurabilitySync sync = new DurabilitySync(DurabilityMode.STRICT);
+        DataSource dataSource = proxy(target, sync);
+
+        inTransaction(dataSource, "SELECT * FROM items", true);
+        assertThat(sync.getSyncCount()).isZero();
+
+        inTransaction(dataSource, "INSERT INTO items VALUES (1, 'a')", false);
+        assertThat(sync.getSyncCount()).isZero();
+
+        inTransaction(dataSource, "INSERT INTO items VALUES (2, 'b')", true);
+        assertThat(sync.getSyncCount()).isEqualTo(1);
+        assertThat(sync.getLastSyncAt()).isNotNull();
+        assertThat(count(dataSource)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("batched 提交時不同步，有寫入時才由背景同步一次")
+    void batched_SyncsIfDirty() throws SQLException {
+        DurabilitySync sync = new DurabilitySync(DurabilityMode.BATCHED);
+        DataSource dataSource = proxy(target, sync);
+
+        assertThat(sync.syncIfDirty(target)).isFalse();
+
+        inTransaction(dataSource, "INSERT INTO items VALUES (1, 'a')", true);
+        inTransaction(dataSource, "INSERT INTO items VALUES (2, 'b')", true);
+        assertThat(sync.getSyncCount()).isZero();
+
+        assertThat(sync.syncIfDirty(target)).isTrue();
+        assertThat(sync.syncIfDirty(target)).isFalse();
+        assertThat(sync.getSyncCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("寫入判斷排除查詢與同步、快照、備份自己的陳述式")
+    void isWrite() {
+        assertThat(DurabilitySync.isWrite("update tasks set status=? where id=?")).isTrue();
+        assertThat(DurabilitySync.isWrite("create table t (id int)")).isTrue();
+        assertThat(DurabilitySync.isWrite("select * from tasks")).isFalse();
+        assertThat(DurabilitySync.isWrite("CHECKPOINT SYNC")).isFalse();
+        assertThat(DurabilitySync.isWrite("SCRIPT TO 'x.sql.gz' COMPRESSION GZIP")).isFalse();
+        assertThat(DurabilitySync.isWrite("BACKUP TO 'backup.zip'")).isFalse();
+    }
+
+    @Test
+    @DisplayName("快照還原到空的記憶體資料庫，已有資料表時不覆蓋")
+    void snapshot_SaveAndLoad() throws Exception {
+        execute(target, "INSERT INTO items VALUES (1, 'a')", "INSERT INTO items VALUES (2, 'b')");
+        SnapshotStore snapshots = new SnapshotStore(directory.resolve("db.snapshot.sql.gz"));
+        snapshots.save(target);
+
+        JdbcDataSource memory = dataSource("jdbc:h2:mem:snapshot-load;DB_CLOSE_DELAY=-1");
+        try {
+            assertThat(snapshots.load(memory, null, "sa", "")).isTrue();
+            assertThat(count(memory)).isEqualTo(2);
+            assertThat(snapshots.load(memory, null, "sa", "")).isFalse();
+        } finally {
+            execute(memory, "SHUTDOWN");
+        }
+    }
+
+    @Test
+    @DisplayName("沒有快照時從既有的檔案資料庫匯入")
+    void snapshot_ImportsFileDatabase() throws Exception {
+        execute(target, "INSERT INTO items VALUES (1, 'a')", "SHUTDOWN");
+        SnapshotStore snapshots = new SnapshotStore(directory.resolve("missing.snapshot.sql.gz"));
+        String importUrl = "jdbc:h2:file:" + directory.resolve("db").toAbsolutePath() + ";IFEXISTS=TRUE";
+
+        JdbcDataSource memory = dataSource("jdbc:h2:mem:snapshot-import;DB_CLOSE_DELAY=-1");
+        try {
+            assertThat(snapshots.load(memory, importUrl, "sa", "")).isTrue();
+            assertThat(count(memory)).isEqualTo(1);
+        } finally {
+            execute(memory, "SHUTDOWN");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.sessionflow.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sessionflow.dto.SessionRecordCreateRequest;
+import com.sessionflow.dto.SessionRequest;
+import com.sessionflow.dto.SessionResponse;
+import com.sessionflow.dto.TaskRequest;
+import com.sessionflow.dto.TaskResponse;
+import com.sessionflow.service.ScheduleEntryService;
+import com.sessionflow.service.SessionService;
+import com.sessionflow.service.TaskService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JFR 錄製整合測試
+ * 透過端點錄製領域操作，並讀回錄製檔中的自訂事件
+ */
+@SpringBootTest(properties = "sessionflow.flight-recorder.token=" + FlightRecorderIntegrationTest.TOKEN)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("JFR 錄製整合測試")
+class FlightRecorderIntegrationTest {
+
+    static final String TOKEN = "test-recorder-token";
+    private static final String AUTHORIZATION = "Bearer " + TOKEN;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private ScheduleEntryService scheduleEntryService;
+
+    @Test
+    @DisplayName("未提供 token 時拒絕存取")
+    void flightRecorder_WithoutToken_Unauthorized() throws Exception {
+        mockMvc.perform(get("/actuator/flightrecorder")).andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/flightrecorder").header("Authorization", "Bearer wrong"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("錄製包含任務、工作階段、級聯刪除、通知與排程查詢事件")
+    void flightRecorder_RecordsDomainEvents(@TempDir Path directory) throws Exception {
+        String started = mockMvc.perform(post("/actuator/flightrecorder")
+                        .header("Authorization", AUTHORIZATION)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"integration-test\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(started).get("id").asLong();
+
+        TaskResponse task = taskService.createTask(new TaskRequest("JFR 任務"));
+        taskService.completeTask(task.getId());
+        SessionRequest sessionRequest = new SessionRequest("JFR 工作階段");
+        sessionRequest.setTaskId(task.getId());
+        SessionResponse session = sessionService.createSession(sessionRequest);
+        sessionService.endSession(session.getId(), new SessionRecordCreateRequest(session.getId(), "完成"));
+        scheduleEntryService.getScheduleEntries(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 7));
+        taskService.deleteTask(task.getId());
+
+        mockMvc.perform(post("/actuator/flightrecorder/{id}", id).header("Authorization", AUTHORIZATION))
+                .andExpect(status().isOk());
+        byte[] dump = mockMvc.perform(get("/actuator/flightrecorder/{id}", id).header("Authorization", AUTHORIZATION))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        Path file = Files.write(directory.resolve("recording.jfr"), dump);
+        mockMvc.perform(delete("/actuator/flightrecorder/{id}", id).header("Authorization", AUTHORIZATION))
+                .andExpect(status().isNoContent());
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("com.sessionflow."))
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .toList();
+        Map<String, List<RecordedEvent>> byType = events.stream()
+                .collect(Collectors.groupingBy(event -> event.getEventType().getName()));
+
+        assertThat(byType.get("com.sessionflow.TaskMutation"))
+                .extracting(event -> event.getString("operation"))
+                .containsExactly("create", "complete");
+        RecordedEvent sessionEnd = byType.get("com.sessionflow.SessionEnd").get(0);
+        assertThat(sessionEnd.getLong("sessionId")).isEqualTo(session.getId());
+        assertThat(sessionEnd.getLong("taskId")).isEqualTo(task.getId());
+        RecordedEvent cascadeDelete = byType.get("com.sessionflow.CascadeDelete").get(0);
+        assertThat(cascadeDelete.getString("entityType")).isEqualTo("Task");
+        assertThat(cascadeDelete.getInt("sessionRecords")).isEqualTo(1);
+        assertThat(cascadeDelete.getInt("affectedRows")).isEqualTo(2);
+        assertThat(byType.get("com.sessionflow.NotificationDispatch"))
+                .allSatisfy(event -> assertThat(event.getLong("payloadBytes")).isPositive())
+                .hasSizeGreaterThanOrEqualTo(5);
+        RecordedEvent rangeQuery = byType.get("com.sessionflow.ScheduleRangeQuery").get(0);
+        assertThat(rangeQuery.getInt("days")).isEqualTo(7);
+        assertThat(rangeQuery.getString("startDate")).isEqualTo("2025-01-01");
+    }
+}
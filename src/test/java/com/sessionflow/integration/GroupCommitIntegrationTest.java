@@ -0,0 +1,79 @@
+package com.sessionflow.integration;
+
+import com.sessionflow.dto.TaskRequest;
+import com.sessionflow.dto.TaskResponse;
+import com.sessionflow.service.TaskService;
+import com.sessionflow.write.GroupCommitWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 合併提交整合測試
+ * 驗證啟用後標註的寫入經由寫入執行緒提交，結果與錯誤回應與個別交易相同
+ */
+@SpringBootTest(properties = "sessionflow.write.group-commit.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("合併提交整合測試")
+class GroupCommitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private GroupCommitWriter groupCommitWriter;
+
+    @Test
+    @DisplayName("並行完成任務皆經由寫入執行緒提交")
+    void completeTask_Concurrent_CommittedByWriter() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ids.add(taskService.createTask(new TaskRequest("合併提交任務 " + i)).getId());
+        }
+        long before = groupCommitWriter.getMutationCount();
+
+        ExecutorService executor = Executors.newFixedThreadPool(ids.size());
+        try {
+            List<Future<TaskResponse>> results = new ArrayList<>();
+            for (Long id : ids) {
+                results.add(executor.submit(() -> taskService.completeTask(id)));
+            }
+            for (Future<TaskResponse> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS).getStatus()).isEqualTo("COMPLETE");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(groupCommitWriter.getMutationCount() - before).isEqualTo(ids.size());
+        assertThat(taskService.getAllTasks("COMPLETE"))
+                .extracting(TaskResponse::getId)
+                .containsAll(ids);
+    }
+
+    @Test
+    @DisplayName("寫入失敗時回應與個別交易相同的錯誤")
+    void completeTask_NotFound_Returns404() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}/complete", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+}
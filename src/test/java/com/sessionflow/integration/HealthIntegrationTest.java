@@ -0,0 +1,41 @@
+package com.sessionflow.integration;
+
+import com.sessionflow.monitoring.health.HealthMonitor;
+import com.sessionflow.monitoring.health.HealthSnapshot;
+import com.sessionflow.monitoring.health.HealthStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 健康檢查整合測試
+ * 以實際的資料庫、執行緒池與 broker 執行所有探測
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("健康檢查整合測試")
+class HealthIntegrationTest {
+
+    @Autowired
+    private HealthMonitor healthMonitor;
+
+    @Test
+    @DisplayName("所有探測皆可執行，系統就緒且存活")
+    void runProbes_AllProbesSucceed() {
+        HealthSnapshot snapshot = healthMonitor.runProbes();
+
+        assertThat(snapshot.probes()).containsOnlyKeys("database", "connectionPool", "websocketEventExecutor",
+                "brokerSessions", "diskSpace", "heap");
+        assertThat(snapshot.probes().values()).allSatisfy(result -> {
+            assertThat(result.error()).isNull();
+            assertThat(result.status()).isNotEqualTo(HealthStatus.DOWN);
+        });
+        assertThat(snapshot.probes().get("connectionPool").details()).containsKeys("active", "threadsAwaiting");
+        assertThat(healthMonitor.isReady()).isTrue();
+        assertThat(healthMonitor.isLive()).isTrue();
+    }
+}
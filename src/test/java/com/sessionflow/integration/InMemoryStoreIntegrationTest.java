@@ -0,0 +1,210 @@
+package com.sessionflow.integration;
+
+import com.sessionflow.dto.ScheduleEntryRequest;
+import com.sessionflow.dto.SessionRecordCreateRequest;
+import com.sessionflow.dto.SessionRecordResponse;
+import com.sessionflow.dto.SessionRequest;
+import com.sessionflow.dto.SessionResponse;
+import com.sessionflow.dto.TagRequest;
+import com.sessionflow.dto.TagResponse;
+import com.sessionflow.dto.TaskRequest;
+import com.sessionflow.dto.TaskResponse;
+import com.sessionflow.monitoring.SqlStatementCounter;
+import com.sessionflow.monitoring.SqlStatementRecording;
+import com.sessionflow.service.BootstrapService;
+import com.sessionflow.service.ScheduleEntryService;
+import com.sessionflow.service.SessionRecordService;
+import com.sessionflow.service.SessionService;
+import com.sessionflow.service.TagService;
+import com.sessionflow.service.TaskService;
+import com.sessionflow.service.impl.BootstrapServiceImpl;
+import com.sessionflow.service.impl.ScheduleEntryServiceImpl;
+import com.sessionflow.service.impl.SessionRecordServiceImpl;
+import com.sessionflow.service.impl.SessionServiceImpl;
+import com.sessionflow.service.impl.TagServiceImpl;
+import com.sessionflow.service.impl.TaskServiceImpl;
+import com.sessionflow.store.InMemoryStore;
+import com.sessionflow.store.InMemoryTaskService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.sessionflow.monitoring.SqlStatementRecordingAssert.assertThatSql;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 記憶體資料集整合測試
+ * 驗證啟用後讀取不執行 SQL，且經過各種寫入後的內容與直接查詢 H2 的結果相同
+ */
+@SpringBootTest(properties = "sessionflow.store.in-memory.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("記憶體資料集整合測試")
+class InMemoryStoreIntegrationTest {
+
+    @Autowired
+    private InMemoryStore store;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private SessionRecordService sessionRecordService;
+
+    @Autowired
+    private ScheduleEntryService scheduleEntryService;
+
+    @Autowired
+    private BootstrapService bootstrapService;
+
+    @Autowired
+    private TaskServiceImpl taskServiceImpl;
+
+    @Autowired
+    private TagServiceImpl tagServiceImpl;
+
+    @Autowired
+    private SessionServiceImpl sessionServiceImpl;
+
+    @Autowired
+    private SessionRecordServiceImpl sessionRecordServiceImpl;
+
+    @Autowired
+    private ScheduleEntryServiceImpl scheduleEntryServiceImpl;
+
+    @Autowired
+    private BootstrapServiceImpl bootstrapServiceImpl;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static String unique(String name) {
+        return name + " " + System.nanoTime();
+    }
+
+    @Test
+    @DisplayName("讀取由記憶體回應，不執行 SQL")
+    void reads_ServedFromMemory() {
+        assertThat(store.isLoaded()).isTrue();
+        assertThat(taskService).isInstanceOf(InMemoryTaskService.class);
+        TaskResponse task = taskService.createTask(new TaskRequest(unique("記憶體任務")));
+
+        try (SqlStatementRecording sql = SqlStatementCounter.start()) {
+            assertThat(taskService.getAllTasks(null)).extracting(TaskResponse::getId).contains(task.getId());
+            assertThat(taskService.getAllTasks("pending")).extracting(TaskResponse::getId).contains(task.getId());
+            tagService.getAllTags();
+            sessionService.getAllSessions();
+            sessionRecordService.getSessionRecords(null, null, task.getId());
+            scheduleEntryService.getScheduleEntries(LocalDate.now(), LocalDate.now());
+
+            assertThatSql(sql).hasTotal(0);
+        }
+        assertThatIllegalArgumentException().isThrownBy(() -> taskService.getAllTasks("done"));
+    }
+
+    @Test
+    @DisplayName("寫入後的內容與直接查詢 H2 相同")
+    void writes_MatchDatabase() {
+        TagResponse work = tagService.createTag(new TagRequest(unique("工作"), "#FF5733"));
+        TagResponse urgent = tagService.createTag(new TagRequest(unique("緊急"), "#FF0000"));
+        TaskRequest taskRequest = new TaskRequest(unique("記憶體同步任務"));
+        taskRequest.setTagIds(List.of(work.getId(), urgent.getId()));
+        TaskResponse task = taskService.createTask(taskRequest);
+        TaskResponse other = taskService.createTask(new TaskRequest(unique("記憶體同步任務")));
+
+        tagService.updateTag(work.getId(), new TagRequest(work.getName(), "#123456"));
+        tagService.deleteTag(urgent.getId());
+        taskService.completeTask(other.getId());
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        SessionResponse session = sessionService.createSession(new SessionRequest("專注", task.getId(), null, "計畫"));
+        sessionService.createSession(new SessionRequest("專注", task.getId(), null, null));
+        SessionRecordResponse record = sessionService.endSession(session.getId(),
+                new SessionRecordCreateRequest(session.getId(), "完成"));
+        scheduleEntryService.createScheduleEntry(
+                new ScheduleEntryRequest("跨日排程", task.getId(), now.minusDays(1), now.plusDays(1), null));
+        scheduleEntryService.createScheduleEntry(
+                new ScheduleEntryRequest("今日排程", null, now, now.plusHours(1), null));
+
+        assertSameAsDatabase(task.getId());
+        assertThat(taskService.getAllTasks(null)).extracting(TaskResponse::getId)
+                .startsWith(other.getId(), task.getId());
+        assertThat(taskService.getAllTasks(null)).filteredOn(t -> t.getId().equals(task.getId()))
+                .singleElement()
+                .satisfies(t -> assertThat(t.getTags()).containsExactly(
+                        new TagResponse(work.getId(), work.getName(), "#123456")));
+        assertThat(sessionRecordService.getSessionRecords(null, null, task.getId()))
+                .extracting(SessionRecordResponse::getId).containsExactly(record.getId());
+
+        taskService.deleteTask(task.getId());
+
+        assertSameAsDatabase(task.getId());
+        assertThat(sessionService.findIdsByTaskId(task.getId())).isEmpty();
+        assertThat(sessionRecordService.findIdsByTaskId(task.getId())).isEmpty();
+        assertThat(scheduleEntryService.findIdsByTaskId(task.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("回復的交易不影響記憶體中的資料")
+    void rollback_Discarded() {
+        String name = unique("回復標籤");
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            tagService.createTag(new TagRequest(name, "#000000"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(tagService.getAllTags()).extracting(TagResponse::getName).doesNotContain(name);
+        assertThat(tagServiceImpl.getAllTags()).extracting(TagResponse::getName).doesNotContain(name);
+    }
+
+    @Test
+    @DisplayName("重新載入後內容不變")
+    void load_Reload_SameContents() {
+        List<TaskResponse> before = taskService.getAllTasks(null);
+
+        store.load();
+
+        assertThat(taskService.getAllTasks(null)).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(before);
+        assertSameAsDatabase(0L);
+    }
+
+    private void assertSameAsDatabase(Long taskId) {
+        LocalDate today = LocalDate.now();
+        assertThat(taskService.getAllTasks(null)).usingRecursiveComparison().ignoringCollectionOrder()
+                .isEqualTo(taskServiceImpl.getAllTasks(null));
+        assertThat(taskService.getAllTasks("COMPLETE")).usingRecursiveComparison().ignoringCollectionOrder()
+                .isEqualTo(taskServiceImpl.getAllTasks("COMPLETE"));
+        assertThat(tagService.getAllTags()).isEqualTo(tagServiceImpl.getAllTags());
+        assertThat(sessionService.getAllSessions()).isEqualTo(sessionServiceImpl.getAllSessions());
+        assertThat(sessionService.findIdsByTaskId(taskId)).isEqualTo(sessionServiceImpl.findIdsByTaskId(taskId));
+        assertThat(sessionRecordService.getSessionRecords(null, null, null))
+                .isEqualTo(sessionRecordServiceImpl.getSessionRecords(null, null, null));
+        assertThat(sessionRecordService.getSessionRecords(today, today, null))
+                .isEqualTo(sessionRecordServiceImpl.getSessionRecords(today, today, null));
+        assertThat(sessionRecordService.getSessionRecords(null, today, taskId))
+                .isEqualTo(sessionRecordServiceImpl.getSessionRecords(null, today, taskId));
+        assertThat(scheduleEntryService.getScheduleEntries(today, today))
+                .isEqualTo(scheduleEntryServiceImpl.getScheduleEntries(today, today));
+        assertThat(scheduleEntryService.getScheduleEntries(today.minusDays(7), today.plusDays(7)))
+                .isEqualTo(scheduleEntryServiceImpl.getScheduleEntries(today.minusDays(7), today.plusDays(7)));
+        assertThat(scheduleEntryService.findIdsByTaskId(taskId))
+                .isEqualTo(scheduleEntryServiceImpl.findIdsByTaskId(taskId));
+        assertThat(bootstrapService.getSnapshot().data().getTodayScheduleEntries())
+                .isEqualTo(bootstrapServiceImpl.getSnapshot().data().getTodayScheduleEntries());
+    }
+}
@@ -0,0 +1,76 @@
+package com.sessionflow.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sessionflow.dto.TaskRequest;
+import com.sessionflow.monitoring.history.MetricsHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 指標歷史整合測試
+ * 驗證 API 請求、SQL 與通知寫入環狀檔案後可由 /api/admin/metrics/history 查詢
+ */
+@SpringBootTest(properties = {
+        "sessionflow.metrics.history.enabled=true",
+        "sessionflow.metrics.history.file-prefix=target/metrics-history-test/sessionflow"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("指標歷史整合測試")
+class MetricsHistoryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MetricsHistory metricsHistory;
+
+    @Test
+    @DisplayName("結束區間後可查詢端點延遲、SQL 執行次數與通知數")
+    void history_RecordsRequestsStatementsAndNotifications() throws Exception {
+        // 停止時寫入目前區間，重新開始後的第一個區間只包含此測試的請求
+        metricsHistory.stop();
+        Instant from = Instant.now();
+        metricsHistory.start();
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskRequest("指標歷史任務"))))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/tasks")).andExpect(status().isOk());
+
+        metricsHistory.stop();
+        metricsHistory.start();
+
+        JsonNode report = objectMapper.readTree(mockMvc.perform(get("/api/admin/metrics/history")
+                        .param("from", from.toString())
+                        .param("stepSeconds", "86400"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+
+        JsonNode point = report.get("series").get(0);
+        assertThat(point.get("requests").asLong()).isGreaterThanOrEqualTo(2);
+        assertThat(point.get("dbStatements").asLong()).isPositive();
+        assertThat(point.get("notifications").asLong()).isPositive();
+        assertThat(point.get("heapUsedBytes").asLong()).isPositive();
+        assertThat(StreamSupport.stream(report.get("endpoints").spliterator(), false)
+                .map(node -> node.get("endpoint").asText()))
+                .contains("POST /api/tasks", "GET /api/tasks");
+    }
+}
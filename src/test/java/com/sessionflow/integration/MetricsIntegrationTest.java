@@ -0,0 +1,68 @@
+package com.sessionflow.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 指標整合測試
+ * 以 metrics 設定檔啟動，驗證 Prometheus 端點提供各層指標
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles({"test", "metrics"})
+@DisplayName("指標整合測試")
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String scrape() throws Exception {
+        return mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    @Test
+    @DisplayName("API 端點與 Service 方法的計時，包含例外類型")
+    void prometheus_ContainsEndpointAndServiceTimers() throws Exception {
+        mockMvc.perform(get("/api/tasks")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks").param("status", "unknown")).andExpect(status().isBadRequest());
+
+        String metrics = scrape();
+
+        assertThat(metrics)
+                .contains("http_server_requests_seconds_bucket{")
+                .containsPattern("http_server_requests_seconds_count\\{[^}]*uri=\"/api/tasks\"")
+                .containsPattern("sessionflow_service_seconds_count\\{[^}]*class=\"TaskServiceImpl\","
+                        + "exception=\"none\",method=\"getAllTasks\"")
+                .containsPattern("sessionflow_service_seconds_count\\{[^}]*class=\"TaskServiceImpl\","
+                        + "exception=\"IllegalArgumentException\",method=\"getAllTasks\"");
+    }
+
+    @Test
+    @DisplayName("資料庫、Hibernate 與 WebSocket 指標")
+    void prometheus_ContainsDatabaseAndWebSocketMetrics() throws Exception {
+        mockMvc.perform(get("/api/tags")).andExpect(status().isOk());
+
+        String metrics = scrape();
+
+        assertThat(metrics)
+                .contains("hikaricp_connections_acquire_seconds_count")
+                .contains("h2_file_size_bytes", "h2_chunks_fill_rate_percent", "h2_file_writes_total")
+                .contains("hibernate_statements_total")
+                .contains("sessionflow_websocket_sessions{", "sessionflow_websocket_frames_sent_total{",
+                        "sessionflow_websocket_outbound_queue")
+                .containsPattern("executor_queued_tasks\\{[^}]*name=\"websocketEventExecutor\"");
+    }
+}
@@ -0,0 +1,89 @@
+package com.sessionflow.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sessionflow.dto.TaskRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 請求追蹤整合測試
+ * 驗證 API 請求的各層區間與 /actuator/traces 端點
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("請求追蹤整合測試")
+class RequestTracingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private static List<String> spanNames(JsonNode spans) {
+        List<String> names = new ArrayList<>();
+        for (JsonNode span : spans) {
+            names.add(span.get("layer").asText() + " " + span.get("name").asText());
+            names.addAll(spanNames(span.get("children")));
+        }
+        return names;
+    }
+
+    @Test
+    @DisplayName("更新任務的追蹤包含 Controller、Service、Repository、Mapper 與事件監聽器區間")
+    void traces_ContainsSpanTreeForEachLayer() throws Exception {
+        mockMvc.perform(delete("/actuator/traces")).andExpect(status().isNoContent());
+        String created = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskRequest("追蹤任務"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long id = objectMapper.readTree(created).get("id").asLong();
+
+        mockMvc.perform(put("/api/tasks/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskRequest("追蹤任務（已更新）"))))
+                .andExpect(status().isOk());
+
+        JsonNode report = objectMapper.readTree(mockMvc.perform(get("/actuator/traces").param("limit", "50"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        JsonNode trace = StreamSupport.stream(report.get("slowest").spliterator(), false)
+                .filter(node -> node.get("name").asText().startsWith("PUT /api/tasks/{id}"))
+                .findFirst().orElseThrow();
+
+        assertThat(trace.get("status").asInt()).isEqualTo(200);
+        JsonNode controller = trace.get("spans").get(0);
+        assertThat(controller.get("name").asText()).isEqualTo("TaskController.updateTask");
+        JsonNode service = controller.get("children").get(0);
+        assertThat(service.get("name").asText()).isEqualTo("TaskServiceImpl.updateTask");
+        assertThat(service.get("durationMillis").asDouble())
+                .isLessThanOrEqualTo(trace.get("durationMillis").asDouble());
+        assertThat(spanNames(service.get("children"))).contains(
+                "repository TaskRepository.findById",
+                "repository TaskRepository.save",
+                "mapper TaskMapperImpl.toResponse",
+                "event ResourceChangedEventListener.onResourceChanged",
+                "mapper ResourceChangedNotificationMapperImpl.toNotification");
+        assertThat(service.get("children").get(0).get("sqlStatements").asInt()).isPositive();
+    }
+}
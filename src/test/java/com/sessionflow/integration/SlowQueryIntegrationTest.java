@@ -0,0 +1,50 @@
+package com.sessionflow.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 慢查詢整合測試
+ * 門檻設為 0 使每個陳述式都被記錄，驗證端點提供 Repository 方法、綁定參數與執行計畫
+ */
+@SpringBootTest(properties = {
+        "sessionflow.sql.slow-query.threshold-ms=0",
+        "sessionflow.sql.slow-query.capacity=500"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("慢查詢整合測試")
+class SlowQueryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("記錄 Repository 方法、綁定參數與執行計畫，並可清除")
+    void slowQueries_ContainsRepositoryMethodAndPlan() throws Exception {
+        mockMvc.perform(delete("/actuator/slowqueries")).andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/tasks").param("status", "PENDING")).andExpect(status().isOk());
+
+        String entry = "$.slowest[?(@.repositoryMethod == 'TaskRepository.findByStatusWithTagsOrderByCreatedAtDesc')]";
+        mockMvc.perform(get("/actuator/slowqueries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.thresholdMillis").value(0))
+                .andExpect(jsonPath(entry + ".parameters[0]", contains("PENDING")))
+                .andExpect(jsonPath(entry + ".plan", contains(containsString("FROM"))));
+
+        mockMvc.perform(delete("/actuator/slowqueries")).andExpect(status().isNoContent());
+        mockMvc.perform(get("/actuator/slowqueries"))
+                .andExpect(jsonPath("$.recordedCount").value(0));
+    }
+}
@@ -0,0 +1,84 @@
+package com.sessionflow.integration;
+
+import com.sessionflow.dto.TagRequest;
+import com.sessionflow.dto.TagResponse;
+import com.sessionflow.dto.TaskRequest;
+import com.sessionflow.dto.TaskResponse;
+import com.sessionflow.monitoring.SqlStatementCounter;
+import com.sessionflow.monitoring.SqlStatementRecording;
+import com.sessionflow.service.TagService;
+import com.sessionflow.service.TaskService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.sessionflow.monitoring.SqlStatementRecordingAssert.assertThatSql;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SQL 陳述式數量整合測試
+ * 透過 DataSource 代理計數，確保查詢不隨資料筆數增加（N+1）
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("SQL 陳述式數量整合測試")
+class SqlStatementBudgetIntegrationTest {
+
+    private static final int TASK_COUNT = 20;
+    private static final String TITLE_PREFIX = "SQL 預算任務 ";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        TagResponse work = tagService.createTag(new TagRequest("工作", "#FF5733"));
+        TagResponse urgent = tagService.createTag(new TagRequest("緊急", "#FF0000"));
+        for (int i = 0; i < TASK_COUNT; i++) {
+            TaskRequest request = new TaskRequest(TITLE_PREFIX + i);
+            request.setTagIds(List.of(work.getId(), urgent.getId()));
+            taskService.createTask(request);
+        }
+        // 寫入資料庫並清空持久化內容，讓查詢與延遲載入都實際執行 SQL
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("查詢所有任務只執行一個陳述式，不逐一載入標籤")
+    void getAllTasks_SingleStatement() {
+        try (SqlStatementRecording sql = SqlStatementCounter.start()) {
+            List<TaskResponse> tasks = taskService.getAllTasks(null);
+
+            assertThat(tasks).filteredOn(task -> task.getTitle().startsWith(TITLE_PREFIX))
+                    .hasSize(TASK_COUNT)
+                    .allSatisfy(task -> assertThat(task.getTags()).hasSize(2));
+            assertThatSql(sql).hasTotal(1);
+        }
+    }
+
+    @Test
+    @DisplayName("依狀態查詢任務只執行一個陳述式")
+    void getAllTasks_WithStatus_SingleStatement() {
+        try (SqlStatementRecording sql = SqlStatementCounter.start()) {
+            List<TaskResponse> tasks = taskService.getAllTasks("PENDING");
+
+            assertThat(tasks).filteredOn(task -> task.getTitle().startsWith(TITLE_PREFIX)).hasSize(TASK_COUNT);
+            assertThatSql(sql).hasTotal(1);
+        }
+    }
+}
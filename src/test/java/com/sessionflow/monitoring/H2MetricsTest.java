@@ -0,0 +1,44 @@
+package com.sessionflow.monitoring;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("H2Metrics 單元測試")
+class H2MetricsTest {
+
+    @Test
+    @DisplayName("讀取 H2 store 資訊並轉換為數值指標")
+    void bindTo_ReadsStoreInformation(@TempDir Path directory) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:file:" + directory.resolve("metrics").toAbsolutePath());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new H2Metrics(dataSource).bindTo(registry);
+
+        assertThat(registry.get("h2.file.size").gauge().value()).isPositive();
+        assertThat(registry.get("h2.cache.max").gauge().value()).isPositive();
+        assertThat(registry.get("h2.file.fill.rate").gauge().value()).isBetween(0.0, 100.0);
+        assertThat(registry.get("h2.file.live.ratio").gauge().value()).isBetween(0.0, 100.0);
+    }
+
+    @Test
+    @DisplayName("百分比與缺少的項目")
+    void number_ParsesPercentAndMissing() {
+        Map<String, String> info = Map.of("info.UPDATE_FAILURE_PERCENT", "1.50%", "info.FILL_RATE", "87");
+
+        assertThat(H2Metrics.number(info, "info.UPDATE_FAILURE_PERCENT")).isEqualTo(1.5);
+        assertThat(H2Metrics.number(info, "info.FILL_RATE")).isEqualTo(87);
+        assertThat(H2Metrics.number(info, "info.FILE_SIZE")).isNaN();
+        assertThat(H2Metrics.liveRatio(Map.of(H2Metrics.LIVE_RATIO, "20"))).isEqualTo(20);
+        assertThat(H2Metrics.liveRatio(info)).isNaN();
+    }
+}
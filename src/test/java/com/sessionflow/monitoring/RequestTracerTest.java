@@ -0,0 +1,89 @@
+package com.sessionflow.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RequestTracer 單元測試")
+class RequestTracerTest {
+
+    private final RequestTracer tracer = new RequestTracer(4);
+
+    private void request(String name, long sleepMillis) throws InterruptedException {
+        RequestTrace trace = tracer.begin(name);
+        Thread.sleep(sleepMillis);
+        tracer.end(trace, 200, null);
+    }
+
+    @Test
+    @DisplayName("區間依呼叫層級巢狀，SQL 陳述式計入當下的區間")
+    void enter_BuildsSpanTree() {
+        RequestTrace trace = tracer.begin("PUT /api/tasks/{id}");
+        Span service = RequestTracer.enter("service", "TaskServiceImpl.updateTask");
+        Span repository = RequestTracer.enter("repository", "TaskRepository.findById");
+        tracer.afterQuery(new ExecutionInfo(), List.of(new QueryInfo("select 1")));
+        RequestTracer.exit(repository, null);
+        Span event = RequestTracer.enter("event", "ResourceChangedEventListener.onResourceChanged");
+        RequestTracer.exit(event, new IllegalStateException());
+        RequestTracer.exit(service, null);
+        tracer.end(trace, 200, null);
+
+        assertThat(trace.root().children()).containsExactly(service);
+        assertThat(service.children()).extracting(Span::name)
+                .containsExactly("TaskRepository.findById", "ResourceChangedEventListener.onResourceChanged");
+        assertThat(repository.sqlStatements()).isEqualTo(1);
+        assertThat(service.sqlStatements()).isZero();
+        assertThat(event.error()).isEqualTo("IllegalStateException");
+        assertThat(trace.durationNanos()).isGreaterThanOrEqualTo(service.durationNanos());
+    }
+
+    @Test
+    @DisplayName("沒有進行中的追蹤時不建立區間")
+    void enter_WithoutTrace_ReturnsNull() {
+        assertThat(RequestTracer.enter("service", "TaskServiceImpl.getAllTasks")).isNull();
+        RequestTracer.exit(null, null);
+        tracer.afterQuery(new ExecutionInfo(), List.of(new QueryInfo("select 1")));
+    }
+
+    @Test
+    @DisplayName("區間數達上限後只計數")
+    void enter_OverLimit_CountsDroppedSpans() {
+        RequestTrace trace = tracer.begin("GET /api/tasks");
+        for (int i = 0; i < RequestTrace.MAX_SPANS + 3; i++) {
+            RequestTracer.exit(RequestTracer.enter("repository", "TagRepository.findById"), null);
+        }
+        tracer.end(trace, 200, null);
+
+        assertThat(trace.root().children()).hasSize(RequestTrace.MAX_SPANS);
+        assertThat(trace.droppedSpans()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("環狀緩衝區覆寫最舊的追蹤，依執行時間由慢到快列出")
+    void slowest_ReturnsSlowestRecentTraces() throws InterruptedException {
+        request("oldest", 100);
+        for (int i = 1; i <= 4; i++) {
+            request("request " + i, i * 15L);
+        }
+
+        assertThat(tracer.slowest(10)).extracting(RequestTrace::name)
+                .containsExactly("request 4", "request 3", "request 2", "request 1");
+        assertThat(tracer.slowest(2)).hasSize(2);
+        assertThat(tracer.completedCount()).isEqualTo(5);
+
+        tracer.clear();
+        assertThat(tracer.slowest(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("容量進位至 2 的次方")
+    void constructor_RoundsCapacity() {
+        assertThat(new RequestTracer(100).getCapacity()).isEqualTo(128);
+        assertThat(new RequestTracer(64).getCapacity()).isEqualTo(64);
+    }
+}
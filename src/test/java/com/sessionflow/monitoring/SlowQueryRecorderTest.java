@@ -0,0 +1,82 @@
+package com.sessionflow.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SlowQueryRecorder 單元測試")
+class SlowQueryRecorderTest {
+
+    private static ExecutionInfo execution(long elapsedMillis, Statement statement) {
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setElapsedTime(elapsedMillis);
+        execInfo.setStatement(statement);
+        return execInfo;
+    }
+
+    private static ParameterSetOperation set(String method, Class<?> type, int index, Object value) throws Exception {
+        return new ParameterSetOperation(PreparedStatement.class.getMethod(method, int.class, type),
+                new Object[]{index, value});
+    }
+
+    @Test
+    @DisplayName("只保留最慢的 N 筆，未達門檻的不記錄")
+    void afterQuery_KeepsSlowestEntries() {
+        SlowQueryRecorder recorder = new SlowQueryRecorder(10, 2, false);
+
+        for (long elapsed : new long[]{5, 30, 12, 50, 20}) {
+            recorder.afterQuery(execution(elapsed, null), List.of(new QueryInfo("select " + elapsed)));
+        }
+
+        assertThat(recorder.slowest()).extracting(SlowQuery::elapsedMillis).containsExactly(50L, 30L);
+        assertThat(recorder.recordedCount()).isEqualTo(4);
+
+        recorder.clear();
+        assertThat(recorder.slowest()).isEmpty();
+        assertThat(recorder.recordedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("綁定參數依位置排列，setNull 記為 null")
+    void parametersOf_OrdersByIndex() throws Exception {
+        QueryInfo queryInfo = new QueryInfo("select * from tasks where status = ? and title = ? and note = ?");
+        queryInfo.getParametersList().add(Arrays.asList(
+                set("setString", String.class, 2, "報告"),
+                set("setNull", int.class, 3, Types.VARCHAR),
+                set("setString", String.class, 1, "PENDING")));
+
+        assertThat(SlowQueryRecorder.parametersOf(queryInfo)).containsExactly("PENDING", "報告", null);
+    }
+
+    @Test
+    @DisplayName("以相同連線與綁定參數取得 H2 執行計畫")
+    void afterQuery_CapturesPlan() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:slow-query-plan;DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table tasks (id bigint primary key, title varchar(100))");
+            QueryInfo queryInfo = new QueryInfo("select title from tasks where id = ?");
+            queryInfo.getParametersList().add(List.of(set("setLong", long.class, 1, 7L)));
+            SlowQueryRecorder recorder = new SlowQueryRecorder(0, 5, true);
+
+            recorder.afterQuery(execution(3, statement), List.of(queryInfo));
+
+            SlowQuery slowQuery = recorder.slowest().get(0);
+            assertThat(slowQuery.parameters()).containsExactly(7L);
+            assertThat(slowQuery.plan()).contains("PRIMARY_KEY");
+            assertThat(slowQuery.thread()).isEqualTo(Thread.currentThread().getName());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.sessionflow.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.sessionflow.monitoring.SqlStatementRecordingAssert.assertThatSql;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SqlStatementCounter 單元測試")
+class SqlStatementCounterTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+
+    private void execute(String... sql) {
+        for (String statement : sql) {
+            counter.afterQuery(new ExecutionInfo(), List.of(new QueryInfo(statement)));
+        }
+    }
+
+    @Test
+    @DisplayName("只有參數或常數值不同的陳述式視為同一形狀")
+    void shapeOf_IgnoresLiteralsAndWhitespace() {
+        assertThat(SqlStatementCounter.shapeOf("select t1_0.id from tags t1_0 where t1_0.id=42"))
+                .isEqualTo("select t1_0.id from tags t1_0 where t1_0.id=?");
+        assertThat(SqlStatementCounter.shapeOf("select * from tasks\n  where title = 'it''s'"))
+                .isEqualTo("select * from tasks where title = ?");
+        assertThat(SqlStatementCounter.shapeOf("delete from sessions where id in (?, ?,?)"))
+                .isEqualTo("delete from sessions where id in (?)");
+        assertThat(SqlStatementCounter.shapeOf("insert into task_tags (task_id,tag_id) values (?,?)"))
+                .isEqualTo("insert into task_tags (task_id,tag_id) values (?,?)");
+    }
+
+    @Test
+    @DisplayName("記錄期間的陳述式依形狀計數")
+    void start_CountsStatementsByShape() {
+        try (SqlStatementRecording sql = SqlStatementCounter.start()) {
+            execute("select * from tasks",
+                    "select * from tags where id=1",
+                    "select * from tags where id=2",
+                    "select * from tags where id=3");
+
+            assertThatSql(sql)
+                    .hasTotal(4)
+                    .hasStatementsContaining("from tags", 3)
+                    .hasNoStatementRepeatedMoreThan(3);
+            assertThat(sql.repeatedMoreThan(1)).containsExactly(entry("select * from tags where id=?", 3));
+        }
+    }
+
+    @Test
+    @DisplayName("沒有進行中的記錄時不計數，關閉後停止記錄")
+    void afterQuery_WithoutRecording_Ignored() {
+        execute("select 1");
+
+        SqlStatementRecording sql = SqlStatementCounter.start();
+        execute("select 1");
+        sql.close();
+        execute("select 1");
+
+        assertThatSql(sql).hasTotal(1);
+    }
+
+    @Test
+    @DisplayName("巢狀記錄時內層陳述式同時計入外層")
+    void start_Nested_CountsInBoth() {
+        try (SqlStatementRecording outer = SqlStatementCounter.start()) {
+            execute("select * from tasks");
+            try (SqlStatementRecording inner = SqlStatementCounter.start()) {
+                execute("select * from tags");
+                assertThatSql(inner).hasTotal(1);
+            }
+            execute("select * from sessions");
+
+            assertThatSql(outer).hasTotal(3);
+        }
+    }
+
+    @Test
+    @DisplayName("超過上限的斷言失敗並列出重複的陳述式")
+    void assertion_OverLimit_Fails() {
+        try (SqlStatementRecording sql = SqlStatementCounter.start()) {
+            execute("select * from tags where id=1", "select * from tags where id=2");
+
+            assertThatThrownBy(() -> assertThatSql(sql).hasNoStatementRepeatedMoreThan(1))
+                    .isInstanceOf(AssertionError.class)
+                    .hasMessageContaining("select * from tags where id=?");
+            assertThatThrownBy(() -> assertThatSql(sql).hasTotalAtMost(1))
+                    .isInstanceOf(AssertionError.class);
+        }
+    }
+}
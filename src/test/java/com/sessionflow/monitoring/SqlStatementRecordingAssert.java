@@ -0,0 +1,66 @@
+package com.sessionflow.monitoring;
+
+import org.assertj.core.api.AbstractAssert;
+
+/**
+ * {@link SqlStatementRecording} 的 AssertJ 斷言，用於在測試中限制 SQL 陳述式數量與 N+1 查詢
+ *
+ * <pre>{@code
+ * try (SqlStatementRecording sql = SqlStatementCounter.start()) {
+ *     taskService.getAllTasks(null);
+ *     assertThatSql(sql).hasTotalAtMost(1).hasNoStatementRepeatedMoreThan(1);
+ * }
+ * }</pre>
+ */
+public class SqlStatementRecordingAssert extends AbstractAssert<SqlStatementRecordingAssert, SqlStatementRecording> {
+
+    private SqlStatementRecordingAssert(SqlStatementRecording actual) {
+        super(actual, SqlStatementRecordingAssert.class);
+    }
+
+    public static SqlStatementRecordingAssert assertThatSql(SqlStatementRecording actual) {
+        return new SqlStatementRecordingAssert(actual);
+    }
+
+    public SqlStatementRecordingAssert hasTotal(int expected) {
+        isNotNull();
+        if (actual.total() != expected) {
+            failWithMessage("Expected %d SQL statements but %s", expected, actual);
+        }
+        return this;
+    }
+
+    public SqlStatementRecordingAssert hasTotalAtMost(int limit) {
+        isNotNull();
+        if (actual.total() > limit) {
+            failWithMessage("Expected at most %d SQL statements but %s", limit, actual);
+        }
+        return this;
+    }
+
+    public SqlStatementRecordingAssert hasNoStatementRepeatedMoreThan(int limit) {
+        isNotNull();
+        if (actual.maxRepeats() > limit) {
+            failWithMessage("Expected no SQL statement repeated more than %d times but found %s",
+                    limit, actual.repeatedMoreThan(limit));
+        }
+        return this;
+    }
+
+    /**
+     * 形狀中包含 {@code fragment} 的陳述式（不分大小寫）執行次數
+     */
+    public SqlStatementRecordingAssert hasStatementsContaining(String fragment, int expected) {
+        isNotNull();
+        String lowerCaseFragment = fragment.toLowerCase();
+        int count = actual.countsByShape().entrySet().stream()
+                .filter(entry -> entry.getKey().toLowerCase().contains(lowerCaseFragment))
+                .mapToInt(entry -> entry.getValue())
+                .sum();
+        if (count != expected) {
+            failWithMessage("Expected %d SQL statements containing <%s> but found %d in %s",
+                    expected, fragment, count, actual);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,113 @@
+package com.sessionflow.monitoring.health;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HealthMonitor 單元測試")
+class HealthMonitorTest {
+
+    private static HealthProbe probe(String name, double value, Thresholds thresholds, boolean affectsLiveness) {
+        return new HealthProbe() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public ProbeResult check() {
+                return ProbeResult.of(value, "ms", thresholds, Map.of());
+            }
+
+            @Override
+            public boolean affectsLiveness() {
+                return affectsLiveness;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("門檻依方向判斷降級與失效")
+    void thresholds_StatusOf() {
+        Thresholds latency = Thresholds.above(100, 2_000);
+        assertThat(latency.statusOf(5)).isEqualTo(HealthStatus.UP);
+        assertThat(latency.statusOf(100)).isEqualTo(HealthStatus.DEGRADED);
+        assertThat(latency.statusOf(2_500)).isEqualTo(HealthStatus.DOWN);
+
+        Thresholds freeSpace = Thresholds.below(500, 50);
+        assertThat(freeSpace.statusOf(10_000)).isEqualTo(HealthStatus.UP);
+        assertThat(freeSpace.statusOf(200)).isEqualTo(HealthStatus.DEGRADED);
+        assertThat(freeSpace.statusOf(10)).isEqualTo(HealthStatus.DOWN);
+    }
+
+    @Test
+    @DisplayName("整體狀態取最嚴重的探測，探測拋出例外時為失效")
+    void runProbes_AggregatesWorstStatus() {
+        HealthProbe failing = new HealthProbe() {
+            @Override
+            public String name() {
+                return "database";
+            }
+
+            @Override
+            public ProbeResult check() {
+                throw new IllegalStateException("connection refused");
+            }
+        };
+        HealthMonitor monitor = new HealthMonitor(List.of(
+                probe("connectionPool", 80, Thresholds.above(50, 1_000), false), failing), Duration.ofSeconds(10));
+
+        assertThat(monitor.isReady()).isFalse();
+        HealthSnapshot snapshot = monitor.runProbes();
+
+        assertThat(snapshot.status()).isEqualTo(HealthStatus.DOWN);
+        assertThat(snapshot.probes().get("connectionPool").status()).isEqualTo(HealthStatus.DEGRADED);
+        assertThat(snapshot.probes().get("database").error()).contains("connection refused");
+        assertThat(monitor.isReady()).isFalse();
+        assertThat(monitor.isLive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("只有影響存活的探測失效時 liveness 失敗；降級仍為就緒")
+    void isLive_DependsOnLivenessProbes() {
+        HealthMonitor degraded = new HealthMonitor(List.of(
+                probe("heap", 90, Thresholds.above(85, 95), true)), Duration.ofSeconds(10));
+        degraded.runProbes();
+        assertThat(degraded.isReady()).isTrue();
+        assertThat(degraded.isLive()).isTrue();
+
+        HealthMonitor exhausted = new HealthMonitor(List.of(
+                probe("heap", 99, Thresholds.above(85, 95), true)), Duration.ofSeconds(10));
+        exhausted.runProbes();
+        assertThat(exhausted.isLive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("由 JDBC URL 取得資料庫檔案並讀取可用空間")
+    void diskSpaceProbe_ResolvesDatabaseFile(@TempDir Path directory) throws Exception {
+        assertThat(DiskSpaceProbe.databaseFile("jdbc:h2:file:./sessionflow_db;MODE=MySQL;AUTO_SERVER=TRUE"))
+                .isEqualTo(Path.of("./sessionflow_db.mv.db"));
+        assertThat(DiskSpaceProbe.databaseFile("jdbc:h2:mem:test;DB_CLOSE_DELAY=-1")).isEqualTo(Path.of("."));
+
+        ProbeResult result = new DiskSpaceProbe(directory.resolve("db.mv.db"), Thresholds.below(0, 0)).check();
+        assertThat(result.value()).isPositive();
+        assertThat(result.status()).isEqualTo(HealthStatus.UP);
+    }
+
+    @Test
+    @DisplayName("堆積記憶體使用率介於 0 與 100 之間")
+    void heapProbe_ReportsPercentOfMaxHeap() {
+        ProbeResult result = new HeapProbe(Thresholds.above(101, 102)).check();
+
+        assertThat(result.value()).isBetween(0.0, 100.0);
+        assertThat(result.unit()).isEqualTo("%");
+        assertThat(result.details()).containsKeys("usedMB", "maxMB", "afterGc");
+    }
+}
@@ -0,0 +1,165 @@
+package com.sessionflow.monitoring.history;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MetricsHistory 單元測試")
+class MetricsHistoryTest {
+
+    @TempDir
+    Path directory;
+
+    private final MetricsCollector collector = new MetricsCollector();
+
+    static class SampleController {
+
+        public void listTasks() {
+        }
+
+        public void getTask() {
+        }
+    }
+
+    private static Method handler(String name) throws NoSuchMethodException {
+        return SampleController.class.getMethod(name);
+    }
+
+    private void requests(String method, String endpoint, int count, long millis) throws Exception {
+        for (int i = 0; i < count; i++) {
+            collector.recordRequest(handler(method), () -> endpoint, millis * 1_000_000);
+        }
+    }
+
+    @Test
+    @DisplayName("延遲分布的百分位數誤差在一格之內")
+    void percentile_WithinBucketResolution() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(millis * 1_000_000L);
+        }
+        long[] counts = new long[LatencyHistogram.BUCKETS];
+        long total = histogram.drainTo(counts);
+
+        assertThat(total).isEqualTo(100);
+        assertThat(LatencyHistogram.percentileMillis(counts, total, 0.5)).isCloseTo(50, withinPercentage(13));
+        assertThat(LatencyHistogram.percentileMillis(counts, total, 0.99)).isCloseTo(99, withinPercentage(13));
+        assertThat(histogram.drainMaxMillis()).isEqualTo(100);
+        assertThat(histogram.drainTo(new long[LatencyHistogram.BUCKETS])).isZero();
+    }
+
+    @Test
+    @DisplayName("取出區間累計後歸零，只回傳有請求的端點")
+    void drain_ReturnsIntervalTotalsAndResets() throws Exception {
+        requests("listTasks", "GET /api/tasks", 9, 2);
+        requests("getTask", "GET /api/tasks/{id}", 1, 200);
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setElapsedTime(7);
+        collector.afterQuery(execution, List.of(new QueryInfo("select 1"), new QueryInfo("select 2")));
+
+        List<EndpointSample> endpoints = new ArrayList<>();
+        SystemSample sample = collector.drain(Instant.EPOCH, 60, 1, 2, endpoints);
+
+        assertThat(sample.requests()).isEqualTo(10);
+        assertThat(sample.p50Millis()).isCloseTo(2, withinPercentage(13));
+        assertThat(sample.p99Millis()).isCloseTo(200, withinPercentage(13));
+        assertThat(sample.dbTimeMillis()).isEqualTo(7);
+        assertThat(sample.dbStatements()).isEqualTo(2);
+        assertThat(endpoints).extracting(EndpointSample::endpoint, EndpointSample::requests)
+                .containsExactlyInAnyOrder(tuple("GET /api/tasks", 9L), tuple("GET /api/tasks/{id}", 1L));
+
+        List<EndpointSample> next = new ArrayList<>();
+        assertThat(collector.drain(Instant.EPOCH, 60, 1, 2, next).requests()).isZero();
+        assertThat(next).isEmpty();
+    }
+
+    @Test
+    @DisplayName("寫入環狀檔案後可依步長降採樣查詢，並可只查詢單一端點")
+    void query_DownsamplesByStep() throws Exception {
+        MetricsHistory history = new MetricsHistory(collector, directory.resolve("sessionflow_db"),
+                Duration.ofHours(1), 100, 100);
+        history.start();
+        try {
+            Instant from = Instant.now().minusSeconds(1);
+            requests("listTasks", "GET /api/tasks", 3, 5);
+            history.sample();
+            requests("listTasks", "GET /api/tasks", 1, 50);
+            requests("getTask", "GET /api/tasks/{id}", 2, 1);
+            history.sample();
+
+            MetricsHistory.Report report = history.query(from, Instant.now().plusSeconds(1), Duration.ofDays(1), null);
+
+            assertThat(report.stepSeconds()).isEqualTo(Duration.ofDays(1).toSeconds());
+            assertThat(report.series()).singleElement().satisfies(point -> {
+                assertThat(point.timestamp()).isEqualTo(from);
+                assertThat(point.requests()).isEqualTo(6);
+                assertThat(point.heapMaxBytes()).isPositive();
+            });
+            assertThat(report.endpoints()).extracting(EndpointSample::endpoint, EndpointSample::requests)
+                    .containsExactly(tuple("GET /api/tasks", 4L), tuple("GET /api/tasks/{id}", 2L));
+            EndpointSample tasks = report.endpoints().get(0);
+            assertThat(tasks.p99Millis()).isCloseTo(50, withinPercentage(13));
+            assertThat(tasks.maxMillis()).isEqualTo(50);
+
+            MetricsHistory.Report filtered = history.query(from, Instant.now().plusSeconds(1), Duration.ZERO,
+                    "GET /api/tasks/{id}");
+            assertThat(filtered.stepSeconds()).isEqualTo(Duration.ofHours(1).toSeconds());
+            assertThat(filtered.endpoints()).extracting(EndpointSample::endpoint)
+                    .containsOnly("GET /api/tasks/{id}");
+        } finally {
+            history.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("端點檔案依端點數上限配置，所有端點都有請求時每個端點仍保存指定的區間數")
+    void endpointCapacity_IsPerEndpoint() throws Exception {
+        MetricsCollector limited = new MetricsCollector(2);
+        MetricsHistory history = new MetricsHistory(limited, directory.resolve("sessionflow_db"),
+                Duration.ofHours(1), 10, 3);
+        history.start();
+        try {
+            Instant from = Instant.now().minusSeconds(1);
+            for (int i = 0; i < 3; i++) {
+                limited.recordRequest(handler("listTasks"), () -> "GET /api/tasks", 1_000_000);
+                limited.recordRequest(handler("getTask"), () -> "GET /api/tasks/{id}", 1_000_000);
+                history.sample();
+            }
+
+            MetricsHistory.Report report = history.query(from, Instant.now().plusSeconds(1), Duration.ofDays(1), null);
+
+            assertThat(report.endpoints()).extracting(EndpointSample::endpoint, EndpointSample::requests)
+                    .containsExactly(tuple("GET /api/tasks", 3L), tuple("GET /api/tasks/{id}", 3L));
+        } finally {
+            history.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("端點名稱超過欄位長度時在 UTF-8 字元邊界截斷")
+    void endpointName_TruncatedAtCharacterBoundary() {
+        String name = "GET /api/" + "任務".repeat(40);
+        ByteBuffer buffer = ByteBuffer.allocate(MetricsHistory.ENDPOINT_RECORD_SIZE);
+
+        MetricsHistory.writeEndpoint(buffer, new EndpointSample(Instant.EPOCH, name, 1, 1, 1, 1));
+        EndpointSample read = MetricsHistory.readEndpoint(buffer);
+
+        assertThat(name).startsWith(read.endpoint());
+        assertThat(read.endpoint().getBytes(StandardCharsets.UTF_8).length)
+                .isLessThanOrEqualTo(MetricsHistory.MAX_ENDPOINT_NAME_BYTES);
+    }
+}
@@ -0,0 +1,70 @@
+package com.sessionflow.monitoring.history;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RingFile 單元測試")
+class RingFileTest {
+
+    @TempDir
+    Path directory;
+
+    private static void append(RingFile file, long timestamp, long value) {
+        file.append(buffer -> buffer.putLong(0, timestamp).putLong(8, value));
+    }
+
+    private static List<Long> values(RingFile file, long from, long to) {
+        return file.read(from, to, buffer -> buffer.getLong(8));
+    }
+
+    @Test
+    @DisplayName("寫滿後覆寫最舊的紀錄，檔案大小固定")
+    void append_BeyondCapacity_OverwritesOldest() throws Exception {
+        Path path = directory.resolve("test.ring");
+        try (RingFile file = new RingFile(path, 16, 3)) {
+            for (long i = 1; i <= 5; i++) {
+                append(file, i * 1_000, i);
+            }
+
+            assertThat(values(file, 0, Long.MAX_VALUE)).containsExactly(3L, 4L, 5L);
+            assertThat(file.written()).isEqualTo(5);
+        }
+        assertThat(Files.size(path)).isEqualTo(RingFile.HEADER_SIZE + 16 * 3);
+    }
+
+    @Test
+    @DisplayName("只讀取時間範圍內的紀錄")
+    void read_TimeRange_FiltersByTimestamp() throws Exception {
+        try (RingFile file = new RingFile(directory.resolve("range.ring"), 16, 10)) {
+            for (long i = 1; i <= 5; i++) {
+                append(file, i * 1_000, i);
+            }
+
+            assertThat(values(file, 2_000, 4_000)).containsExactly(2L, 3L);
+        }
+    }
+
+    @Test
+    @DisplayName("重新開啟時保留既有紀錄，版面不同時重新初始化")
+    void reopen_KeepsRecordsUnlessLayoutChanges() throws Exception {
+        Path path = directory.resolve("reopen.ring");
+        try (RingFile file = new RingFile(path, 16, 4)) {
+            append(file, 1_000, 1);
+            append(file, 2_000, 2);
+        }
+        try (RingFile file = new RingFile(path, 16, 4)) {
+            append(file, 3_000, 3);
+            assertThat(values(file, 0, Long.MAX_VALUE)).containsExactly(1L, 2L, 3L);
+        }
+        try (RingFile file = new RingFile(path, 24, 4)) {
+            assertThat(values(file, 0, Long.MAX_VALUE)).isEmpty();
+        }
+    }
+}
@@ -246,6 +246,24 @@ class SessionRecordRepositoryIntegrationTest {
         assertThat(records.get(2).getTitle()).isEqualTo("第一個紀錄");
     }
 
+    @Test
+    @DisplayName("查詢最近的 20 筆 SessionRecord")
+    void shouldFindTop20ByOrderByIdDesc() {
+        // Given
+        for (int i = 1; i <= 25; i++) {
+            sessionRecordRepository.save(new SessionRecord("紀錄 " + i, baseTime.plusHours(i), baseTime.plusHours(i).plusMinutes(30)));
+        }
+        entityManager.flush();
+
+        // When
+        List<SessionRecord> records = sessionRecordRepository.findTop20ByOrderByIdDesc();
+
+        // Then
+        assertThat(records).hasSize(20);
+        assertThat(records.get(0).getTitle()).isEqualTo("紀錄 25");
+        assertThat(records.get(19).getTitle()).isEqualTo("紀錄 6");
+    }
+
     @Test
     @DisplayName("更新 SessionRecord 欄位")
     void shouldUpdateSessionRecordFields() {
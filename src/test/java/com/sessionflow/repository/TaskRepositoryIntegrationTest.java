@@ -3,6 +3,7 @@ package com.sessionflow.repository;
 import com.sessionflow.model.Tag;
 import com.sessionflow.model.Task;
 import com.sessionflow.model.TaskStatus;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -345,6 +346,38 @@ class TaskRepositoryIntegrationTest {
         assertThat(tasks.get(1).getTitle()).isEqualTo("第一個任務");
     }
 
+    @Test
+    @DisplayName("按創建時間降序查詢並一併載入標籤")
+    void shouldFindAllWithTagsOrderByCreatedAtDesc() {
+        // Given
+        Task task1 = new Task("第一個任務");
+        task1.getTags().add(tagRepository.findById(workTag.getId()).orElseThrow());
+        task1.getTags().add(tagRepository.findById(urgentTag.getId()).orElseThrow());
+        taskRepository.save(task1);
+        entityManager.flush();
+
+        // 等待確保時間差異
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Task task2 = new Task("第二個任務");
+        taskRepository.save(task2);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Task> tasks = taskRepository.findAllWithTagsOrderByCreatedAtDesc();
+
+        // Then
+        assertThat(tasks).extracting(Task::getTitle).containsExactly("第二個任務", "第一個任務");
+        assertThat(Hibernate.isInitialized(tasks.get(1).getTags())).isTrue();
+        assertThat(tasks.get(1).getTags()).extracting(Tag::getName).containsExactlyInAnyOrder("工作", "緊急");
+        assertThat(tasks.get(0).getTags()).isEmpty();
+    }
+
     @Test
     @DisplayName("根據狀態按創建時間降序查詢")
     void shouldFindByStatusOrderByCreatedAtDesc() {
@@ -365,4 +398,26 @@ class TaskRepositoryIntegrationTest {
         assertThat(pendingTasks).extracting(Task::getTitle)
                 .containsExactly("待辦任務2", "待辦任務1");
     }
+
+    @Test
+    @DisplayName("根據狀態按創建時間降序查詢並一併載入標籤")
+    void shouldFindByStatusWithTagsOrderByCreatedAtDesc() {
+        // Given
+        Task pendingTask = new Task("待辦任務");
+        pendingTask.getTags().add(tagRepository.findById(workTag.getId()).orElseThrow());
+        Task completedTask = new Task("已完成任務");
+        completedTask.markAsComplete();
+
+        taskRepository.saveAll(List.of(pendingTask, completedTask));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<Task> pendingTasks = taskRepository.findByStatusWithTagsOrderByCreatedAtDesc(TaskStatus.PENDING);
+
+        // Then
+        assertThat(pendingTasks).extracting(Task::getTitle).containsExactly("待辦任務");
+        assertThat(Hibernate.isInitialized(pendingTasks.get(0).getTags())).isTrue();
+        assertThat(pendingTasks.get(0).getTags()).extracting(Tag::getName).containsExactly("工作");
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.sessionflow.runner;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ClientCommands 單元測試")
+class ClientCommandsTest {
+
+    @Test
+    @DisplayName("只有已知的子命令視為客戶端命令")
+    void isClientCommand_KnownCommandsOnly() {
+        assertThat(ClientCommands.isClientCommand(new String[]{"today"})).isTrue();
+        assertThat(ClientCommands.isClientCommand(new String[]{"--port", "8080"})).isFalse();
+        assertThat(ClientCommands.isClientCommand(new String[]{})).isFalse();
+    }
+
+    @Test
+    @DisplayName("位置參數合併為標題並解析選項")
+    void parse_PositionalWordsAndOptions() {
+        ClientCommands.Command command = ClientCommands.Command.parse(
+                new String[]{"start-session", "Write", "docs", "--task", "3", "--note", "draft"});
+
+        assertThat(command.name).isEqualTo("start-session");
+        assertThat(command.text).isEqualTo("Write docs");
+        assertThat(command.option("task")).contains("3");
+        assertThat(command.option("note")).contains("draft");
+        assertThat(command.option("port")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("不支援的選項或缺少標題時拋出例外")
+    void parse_InvalidArguments_Throws() {
+        assertThatThrownBy(() -> ClientCommands.Command.parse(new String[]{"today", "--due", "2024-01-15"}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ClientCommands.Command.parse(new String[]{"add-task", "--note", "x"}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ClientCommands.Command.parse(new String[]{"end-session", "abc"}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ClientCommands.Command.parse(new String[]{"today", "--port"}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("截止時間可為日期或日期時間")
+    void parseDueAt_DateOrDateTime() {
+        assertThat(ClientCommands.parseDueAt("2024-01-15T18:00")).isEqualTo(LocalDateTime.of(2024, 1, 15, 18, 0));
+        assertThat(ClientCommands.parseDueAt("2024-01-15")).isEqualTo(LocalDateTime.of(2024, 1, 15, 23, 59));
+        assertThatThrownBy(() -> ClientCommands.parseDueAt("tomorrow"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
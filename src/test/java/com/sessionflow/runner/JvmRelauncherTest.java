@@ -0,0 +1,117 @@
+package com.sessionflow.runner;
+
+import com.sessionflow.backup.BackupSettings;
+import com.sessionflow.compaction.CompactionSettings;
+import com.sessionflow.config.GroupCommitConfig;
+import com.sessionflow.config.InMemoryStoreConfig;
+import com.sessionflow.config.TracingConfig;
+import com.sessionflow.durability.DurabilitySettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JvmRelauncher 單元測試")
+class JvmRelauncherTest {
+
+    /** {@code ${name:default}} 佔位符中的屬性名稱 */
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^:}]+)");
+
+    @Test
+    @DisplayName("與打包設定相同的條件屬性仍可使用 AOT")
+    void overridesAotConditions_PackagedValues_False() {
+        assertThat(JvmRelauncher.overridesAotConditions(new String[]{})).isFalse();
+        assertThat(JvmRelauncher.overridesAotConditions(new String[]{"--port", "8080", "--metrics"})).isFalse();
+        assertThat(JvmRelauncher.overridesAotConditions(
+                new String[]{"--" + GroupCommitConfig.ENABLED_PROPERTY + "=FALSE"})).isFalse();
+    }
+
+    @Test
+    @DisplayName("命令列改變條件屬性時不使用 AOT")
+    void overridesAotConditions_CommandLineOverride_True() {
+        assertThat(JvmRelauncher.overridesAotConditions(
+                new String[]{"--" + GroupCommitConfig.ENABLED_PROPERTY + "=true"})).isTrue();
+        assertThat(JvmRelauncher.overridesAotConditions(
+                new String[]{"--" + InMemoryStoreConfig.ENABLED_PROPERTY + "=true", "--port", "8080"})).isTrue();
+        assertThat(JvmRelauncher.overridesAotConditions(
+                new String[]{"--" + DurabilitySettings.MODE_PROPERTY + "=memory"})).isTrue();
+        assertThat(JvmRelauncher.overridesAotConditions(
+                new String[]{"--" + CompactionSettings.ENABLED_PROPERTY + "=false"})).isTrue();
+    }
+
+    @Test
+    @DisplayName("命令列停用備份或追蹤時不使用 AOT")
+    void overridesAotConditions_DisabledFeature_True() {
+        assertThat(JvmRelauncher.overridesAotConditions(
+                new String[]{"--" + BackupSettings.ENABLED_PROPERTY + "=false"})).isTrue();
+        assertThat(JvmRelauncher.overridesAotConditions(
+                new String[]{"--" + TracingConfig.ENABLED_PROPERTY + "=false"})).isTrue();
+    }
+
+    @Test
+    @DisplayName("條件屬性清單涵蓋所有 Bean 條件讀取的屬性")
+    void aotConditionProperties_MatchBeanConditions() {
+        // 不經過掃描器自己的條件判斷，否則預設關閉的設定類別不會出現
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(MetadataReader metadataReader) {
+                return isConditional(metadataReader.getAnnotationMetadata());
+            }
+        };
+
+        Set<String> properties = new TreeSet<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents("com.sessionflow")) {
+            AnnotationMetadata metadata = ((AnnotatedBeanDefinition) candidate).getMetadata();
+            conditionProperties(metadata, properties);
+            metadata.getAnnotatedMethods(ConditionalOnProperty.class.getName())
+                    .forEach(method -> conditionProperties(method, properties));
+            metadata.getAnnotatedMethods(ConditionalOnExpression.class.getName())
+                    .forEach(method -> conditionProperties(method, properties));
+        }
+
+        assertThat(properties).isNotEmpty();
+        assertThat(JvmRelauncher.AOT_CONDITION_PROPERTIES).containsExactlyInAnyOrderElementsOf(properties);
+    }
+
+    private static boolean isConditional(AnnotationMetadata metadata) {
+        return metadata.isAnnotated(ConditionalOnProperty.class.getName())
+                || metadata.isAnnotated(ConditionalOnExpression.class.getName())
+                || metadata.hasAnnotatedMethods(ConditionalOnProperty.class.getName())
+                || metadata.hasAnnotatedMethods(ConditionalOnExpression.class.getName());
+    }
+
+    private static void conditionProperties(AnnotatedTypeMetadata metadata, Set<String> properties) {
+        Map<String, Object> property = metadata.getAnnotationAttributes(ConditionalOnProperty.class.getName());
+        if (property != null) {
+            String prefix = (String) property.get("prefix");
+            String prefixWithDot = prefix.isEmpty() || prefix.endsWith(".") ? prefix : prefix + ".";
+            for (String name : (String[]) property.get("name")) {
+                properties.add(prefixWithDot + name);
+            }
+            for (String name : (String[]) property.get("value")) {
+                properties.add(prefixWithDot + name);
+            }
+        }
+        Map<String, Object> expression = metadata.getAnnotationAttributes(ConditionalOnExpression.class.getName());
+        if (expression != null) {
+            Matcher matcher = PLACEHOLDER.matcher((String) expression.get("value"));
+            while (matcher.find()) {
+                properties.add(matcher.group(1));
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.sessionflow.runner;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LaunchProperties 單元測試")
+class LaunchPropertiesTest {
+
+    @Test
+    @DisplayName("未覆寫時使用打包的設定")
+    void resolve_NoOverride_PackagedValue() throws Exception {
+        StandardEnvironment properties = LaunchProperties.resolve(new String[]{"--restore"});
+
+        assertThat(properties.getProperty("spring.datasource.url"))
+                .isEqualTo(LaunchProperties.packaged().getProperty("spring.datasource.url"));
+    }
+
+    @Test
+    @DisplayName("命令列參數優先於打包的設定")
+    void resolve_CommandLineOverride_Wins() throws Exception {
+        StandardEnvironment properties = LaunchProperties.resolve(new String[]{
+                "--restore", "--spring.datasource.url=jdbc:h2:file:./target/restore-test/sessionflow_db"});
+
+        assertThat(properties.getProperty("spring.datasource.url"))
+                .isEqualTo("jdbc:h2:file:./target/restore-test/sessionflow_db");
+    }
+}
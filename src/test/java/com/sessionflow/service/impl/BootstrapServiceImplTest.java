@@ -0,0 +1,198 @@
+package com.sessionflow.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sessionflow.dto.BootstrapSnapshot;
+import com.sessionflow.event.ResourceChangedEvent;
+import com.sessionflow.event.listener.ChangeVersionTracker;
+import com.sessionflow.common.NotificationType;
+import com.sessionflow.mapper.impl.ScheduleEntryMapperImpl;
+import com.sessionflow.mapper.impl.SessionMapperImpl;
+import com.sessionflow.mapper.impl.SessionRecordMapperImpl;
+import com.sessionflow.mapper.impl.TagMapperImpl;
+import com.sessionflow.mapper.impl.TaskMapperImpl;
+import com.sessionflow.model.ScheduleEntry;
+import com.sessionflow.model.Session;
+import com.sessionflow.model.SessionRecord;
+import com.sessionflow.model.Tag;
+import com.sessionflow.model.Task;
+import com.sessionflow.repository.ScheduleEntryRepository;
+import com.sessionflow.repository.SessionRecordRepository;
+import com.sessionflow.repository.SessionRepository;
+import com.sessionflow.repository.TagRepository;
+import com.sessionflow.repository.TaskRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BootstrapService 單元測試")
+class BootstrapServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private ScheduleEntryRepository scheduleEntryRepository;
+
+    @Mock
+    private SessionRecordRepository sessionRecordRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChangeVersionTracker changeVersionTracker;
+    private ObjectMapper objectMapper;
+    private BootstrapServiceImpl bootstrapService;
+
+    @BeforeEach
+    void setUp() {
+        changeVersionTracker = new ChangeVersionTracker();
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        TagMapperImpl tagMapper = new TagMapperImpl();
+        bootstrapService = new BootstrapServiceImpl(
+                taskRepository, tagRepository, sessionRepository, scheduleEntryRepository, sessionRecordRepository,
+                new TaskMapperImpl(tagRepository, tagMapper), tagMapper, new SessionMapperImpl(taskRepository),
+                new ScheduleEntryMapperImpl(taskRepository), new SessionRecordMapperImpl(),
+                changeVersionTracker, objectMapper, transactionManager);
+
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    private void givenSampleData() {
+        Tag tag = new Tag("工作", "#FF5733");
+        tag.setId(1L);
+        Task task = new Task("完成專案文件");
+        task.setId(1L);
+        task.setTags(Set.of(tag));
+        Session session = new Session("專案開發時間");
+        session.setId(2L);
+        ScheduleEntry entry = new ScheduleEntry("團隊會議",
+                LocalDateTime.now().withHour(10), LocalDateTime.now().withHour(11));
+        entry.setId(3L);
+        SessionRecord record = new SessionRecord("昨天的工作",
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().minusDays(1).plusHours(1));
+        record.setId(4L);
+
+        when(taskRepository.findAllWithTagsOrderByCreatedAtDesc()).thenReturn(List.of(task));
+        when(tagRepository.findAll()).thenReturn(List.of(tag));
+        when(sessionRepository.findAllByOrderByIdDesc()).thenReturn(List.of(session));
+        when(scheduleEntryRepository.findByDateRange(any(), any())).thenReturn(List.of(entry));
+        when(sessionRecordRepository.findTop20ByOrderByIdDesc()).thenReturn(List.of(record));
+    }
+
+    @Test
+    @DisplayName("快照包含所有資料並標記目前版本")
+    void getSnapshot_ContainsAllSectionsStampedWithVersion() {
+        // Given
+        givenSampleData();
+
+        // When
+        BootstrapSnapshot snapshot = bootstrapService.getSnapshot();
+
+        // Then
+        assertThat(snapshot.version()).isEqualTo(changeVersionTracker.currentVersion());
+        assertThat(snapshot.data().getTasks()).extracting("title").containsExactly("完成專案文件");
+        assertThat(snapshot.data().getTasks().get(0).getTags()).extracting("name").containsExactly("工作");
+        assertThat(snapshot.data().getTags()).hasSize(1);
+        assertThat(snapshot.data().getActiveSessions()).extracting("id").containsExactly(2L);
+        assertThat(snapshot.data().getTodayScheduleEntries()).extracting("id").containsExactly(3L);
+        assertThat(snapshot.data().getRecentSessionRecords()).extracting("id").containsExactly(4L);
+        assertThat(snapshot.etag()).contains(String.valueOf(snapshot.version()));
+    }
+
+    @Test
+    @DisplayName("快照在唯讀且可重複讀取的交易中讀取")
+    void getSnapshot_ReadsInReadOnlyRepeatableReadTransaction() {
+        // Given
+        givenSampleData();
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+
+        // When
+        bootstrapService.getSnapshot();
+
+        // Then
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+        assertThat(definition.getValue().getIsolationLevel()).isEqualTo(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("預先產生的 gzip 內容可解壓回 JSON")
+    void getSnapshot_GzipMatchesJson() throws IOException {
+        // Given
+        givenSampleData();
+
+        // When
+        BootstrapSnapshot snapshot = bootstrapService.getSnapshot();
+
+        // Then
+        byte[] decompressed;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(snapshot.gzip()))) {
+            decompressed = in.readAllBytes();
+        }
+        assertThat(decompressed).isEqualTo(snapshot.json());
+        assertThat(objectMapper.readTree(snapshot.json()).get("version").asLong()).isEqualTo(snapshot.version());
+    }
+
+    @Test
+    @DisplayName("資料未變更時回傳快取，不再查詢資料庫")
+    void getSnapshot_UnchangedVersion_ReturnsCachedSnapshot() {
+        // Given
+        givenSampleData();
+        BootstrapSnapshot first = bootstrapService.getSnapshot();
+
+        // When
+        BootstrapSnapshot second = bootstrapService.getSnapshot();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(taskRepository, times(1)).findAllWithTagsOrderByCreatedAtDesc();
+    }
+
+    @Test
+    @DisplayName("資料變更後重新產生快照")
+    void getSnapshot_AfterChange_RebuildsSnapshot() {
+        // Given
+        givenSampleData();
+        BootstrapSnapshot first = bootstrapService.getSnapshot();
+        changeVersionTracker.onResourceChanged(new ResourceChangedEvent<>(
+                NotificationType.TASK_CREATE, 2L, null, null, null));
+
+        // When
+        BootstrapSnapshot second = bootstrapService.getSnapshot();
+
+        // Then
+        assertThat(second.version()).isEqualTo(first.version() + 1);
+        assertThat(second.etag()).isNotEqualTo(first.etag());
+        verify(taskRepository, times(2)).findAllWithTagsOrderByCreatedAtDesc();
+    }
+}
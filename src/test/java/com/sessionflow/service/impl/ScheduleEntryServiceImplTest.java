@@ -275,6 +275,29 @@ class ScheduleEntryServiceImplTest {
         assertThat(capturedEntry.getTask()).isEqualTo(task);
     }
 
+    @Test
+    @DisplayName("更新排程成功 - 移到原開始時間之前")
+    void updateScheduleEntry_MoveBeforeOriginalStart_ShouldUpdateTimeRange() {
+        // Given
+        Long scheduleId = 1L;
+        validRequest.setStartAt(LocalDateTime.of(2024, 1, 15, 8, 0));
+        validRequest.setEndAt(LocalDateTime.of(2024, 1, 15, 9, 0));
+
+        when(scheduleEntryRepository.findById(scheduleId)).thenReturn(Optional.of(scheduleEntry));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(scheduleEntryRepository.save(any(ScheduleEntry.class))).thenReturn(scheduleEntry);
+        when(scheduleEntryMapper.toResponse(scheduleEntry)).thenReturn(scheduleEntryResponse);
+
+        // When
+        scheduleEntryService.updateScheduleEntry(scheduleId, validRequest);
+
+        // Then
+        ArgumentCaptor<ScheduleEntry> captor = ArgumentCaptor.forClass(ScheduleEntry.class);
+        verify(scheduleEntryRepository).save(captor.capture());
+        assertThat(captor.getValue().getStartAt()).isEqualTo(LocalDateTime.of(2024, 1, 15, 8, 0));
+        assertThat(captor.getValue().getEndAt()).isEqualTo(LocalDateTime.of(2024, 1, 15, 9, 0));
+    }
+
     @Test
     @DisplayName("更新排程成功 - startAt 為 null")
     void updateScheduleEntry_NullStartAt_ShouldNotThrowException() {
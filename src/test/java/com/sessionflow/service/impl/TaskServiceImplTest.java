@@ -110,7 +110,7 @@ class TaskServiceImplTest {
         List<Task> tasks = List.of(task);
         List<TaskResponse> expectedResponses = List.of(taskResponse);
         
-        when(taskRepository.findAllOrderByCreatedAtDesc()).thenReturn(tasks);
+        when(taskRepository.findAllWithTagsOrderByCreatedAtDesc()).thenReturn(tasks);
         when(taskMapper.toResponseList(tasks)).thenReturn(expectedResponses);
         
         // When
@@ -121,7 +121,7 @@ class TaskServiceImplTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getTitle()).isEqualTo("完成專案文件");
         
-        verify(taskRepository).findAllOrderByCreatedAtDesc();
+        verify(taskRepository).findAllWithTagsOrderByCreatedAtDesc();
         verify(taskMapper).toResponseList(tasks);
     }
     
@@ -132,7 +132,7 @@ class TaskServiceImplTest {
         List<Task> tasks = List.of(task);
         List<TaskResponse> expectedResponses = List.of(taskResponse);
         
-        when(taskRepository.findByStatusOrderByCreatedAtDesc(TaskStatus.PENDING)).thenReturn(tasks);
+        when(taskRepository.findByStatusWithTagsOrderByCreatedAtDesc(TaskStatus.PENDING)).thenReturn(tasks);
         when(taskMapper.toResponseList(tasks)).thenReturn(expectedResponses);
         
         // When
@@ -142,7 +142,7 @@ class TaskServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
         
-        verify(taskRepository).findByStatusOrderByCreatedAtDesc(TaskStatus.PENDING);
+        verify(taskRepository).findByStatusWithTagsOrderByCreatedAtDesc(TaskStatus.PENDING);
         verify(taskMapper).toResponseList(tasks);
     }
     
@@ -154,7 +154,7 @@ class TaskServiceImplTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Invalid task status: invalid");
         
-        verify(taskRepository, never()).findByStatusOrderByCreatedAtDesc(any());
+        verify(taskRepository, never()).findByStatusWithTagsOrderByCreatedAtDesc(any());
     }
     
     @Test
@@ -416,7 +416,7 @@ class TaskServiceImplTest {
         List<Task> tasks = List.of(task);
         List<TaskResponse> expectedResponses = List.of(taskResponse);
         
-        when(taskRepository.findAllOrderByCreatedAtDesc()).thenReturn(tasks);
+        when(taskRepository.findAllWithTagsOrderByCreatedAtDesc()).thenReturn(tasks);
         when(taskMapper.toResponseList(tasks)).thenReturn(expectedResponses);
         
         // When
@@ -426,8 +426,8 @@ class TaskServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(1);
         
-        verify(taskRepository).findAllOrderByCreatedAtDesc();
-        verify(taskRepository, never()).findByStatusOrderByCreatedAtDesc(any());
+        verify(taskRepository).findAllWithTagsOrderByCreatedAtDesc();
+        verify(taskRepository, never()).findByStatusWithTagsOrderByCreatedAtDesc(any());
         verify(taskMapper).toResponseList(tasks);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,126 @@
+package com.sessionflow.store;
+
+import com.sessionflow.common.NotificationType;
+import com.sessionflow.dto.ResourceChangedNotification.Affected;
+import com.sessionflow.dto.ScheduleEntryResponse;
+import com.sessionflow.dto.SessionResponse;
+import com.sessionflow.dto.TagResponse;
+import com.sessionflow.dto.TaskResponse;
+import com.sessionflow.event.ResourceChangedEvent;
+import com.sessionflow.model.TaskStatus;
+import com.sessionflow.store.InMemoryStore.TaskRow;
+import com.sessionflow.store.StoreLoader.Contents;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("InMemoryStore 單元測試")
+class InMemoryStoreTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 3, 10, 0, 0);
+
+    private final StoreLoader loader = mock(StoreLoader.class);
+    private final InMemoryStore store = new InMemoryStore(loader);
+
+    private static TaskResponse task(long id, String status, TagResponse... tags) {
+        return new TaskResponse(id, "任務 " + id, List.of(tags), null, null, null, status);
+    }
+
+    private static ScheduleEntryResponse entry(long id, LocalDateTime startAt, LocalDateTime endAt) {
+        return new ScheduleEntryResponse(id, "排程 " + id, null, startAt, endAt, null);
+    }
+
+    private static <T> ResourceChangedEvent<T> event(NotificationType type, Long id, T data) {
+        return new ResourceChangedEvent<>(type, id, null, data, null);
+    }
+
+    private void load(Contents contents) {
+        when(loader.load()).thenReturn(contents);
+        store.load();
+    }
+
+    private static Contents contents(List<TaskRow> tasks, List<TagResponse> tags,
+                                     List<ScheduleEntryResponse> scheduleEntries) {
+        return new Contents(tasks, tags, List.of(), List.of(), scheduleEntries);
+    }
+
+    @Test
+    @DisplayName("任務依建立時間遞減，新建立的任務排在最前面，可依狀態篩選")
+    void tasks_OrderedByCreatedAtDescending() {
+        load(contents(List.of(new TaskRow(task(2, "PENDING"), DAY.plusHours(1)),
+                new TaskRow(task(1, "COMPLETE"), DAY)), List.of(), List.of()));
+
+        store.apply(List.of(event(NotificationType.TASK_CREATE, 3L, task(3, "PENDING"))));
+        store.apply(List.of(event(NotificationType.TASK_UPDATE, 1L, task(1, "PENDING"))));
+
+        assertThat(store.tasks(null)).extracting(TaskResponse::getId).containsExactly(3L, 2L, 1L);
+        assertThat(store.tasks(TaskStatus.PENDING)).extracting(TaskResponse::getId).containsExactly(3L, 2L, 1L);
+        assertThat(store.tasks(TaskStatus.COMPLETE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("標籤更新與刪除反映在任務的標籤中")
+    void tagChanges_UpdateTasks() {
+        TagResponse work = new TagResponse(1L, "工作", "#FF5733");
+        TagResponse urgent = new TagResponse(2L, "緊急", "#FF0000");
+        load(contents(List.of(new TaskRow(task(1, "PENDING", work, urgent), DAY)), List.of(work, urgent), List.of()));
+
+        TagResponse renamed = new TagResponse(1L, "專案", "#123456");
+        store.apply(List.of(event(NotificationType.TAG_UPDATE, 1L, renamed),
+                event(NotificationType.TAG_DELETE, 2L, null)));
+
+        assertThat(store.tags()).containsExactly(renamed);
+        assertThat(store.tasks(null)).singleElement().satisfies(t -> assertThat(t.getTags()).containsExactly(renamed));
+    }
+
+    @Test
+    @DisplayName("刪除任務時一併移除受影響的工作階段")
+    void taskDelete_RemovesAffected() {
+        load(new Contents(List.of(new TaskRow(task(1, "PENDING"), DAY)), List.of(),
+                List.of(new SessionResponse(5L, "專注", 1L, DAY, null, null)), List.of(), List.of()));
+
+        store.apply(List.of(new ResourceChangedEvent<TaskResponse>(NotificationType.TASK_DELETE, 1L, null, null,
+                List.of(new Affected(NotificationType.SESSION_DELETE, List.of(5L))))));
+
+        assertThat(store.tasks(null)).isEmpty();
+        assertThat(store.sessions()).isEmpty();
+        assertThat(store.sessionIdsByTask(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("排程區間查詢包含開始於區間前但仍重疊的長排程")
+    void scheduleEntries_Overlapping() {
+        load(contents(List.of(), List.of(), List.of(
+                entry(1, DAY.minusDays(3), DAY.plusHours(2)),
+                entry(2, DAY.plusHours(9), DAY.plusHours(10)),
+                entry(3, DAY.minusHours(2), DAY.minusHours(1)),
+                entry(4, DAY.plusHours(23), DAY.plusDays(2)),
+                entry(5, DAY.plusDays(1), DAY.plusDays(1).plusHours(1)))));
+
+        assertThat(store.scheduleEntries(DAY, DAY.plusDays(1)))
+                .extracting(ScheduleEntryResponse::getId)
+                .containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("載入期間提交的變更在載入完成後重播")
+    void load_ReplaysChangesCommittedDuringLoad() {
+        when(loader.load()).thenAnswer(invocation -> {
+            store.apply(List.of(event(NotificationType.TASK_CREATE, 2L, task(2, "PENDING"))));
+            return contents(List.of(new TaskRow(task(1, "PENDING"), DAY)), List.of(), List.of());
+        });
+
+        store.apply(List.of(event(NotificationType.TASK_CREATE, 9L, task(9, "PENDING"))));
+        assertThat(store.isLoaded()).isFalse();
+
+        store.load();
+
+        assertThat(store.isLoaded()).isTrue();
+        assertThat(store.tasks(null)).extracting(TaskResponse::getId).containsExactly(2L, 1L);
+    }
+}
@@ -0,0 +1,122 @@
+package com.sessionflow.web;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AccessLogInterceptor 單元測試")
+class AccessLogInterceptorTest {
+
+    private final Logger accessLogger = (Logger) LoggerFactory.getLogger(AccessLogInterceptor.LOGGER_NAME);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    static class SampleController {
+
+        public void getTask() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = accessLogger.getLevel();
+        accessLogger.setLevel(Level.INFO);
+        appender.start();
+        accessLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLogger.detachAppender(appender);
+        accessLogger.setLevel(previousLevel);
+    }
+
+    private void handle(AccessLogInterceptor interceptor, int status, Exception ex) throws Exception {
+        HandlerMethod handler = new HandlerMethod(new SampleController(), "getTask");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, handler);
+        response.setStatus(status);
+        interceptor.afterCompletion(request, response, handler, ex);
+    }
+
+    private static Map<String, Object> fieldsOf(ILoggingEvent event) {
+        return event.getKeyValuePairs().stream()
+                .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+    }
+
+    @Test
+    @DisplayName("取樣率為 1 時以結構化欄位記錄路由、狀態與處理方法")
+    void afterCompletion_Sampled_WritesStructuredEntry() throws Exception {
+        handle(new AccessLogInterceptor(1.0, 10_000), 200, null);
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getFormattedMessage()).isEqualTo("GET /api/tasks/{id} 200");
+            assertThat(fieldsOf(event))
+                    .containsEntry("method", "GET")
+                    .containsEntry("route", "/api/tasks/{id}")
+                    .containsEntry("status", 200)
+                    .containsEntry("handler", "SampleController.getTask")
+                    .containsEntry("reason", "sampled")
+                    .containsKey("duration_ms")
+                    .doesNotContainKey("error");
+        });
+    }
+
+    @Test
+    @DisplayName("取樣率為 0 時一般請求不記錄")
+    void afterCompletion_NotSampled_WritesNothing() throws Exception {
+        handle(new AccessLogInterceptor(0, 10_000), 200, null);
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("伺服器錯誤與慢請求不受取樣率限制")
+    void afterCompletion_ErrorOrSlow_AlwaysWritten() throws Exception {
+        handle(new AccessLogInterceptor(0, 10_000), 500, new IllegalStateException("boom"));
+        handle(new AccessLogInterceptor(0, 0), 200, null);
+
+        assertThat(appender.list).extracting(AccessLogInterceptorTest::fieldsOf)
+                .satisfiesExactly(
+                        error -> assertThat(error)
+                                .containsEntry("reason", "error")
+                                .containsEntry("error", "IllegalStateException"),
+                        slow -> assertThat(slow).containsEntry("reason", "slow"));
+    }
+
+    @Test
+    @DisplayName("存取日誌層級關閉時不讀取時鐘也不記錄")
+    void preHandle_LoggerDisabled_SkipsRequest() throws Exception {
+        accessLogger.setLevel(Level.OFF);
+
+        handle(new AccessLogInterceptor(1.0, 0), 500, null);
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("取樣率超出 0 到 1 時拋出例外")
+    void constructor_InvalidSampleRate_Throws() {
+        assertThatThrownBy(() -> new AccessLogInterceptor(1.5, 500))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.sessionflow.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BearerTokenFilter 單元測試")
+class BearerTokenFilterTest {
+
+    private final BearerTokenFilter filter = new BearerTokenFilter("secret-token");
+
+    private MockHttpServletResponse filter(String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/flightrecorder");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        if (response.getStatus() == 200) {
+            assertThat(chain.getRequest()).isSameAs(request);
+        } else {
+            assertThat(chain.getRequest()).isNull();
+        }
+        return response;
+    }
+
+    @Test
+    @DisplayName("token 相符時放行")
+    void doFilter_MatchingToken_PassesThrough() throws Exception {
+        assertThat(filter("Bearer secret-token").getStatus()).isEqualTo(200);
+        assertThat(filter("bearer secret-token").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("缺少或錯誤的 token 回應 401")
+    void doFilter_MissingOrWrongToken_Unauthorized() throws Exception {
+        MockHttpServletResponse missing = filter(null);
+        assertThat(missing.getStatus()).isEqualTo(401);
+        assertThat(missing.getHeader("WWW-Authenticate")).isEqualTo("Bearer");
+
+        assertThat(filter("Bearer secret").getStatus()).isEqualTo(401);
+        assertThat(filter("Basic c2VjcmV0LXRva2Vu").getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("不接受空白 token")
+    void constructor_BlankToken_Rejected() {
+        assertThatThrownBy(() -> new BearerTokenFilter(" ")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package com.sessionflow.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CachedAssetResolver 單元測試")
+class CachedAssetResolverTest {
+
+    @TempDir
+    Path root;
+
+    private ResourceHttpRequestHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.createDirectories(root.resolve("assets"));
+        Files.writeString(root.resolve("assets/app-abc123.css"), "body { margin: 0; }\n".repeat(100));
+        Files.writeString(root.resolve("index.html"), "<html><head></head><body>app</body></html>");
+
+        handler = new ResourceHttpRequestHandler();
+        handler.setLocations(List.of(new ClassPathResource("static/")));
+        handler.setResourceResolvers(List.of(new CachedAssetResolver(
+                new StaticAssetCache(root.toUri().toString()), () -> null, path -> !path.startsWith("assets/"))));
+        handler.setUseLastModified(false);
+        handler.setEtagGenerator(CachedAssetResource::etagOf);
+        handler.setServletContext(new MockServletContext());
+        handler.afterPropertiesSet();
+    }
+
+    private MockHttpServletResponse get(String path, String... headers) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/" + path);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, path);
+        for (int i = 0; i < headers.length; i += 2) {
+            request.addHeader(headers[i], headers[i + 1]);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handler.handleRequest(request, response);
+        return response;
+    }
+
+    @Test
+    @DisplayName("依 Accept-Encoding 回傳壓縮內容與快取標頭")
+    void handle_HashedAsset_ServesGzipWithImmutableCaching() throws Exception {
+        MockHttpServletResponse response = get("assets/app-abc123.css", HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).startsWith("text/css");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=31536000, public, immutable");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).endsWith("-gzip\"");
+    }
+
+    @Test
+    @DisplayName("ETag 相符時回傳 304")
+    void handle_MatchingEtag_Returns304() throws Exception {
+        String etag = get("index.html").getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse response = get("index.html", HttpHeaders.IF_NONE_MATCH, etag);
+
+        assertThat(etag).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("SPA 路由回傳 index.html")
+    void handle_SpaRoute_ServesIndexHtml() throws Exception {
+        MockHttpServletResponse response = get("tasks/today");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).contains("<body>app</body>");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+    }
+
+    @Test
+    @DisplayName("不存在的 assets/ 檔案不回退到 index.html")
+    void handle_MissingHashedAsset_NotFound() {
+        assertThatThrownBy(() -> get("assets/missing.js"))
+                .isInstanceOf(NoResourceFoundException.class);
+    }
+
+    @Test
+    @DisplayName("index.html 優先使用渲染器的內容")
+    void handle_IndexWithRenderer_ServesRenderedIndex() throws Exception {
+        IndexHtmlRenderer renderer = mock(IndexHtmlRenderer.class);
+        when(renderer.render(any())).thenReturn(
+                new IndexHtmlRenderer.RenderedIndexResource("<html>rendered</html>".getBytes(), 9L));
+        handler.setResourceResolvers(List.of(new CachedAssetResolver(
+                new StaticAssetCache(root.toUri().toString()), () -> renderer, path -> true)));
+        handler.afterPropertiesSet();
+
+        MockHttpServletResponse response = get("index.html");
+
+        assertThat(response.getContentAsString()).isEqualTo("<html>rendered</html>");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"index-9\"");
+    }
+}
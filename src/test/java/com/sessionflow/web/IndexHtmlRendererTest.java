@@ -0,0 +1,170 @@
+package com.sessionflow.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sessionflow.dto.BootstrapResponse;
+import com.sessionflow.dto.BootstrapSnapshot;
+import com.sessionflow.dto.TaskResponse;
+import com.sessionflow.service.BootstrapService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IndexHtmlRenderer 單元測試")
+class IndexHtmlRendererTest {
+
+    private static final String TEMPLATE = """
+            <!doctype html>
+            <html><head><title>SessionFlow</title></HEAD>
+            <body><div id="app"></div></body></html>
+            """;
+
+    @Mock
+    private BootstrapService bootstrapService;
+
+    private IndexHtmlRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        renderer = new IndexHtmlRenderer(bootstrapService, objectMapper,
+                new ByteArrayResource(TEMPLATE.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static BootstrapSnapshot snapshot(long version, String taskTitle) {
+        TaskResponse task = new TaskResponse(1L, taskTitle, "PENDING");
+        task.setTags(List.of());
+        BootstrapResponse data = new BootstrapResponse(version, LocalDateTime.now(), LocalDate.now(),
+                List.of(task), List.of(), List.of(), List.of(), List.of());
+        return new BootstrapSnapshot(version, LocalDate.now(), data, new byte[0], new byte[0]);
+    }
+
+    private static String contentOf(Resource resource) throws IOException {
+        return new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("初始狀態內嵌於 </head> 之前")
+    void render_InjectsInitialStateBeforeHeadEnd() throws IOException {
+        // Given
+        when(bootstrapService.getSnapshot()).thenReturn(snapshot(5L, "完成專案文件"));
+
+        // When
+        String html = contentOf(renderer.render());
+
+        // Then
+        int script = html.indexOf("<script>window.__SESSIONFLOW_INITIAL_STATE__=");
+        assertThat(script).isPositive().isLessThan(html.indexOf("</HEAD>"));
+        assertThat(html).contains("\"version\":5", "\"title\":\"完成專案文件\"", "<div id=\"app\"></div>");
+    }
+
+    @Test
+    @DisplayName("資料內容無法提前結束 script 區塊")
+    void render_EscapesScriptBreakingCharacters() throws IOException {
+        // Given
+        when(bootstrapService.getSnapshot()).thenReturn(snapshot(5L, "</script><script>alert(1)</script>"));
+
+        // When
+        String html = contentOf(renderer.render());
+
+        // Then
+        assertThat(html).doesNotContain("</script><script>alert");
+        assertThat(html).contains("\\u003c/script\\u003e\\u003cscript\\u003ealert(1)");
+    }
+
+    @Test
+    @DisplayName("資料版本未變更時重用渲染結果")
+    void render_SameVersion_ReusesRenderedIndex() throws IOException {
+        // Given
+        when(bootstrapService.getSnapshot()).thenReturn(snapshot(5L, "任務"));
+
+        // When
+        Resource first = renderer.render();
+        Resource second = renderer.render();
+
+        // Then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("資料版本變更時重新渲染")
+    void render_NewVersion_RerendersIndex() throws IOException {
+        // Given
+        when(bootstrapService.getSnapshot())
+                .thenReturn(snapshot(5L, "舊任務"))
+                .thenReturn(snapshot(6L, "新任務"));
+
+        // When
+        Resource first = renderer.render();
+        Resource second = renderer.render();
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(contentOf(second)).contains("新任務").doesNotContain("舊任務");
+    }
+
+    @Test
+    @DisplayName("支援 gzip 時回傳壓縮內容，同一版本只壓縮一次")
+    void render_AcceptsGzip_ReturnsCachedGzipVariant() throws IOException {
+        // Given
+        when(bootstrapService.getSnapshot()).thenReturn(snapshot(5L, "任務"));
+
+        // When
+        CachedAssetResource first = (CachedAssetResource) renderer.render("gzip, br");
+        CachedAssetResource second = (CachedAssetResource) renderer.render("gzip");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getContentEncoding()).isEqualTo("gzip");
+        assertThat(first.getEtag()).isEqualTo("\"index-5-gzip\"");
+        try (GZIPInputStream in = new GZIPInputStream(first.getInputStream())) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("__SESSIONFLOW_INITIAL_STATE__");
+        }
+        assertThat(((CachedAssetResource) renderer.render()).getEtag()).isEqualTo("\"index-5\"");
+    }
+
+    @Test
+    @DisplayName("無法取得資料時回傳未內嵌狀態的頁面")
+    void render_SnapshotFailure_ReturnsPlainIndex() throws IOException {
+        // Given
+        when(bootstrapService.getSnapshot()).thenThrow(new IllegalStateException("database unavailable"));
+
+        // When
+        String html = contentOf(renderer.render());
+
+        // Then
+        assertThat(html).doesNotContain("__SESSIONFLOW_INITIAL_STATE__");
+        assertThat(html).contains("<div id=\"app\"></div>");
+    }
+
+    @Test
+    @DisplayName("範本不存在時回傳 null")
+    void render_MissingTemplate_ReturnsNull() throws IOException {
+        // Given
+        IndexHtmlRenderer missing = new IndexHtmlRenderer(bootstrapService, new ObjectMapper(),
+                new ClassPathResource("static/does-not-exist/index.html"));
+
+        // When & Then
+        assertThat(missing.render()).isNull();
+        verifyNoInteractions(bootstrapService);
+    }
+}
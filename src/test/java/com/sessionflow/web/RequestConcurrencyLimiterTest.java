@@ -0,0 +1,40 @@
+package com.sessionflow.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.sessionflow.exception.ServiceBusyException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RequestConcurrencyLimiter 單元測試")
+class RequestConcurrencyLimiterTest {
+
+    private final RequestConcurrencyLimiter limiter = new RequestConcurrencyLimiter(2, 10);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    @DisplayName("超過並行上限時拋出 ServiceBusyException")
+    void preHandle_LimitReached_ThrowsServiceBusy() throws Exception {
+        assertThat(limiter.preHandle(new MockHttpServletRequest(), response, new Object())).isTrue();
+        assertThat(limiter.preHandle(new MockHttpServletRequest(), response, new Object())).isTrue();
+
+        assertThatThrownBy(() -> limiter.preHandle(new MockHttpServletRequest(), response, new Object()))
+                .isInstanceOf(ServiceBusyException.class);
+        assertThat(limiter.getAvailablePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("請求完成後釋放許可，且只釋放一次")
+    void afterCompletion_ReleasesPermitOnce() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        limiter.preHandle(request, response, new Object());
+
+        limiter.afterCompletion(request, response, new Object(), null);
+        limiter.afterCompletion(request, response, new Object(), null);
+
+        assertThat(limiter.getAvailablePermits()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,78 @@
+package com.sessionflow.web;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.sessionflow.monitoring.SqlBudget;
+import com.sessionflow.monitoring.SqlStatementCounter;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+
+import static org.assertj.core.api.Assertions.*;
+
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("SqlBudgetInterceptor 單元測試")
+class SqlBudgetInterceptorTest {
+
+    private final SqlBudgetInterceptor interceptor = new SqlBudgetInterceptor(3, 2);
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    static class SampleController {
+
+        public void listTasks() {
+        }
+
+        @SqlBudget(statements = 10)
+        public void bootstrap() {
+        }
+    }
+
+    private void handle(String method, String pattern, String statement, int times) throws Exception {
+        HandlerMethod handler = new HandlerMethod(new SampleController(), method);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+
+        interceptor.preHandle(request, response, handler);
+        for (int i = 0; i < times; i++) {
+            counter.afterQuery(new ExecutionInfo(), List.of(new QueryInfo(statement.formatted(i))));
+        }
+        interceptor.afterCompletion(request, response, handler, null);
+    }
+
+    @Test
+    @DisplayName("陳述式數量在預算內時不記錄警告")
+    void afterCompletion_WithinBudget_NoWarning(CapturedOutput output) throws Exception {
+        handle("listTasks", "/api/tasks", "select * from tags where id=%d", 2);
+
+        assertThat(output).doesNotContain("SQL");
+    }
+
+    @Test
+    @DisplayName("超過預算與重複陳述式時記錄含端點名稱的警告")
+    void afterCompletion_OverBudget_WarnsWithEndpoint(CapturedOutput output) throws Exception {
+        handle("listTasks", "/api/tasks", "select * from tags where id=%d", 4);
+
+        assertThat(output)
+                .contains("GET /api/tasks (SampleController.listTasks) executed 4 SQL statements, over its budget of 3")
+                .contains("repeated the same SQL statement 4 times (limit 2): select * from tags where id=?");
+    }
+
+    @Test
+    @DisplayName("@SqlBudget 覆寫端點的陳述式預算")
+    void afterCompletion_AnnotatedBudget_Overrides(CapturedOutput output) throws Exception {
+        handle("bootstrap", "/api/bootstrap", "select * from table_%d", 8);
+
+        assertThat(output).doesNotContain("SQL");
+    }
+}
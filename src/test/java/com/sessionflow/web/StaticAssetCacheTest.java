@@ -0,0 +1,143 @@
+package com.sessionflow.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StaticAssetCache 單元測試")
+class StaticAssetCacheTest {
+
+    private static final String SCRIPT = "console.log('sessionflow');\n".repeat(100);
+
+    @TempDir
+    Path root;
+
+    private StaticAssetCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(root.resolve("assets"));
+        Files.writeString(root.resolve("assets/index-abc123.js"), SCRIPT);
+        Files.write(root.resolve("assets/index-abc123.js.br"), new byte[] {1, 2, 3});
+        Files.write(root.resolve("assets/logo-def456.png"), new byte[2048]);
+        Files.writeString(root.resolve("index.html"), "<html><head></head><body></body></html>");
+        Files.writeString(root.resolve("version.txt"), "v1.0.0");
+        cache = new StaticAssetCache(root.toUri().toString());
+    }
+
+    private static byte[] gunzip(byte[] content) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    @DisplayName("支援 gzip 時回傳預先壓縮的內容")
+    void resolve_AcceptsGzip_ReturnsGzipVariant() throws IOException {
+        // When
+        CachedAssetResource resource = cache.resolve("assets/index-abc123.js", "gzip, deflate");
+
+        // Then
+        assertThat(resource).isNotNull();
+        assertThat(resource.getContentEncoding()).isEqualTo("gzip");
+        assertThat(resource.getFilename()).isEqualTo("index-abc123.js");
+        assertThat(resource.contentLength()).isLessThan(SCRIPT.length());
+        assertThat(new String(gunzip(resource.getByteArray()), StandardCharsets.UTF_8)).isEqualTo(SCRIPT);
+        assertThat(resource.getResponseHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(resource.getResponseHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Test
+    @DisplayName("支援 br 時優先回傳建置時產生的 brotli 檔案")
+    void resolve_AcceptsBrotli_ReturnsPrecompressedBrotli() {
+        // When
+        CachedAssetResource resource = cache.resolve("assets/index-abc123.js", "gzip, deflate, br");
+
+        // Then
+        assertThat(resource.getContentEncoding()).isEqualTo("br");
+        assertThat(resource.getByteArray()).containsExactly(1, 2, 3);
+        assertThat(cache.contains("assets/index-abc123.js.br")).isFalse();
+    }
+
+    @Test
+    @DisplayName("未支援壓縮或 q=0 時回傳原始內容")
+    void resolve_NoAcceptableEncoding_ReturnsIdentity() {
+        // When
+        CachedAssetResource plain = cache.resolve("assets/index-abc123.js", null);
+        CachedAssetResource refused = cache.resolve("assets/index-abc123.js", "gzip;q=0, *;q=0");
+
+        // Then
+        assertThat(plain.getContentEncoding()).isNull();
+        assertThat(plain.getByteArray()).isEqualTo(SCRIPT.getBytes(StandardCharsets.UTF_8));
+        assertThat(refused.getContentEncoding()).isNull();
+    }
+
+    @Test
+    @DisplayName("不適合壓縮的檔案一律回傳原始內容")
+    void resolve_IncompressibleAsset_ReturnsIdentity() {
+        // When
+        CachedAssetResource image = cache.resolve("assets/logo-def456.png", "gzip");
+        CachedAssetResource tiny = cache.resolve("version.txt", "gzip");
+
+        // Then
+        assertThat(image.getContentEncoding()).isNull();
+        assertThat(tiny.getContentEncoding()).isNull();
+    }
+
+    @Test
+    @DisplayName("assets/ 長期快取，index.html 每次重新驗證")
+    void resolve_AppliesCachePolicyByPath() {
+        // When
+        String hashed = cache.resolve("assets/index-abc123.js", null).getResponseHeaders().getCacheControl();
+        String index = cache.resolve("index.html", null).getResponseHeaders().getCacheControl();
+        String other = cache.resolve("version.txt", null).getResponseHeaders().getCacheControl();
+
+        // Then
+        assertThat(hashed).isEqualTo("max-age=31536000, public, immutable");
+        assertThat(index).isEqualTo("no-cache");
+        assertThat(other).isEqualTo("max-age=3600");
+    }
+
+    @Test
+    @DisplayName("各壓縮版本使用不同的 ETag")
+    void resolve_EtagDiffersPerEncoding() {
+        // When
+        String identity = cache.resolve("assets/index-abc123.js", null).getEtag();
+        String gzip = cache.resolve("assets/index-abc123.js", "gzip").getEtag();
+
+        // Then
+        assertThat(identity).startsWith("\"").endsWith("\"");
+        assertThat(gzip).isNotEqualTo(identity).endsWith("-gzip\"");
+        assertThat(cache.resolve("assets/index-abc123.js", null).getEtag()).isEqualTo(identity);
+    }
+
+    @Test
+    @DisplayName("不存在的檔案回傳 null")
+    void resolve_MissingAsset_ReturnsNull() {
+        assertThat(cache.resolve("assets/missing.js", "gzip")).isNull();
+        assertThat(cache.contains("assets/missing.js")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 解析：明確指定優先於萬用字元")
+    void acceptsEncoding_ParsesQualityValues() {
+        assertThat(StaticAssetCache.acceptsEncoding("gzip, deflate, br", "gzip")).isTrue();
+        assertThat(StaticAssetCache.acceptsEncoding("GZIP;q=0.5", "gzip")).isTrue();
+        assertThat(StaticAssetCache.acceptsEncoding("gzip;q=0", "gzip")).isFalse();
+        assertThat(StaticAssetCache.acceptsEncoding("*", "br")).isTrue();
+        assertThat(StaticAssetCache.acceptsEncoding("*, br;q=0", "br")).isFalse();
+        assertThat(StaticAssetCache.acceptsEncoding("identity", "gzip")).isFalse();
+        assertThat(StaticAssetCache.acceptsEncoding(null, "gzip")).isFalse();
+    }
+}
@@ -0,0 +1,185 @@
+package com.sessionflow.write;
+
+import com.sessionflow.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GroupCommitWriter 測試")
+class GroupCommitWriterTest {
+
+    private final CountingTransactionManager transactionManager = new CountingTransactionManager();
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+    private GroupCommitWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("排隊中的寫入合併在同一個交易中提交")
+    void execute_QueuedMutations_CommitInOneTransaction() throws Exception {
+        writer = start(256, 64);
+        CountDownLatch firstRunning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> first = submit(() -> {
+            firstRunning.countDown();
+            release.await();
+            return "first";
+        });
+        assertThat(firstRunning.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 第一批執行期間排入的寫入在下一批一起提交
+        List<Future<Object>> queued = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int value = i;
+            queued.add(submit(() -> value));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        for (int i = 0; i < queued.size(); i++) {
+            assertThat(queued.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(i);
+        }
+        assertThat(transactionManager.commits.get()).isEqualTo(2);
+        assertThat(writer.getBatchCount()).isEqualTo(2);
+        assertThat(writer.getMutationCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("批次中一筆失敗時整批回復，其餘寫入逐筆重新提交")
+    void execute_FailingMutation_OnlyFailsItsCaller() throws Exception {
+        writer = start(256, 64);
+        CountDownLatch firstRunning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> first = submit(() -> {
+            firstRunning.countDown();
+            release.await();
+            return "first";
+        });
+        assertThat(firstRunning.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicInteger applied = new AtomicInteger();
+        Future<Object> ok = submit(applied::incrementAndGet);
+        Future<Object> failing = submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(ok.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThatThrownBy(() -> failing.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("boom");
+        assertThat(transactionManager.rollbacks.get()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("停止時處理完佇列中的寫入，之後的寫入直接執行")
+    void stop_DrainsQueueThenRunsDirectly() throws Throwable {
+        writer = start(256, 1);
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int value = i;
+            results.add(submit(() -> value));
+        }
+        writer.stop();
+
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(i);
+        }
+        int commits = transactionManager.commits.get();
+        assertThat(writer.execute(() -> "direct")).isEqualTo("direct");
+        assertThat(transactionManager.commits.get()).isEqualTo(commits);
+    }
+
+    @Test
+    @DisplayName("佇列已滿時逾時回應服務忙碌")
+    void execute_QueueFull_ThrowsServiceBusy() throws Exception {
+        writer = new GroupCommitWriter(new TransactionTemplate(transactionManager), 1, 1, Duration.ofMillis(50));
+        writer.start();
+        CountDownLatch firstRunning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        submit(() -> {
+            firstRunning.countDown();
+            release.await();
+            return null;
+        });
+        assertThat(firstRunning.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Object> queued = submit(() -> "queued");
+        Thread.sleep(100);
+
+        assertThatThrownBy(() -> writer.execute(() -> "rejected")).isInstanceOf(ServiceBusyException.class);
+        release.countDown();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    private Future<Object> submit(GroupCommitWriter.Mutation mutation) {
+        return callers.submit(() -> {
+            try {
+                return writer.execute(mutation);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private GroupCommitWriter start(int queueCapacity, int maxBatchSize) {
+        GroupCommitWriter started = new GroupCommitWriter(new TransactionTemplate(transactionManager),
+                queueCapacity, maxBatchSize, Duration.ofSeconds(1));
+        started.start();
+        return started;
+    }
+
+    /**
+     * 只計算提交與回復次數的交易管理器
+     */
+    private static class CountingTransactionManager extends AbstractPlatformTransactionManager {
+
+        final AtomicInteger commits = new AtomicInteger();
+        final AtomicInteger rollbacks = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rollbacks.incrementAndGet();
+        }
+    }
+}